@@ -26,8 +26,10 @@ import com.mongodb.hibernate.junit.MongoExtension;
 import com.mongodb.hibernate.junit.MongoServiceRegistryProducer;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.QueryTimeoutException;
 import jakarta.persistence.Table;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import org.bson.BsonDocument;
 import org.hibernate.JDBCException;
 import org.hibernate.cfg.AvailableSettings;
@@ -105,10 +107,12 @@ class ExceptionHandlingIntegrationTests implements SessionFactoryScopeAware, Mon
                         session.persist(new Item(1));
                     });
                 })
-                .isExactlyInstanceOf(JDBCException.class)
+                .isExactlyInstanceOf(QueryTimeoutException.class)
                 .hasMessageContaining(EXCEPTION_MESSAGE_OPERATION_TIMED_OUT)
                 .cause()
-                .isExactlyInstanceOf(SQLException.class)
+                .isExactlyInstanceOf(org.hibernate.QueryTimeoutException.class)
+                .cause()
+                .isExactlyInstanceOf(SQLTimeoutException.class)
                 .hasRootCauseInstanceOf(MongoException.class);
     }
 
@@ -151,10 +155,12 @@ class ExceptionHandlingIntegrationTests implements SessionFactoryScopeAware, Mon
                             session.persist(new Item(2));
                         });
                     })
-                    .isExactlyInstanceOf(JDBCException.class)
+                    .isExactlyInstanceOf(QueryTimeoutException.class)
                     .hasMessageContaining(EXCEPTION_MESSAGE_OPERATION_TIMED_OUT)
                     .cause()
-                    .isExactlyInstanceOf(SQLException.class)
+                    .isExactlyInstanceOf(org.hibernate.QueryTimeoutException.class)
+                    .cause()
+                    .isExactlyInstanceOf(SQLTimeoutException.class)
                     .hasRootCauseInstanceOf(MongoException.class);
         }
     }
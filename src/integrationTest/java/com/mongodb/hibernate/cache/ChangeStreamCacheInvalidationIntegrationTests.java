@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.cache;
+
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Updates.set;
+import static com.mongodb.hibernate.internal.MongoConstants.CACHE_INVALIDATION_CHANGE_STREAM_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.CACHE_INVALIDATION_NODE_ID_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.DEFAULT_CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION;
+import static com.mongodb.hibernate.internal.MongoConstants.MONGO_CONFIGURATION_CONTRIBUTOR_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.DIALECT;
+import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE;
+import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.hibernate.junit.InjectMongoCollection;
+import com.mongodb.hibernate.junit.MongoExtension;
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.Setting;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = ChangeStreamCacheInvalidationIntegrationTests.Currency.class)
+@ServiceRegistry(
+        settings = {
+            @Setting(name = USE_SECOND_LEVEL_CACHE, value = "true"),
+            @Setting(name = USE_QUERY_CACHE, value = "true"),
+            @Setting(name = CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory"),
+            @Setting(name = CACHE_INVALIDATION_CHANGE_STREAM_PROPERTY_NAME, value = "true"),
+            @Setting(
+                    name = DIALECT,
+                    value =
+                            "com.mongodb.hibernate.query.AbstractQueryIntegrationTests$TranslateResultAwareDialect"),
+        })
+class ChangeStreamCacheInvalidationIntegrationTests extends AbstractQueryIntegrationTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @InjectMongoCollection("currencies")
+    private MongoCollection<BsonDocument> currenciesCollection;
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> {
+            session.persist(new Currency("EUR", "Euro", "Europe"));
+            session.persist(new Currency("USD", "US Dollar", "America"));
+        });
+        getSessionFactoryScope().getSessionFactory().getCache().evictAllRegions();
+    }
+
+    @Test
+    void testExternalUpdateEvictsEntity() {
+        assertThat(findName("EUR")).isEqualTo("Euro");
+        currenciesCollection.updateOne(eq("_id", "EUR"), set("name", "Euro (updated)"));
+        awaitTrue(() -> "Euro (updated)".equals(findName("EUR")));
+    }
+
+    @Test
+    void testExternalDeleteEvictsEntity() {
+        assertThat(findName("USD")).isEqualTo("US Dollar");
+        currenciesCollection.deleteOne(eq("_id", "USD"));
+        awaitTrue(() -> findName("USD") == null);
+    }
+
+    @Test
+    void testExternalInsertInvalidatesCachedQuery() {
+        assertThat(findCodes("Europe")).containsExactly("EUR");
+
+        currenciesCollection.insertOne(new BsonDocument("_id", new BsonString("CHF"))
+                .append("name", new BsonString("Swiss Franc"))
+                .append("region", new BsonString("Europe")));
+        awaitTrue(() -> findCodes("Europe").size() == 2);
+        assertThat(findCodes("Europe")).containsExactly("CHF", "EUR");
+    }
+
+    @InjectMongoCollection(DEFAULT_CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION)
+    private MongoCollection<BsonDocument> resumeTokensCollection;
+
+    /**
+     * Application instances that share the collection of resume tokens each store their own resume token, so that an
+     * instance does not resume from the position at which another instance stopped.
+     */
+    @Test
+    void testInstancesStoreResumeTokensOfTheirOwn() {
+        try (var nodeA = buildSessionFactory("node-a")) {
+            try (var nodeB = buildSessionFactory("node-b")) {
+                assertThat(findName(nodeA, "EUR")).isEqualTo("Euro");
+                assertThat(findName(nodeB, "EUR")).isEqualTo("Euro");
+                currenciesCollection.updateOne(eq("_id", "EUR"), set("name", "Euro 1"));
+                awaitTrue(() -> "Euro 1".equals(findName(nodeA, "EUR")) && "Euro 1".equals(findName(nodeB, "EUR")));
+
+                nodeA.close();
+                var nodeAResumeToken = findResumeToken("default@node-a");
+                assertThat(nodeAResumeToken).isNotNull();
+
+                currenciesCollection.updateOne(eq("_id", "EUR"), set("name", "Euro 2"));
+                awaitTrue(() -> "Euro 2".equals(findName(nodeB, "EUR")));
+                nodeB.close();
+                assertThat(findResumeToken("default@node-b")).isNotNull().isNotEqualTo(nodeAResumeToken);
+                assertThat(findResumeToken("default@node-a")).isEqualTo(nodeAResumeToken);
+            }
+        }
+    }
+
+    @Test
+    void testResumeTokensExpire() {
+        assertThat(resumeTokensCollection.listIndexes(BsonDocument.class)).anySatisfy(index -> {
+            assertThat(index.getDocument("key")).isEqualTo(new BsonDocument("updatedAt", new BsonInt32(1)));
+            assertThat(index.getNumber("expireAfterSeconds").longValue())
+                    .isEqualTo(Duration.ofDays(30).toSeconds());
+        });
+    }
+
+    private static SessionFactory buildSessionFactory(String nodeId) {
+        return new MetadataSources()
+                .addAnnotatedClass(Currency.class)
+                .buildMetadata(new StandardServiceRegistryBuilder()
+                        .applySetting(USE_SECOND_LEVEL_CACHE, "true")
+                        .applySetting(CACHE_REGION_FACTORY, "org.hibernate.testing.cache.CachingRegionFactory")
+                        .applySetting(CACHE_INVALIDATION_CHANGE_STREAM_PROPERTY_NAME, "true")
+                        .applySetting(CACHE_INVALIDATION_NODE_ID_PROPERTY_NAME, nodeId)
+                        .applySetting(
+                                MONGO_CONFIGURATION_CONTRIBUTOR_KEY,
+                                MongoExtension.configurationContributorForClass(
+                                        ChangeStreamCacheInvalidationIntegrationTests.class))
+                        .build())
+                .buildSessionFactory();
+    }
+
+    private static @Nullable String findName(SessionFactory sessionFactory, String code) {
+        return sessionFactory.fromSession(session -> {
+            var currency = session.find(Currency.class, code);
+            return currency == null ? null : currency.name;
+        });
+    }
+
+    private @Nullable BsonDocument findResumeToken(String resumeTokenId) {
+        var stored = resumeTokensCollection.find(eq("_id", resumeTokenId)).first();
+        return stored == null ? null : stored.getDocument("resumeToken", null);
+    }
+
+    private @Nullable String findName(String code) {
+        return getSessionFactoryScope().fromSession(session -> {
+            var currency = session.find(Currency.class, code);
+            return currency == null ? null : currency.name;
+        });
+    }
+
+    private List<String> findCodes(String region) {
+        return getSessionFactoryScope()
+                .fromSession(session -> session.createSelectionQuery(
+                                "select code from Currency where region = :region order by code", String.class)
+                        .setParameter("region", region)
+                        .setCacheable(true)
+                        .getResultList());
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        var deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @Entity(name = "Currency")
+    @Table(name = "currencies")
+    @Cacheable
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    static class Currency {
+        @Id
+        String code;
+
+        String name;
+
+        String region;
+
+        Currency() {}
+
+        Currency(String code, String name, String region) {
+            this.code = code;
+            this.name = name;
+            this.region = region;
+        }
+    }
+}
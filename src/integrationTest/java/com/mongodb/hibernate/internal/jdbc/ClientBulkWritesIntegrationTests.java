@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.jdbc;
+
+import static com.mongodb.hibernate.internal.MongoConstants.CLIENT_BULK_WRITES_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.MONGO_CONFIGURATION_CONTRIBUTOR_KEY;
+import static com.mongodb.hibernate.internal.jdbc.MongoStatementIntegrationTests.doWorkWithSpecifiedAutoCommit;
+import static com.mongodb.hibernate.internal.jdbc.MongoStatementIntegrationTests.insertTestData;
+import static java.sql.Statement.SUCCESS_NO_INFO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.mongodb.ClientBulkWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.hibernate.junit.CommandHistory;
+import com.mongodb.hibernate.junit.InjectCommandHistory;
+import com.mongodb.hibernate.junit.InjectMongoCollection;
+import com.mongodb.hibernate.junit.MongoExtension;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import org.bson.BsonDocument;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(MongoExtension.class)
+class ClientBulkWritesIntegrationTests {
+    private static final String BOOKS_INSERT_MQL =
+            """
+            {
+                insert: "books",
+                documents: [
+                    { _id: { $undefined: true } }
+                ]
+            }""";
+
+    private static final String AUTHORS_INSERT_MQL =
+            """
+            {
+                insert: "authors",
+                documents: [
+                    { _id: { $undefined: true } }
+                ]
+            }""";
+
+    @AutoClose
+    private static SessionFactory sessionFactory;
+
+    @InjectMongoCollection("books")
+    private MongoCollection<BsonDocument> books;
+
+    @InjectMongoCollection("authors")
+    private MongoCollection<BsonDocument> authors;
+
+    @InjectCommandHistory
+    private CommandHistory commandHistory;
+
+    @AutoClose
+    private Session session;
+
+    @BeforeAll
+    static void beforeAll() {
+        var configuration = new Configuration();
+        configuration
+                .getProperties()
+                .put(
+                        MONGO_CONFIGURATION_CONTRIBUTOR_KEY,
+                        MongoExtension.configurationContributorForClass(ClientBulkWritesIntegrationTests.class));
+        configuration.getProperties().put(CLIENT_BULK_WRITES_PROPERTY_NAME, "true");
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        assumeTrue(MongoExtension.getServerMajorVersion() >= 8, "The bulkWrite command requires MongoDB 8.0");
+        session = sessionFactory.openSession();
+    }
+
+    @Test
+    void testJdbcBatchesOnSeveralCollectionsAreWrittenTogether() {
+        doWorkWithSpecifiedAutoCommit(false, session, connection -> {
+            executeBatch(connection, BOOKS_INSERT_MQL, 1, 2);
+            executeBatch(connection, AUTHORS_INSERT_MQL, 1);
+            assertThat(getWriteCommandNames()).isEmpty();
+        });
+        assertThat(getWriteCommandNames()).containsExactly("bulkWrite");
+        assertThat(books.find()).hasSize(2);
+        assertThat(authors.find()).containsExactly(BsonDocument.parse("{_id: 1}"));
+    }
+
+    @Test
+    void testWriteErrorIsReportedWithItsJdbcBatch() {
+        insertTestData(
+                session,
+                """
+                {
+                    insert: "authors",
+                    documents: [
+                        { _id: 1 }
+                    ]
+                }""");
+        doWorkWithSpecifiedAutoCommit(false, session, connection -> {
+            executeBatch(connection, BOOKS_INSERT_MQL, 1, 2);
+            executeBatch(connection, AUTHORS_INSERT_MQL, 2, 1, 3);
+            assertThatExceptionOfType(BatchUpdateException.class)
+                    .isThrownBy(connection::commit)
+                    .withMessageContaining("command [1] of the JDBC batch of [insert] commands on [%s]"
+                            .formatted(authors.getNamespace()))
+                    .returns(11000, BatchUpdateException::getErrorCode)
+                    .returns(new int[] {SUCCESS_NO_INFO}, BatchUpdateException::getUpdateCounts)
+                    .havingCause()
+                    .isInstanceOf(ClientBulkWriteException.class);
+            connection.rollback();
+        });
+        assertThat(books.find()).isEmpty();
+        assertThat(authors.find()).containsExactly(BsonDocument.parse("{_id: 1}"));
+    }
+
+    @Test
+    void testJdbcBatchesAreNotBufferedInAutoCommitMode() {
+        doWorkWithSpecifiedAutoCommit(true, session, connection -> {
+            executeBatch(connection, BOOKS_INSERT_MQL, 1);
+            assertThat(getWriteCommandNames()).containsExactly("insert");
+        });
+        assertThat(books.find()).containsExactly(BsonDocument.parse("{_id: 1}"));
+    }
+
+    private static void executeBatch(Connection connection, String mql, int... ids) throws SQLException {
+        try (var preparedStatement = connection.prepareStatement(mql)) {
+            for (var id : ids) {
+                preparedStatement.setInt(1, id);
+                preparedStatement.addBatch();
+            }
+            var updateCounts = preparedStatement.executeBatch();
+            assertEquals(ids.length, updateCounts.length);
+            for (var updateCount : updateCounts) {
+                assertEquals(SUCCESS_NO_INFO, updateCount);
+            }
+        }
+    }
+
+    private List<String> getWriteCommandNames() {
+        return commandHistory.getCommands().stream()
+                .map(BsonDocument::getFirstKey)
+                .filter(commandName -> List.of("insert", "update", "delete", "bulkWrite").contains(commandName))
+                .toList();
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.jdbc;
+
+import static com.mongodb.hibernate.internal.MongoConstants.COALESCE_INSERTS_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.ID_FIELD_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.MONGO_CONFIGURATION_CONTRIBUTOR_KEY;
+import static com.mongodb.hibernate.internal.jdbc.MongoStatementIntegrationTests.doWorkWithSpecifiedAutoCommit;
+import static com.mongodb.hibernate.internal.jdbc.MongoStatementIntegrationTests.insertTestData;
+import static java.sql.Statement.SUCCESS_NO_INFO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.hibernate.junit.CommandHistory;
+import com.mongodb.hibernate.junit.InjectCommandHistory;
+import com.mongodb.hibernate.junit.InjectMongoCollection;
+import com.mongodb.hibernate.junit.MongoExtension;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import org.bson.BsonDocument;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(MongoExtension.class)
+class InsertCoalescingIntegrationTests {
+    private static final String BOOKS_INSERT_MQL =
+            """
+            {
+                insert: "books",
+                documents: [
+                    { _id: { $undefined: true } }
+                ]
+            }""";
+
+    private static final String AUTHORS_INSERT_MQL =
+            """
+            {
+                insert: "authors",
+                documents: [
+                    { _id: { $undefined: true } }
+                ]
+            }""";
+
+    @AutoClose
+    private static SessionFactory sessionFactory;
+
+    @InjectMongoCollection("books")
+    private MongoCollection<BsonDocument> books;
+
+    @InjectMongoCollection("authors")
+    private MongoCollection<BsonDocument> authors;
+
+    @InjectCommandHistory
+    private CommandHistory commandHistory;
+
+    @AutoClose
+    private Session session;
+
+    @BeforeAll
+    static void beforeAll() {
+        var configuration = new Configuration();
+        configuration
+                .getProperties()
+                .put(
+                        MONGO_CONFIGURATION_CONTRIBUTOR_KEY,
+                        MongoExtension.configurationContributorForClass(InsertCoalescingIntegrationTests.class));
+        configuration.getProperties().put(COALESCE_INSERTS_PROPERTY_NAME, "true");
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        session = sessionFactory.openSession();
+    }
+
+    @Test
+    void testJdbcBatchesAreCoalescedUntilCommit() {
+        doWorkWithSpecifiedAutoCommit(false, session, connection -> {
+            executeBatch(connection, BOOKS_INSERT_MQL, 1, 2);
+            executeBatch(connection, BOOKS_INSERT_MQL, 3);
+            assertThat(getInsertedIdsPerCommand()).isEmpty();
+        });
+        assertThat(getInsertedIdsPerCommand()).containsExactly(List.of(1, 2, 3));
+        assertThat(books.find().sort(Sorts.ascending(ID_FIELD_NAME)))
+                .containsExactly(
+                        BsonDocument.parse("{_id: 1}"), BsonDocument.parse("{_id: 2}"), BsonDocument.parse("{_id: 3}"));
+    }
+
+    @Test
+    void testJdbcBatchesAreNotCoalescedAcrossCollections() {
+        doWorkWithSpecifiedAutoCommit(false, session, connection -> {
+            executeBatch(connection, BOOKS_INSERT_MQL, 1);
+            executeBatch(connection, BOOKS_INSERT_MQL, 2);
+            executeBatch(connection, AUTHORS_INSERT_MQL, 1);
+            executeBatch(connection, BOOKS_INSERT_MQL, 3);
+        });
+        assertThat(getInsertedIdsPerCommand()).containsExactly(List.of(1, 2), List.of(1), List.of(3));
+        assertThat(books.find()).hasSize(3);
+        assertThat(authors.find()).containsExactly(BsonDocument.parse("{_id: 1}"));
+    }
+
+    @Test
+    void testFailedInsertIsReportedWithItsJdbcBatch() {
+        insertTestData(
+                session,
+                """
+                {
+                    insert: "books",
+                    documents: [
+                        { _id: 4 }
+                    ]
+                }""");
+        doWorkWithSpecifiedAutoCommit(false, session, connection -> {
+            executeBatch(connection, BOOKS_INSERT_MQL, 1, 2);
+            executeBatch(connection, BOOKS_INSERT_MQL, 3, 4, 5);
+            assertThatExceptionOfType(BatchUpdateException.class)
+                    .isThrownBy(connection::commit)
+                    .withMessageContaining("command [1] of the JDBC batch of [insert] commands on [%s]"
+                            .formatted(books.getNamespace()))
+                    .returns(11000, BatchUpdateException::getErrorCode)
+                    .returns(new int[] {SUCCESS_NO_INFO}, BatchUpdateException::getUpdateCounts);
+            connection.rollback();
+        });
+        assertThat(books.find()).containsExactly(BsonDocument.parse("{_id: 4}"));
+    }
+
+    @Test
+    void testJdbcBatchesAreNotCoalescedInAutoCommitMode() {
+        insertTestData(
+                session,
+                """
+                {
+                    insert: "books",
+                    documents: [
+                        { _id: 4 }
+                    ]
+                }""");
+        commandHistory.clear();
+        doWorkWithSpecifiedAutoCommit(true, session, connection -> {
+            executeBatch(connection, BOOKS_INSERT_MQL, 1, 2);
+            assertThat(getInsertedIdsPerCommand()).containsExactly(List.of(1, 2));
+            try (var preparedStatement = connection.prepareStatement(BOOKS_INSERT_MQL)) {
+                preparedStatement.setInt(1, 4);
+                preparedStatement.addBatch();
+                assertThatExceptionOfType(BatchUpdateException.class)
+                        .isThrownBy(preparedStatement::executeBatch)
+                        .returns(11000, BatchUpdateException::getErrorCode);
+            }
+        });
+        assertThat(books.find()).hasSize(3);
+    }
+
+    private static void executeBatch(Connection connection, String mql, int... ids) throws SQLException {
+        try (var preparedStatement = connection.prepareStatement(mql)) {
+            for (var id : ids) {
+                preparedStatement.setInt(1, id);
+                preparedStatement.addBatch();
+            }
+            var updateCounts = preparedStatement.executeBatch();
+            assertEquals(ids.length, updateCounts.length);
+            for (var updateCount : updateCounts) {
+                assertEquals(SUCCESS_NO_INFO, updateCount);
+            }
+        }
+    }
+
+    /** Returns the {@code _id}s of the documents of each {@code insert} command sent so far. */
+    private List<List<Integer>> getInsertedIdsPerCommand() {
+        return commandHistory.getCommands().stream()
+                .filter(command -> command.getFirstKey().equals("insert"))
+                .map(command -> command.getArray("documents").stream()
+                        .map(document -> document.asDocument().getInt32(ID_FIELD_NAME).getValue())
+                        .toList())
+                .toList();
+    }
+}
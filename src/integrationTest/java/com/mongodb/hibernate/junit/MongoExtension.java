@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.bson.BsonDocument;
+import org.bson.BsonInt32;
 import org.hibernate.cfg.Configuration;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
@@ -70,6 +71,20 @@ public final class MongoExtension
                                 databaseName, ignored -> new TestCommandListener())));
     }
 
+    /**
+     * The major version of the server, so that tests of features that require a newer server can
+     * {@linkplain org.junit.jupiter.api.Assumptions#assumeTrue(boolean, String) skip} themselves.
+     */
+    public static int getServerMajorVersion() {
+        return STATE.mongoClient()
+                .getDatabase("admin")
+                .runCommand(new BsonDocument("buildInfo", new BsonInt32(1)), BsonDocument.class)
+                .getArray("versionArray")
+                .get(0)
+                .asInt32()
+                .getValue();
+    }
+
     /**
      * Injects the {@linkplain InjectMongoClient client}, {@linkplain InjectMongoCollection collections},
      * {@linkplain InjectCommandHistory command history}.
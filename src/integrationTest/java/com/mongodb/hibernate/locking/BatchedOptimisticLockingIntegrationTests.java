@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.locking;
+
+import static com.mongodb.hibernate.internal.MongoConstants.EXACT_BATCH_UPDATE_COUNTS_PROPERTY_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.hibernate.junit.InjectMongoCollection;
+import com.mongodb.hibernate.junit.MongoExtension;
+import com.mongodb.hibernate.junit.MongoServiceRegistryProducer;
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.util.List;
+import org.bson.BsonDocument;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * With {@value com.mongodb.hibernate.internal.MongoConstants#EXACT_BATCH_UPDATE_COUNTS_PROPERTY_NAME}, Hibernate ORM
+ * detects optimistic locking failures of versioned entities whose updates are batched.
+ */
+@DomainModel(annotatedClasses = BatchedOptimisticLockingIntegrationTests.Item.class)
+@ServiceRegistry(
+        settings = {
+            @Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+            @Setting(name = EXACT_BATCH_UPDATE_COUNTS_PROPERTY_NAME, value = "true")
+        })
+class BatchedOptimisticLockingIntegrationTests extends AbstractQueryIntegrationTests
+        implements MongoServiceRegistryProducer {
+
+    @InjectMongoCollection("items")
+    private MongoCollection<BsonDocument> collection;
+
+    @BeforeEach
+    void beforeEach() {
+        assumeTrue(MongoExtension.getServerMajorVersion() >= 8, "The bulkWrite command requires MongoDB 8.0");
+        getSessionFactoryScope().inTransaction(session -> {
+            session.persist(new Item(1, "str"));
+            session.persist(new Item(2, "str"));
+        });
+    }
+
+    @Test
+    void testBatchedUpdate() {
+        getSessionFactoryScope().inTransaction(session -> {
+            var item1 = session.find(Item.class, 1);
+            var item2 = session.find(Item.class, 2);
+            commandHistory.clear();
+            item1.string = "str_updated";
+            item2.string = "str_updated";
+            session.flush();
+            assertThat(getWriteCommandNames()).containsExactly("bulkWrite");
+        });
+        assertThat(collection.find())
+                .containsExactlyInAnyOrder(
+                        BsonDocument.parse("{_id: 1, string: 'str_updated', version: 1}"),
+                        BsonDocument.parse("{_id: 2, string: 'str_updated', version: 1}"));
+    }
+
+    @Test
+    void testBatchedUpdateVersionConflictThrows() {
+        assertThatThrownBy(() -> getSessionFactoryScope().inSession(sessionA -> {
+                    var item1 = sessionA.find(Item.class, 1);
+                    var item2 = sessionA.find(Item.class, 2);
+
+                    getSessionFactoryScope().inTransaction(sessionB -> {
+                        sessionB.find(Item.class, 2).string = "str_updated_b";
+                    });
+
+                    sessionA.beginTransaction();
+                    commandHistory.clear();
+                    item1.string = "str_updated_a";
+                    item2.string = "str_updated_a";
+                    sessionA.flush();
+                    sessionA.getTransaction().commit();
+                }))
+                .isInstanceOf(OptimisticLockException.class);
+        assertThat(getWriteCommandNames()).containsExactly("bulkWrite");
+        assertThat(collection.find())
+                .containsExactlyInAnyOrder(
+                        BsonDocument.parse("{_id: 1, string: 'str', version: 0}"),
+                        BsonDocument.parse("{_id: 2, string: 'str_updated_b', version: 1}"));
+    }
+
+    private List<String> getWriteCommandNames() {
+        return commandHistory.getCommands().stream()
+                .map(BsonDocument::getFirstKey)
+                .filter(commandName -> List.of("insert", "update", "delete", "bulkWrite").contains(commandName))
+                .toList();
+    }
+
+    @Entity
+    @Table(name = "items")
+    static class Item {
+        @Id
+        int id;
+
+        String string;
+
+        @Version
+        int version;
+
+        Item() {}
+
+        Item(int id, String string) {
+            this.id = id;
+            this.string = string;
+        }
+    }
+}
@@ -16,11 +16,19 @@
 
 package com.mongodb.hibernate.query;
 
+import static com.mongodb.hibernate.internal.MongoConstants.INDEX_MIGRATION_COLLECTION;
+import static com.mongodb.hibernate.internal.MongoConstants.INDEX_MIGRATION_DROP_AFTER_SECONDS_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.INDEX_MIGRATION_DROP_OBSOLETE_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.INDEX_MIGRATION_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.INDEX_MIGRATION_WAIT_PROPERTY_NAME;
 import static com.mongodb.hibernate.internal.MongoConstants.MONGO_CONFIGURATION_CONTRIBUTOR_KEY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.mongodb.MongoCommandException;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.hibernate.annotations.MongoCollation;
 import com.mongodb.hibernate.internal.FeatureNotSupportedException;
 import com.mongodb.hibernate.junit.CommandHistory;
 import com.mongodb.hibernate.junit.InjectCommandHistory;
@@ -32,7 +40,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -47,6 +57,7 @@ import org.hibernate.Session;
 import org.hibernate.annotations.NaturalId;
 import org.hibernate.boot.MetadataSources;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.tool.schema.spi.SchemaManagementException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -104,7 +115,10 @@ class IndexIntegrationTests {
                         uniqueDescendingCollection,
                         columnUniqueCollection,
                         unnamedCollection,
-                        qualifiedCollection)
+                        qualifiedCollection,
+                        collatedCollection,
+                        withOptionsCollection,
+                        indexMigrationCollection)
                 .forEach(MongoCollection::drop);
     }
 
@@ -179,8 +193,10 @@ class IndexIntegrationTests {
     }
 
     /**
-     * The {@code createIndexes} commands that were sent, as JSON, with the session and cluster metadata the driver adds
-     * stripped off.
+     * The indexes of the {@code createIndexes} commands that were sent, each as a {@code createIndexes} command of its
+     * own, as JSON, with the session and cluster metadata the driver adds stripped off. Several indexes of a collection
+     * may be created by one command, see {@link #indexesOfACollectionInABatchAreCreatedTogether()}, so splitting them
+     * keeps the assertions independent of how the indexes of a collection are grouped into commands.
      *
      * <p>Compared as strings rather than as {@link BsonDocument}s because {@code BsonDocument} implements {@link Map},
      * so equality ignores field order, and the order of the fields in a compound key is significant.
@@ -188,9 +204,10 @@ class IndexIntegrationTests {
     private static List<String> createIndexesCommands(List<BsonDocument> commands) {
         return commands.stream()
                 .filter(command -> command.containsKey("createIndexes"))
-                .map(command -> new BsonDocument("createIndexes", command.get("createIndexes"))
-                        .append("indexes", command.get("indexes"))
-                        .toJson())
+                .flatMap(command -> command.getArray("indexes").stream()
+                        .map(index -> new BsonDocument("createIndexes", command.get("createIndexes"))
+                                .append("indexes", new BsonArray(List.of(index)))
+                                .toJson()))
                 .toList();
     }
 
@@ -198,8 +215,7 @@ class IndexIntegrationTests {
      * The {@code createIndexes} command that should be emitted for one index, where each {@code key} entry is
      * {@code field:direction}.
      *
-     * <p>{@code unique} is only present when true, because the driver omits it otherwise. One index per command, so
-     * comparing against the full list also asserts that indexes are not batched together.
+     * <p>{@code unique} is only present when true, because the driver omits it otherwise.
      */
     private static String createIndexes(String collection, String name, boolean unique, String... key) {
         var keys = new BsonDocument();
@@ -237,6 +253,134 @@ class IndexIntegrationTests {
         assertThat(export.observed().unique()).isEmpty();
     }
 
+    /**
+     * The indexes that the commands of a batch create on a collection are created by one {@code createIndexes}, rather
+     * than one per command.
+     */
+    @Test
+    void indexesOfACollectionInABatchAreCreatedTogether() {
+        var export = inRegistry(Ascending.class, Map.of(), session -> {
+            commandHistory.clear();
+            session.doWork(connection -> {
+                try (var statement = connection.createStatement()) {
+                    statement.addBatch(
+                            """
+                            {"createIndexes": "ascending", "indexes": [
+                              {"key": {"author": -1}, "name": "idx_batch_author", "unique": false}
+                            ]}""");
+                    statement.addBatch(
+                            """
+                            {"createIndexes": "ascending", "indexes": [
+                              {"key": {"publisher": -1}, "name": "idx_batch_publisher", "unique": false}
+                            ]}""");
+                    statement.executeBatch();
+                }
+            });
+            return List.copyOf(commandHistory.getCommands());
+        });
+
+        assertThat(export.observed().stream().filter(command -> command.containsKey("createIndexes")))
+                .singleElement()
+                .satisfies(command -> assertThat(command.getArray("indexes")).hasSize(2));
+    }
+
+    /**
+     * The schema export executes its commands as a batch, so that all the indexes of a collection are created by one
+     * {@code createIndexes}, rather than one per index.
+     */
+    @Test
+    void schemaExportCreatesTheIndexesOfACollectionTogether() {
+        var commands = inRegistry(Ascending.class, Map.of(), session -> null).commands();
+        assertThat(commands.stream().filter(command -> command.containsKey("createIndexes")))
+                .singleElement()
+                .satisfies(command -> assertThat(command.getArray("indexes")).hasSizeGreaterThan(1));
+    }
+
+    /**
+     * A command of the schema export that the server rejects halts it with {@code halt_on_error}, even though the
+     * batch of its commands is executed when the generation target is released, the exceptions of which Hibernate ORM
+     * ignores.
+     */
+    @Test
+    void serverSideFailureHaltsSchemaExport() {
+        assertThatThrownBy(() -> inRegistry(WithInvalidCollation.class, Map.of(), session -> null))
+                .isInstanceOf(SchemaManagementException.class)
+                .hasRootCauseInstanceOf(MongoCommandException.class);
+    }
+
+    /**
+     * Exporting indexes that already exist with the same specification lists the indexes of the collection, and sends
+     * no {@code createIndexes}, so that an export against an existing database does not wait for index builds.
+     */
+    @Test
+    void existingIndexesAreSkipped() {
+        var export = inRegistry(Ascending.class, Map.of(), session -> {
+            commandHistory.clear();
+            session.doWork(connection -> {
+                try (var statement = connection.createStatement()) {
+                    statement.execute(
+                            """
+                            {"createIndexes": "ascending", "indexes": [
+                              {"key": {"publishYear": 1}, "name": "idx_implicit", "unique": false},
+                              {"key": {"publisher": 1, "author": 1}, "name": "idx_compound", "unique": false}
+                            ]}""");
+                }
+            });
+            return List.copyOf(commandHistory.getCommands());
+        });
+
+        assertThat(export.observed())
+                .anyMatch(command -> command.containsKey("listIndexes"))
+                .noneMatch(command -> command.containsKey("createIndexes"));
+    }
+
+    @InjectMongoCollection(INDEX_MIGRATION_COLLECTION)
+    private MongoCollection<BsonDocument> indexMigrationCollection;
+
+    /**
+     * With {@code update}, the index migration creates the missing indexes and hides an index that it has seen mapped
+     * and that is no longer mapped, which it drops only if so configured, once it has been hidden long enough. An index
+     * that it has never seen mapped is left alone. Closing the session factory waits for the migration that runs in
+     * the background.
+     */
+    @Test
+    void indexMigrationCreatesMissingIndexesAndHidesThenDropsObsoleteIndexes() {
+        ascendingCollection.createIndex(
+                new BsonDocument("publishYear", new BsonInt32(-1)), new IndexOptions().name("idx_unmanaged"));
+        var settings = Map.<String, Object>of(
+                "jakarta.persistence.schema-generation.database.action",
+                "none",
+                INDEX_MIGRATION_PROPERTY_NAME,
+                "update");
+        var dropSettings = new HashMap<>(settings);
+        dropSettings.put(INDEX_MIGRATION_DROP_OBSOLETE_PROPERTY_NAME, "true");
+        dropSettings.put(INDEX_MIGRATION_WAIT_PROPERTY_NAME, "true");
+
+        inRegistry(AscendingPreviously.class, settings, session -> null);
+        assertThat(indexesOf(ascendingCollection)).containsOnlyKeys("idx_implicit", "idx_previous", "idx_unmanaged");
+
+        inRegistry(Ascending.class, settings, session -> null);
+        assertThat(indexesOf(ascendingCollection))
+                .containsOnlyKeys("idx_implicit", "idx_explicit_asc", "idx_compound", "idx_previous", "idx_unmanaged");
+        assertThat(isHidden(ascendingCollection, "idx_previous")).isTrue();
+
+        inRegistry(Ascending.class, settings, session -> null);
+        inRegistry(Ascending.class, dropSettings, session -> null);
+        assertThat(isHidden(ascendingCollection, "idx_previous")).as("hidden for too short").isTrue();
+
+        dropSettings.put(INDEX_MIGRATION_DROP_AFTER_SECONDS_PROPERTY_NAME, "0");
+        inRegistry(Ascending.class, dropSettings, session -> null);
+        assertThat(indexesOf(ascendingCollection))
+                .containsOnlyKeys("idx_implicit", "idx_explicit_asc", "idx_compound", "idx_unmanaged");
+        assertThat(isHidden(ascendingCollection, "idx_unmanaged")).isFalse();
+    }
+
+    private static boolean isHidden(MongoCollection<BsonDocument> collection, String indexName) {
+        return collection.listIndexes(BsonDocument.class).into(new ArrayList<>()).stream()
+                .anyMatch(index -> index.getString("name").getValue().equals(indexName)
+                        && index.getBoolean("hidden", BsonBoolean.FALSE).getValue());
+    }
+
     @InjectMongoCollection("descending")
     private MongoCollection<BsonDocument> descendingCollection;
 
@@ -350,6 +494,56 @@ class IndexIntegrationTests {
         assertThat(export.observed()).containsOnly(Map.entry("idx_title", List.of("title:1")));
     }
 
+    @InjectMongoCollection("collated")
+    private MongoCollection<BsonDocument> collatedCollection;
+
+    /**
+     * {@link MongoCollation} of the entity applies to its indexes, and that of an attribute overrides it for the
+     * indexes of the column, so that the queries with the same collation can use them.
+     */
+    @Test
+    void collationIndexes() {
+        var export = inRegistry(Collated.class, Map.of(), session -> collatedCollection
+                .listIndexes(BsonDocument.class)
+                .into(new ArrayList<>())
+                .stream()
+                .filter(index -> !index.getString("name").getValue().equals("_id_"))
+                .collect(Collectors.toMap(
+                        index -> index.getString("name").getValue(),
+                        index -> index.getDocument("collation").getString("locale").getValue()
+                                + ":" + index.getDocument("collation").getInt32("strength").getValue())));
+
+        assertThat(export.observed()).containsOnly(Map.entry("idx_email", "en:2"), Map.entry("idx_name", "fr:1"));
+    }
+
+    @InjectMongoCollection("with_options")
+    private MongoCollection<BsonDocument> withOptionsCollection;
+
+    /** {@code options} of {@code @Index} is a JSON document of the index options, which the index is created with. */
+    @Test
+    void indexOptions() {
+        var export = inRegistry(WithOptions.class, Map.of(), session -> withOptionsCollection
+                .listIndexes(BsonDocument.class)
+                .into(new ArrayList<>())
+                .stream()
+                .collect(Collectors.toMap(index -> index.getString("name").getValue(), Function.identity())));
+
+        var indexes = export.observed();
+        assertThat(indexes.get("idx_partial").getDocument("partialFilterExpression"))
+                .isEqualTo(BsonDocument.parse("{publishYear: {$gt: 1900}}"));
+        assertThat(indexes.get("idx_sparse_hidden"))
+                .containsEntry("sparse", BsonBoolean.TRUE)
+                .containsEntry("hidden", BsonBoolean.TRUE);
+        assertThat(indexes.get("idx_ttl").get("expireAfterSeconds").asNumber().longValue())
+                .isEqualTo(3600);
+        assertThat(indexes.get("idx_wildcard").getDocument("key")).isEqualTo(new BsonDocument("$**", new BsonInt32(1)));
+        assertThat(indexes.get("idx_wildcard").getDocument("wildcardProjection"))
+                .isEqualTo(new BsonDocument("title", new BsonInt32(1)));
+        assertThat(indexes.get("idx_collation").getDocument("collation"))
+                .containsEntry("locale", new BsonString("de"))
+                .containsEntry("strength", new BsonInt32(1));
+    }
+
     /** {@code create-drop} creates the collection when the {@code SessionFactory} opens and drops it when it closes. */
     @Test
     void createDropLifecycle() {
@@ -394,12 +588,13 @@ class IndexIntegrationTests {
     @Nested
     class Unsupported {
 
-        /** MongoDB has no equivalent of a trailing DDL fragment. */
+        /** An index option that the grammar of {@code options} does not have. */
         @Test
-        void indexOptions() {
-            assertThatThrownBy(() -> inRegistry(WithOptions.class, Map.of(), session -> null))
+        void unknownIndexOption() {
+            assertThatThrownBy(() -> inRegistry(WithUnknownOption.class, Map.of(), session -> null))
                     .isInstanceOf(FeatureNotSupportedException.class)
-                    .hasMessage("Index idx_options on with_options has options, which is not supported");
+                    .hasMessage("Index idx_unknown_option on with_unknown_option has option storageEngine, which is not"
+                            + " supported");
         }
 
         /**
@@ -448,6 +643,24 @@ class IndexIntegrationTests {
                     .hasMessage("Table 'unmapped_index' has no column named 'noSuchColumn'");
         }
 
+        /** {@code options} that are a DDL fragment rather than a JSON document. */
+        @Test
+        void indexOptionsNotADocument() {
+            assertThatThrownBy(() -> inRegistry(WithInvalidOptions.class, Map.of(), session -> null))
+                    .isInstanceOf(AnnotationException.class)
+                    .hasMessage("Index idx_options on with_invalid_options has options something, which are not a JSON"
+                            + " document");
+        }
+
+        /** An index option with a value of the wrong type. */
+        @Test
+        void indexOptionWithInvalidValue() {
+            assertThatThrownBy(() -> inRegistry(WithInvalidOptionValue.class, Map.of(), session -> null))
+                    .isInstanceOf(AnnotationException.class)
+                    .hasMessage("Index idx_ttl on with_invalid_option_value has option expireAfterSeconds with invalid"
+                            + " value BsonString{value='1h'}");
+        }
+
         /** {@code columnNames} naming a column that is not mapped. A different Hibernate code path from the above. */
         @Test
         void uniqueConstraintOnUnmappedColumn() {
@@ -480,6 +693,22 @@ class IndexIntegrationTests {
         String title;
     }
 
+    @Entity(name = "WithInvalidCollation")
+    @Table(
+            name = "with_invalid_collation",
+            indexes = {
+                @Index(
+                        name = "idx_invalid_collation",
+                        columnList = "title",
+                        options = "{collation: {locale: 'no_such_locale'}}")
+            })
+    static class WithInvalidCollation {
+        @Id
+        int id;
+
+        String title;
+    }
+
     @Entity(name = "Ascending")
     @Table(
             name = "ascending",
@@ -498,6 +727,22 @@ class IndexIntegrationTests {
         String author;
     }
 
+    /** {@link Ascending} as previously mapped, with an index that {@link Ascending} no longer maps. */
+    @Entity(name = "AscendingPreviously")
+    @Table(
+            name = "ascending",
+            indexes = {
+                @Index(name = "idx_implicit", columnList = "publishYear"),
+                @Index(name = "idx_previous", columnList = "edition desc")
+            })
+    static class AscendingPreviously {
+        @Id
+        int id;
+
+        int publishYear;
+        int edition;
+    }
+
     @Entity(name = "Descending")
     @Table(
             name = "descending",
@@ -585,12 +830,63 @@ class IndexIntegrationTests {
     @Entity(name = "WithOptions")
     @Table(
             name = "with_options",
-            indexes = @Index(name = "idx_options", columnList = "publishYear", options = "something"))
+            indexes = {
+                @Index(
+                        name = "idx_partial",
+                        columnList = "publishYear",
+                        options = "{partialFilterExpression: {publishYear: {$gt: 1900}}}"),
+                @Index(name = "idx_sparse_hidden", columnList = "edition", options = "{sparse: true, hidden: true}"),
+                @Index(name = "idx_ttl", columnList = "createdAt", options = "{expireAfterSeconds: 3600}"),
+                @Index(name = "idx_wildcard", columnList = "$**", options = "{wildcardProjection: {title: 1}}"),
+                @Index(
+                        name = "idx_collation",
+                        columnList = "title",
+                        options = "{collation: {locale: 'de', strength: 1}}")
+            })
     static class WithOptions {
         @Id
         int id;
 
+        String title;
+
         int publishYear;
+
+        Integer edition;
+
+        Instant createdAt;
+    }
+
+    @Entity(name = "WithUnknownOption")
+    @Table(
+            name = "with_unknown_option",
+            indexes = @Index(name = "idx_unknown_option", columnList = "publishYear", options = "{storageEngine: {}}"))
+    static class WithUnknownOption {
+        @Id
+        int id;
+
+        int publishYear;
+    }
+
+    @Entity(name = "WithInvalidOptions")
+    @Table(
+            name = "with_invalid_options",
+            indexes = @Index(name = "idx_options", columnList = "publishYear", options = "something"))
+    static class WithInvalidOptions {
+        @Id
+        int id;
+
+        int publishYear;
+    }
+
+    @Entity(name = "WithInvalidOptionValue")
+    @Table(
+            name = "with_invalid_option_value",
+            indexes = @Index(name = "idx_ttl", columnList = "createdAt", options = "{expireAfterSeconds: '1h'}"))
+    static class WithInvalidOptionValue {
+        @Id
+        int id;
+
+        Instant createdAt;
     }
 
     @Entity(name = "WithFormulaIndex")
@@ -613,6 +909,24 @@ class IndexIntegrationTests {
         int publishYear;
     }
 
+    @Entity(name = "Collated")
+    @Table(
+            name = "collated",
+            indexes = {
+                @Index(name = "idx_email", columnList = "email", unique = true),
+                @Index(name = "idx_name", columnList = "name")
+            })
+    @MongoCollation(locale = "fr", strength = 1)
+    static class Collated {
+        @Id
+        int id;
+
+        @MongoCollation(locale = "en", strength = 2)
+        String email;
+
+        String name;
+    }
+
     @Entity(name = "NaturalIdEntity")
     @Table(name = "natural_id")
     static class NaturalIdEntity {
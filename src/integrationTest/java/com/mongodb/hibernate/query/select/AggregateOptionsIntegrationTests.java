@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mongodb.hibernate.annotations.AggregateOptions;
+import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.MongoQueryHints;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.bson.BsonDocument;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = AggregateOptionsIntegrationTests.Report.class)
+class AggregateOptionsIntegrationTests extends AbstractQueryIntegrationTests {
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> {
+            session.persist(new Report(1, "côte"));
+            session.persist(new Report(2, "cote"));
+        });
+        commandHistory.clear();
+    }
+
+    @Test
+    void testEntityDefaults() {
+        getSessionFactoryScope().inTransaction(session -> {
+            var reports = session.createQuery("from Report where title = 'cote'", Report.class).getResultList();
+            assertThat(reports).extracting(report -> report.id).containsExactlyInAnyOrder(1, 2);
+            assertActualCommandsInOrder(BsonDocument.parse(
+                    """
+                    {
+                      "aggregate": "reports",
+                      "allowDiskUse": true,
+                      "comment": "reports",
+                      "collation": {"locale": "fr", "strength": 1}
+                    }"""));
+        });
+    }
+
+    @Test
+    void testDatabaseHintsOverrideEntityDefaults() {
+        getSessionFactoryScope().inTransaction(session -> {
+            var reports = session.createQuery("from Report where title = 'cote'", Report.class)
+                    .addQueryHint(MongoQueryHints.ALLOW_DISK_USE + "=false")
+                    .addQueryHint(MongoQueryHints.COMMENT + "=monthly report")
+                    .addQueryHint(MongoQueryHints.COLLATION + "={locale: 'simple'}")
+                    .getResultList();
+            assertThat(reports).extracting(report -> report.id).containsExactly(2);
+            assertActualCommandsInOrder(BsonDocument.parse(
+                    """
+                    {
+                      "aggregate": "reports",
+                      "allowDiskUse": false,
+                      "comment": "monthly report",
+                      "collation": {"locale": "simple"}
+                    }"""));
+        });
+    }
+
+    @Test
+    void testInvalidDatabaseHint() {
+        getSessionFactoryScope()
+                .inTransaction(session -> assertThatThrownBy(() -> session.createQuery("from Report", Report.class)
+                                .addQueryHint(MongoQueryHints.ALLOW_DISK_USE + "=yes")
+                                .getResultList())
+                        .isInstanceOf(FeatureNotSupportedException.class)
+                        .hasMessage("Aggregate option [allowDiskUse] with value [yes] is not supported"));
+    }
+
+    @Entity(name = "Report")
+    @Table(name = "reports")
+    @AggregateOptions(allowDiskUse = true, comment = "reports", collation = "{locale: 'fr', strength: 1}")
+    static class Report {
+        @Id
+        int id;
+
+        String title;
+
+        Report() {}
+
+        Report(int id, String title) {
+            this.id = id;
+            this.title = title;
+        }
+    }
+}
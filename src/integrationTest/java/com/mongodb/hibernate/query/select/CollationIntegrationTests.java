@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.hibernate.annotations.MongoCollation;
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.MongoQueryHints;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Set;
+import org.bson.BsonDocument;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = {CollationIntegrationTests.Account.class, CollationIntegrationTests.Contact.class})
+class CollationIntegrationTests extends AbstractQueryIntegrationTests {
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> {
+            session.persist(new Account(1, "Alice@Example.com", "Alice"));
+            session.persist(new Account(2, "bob@example.com", "Bob"));
+            session.persist(new Contact(1, "bob"));
+            session.persist(new Contact(2, "Alice"));
+            session.persist(new Contact(3, "carol"));
+        });
+        commandHistory.clear();
+    }
+
+    @Test
+    void testCaseInsensitiveEqualityOfAttributeWithCollationOfQuery() {
+        getSessionFactoryScope().inTransaction(session -> {
+            var accounts = session.createQuery("from Account where lower(email) = lower(:email)", Account.class)
+                    .setParameter("email", "ALICE@example.COM")
+                    .addQueryHint(MongoQueryHints.COLLATION + "={locale: 'en', strength: 2}")
+                    .getResultList();
+            assertThat(accounts).extracting(account -> account.id).containsExactly(1);
+            assertActualCommandsInOrder(BsonDocument.parse(
+                    """
+                    {
+                      "aggregate": "accounts",
+                      "pipeline": [
+                        {"$match": {"email": {"$eq": "ALICE@example.COM"}}},
+                        {"$project": {"_id": true, "email": true, "name": true}}
+                      ],
+                      "collation": {"locale": "en", "strength": 2}
+                    }"""));
+        });
+    }
+
+    @Test
+    void testCaseInsensitiveEqualityOfAttributeWithCollationWithoutCollationOfQuery() {
+        assertSelectionQuery(
+                "from Account where lower(email) = lower(:email)",
+                Account.class,
+                q -> q.setParameter("email", "ALICE@example.COM"),
+                """
+                {
+                  "aggregate": "accounts",
+                  "pipeline": [
+                    {"$match": {"$expr": {"$eq": [{"$toLower": "$email"}, {"$toLower": "ALICE@example.COM"}]}}},
+                    {"$project": {"_id": true, "email": true, "name": true}}
+                  ]
+                }""",
+                accounts -> assertThat(accounts).extracting(account -> account.id).containsExactly(1),
+                Set.of(Account.COLLECTION_NAME));
+    }
+
+    @Test
+    void testCaseInsensitiveEqualityOfAttributeWithCollationOtherThanThatOfQuery() {
+        getSessionFactoryScope().inTransaction(session -> {
+            var accounts = session.createQuery("from Account where lower(email) = lower(:email)", Account.class)
+                    .setParameter("email", "ALICE@example.COM")
+                    .addQueryHint(MongoQueryHints.COLLATION + "={locale: 'fr', strength: 2}")
+                    .getResultList();
+            assertThat(accounts).extracting(account -> account.id).containsExactly(1);
+            assertActualCommandsInOrder(BsonDocument.parse(
+                    """
+                    {
+                      "aggregate": "accounts",
+                      "pipeline": [
+                        {"$match": {"$expr": {"$eq": [{"$toLower": "$email"}, {"$toLower": "ALICE@example.COM"}]}}},
+                        {"$project": {"_id": true, "email": true, "name": true}}
+                      ],
+                      "collation": {"locale": "fr", "strength": 2}
+                    }"""));
+        });
+    }
+
+    @Test
+    void testCaseInsensitiveInOfAttributeWithCollationWithoutCollationOfQuery() {
+        assertSelectionQuery(
+                "from Account where upper(email) in (upper(:email1), upper(:email2))",
+                Account.class,
+                q -> q.setParameter("email1", "alice@example.com").setParameter("email2", "BOB@EXAMPLE.COM"),
+                """
+                {
+                  "aggregate": "accounts",
+                  "pipeline": [
+                    {
+                      "$match": {
+                        "$expr": {
+                          "$in": [
+                            {"$toUpper": "$email"},
+                            [{"$toUpper": "alice@example.com"}, {"$toUpper": "BOB@EXAMPLE.COM"}]
+                          ]
+                        }
+                      }
+                    },
+                    {"$project": {"_id": true, "email": true, "name": true}}
+                  ]
+                }""",
+                accounts -> assertThat(accounts).extracting(account -> account.id).containsExactlyInAnyOrder(1, 2),
+                Set.of(Account.COLLECTION_NAME));
+    }
+
+    @Test
+    void testCaseInsensitiveEqualityOfAttributeWithoutCollation() {
+        assertSelectionQuery(
+                "from Account where lower(name) = lower(:name)",
+                Account.class,
+                q -> q.setParameter("name", "ALICE"),
+                """
+                {
+                  "aggregate": "accounts",
+                  "pipeline": [
+                    {"$match": {"$expr": {"$eq": [{"$toLower": "$name"}, {"$toLower": "ALICE"}]}}},
+                    {"$project": {"_id": true, "email": true, "name": true}}
+                  ]
+                }""",
+                accounts -> assertThat(accounts).extracting(account -> account.id).containsExactly(1),
+                Set.of(Account.COLLECTION_NAME));
+    }
+
+    @Test
+    void testCaseInsensitiveOrderingOfEntityWithCollation() {
+        assertSelectionQuery(
+                "from Contact where name <> 'carol' order by lower(name)",
+                Contact.class,
+                """
+                {
+                  "aggregate": "contacts",
+                  "pipeline": [
+                    {"$match": {"name": {"$ne": "carol"}}},
+                    {"$sort": {"name": 1}},
+                    {"$project": {"_id": true, "name": true}}
+                  ],
+                  "collation": {"locale": "en", "strength": 2}
+                }""",
+                contacts -> assertThat(contacts).extracting(contact -> contact.id).containsExactly(2, 1),
+                Set.of(Contact.COLLECTION_NAME));
+    }
+
+    @Entity(name = "Account")
+    @Table(name = Account.COLLECTION_NAME)
+    static class Account {
+        static final String COLLECTION_NAME = "accounts";
+
+        @Id
+        int id;
+
+        @MongoCollation(locale = "en", strength = 2)
+        String email;
+
+        String name;
+
+        Account() {}
+
+        Account(int id, String email, String name) {
+            this.id = id;
+            this.email = email;
+            this.name = name;
+        }
+    }
+
+    @Entity(name = "Contact")
+    @Table(name = Contact.COLLECTION_NAME)
+    @MongoCollation(locale = "en", strength = 2)
+    static class Contact {
+        static final String COLLECTION_NAME = "contacts";
+
+        @Id
+        int id;
+
+        String name;
+
+        Contact() {}
+
+        Contact(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
@@ -21,7 +21,6 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.mongodb.MongoException;
 import com.mongodb.client.MongoCollection;
-import com.mongodb.hibernate.internal.FeatureNotSupportedException;
 import com.mongodb.hibernate.junit.InjectMongoCollection;
 import com.mongodb.hibernate.junit.MongoServiceRegistryProducer;
 import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
@@ -486,6 +485,57 @@ class CompositePrimaryKeyIntegrationTests extends AbstractQueryIntegrationTests
                     Set.of("books"));
         }
 
+        @Test
+        void testWhereIdGtAsKeysetPagination() {
+            assertSelectionQuery(
+                    "from Book b where b.id > :id order by b.id limit 1",
+                    Book.class,
+                    q -> q.setParameter("id", new BookId(20, 1)),
+                    """
+                    {
+                      "aggregate": "books",
+                      "pipeline": [
+                        {
+                          "$match": {
+                            "$and": [
+                              {"_id.bookNo": {"$gte": {"$numberLong": "1"}}},
+                              {
+                                "$or": [
+                                  {"_id.bookNo": {"$gt": {"$numberLong": "1"}}},
+                                  {
+                                    "$and": [
+                                      {"_id.bookNo": {"$eq": {"$numberLong": "1"}}},
+                                      {"_id.publisherId": {"$gt": {"$numberLong": "20"}}}
+                                    ]
+                                  }
+                                ]
+                              }
+                            ]
+                          }
+                        },
+                        {
+                          "$sort": {
+                            "_id.bookNo": 1,
+                            "_id.publisherId": 1
+                          }
+                        },
+                        {
+                          "$limit": 1
+                        },
+                        {
+                          "$project": {
+                            "_id#bookNo": "$_id.bookNo",
+                            "_id#publisherId": "$_id.publisherId",
+                            "title": true
+                          }
+                        }
+                      ]
+                    }
+                    """,
+                    List.of(new Book(new BookId(10, 2), "a")),
+                    Set.of("books"));
+        }
+
         @Test
         void testFindById() {
             getSessionFactoryScope().inTransaction(session -> {
@@ -756,16 +806,6 @@ class CompositePrimaryKeyIntegrationTests extends AbstractQueryIntegrationTests
                     .hasMessageContaining("TODO-HIBERNATE-237");
         }
 
-        @Test
-        void testOrderingWholeIdUnsupported() {
-            assertSelectQueryFailure(
-                    "from Book b where b.id > :id",
-                    Book.class,
-                    q -> q.setParameter("id", new BookId(50, 8)),
-                    FeatureNotSupportedException.class,
-                    "TODO-HIBERNATE-211 https://jira.mongodb.org/browse/HIBERNATE-211");
-        }
-
         @Entity
         @IdClass(ItemId.class)
         @Table(name = "item_with_id_class")
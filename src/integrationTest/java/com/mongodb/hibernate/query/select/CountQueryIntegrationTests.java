@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.hibernate.annotations.EstimatedDocumentCount;
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.List;
+import java.util.Set;
+import org.bson.BsonString;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = {CountQueryIntegrationTests.Book.class, CountQueryIntegrationTests.Author.class})
+class CountQueryIntegrationTests extends AbstractQueryIntegrationTests {
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> {
+            session.persist(new Book(1, "War and Peace", 1869));
+            session.persist(new Book(2, "Crime and Punishment", 1866));
+            session.persist(new Book(3, "Pale Fire", 1962));
+            session.persist(new Author(1, "Leo Tolstoy"));
+            session.persist(new Author(2, "Vladimir Nabokov"));
+        });
+        commandHistory.clear();
+    }
+
+    @Test
+    void testCountAllWithWhere() {
+        assertSelectionQuery(
+                "select count(*) from Book where publishYear < 1900",
+                Long.class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {"$match": {"publishYear": {"$lt": 1900}}},
+                    {"$count": "count"}
+                  ]
+                }
+                """,
+                List.of(2L),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testCountAllWithoutMatchingDocuments() {
+        assertSelectionQuery(
+                "select count(*) from Book where publishYear > 2000",
+                Long.class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {"$match": {"publishYear": {"$gt": 2000}}},
+                    {"$count": "count"}
+                  ]
+                }
+                """,
+                List.of(0L),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testCountRootEntity() {
+        assertSelectionQuery(
+                "select count(b) from Book b",
+                Long.class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {"$match": {}},
+                    {"$count": "count"}
+                  ]
+                }
+                """,
+                List.of(3L),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testEstimatedDocumentCount() {
+        var count = getSessionFactoryScope()
+                .fromSession(session -> session.createSelectionQuery("select count(*) from Author", Long.class)
+                        .getSingleResult());
+        assertThat(count).isEqualTo(2L);
+        var commands = commandHistory.getCommands();
+        assertThat(commands).hasSize(1);
+        assertThat(commands.get(0)).containsEntry("count", new BsonString(Author.COLLECTION_NAME));
+        assertThat(commands.get(0).containsKey("query")).isFalse();
+    }
+
+    @Test
+    void testEstimatedDocumentCountIsExactInTransaction() {
+        assertSelectionQuery(
+                "select count(*) from Author",
+                Long.class,
+                """
+                {
+                  "aggregate": "authors",
+                  "pipeline": [
+                    {"$match": {}},
+                    {"$count": "count"}
+                  ]
+                }
+                """,
+                List.of(2L),
+                Set.of(Author.COLLECTION_NAME));
+    }
+
+    @Entity(name = "Book")
+    @Table(name = Book.COLLECTION_NAME)
+    static class Book {
+        static final String COLLECTION_NAME = "books";
+
+        @Id
+        int id;
+
+        String title;
+
+        int publishYear;
+
+        Book() {}
+
+        Book(int id, String title, int publishYear) {
+            this.id = id;
+            this.title = title;
+            this.publishYear = publishYear;
+        }
+    }
+
+    @Entity(name = "Author")
+    @Table(name = Author.COLLECTION_NAME)
+    @EstimatedDocumentCount
+    static class Author {
+        static final String COLLECTION_NAME = "authors";
+
+        @Id
+        int id;
+
+        String name;
+
+        Author() {}
+
+        Author(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
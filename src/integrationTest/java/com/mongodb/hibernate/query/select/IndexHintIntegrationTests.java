@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static com.mongodb.hibernate.MongoTestAssertions.assertIterableEq;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.Book;
+import com.mongodb.hibernate.query.MongoQueryHints;
+import java.util.List;
+import org.bson.BsonDocument;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DomainModel(annotatedClasses = Book.class)
+class IndexHintIntegrationTests extends AbstractQueryIntegrationTests {
+
+    private static final Book BOOK = new Book(1, "War and Peace", 1869, false);
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> session.persist(BOOK));
+        commandHistory.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"_id_\"", "{\"_id\": 1}"})
+    void testIndexHint(String hintJson) {
+        var hint = hintJson.startsWith("\"") ? hintJson.substring(1, hintJson.length() - 1) : hintJson;
+        getSessionFactoryScope().inTransaction(session -> {
+            var books = session.createQuery("from Book where id = 1", Book.class)
+                    .addQueryHint(MongoQueryHints.HINT + "=" + hint)
+                    .getResultList();
+            assertActualCommandsInOrder(BsonDocument.parse(
+                    """
+                    {
+                      "aggregate": "books",
+                      "pipeline": [
+                        {
+                          "$match": {
+                            "_id": {
+                              "$eq": 1
+                            }
+                          }
+                        },
+                        {
+                          "$project": {
+                            "_id": true,
+                            "discount": true,
+                            "isbn13": true,
+                            "outOfStock": true,
+                            "price": true,
+                            "publishYear": true,
+                            "title": true
+                          }
+                        }
+                      ],
+                      "hint": %s
+                    }"""
+                            .formatted(hintJson)));
+            assertIterableEq(List.of(BOOK), books);
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "{_id: "})
+    void testInvalidIndexHint(String hint) {
+        getSessionFactoryScope()
+                .inTransaction(session -> assertThatThrownBy(() -> session.createQuery("from Book", Book.class)
+                                .addQueryHint(MongoQueryHints.HINT + "=" + hint)
+                                .getResultList())
+                        .isInstanceOf(FeatureNotSupportedException.class)
+                        .hasMessageContaining("ndex hint"));
+    }
+}
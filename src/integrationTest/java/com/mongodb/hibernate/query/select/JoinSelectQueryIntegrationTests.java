@@ -201,17 +201,19 @@ class JoinSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                         "from": "Order",
                         "localField": "_id",
                         "foreignField": "customerId",
+                        "pipeline": [
+                          {
+                            "$match": {
+                              "total": {
+                                "$gt": { "$numberInt": "100" }
+                              }
+                            }
+                          }
+                        ],
                         "as": "#o1_0"
                       }
                     },
                     { "$unwind": "$#o1_0" },
-                    {
-                      "$match": {
-                        "#o1_0.total": {
-                          "$gt": { "$numberInt": "100" }
-                        }
-                      }
-                    },
                     {
                       "$project": {
                         "_id": true,
@@ -233,6 +235,11 @@ class JoinSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                 {
                   "aggregate": "Customer",
                   "pipeline": [
+                    {
+                      "$match": {
+                        "_id": { "$eq": { "$numberInt": "1" } }
+                      }
+                    },
                     {
                       "$lookup": {
                         "from": "Order",
@@ -242,11 +249,50 @@ class JoinSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                       }
                     },
                     { "$unwind": "$#o1_0" },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "o1_0#total": "$#o1_0.total"
+                      }
+                    }
+                  ]
+                }""",
+                List.<Object[]>of(new Object[] {1, 100}),
+                Set.of("Customer", "Order"));
+    }
+
+    @Test
+    void testInnerJoinWithWhereOnRootAndJoinedTables() {
+        assertSelectionQuery(
+                "SELECT c.id, o.total FROM Customer c JOIN c.orders o WHERE c.id = 2 AND o.total > 250",
+                Object[].class,
+                """
+                {
+                  "aggregate": "Customer",
+                  "pipeline": [
                     {
                       "$match": {
-                        "_id": { "$eq": { "$numberInt": "1" } }
+                        "_id": { "$eq": { "$numberInt": "2" } }
                       }
                     },
+                    {
+                      "$lookup": {
+                        "from": "Order",
+                        "localField": "_id",
+                        "foreignField": "customerId",
+                        "pipeline": [
+                          {
+                            "$match": {
+                              "total": {
+                                "$gt": { "$numberInt": "250" }
+                              }
+                            }
+                          }
+                        ],
+                        "as": "#o1_0"
+                      }
+                    },
+                    { "$unwind": "$#o1_0" },
                     {
                       "$project": {
                         "_id": true,
@@ -255,14 +301,15 @@ class JoinSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     }
                   ]
                 }""",
-                List.<Object[]>of(new Object[] {1, 100}),
+                List.<Object[]>of(new Object[] {2, 300}),
                 Set.of("Customer", "Order"));
     }
 
     @Test
-    void testLeftOuterJoin() {
+    void testLeftOuterJoinWithWhereOnJoinedTable() {
+        // the customers without orders must be rejected, so the filter is not moved into the $lookup sub-pipeline
         assertSelectionQuery(
-                "SELECT c.id, o.total FROM Customer c LEFT JOIN c.orders o WHERE c.id = 1 OR c.id = 3",
+                "SELECT c.id, o.total FROM Customer c LEFT JOIN c.orders o WHERE o.total > 100",
                 Object[].class,
                 """
                 {
@@ -282,6 +329,34 @@ class JoinSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                         "preserveNullAndEmptyArrays": true
                       }
                     },
+                    {
+                      "$match": {
+                        "#o1_0.total": {
+                          "$gt": { "$numberInt": "100" }
+                        }
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "o1_0#total": "$#o1_0.total"
+                      }
+                    }
+                  ]
+                }""",
+                List.of(new Object[] {2, 200}, new Object[] {2, 300}),
+                Set.of("Customer", "Order"));
+    }
+
+    @Test
+    void testLeftOuterJoin() {
+        assertSelectionQuery(
+                "SELECT c.id, o.total FROM Customer c LEFT JOIN c.orders o WHERE c.id = 1 OR c.id = 3",
+                Object[].class,
+                """
+                {
+                  "aggregate": "Customer",
+                  "pipeline": [
                     {
                       "$match": {
                         "$or": [
@@ -290,6 +365,20 @@ class JoinSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                         ]
                       }
                     },
+                    {
+                      "$lookup": {
+                        "from": "Order",
+                        "localField": "_id",
+                        "foreignField": "customerId",
+                        "as": "#o1_0"
+                      }
+                    },
+                    {
+                      "$unwind": {
+                        "path": "$#o1_0",
+                        "preserveNullAndEmptyArrays": true
+                      }
+                    },
                     {
                       "$project": {
                         "_id": true,
@@ -349,6 +438,11 @@ class JoinSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                 {
                   "aggregate": "Customer",
                   "pipeline": [
+                    {
+                      "$match": {
+                        "_id": { "$eq": { "$numberInt": "1" } }
+                      }
+                    },
                     {
                       "$lookup": {
                         "from": "Order",
@@ -358,11 +452,6 @@ class JoinSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                       }
                     },
                      { "$unwind": "$#o1_0" },
-                    {
-                      "$match": {
-                        "_id": { "$eq": { "$numberInt": "1" } }
-                      }
-                    },
                     {
                       "$project": {
                         "_id": true,
@@ -431,6 +520,11 @@ class JoinSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                 {
                   "aggregate": "Order",
                   "pipeline": [
+                    {
+                      "$match": {
+                        "_id": { "$eq": { "$numberInt": "1" } }
+                      }
+                    },
                     {
                       "$lookup": {
                         "from": "Customer",
@@ -449,11 +543,6 @@ class JoinSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                       }
                     },
                     { "$unwind": "$#li1_0" },
-                    {
-                      "$match": {
-                        "_id": { "$eq": { "$numberInt": "1" } }
-                      }
-                    },
                     {
                       "$project": {
                         "_id": true,
@@ -502,6 +591,202 @@ class JoinSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                 Set.of("Customer", "Order"));
     }
 
+    @Test
+    void testPaginationBeforeLeftJoinToOne() {
+        assertSelectionQuery(
+                "SELECT o.id, c.name FROM Order o LEFT JOIN o.customer c ORDER BY o.id LIMIT 2 OFFSET 1",
+                Object[].class,
+                """
+                {
+                  "aggregate": "Order",
+                  "pipeline": [
+                    { "$sort": { "_id": { "$numberInt": "1" } } },
+                    { "$skip": { "$numberInt": "1" } },
+                    { "$limit": { "$numberInt": "2" } },
+                    {
+                      "$lookup": {
+                        "from": "Customer",
+                        "localField": "customerId",
+                        "foreignField": "_id",
+                        "as": "#c1_0"
+                      }
+                    },
+                    {
+                      "$unwind": {
+                        "path": "$#c1_0",
+                        "preserveNullAndEmptyArrays": true
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "c1_0#name": "$#c1_0.name"
+                      }
+                    }
+                  ]
+                }""",
+                List.of(new Object[] {2, "Bob"}, new Object[] {3, "Bob"}),
+                Set.of("Order", "Customer"));
+    }
+
+    @Test
+    void testPaginationAndWhereOnRootTableBeforeLeftJoinToOne() {
+        assertSelectionQuery(
+                "SELECT o.id, c.name FROM Order o LEFT JOIN o.customer c WHERE o.total > 100 ORDER BY o.total DESC"
+                        + " LIMIT 1",
+                Object[].class,
+                """
+                {
+                  "aggregate": "Order",
+                  "pipeline": [
+                    {
+                      "$match": {
+                        "total": { "$gt": { "$numberInt": "100" } }
+                      }
+                    },
+                    { "$sort": { "total": { "$numberInt": "-1" } } },
+                    { "$limit": { "$numberInt": "1" } },
+                    {
+                      "$lookup": {
+                        "from": "Customer",
+                        "localField": "customerId",
+                        "foreignField": "_id",
+                        "as": "#c1_0"
+                      }
+                    },
+                    {
+                      "$unwind": {
+                        "path": "$#c1_0",
+                        "preserveNullAndEmptyArrays": true
+                      }
+                    },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "c1_0#name": "$#c1_0.name"
+                      }
+                    }
+                  ]
+                }""",
+                List.<Object[]>of(new Object[] {3, "Bob"}),
+                Set.of("Order", "Customer"));
+    }
+
+    @Test
+    void testPaginationAfterInnerJoinToOne() {
+        // an inner join removes the documents without a joined document, so it must precede the pagination
+        assertSelectionQuery(
+                "SELECT o.id, c.name FROM Order o JOIN o.customer c ORDER BY o.id LIMIT 2 OFFSET 1",
+                Object[].class,
+                """
+                {
+                  "aggregate": "Order",
+                  "pipeline": [
+                    {
+                      "$lookup": {
+                        "from": "Customer",
+                        "localField": "customerId",
+                        "foreignField": "_id",
+                        "as": "#c1_0"
+                      }
+                    },
+                    { "$unwind": "$#c1_0" },
+                    { "$sort": { "_id": { "$numberInt": "1" } } },
+                    { "$skip": { "$numberInt": "1" } },
+                    { "$limit": { "$numberInt": "2" } },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "c1_0#name": "$#c1_0.name"
+                      }
+                    }
+                  ]
+                }""",
+                List.of(new Object[] {2, "Bob"}, new Object[] {3, "Bob"}),
+                Set.of("Order", "Customer"));
+    }
+
+    @Test
+    void testPaginationAfterLeftJoinToOneSortedByJoinedColumn() {
+        assertSelectionQuery(
+                "SELECT o.id, c.name FROM Order o LEFT JOIN o.customer c ORDER BY c.name DESC, o.id LIMIT 2",
+                Object[].class,
+                """
+                {
+                  "aggregate": "Order",
+                  "pipeline": [
+                    {
+                      "$lookup": {
+                        "from": "Customer",
+                        "localField": "customerId",
+                        "foreignField": "_id",
+                        "as": "#c1_0"
+                      }
+                    },
+                    {
+                      "$unwind": {
+                        "path": "$#c1_0",
+                        "preserveNullAndEmptyArrays": true
+                      }
+                    },
+                    {
+                      "$sort": {
+                        "#c1_0.name": { "$numberInt": "-1" },
+                        "_id": { "$numberInt": "1" }
+                      }
+                    },
+                    { "$limit": { "$numberInt": "2" } },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "c1_0#name": "$#c1_0.name"
+                      }
+                    }
+                  ]
+                }""",
+                List.of(new Object[] {2, "Bob"}, new Object[] {3, "Bob"}),
+                Set.of("Order", "Customer"));
+    }
+
+    @Test
+    void testPaginationAfterLeftJoinToMany() {
+        // a customer has any number of orders, so paging the customers first would skip the wrong rows
+        assertSelectionQuery(
+                "SELECT c.id, o.total FROM Customer c LEFT JOIN c.orders o ORDER BY c.id DESC LIMIT 1 OFFSET 3",
+                Object[].class,
+                """
+                {
+                  "aggregate": "Customer",
+                  "pipeline": [
+                    {
+                      "$lookup": {
+                        "from": "Order",
+                        "localField": "_id",
+                        "foreignField": "customerId",
+                        "as": "#o1_0"
+                      }
+                    },
+                    {
+                      "$unwind": {
+                        "path": "$#o1_0",
+                        "preserveNullAndEmptyArrays": true
+                      }
+                    },
+                    { "$sort": { "_id": { "$numberInt": "-1" } } },
+                    { "$skip": { "$numberInt": "3" } },
+                    { "$limit": { "$numberInt": "1" } },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "o1_0#total": "$#o1_0.total"
+                      }
+                    }
+                  ]
+                }""",
+                List.<Object[]>of(new Object[] {1, 100}),
+                Set.of("Customer", "Order"));
+    }
+
     @Nested
     class NonEquijoin implements MongoServiceRegistryProducer {
 
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.DIALECT;
+import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE;
+import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
+
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.List;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = QueryCacheIntegrationTests.Currency.class)
+@ServiceRegistry(
+        settings = {
+            @Setting(name = USE_SECOND_LEVEL_CACHE, value = "true"),
+            @Setting(name = USE_QUERY_CACHE, value = "true"),
+            @Setting(name = CACHE_REGION_FACTORY, value = "org.hibernate.testing.cache.CachingRegionFactory"),
+            @Setting(
+                    name = DIALECT,
+                    value =
+                            "com.mongodb.hibernate.query.AbstractQueryIntegrationTests$TranslateResultAwareDialect"),
+        })
+class QueryCacheIntegrationTests extends AbstractQueryIntegrationTests {
+
+    private static final String HQL = "select code from Currency where region = :region order by code";
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> {
+            session.persist(new Currency("EUR", "Euro", "Europe"));
+            session.persist(new Currency("USD", "US Dollar", "America"));
+            session.persist(new Currency("CAD", "Canadian Dollar", "America"));
+        });
+        getSessionFactoryScope().getSessionFactory().getCache().evictQueryRegions();
+        commandHistory.clear();
+    }
+
+    @Test
+    void testCachedQueryIsNotExecutedAgain() {
+        assertThat(findCodes("America")).containsExactly("CAD", "USD");
+        assertThat(findCodes("America")).containsExactly("CAD", "USD");
+        assertThat(commandHistory.getCommands()).hasSize(1);
+    }
+
+    @Test
+    void testQueryWithOtherParameterValueIsExecuted() {
+        assertThat(findCodes("America")).containsExactly("CAD", "USD");
+        assertThat(findCodes("Europe")).containsExactly("EUR");
+        assertThat(commandHistory.getCommands()).hasSize(2);
+    }
+
+    @Test
+    void testPersistInvalidatesCachedQuery() {
+        assertThat(findCodes("America")).containsExactly("CAD", "USD");
+        getSessionFactoryScope()
+                .inTransaction(session -> session.persist(new Currency("MXN", "Mexican Peso", "America")));
+        commandHistory.clear();
+        assertThat(findCodes("America")).containsExactly("CAD", "MXN", "USD");
+        assertThat(commandHistory.getCommands()).hasSize(1);
+    }
+
+    @Test
+    void testMutationQueryInvalidatesCachedQuery() {
+        assertThat(findCodes("America")).containsExactly("CAD", "USD");
+        getSessionFactoryScope()
+                .inTransaction(session -> session.createMutationQuery(
+                                "update Currency set region = 'North America' where code = 'CAD'")
+                        .executeUpdate());
+        commandHistory.clear();
+        assertThat(findCodes("America")).containsExactly("USD");
+        assertThat(commandHistory.getCommands()).hasSize(1);
+    }
+
+    private List<String> findCodes(String region) {
+        return getSessionFactoryScope()
+                .fromSession(session -> session.createSelectionQuery(HQL, String.class)
+                        .setParameter("region", region)
+                        .setCacheable(true)
+                        .getResultList());
+    }
+
+    @Entity(name = "Currency")
+    @Table(name = "currencies")
+    static class Currency {
+        @Id
+        String code;
+
+        String name;
+
+        String region;
+
+        Currency() {}
+
+        Currency(String code, String name, String region) {
+            this.code = code;
+            this.name = name;
+            this.region = region;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mongodb.hibernate.annotations.ReadOnlyQueries;
+import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.MongoQueryHints;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.List;
+import org.bson.BsonDocument;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = ReadOnlyQueriesIntegrationTests.Author.class)
+class ReadOnlyQueriesIntegrationTests extends AbstractQueryIntegrationTests {
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> session.persist(new Author(1, "Leo Tolstoy")));
+        commandHistory.clear();
+    }
+
+    @Test
+    void testReadOnlyQueryUsesEntityReadConcern() {
+        getSessionFactoryScope().inSession(session -> {
+            var authors = session.createQuery("from Author", Author.class)
+                    .setReadOnly(true)
+                    .getResultList();
+            assertThat(authors).extracting(author -> author.id).containsExactly(1);
+        });
+        assertReadConcernLevel("local");
+    }
+
+    @Test
+    void testReadOnlyQueryInTransactionIgnoresEntityReadConcern() {
+        getSessionFactoryScope()
+                .inTransaction(session -> session.createQuery("from Author", Author.class)
+                        .setReadOnly(true)
+                        .getResultList());
+        var aggregateCommand = commandHistory.getCommands().get(0);
+        assertThat(aggregateCommand.getBoolean("startTransaction").getValue()).isTrue();
+        assertThat(aggregateCommand.containsKey("readConcern")).isFalse();
+    }
+
+    @Test
+    void testQueryThatIsNotReadOnlyIgnoresEntityReadConcern() {
+        getSessionFactoryScope()
+                .inSession(session ->
+                        session.createQuery("from Author", Author.class).getResultList());
+        assertThat(getAggregateCommand().containsKey("readConcern")).isFalse();
+    }
+
+    @Test
+    void testDatabaseHintOverridesEntityReadConcern() {
+        getSessionFactoryScope()
+                .inSession(session -> session.createQuery("from Author", Author.class)
+                        .setReadOnly(true)
+                        .addQueryHint(MongoQueryHints.READ_CONCERN + "=majority")
+                        .getResultList());
+        assertReadConcernLevel("majority");
+    }
+
+    @Test
+    void testUnsupportedDatabaseHint() {
+        getSessionFactoryScope()
+                .inSession(session -> assertThatThrownBy(() -> session.createQuery("from Author", Author.class)
+                                .addQueryHint("noCursorTimeout=true")
+                                .getResultList())
+                        .isInstanceOf(FeatureNotSupportedException.class)
+                        .hasMessageContaining("Database hint [noCursorTimeout=true] is not supported"));
+    }
+
+    private void assertReadConcernLevel(String expectedLevel) {
+        assertThat(getAggregateCommand()
+                        .getDocument("readConcern")
+                        .getString("level")
+                        .getValue())
+                .isEqualTo(expectedLevel);
+    }
+
+    private BsonDocument getAggregateCommand() {
+        List<BsonDocument> commands = commandHistory.getCommands();
+        assertThat(commands).hasSize(1);
+        return commands.get(0);
+    }
+
+    @Entity(name = "Author")
+    @Table(name = "authors")
+    @ReadOnlyQueries(readPreference = "primaryPreferred", readConcern = "local")
+    static class Author {
+        @Id
+        int id;
+
+        String name;
+
+        Author() {}
+
+        Author(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.mongodb.hibernate.internal.FeatureNotSupportedException;
 import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.MongoQueryHints;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
@@ -27,6 +28,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Stream;
+import org.bson.BsonDocument;
 import org.hibernate.testing.orm.junit.DomainModel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -91,6 +93,142 @@ class RegularExpressionIntegrationTests extends AbstractQueryIntegrationTests {
                 List.of(ITEM3));
     }
 
+    @Test
+    void testLikePrefixIsAnchoredRegexWithoutOptions() {
+        assertSelectionQuery(
+                "from Item where str like 'ab%'",
+                ItemWithString.class,
+                """
+                {
+                  "aggregate": "items",
+                  "pipeline": [
+                    {"$match": {"str": {"$regex": /^ab/}}},
+                    {"$project": {"_id": true, "str": true}}
+                  ]
+                }""",
+                List.of(ITEM1),
+                Set.of(ItemWithString.COLLECTION_NAME));
+    }
+
+    @Test
+    void testLikePrefixWithEscapedWildcard() {
+        assertSelectionQuery(
+                "from Item where str like 'zz!%%' escape '!'",
+                ItemWithString.class,
+                """
+                {
+                  "aggregate": "items",
+                  "pipeline": [
+                    {"$match": {"str": {"$regex": /^zz%/}}},
+                    {"$project": {"_id": true, "str": true}}
+                  ]
+                }""",
+                List.of(ITEM3),
+                Set.of(ItemWithString.COLLECTION_NAME));
+    }
+
+    @Test
+    void testCaseInsensitiveLikePrefixWithoutCollation() {
+        runBasicTest("from Item where str ilike 'ab%'", "/^ab.*$/i", List.of(ITEM1, ITEM2));
+    }
+
+    @Test
+    void testCaseInsensitiveLikePrefixWithCaseInsensitiveCollation() {
+        getSessionFactoryScope().inTransaction(session -> {
+            var items = session.createQuery("from Item where str ilike 'ab%'", ItemWithString.class)
+                    .addQueryHint(MongoQueryHints.COLLATION + "={locale: 'en', strength: 2}")
+                    .getResultList();
+            assertThat(items).containsExactlyInAnyOrder(ITEM1, ITEM2);
+            assertActualCommandsInOrder(BsonDocument.parse(
+                    """
+                    {
+                      "aggregate": "items",
+                      "pipeline": [
+                        {
+                          "$match": {
+                            "$and": [
+                              {"str": {"$gte": "ab"}},
+                              {"str": {"$lt": "ab\\uFFFF"}},
+                              {"str": {"$regex": /^ab.*$/is}}
+                            ]
+                          }
+                        },
+                        {"$project": {"_id": true, "str": true}}
+                      ],
+                      "collation": {"locale": "en", "strength": 2}
+                    }"""));
+        });
+    }
+
+    @Test
+    void testCaseInsensitiveLikePrefixWithCaseInsensitiveCollationDoesNotIgnoreDiacritics() {
+        var accented = new ItemWithString(4, "\u00e1b .");
+        var supplementary = new ItemWithString(5, "Ab\uD83D\uDE00");
+        var supplementaryPrefix = new ItemWithString(6, "a\uD83D\uDE00b");
+        getSessionFactoryScope().inTransaction(session -> Stream.of(accented, supplementary, supplementaryPrefix)
+                .forEach(session::persist));
+        getSessionFactoryScope().inTransaction(session -> {
+            // The strings with an accented "a" are in the range of strings starting with "ab" under a collation of
+            // strength 2, which compares diacritics only after all the characters, but do not match the predicate
+            assertThat(session.createQuery("from Item where str ilike 'ab%'", ItemWithString.class)
+                            .addQueryHint(MongoQueryHints.COLLATION + "={locale: 'en', strength: 2}")
+                            .getResultList())
+                    .containsExactlyInAnyOrder(ITEM1, ITEM2, supplementary);
+            assertThat(session.createQuery("from Item where str ilike 'A\uD83D\uDE00%'", ItemWithString.class)
+                            .addQueryHint(MongoQueryHints.COLLATION + "={locale: 'en', strength: 2}")
+                            .getResultList())
+                    .containsExactly(supplementaryPrefix);
+        });
+    }
+
+    @Test
+    void testCaseInsensitiveLikePrefixWithCollationWithContractions() {
+        var contraction = new ItemWithString(4, "Chata");
+        getSessionFactoryScope().inTransaction(session -> session.persist(contraction));
+        commandHistory.clear();
+        getSessionFactoryScope().inTransaction(session -> {
+            // "ch" sorts after "h" in Czech, so "chata" is not in the range of strings starting with "c"
+            var items = session.createQuery("from Item where str ilike 'c%'", ItemWithString.class)
+                    .addQueryHint(MongoQueryHints.COLLATION + "={locale: 'cs', strength: 2}")
+                    .getResultList();
+            assertThat(items).containsExactly(contraction);
+            assertActualCommandsInOrder(BsonDocument.parse(
+                    """
+                    {
+                      "aggregate": "items",
+                      "pipeline": [
+                        {"$match": {"str": {"$regex": /^c.*$/is}}},
+                        {"$project": {"_id": true, "str": true}}
+                      ],
+                      "collation": {"locale": "cs", "strength": 2}
+                    }"""));
+        });
+    }
+
+    @Test
+    void testCaseInsensitiveLikePrefixWithNumericOrderingCollation() {
+        var number = new ItemWithString(4, "A10");
+        getSessionFactoryScope().inTransaction(session -> session.persist(number));
+        commandHistory.clear();
+        getSessionFactoryScope().inTransaction(session -> {
+            // "a10" sorts after "a1\uFFFF" with numeric ordering
+            var items = session.createQuery("from Item where str ilike 'a1%'", ItemWithString.class)
+                    .addQueryHint(MongoQueryHints.COLLATION + "={locale: 'en', strength: 2, numericOrdering: true}")
+                    .getResultList();
+            assertThat(items).containsExactly(number);
+            assertActualCommandsInOrder(BsonDocument.parse(
+                    """
+                    {
+                      "aggregate": "items",
+                      "pipeline": [
+                        {"$match": {"str": {"$regex": /^a1.*$/is}}},
+                        {"$project": {"_id": true, "str": true}}
+                      ],
+                      "collation": {"locale": "en", "strength": 2, "numericOrdering": true}
+                    }"""));
+        });
+    }
+
     private void runBasicTest(String query, String regex, List<ItemWithString> results) {
         assertSelectionQuery(
                 query,
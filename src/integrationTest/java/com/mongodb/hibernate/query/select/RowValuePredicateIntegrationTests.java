@@ -16,6 +16,8 @@
 
 package com.mongodb.hibernate.query.select;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import com.mongodb.hibernate.internal.FeatureNotSupportedException;
 import com.mongodb.hibernate.junit.MongoServiceRegistryProducer;
 import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
@@ -24,6 +26,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.util.List;
 import java.util.Set;
+import org.hibernate.query.Order;
+import org.hibernate.query.Page;
 import org.hibernate.testing.orm.junit.DomainModel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -796,14 +800,219 @@ class RowValuePredicateIntegrationTests extends AbstractQueryIntegrationTests {
                 Set.of(NullableWidget.COLLECTION_NAME));
     }
 
+    @Test
+    void testGtParametersAsKeysetPagination() {
+        assertSelectionQuery(
+                "from Widget w where (w.a, w.id) > (:a, :id) order by w.a, w.id limit 2",
+                Widget.class,
+                q -> q.setParameter("a", 10L).setParameter("id", 1L),
+                """
+                {
+                  "aggregate": "row_value",
+                  "pipeline": [
+                    {
+                      "$match": {
+                        "$and": [
+                          { "a": { "$gte": { "$numberLong": "10" } } },
+                          {
+                            "$or": [
+                              { "a": { "$gt": { "$numberLong": "10" } } },
+                              {
+                                "$and": [
+                                  { "a": { "$eq": { "$numberLong": "10" } } },
+                                  { "_id": { "$gt": { "$numberLong": "1" } } }
+                                ]
+                              }
+                            ]
+                          }
+                        ]
+                      }
+                    },
+                    { "$sort": { "a": 1, "_id": 1 } },
+                    { "$limit": 2 },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "a": true,
+                        "b": true
+                      }
+                    }
+                  ]
+                }""",
+                List.of(new Widget(2, 10, 99), new Widget(3, 30, 40)),
+                Set.of(Widget.COLLECTION_NAME));
+    }
+
+    @Test
+    void testLtParametersAsDescendingKeysetPagination() {
+        assertSelectionQuery(
+                "from Widget w where (w.a, w.id) < (:a, :id) order by w.a desc, w.id desc limit 1",
+                Widget.class,
+                q -> q.setParameter("a", 30L).setParameter("id", 3L),
+                """
+                {
+                  "aggregate": "row_value",
+                  "pipeline": [
+                    {
+                      "$match": {
+                        "$and": [
+                          { "a": { "$lte": { "$numberLong": "30" } } },
+                          {
+                            "$or": [
+                              { "a": { "$lt": { "$numberLong": "30" } } },
+                              {
+                                "$and": [
+                                  { "a": { "$eq": { "$numberLong": "30" } } },
+                                  { "_id": { "$lt": { "$numberLong": "3" } } }
+                                ]
+                              }
+                            ]
+                          }
+                        ]
+                      }
+                    },
+                    { "$sort": { "a": -1, "_id": -1 } },
+                    { "$limit": 1 },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "a": true,
+                        "b": true
+                      }
+                    }
+                  ]
+                }""",
+                List.of(new Widget(2, 10, 99)),
+                Set.of(Widget.COLLECTION_NAME));
+    }
+
+    @Test
+    void testValueLeField() {
+        assertSelectionQuery(
+                "from Widget w where (:a, :b) <= (w.a, w.b) order by w.id",
+                Widget.class,
+                q -> q.setParameter("a", 10L).setParameter("b", 99L),
+                """
+                {
+                  "aggregate": "row_value",
+                  "pipeline": [
+                    {
+                      "$match": {
+                        "$and": [
+                          { "a": { "$gte": { "$numberLong": "10" } } },
+                          {
+                            "$or": [
+                              { "a": { "$gt": { "$numberLong": "10" } } },
+                              {
+                                "$and": [
+                                  { "a": { "$eq": { "$numberLong": "10" } } },
+                                  { "b": { "$gte": { "$numberLong": "99" } } }
+                                ]
+                              }
+                            ]
+                          }
+                        ]
+                      }
+                    },
+                    { "$sort": { "_id": 1 } },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "a": true,
+                        "b": true
+                      }
+                    }
+                  ]
+                }""",
+                List.of(new Widget(2, 10, 99), new Widget(3, 30, 40)),
+                Set.of(Widget.COLLECTION_NAME));
+    }
+
+    @Test
+    void testGtParametersWithMixedDirectionSort() {
+        assertSelectionQuery(
+                "from Widget w where (w.a, w.id) > (:a, :id) order by w.a, w.id desc",
+                Widget.class,
+                q -> q.setParameter("a", 10L).setParameter("id", 1L),
+                """
+                {
+                  "aggregate": "row_value",
+                  "pipeline": [
+                    {
+                      "$match": {
+                        "$and": [
+                          { "a": { "$gte": { "$numberLong": "10" } } },
+                          {
+                            "$or": [
+                              { "a": { "$gt": { "$numberLong": "10" } } },
+                              {
+                                "$and": [
+                                  { "a": { "$eq": { "$numberLong": "10" } } },
+                                  { "_id": { "$gt": { "$numberLong": "1" } } }
+                                ]
+                              }
+                            ]
+                          }
+                        ]
+                      }
+                    },
+                    { "$sort": { "a": 1, "_id": -1 } },
+                    {
+                      "$project": {
+                        "_id": true,
+                        "a": true,
+                        "b": true
+                      }
+                    }
+                  ]
+                }""",
+                List.of(new Widget(2, 10, 99), new Widget(3, 30, 40)),
+                Set.of(Widget.COLLECTION_NAME));
+    }
+
+    @Test
+    void testNegatedGtExcludesRowsWithNullComponent() {
+        getSessionFactoryScope().inTransaction(session -> {
+            var ids = session.createSelectionQuery(
+                            "from NullableWidget w where not ((w.a, w.b) > (10, 20)) order by w.id",
+                            NullableWidget.class)
+                    .getResultList()
+                    .stream()
+                    .map(widget -> widget.id)
+                    .toList();
+            assertThat(ids).containsExactly(1L);
+        });
+    }
+
+    @Test
+    void testKeyedPageWithMixedDirections() {
+        getSessionFactoryScope().inTransaction(session -> {
+            var query = session.createSelectionQuery("from Widget w", Widget.class);
+            var firstPage = query.getKeyedResultList(
+                    Page.first(2).keyedBy(List.of(Order.asc(Widget.class, "a"), Order.desc(Widget.class, "id"))));
+            assertThat(firstPage.getResultList()).extracting(widget -> widget.id).containsExactly(2L, 1L);
+            var secondPage = query.getKeyedResultList(firstPage.getNextPage());
+            assertThat(secondPage.getResultList()).extracting(widget -> widget.id).containsExactly(3L);
+            assertThat(secondPage.isLastPage()).isTrue();
+        });
+    }
+
     @Nested
     class Unsupported implements MongoServiceRegistryProducer {
         @Test
-        void testOrderingComparisonFilter() {
+        void testNegatedOrderingComparisonFilter() {
+            assertSelectQueryFailure(
+                    "from NullableWidget w where not ((w.a, w.b) > (10, 20) and w.id > 0)",
+                    NullableWidget.class,
+                    FeatureNotSupportedException.class,
+                    "Negated row-value ordering comparison is not supported");
+        }
+
+        @Test
+        void testFieldToFieldOrderingComparisonFilter() {
             assertSelectQueryFailure(
-                    "from Widget w where (w.a, w.b) > (:a, :b)",
+                    "from Widget w where (w.a, w.b) > (w.b, w.a)",
                     Widget.class,
-                    q -> q.setParameter("a", 10L).setParameter("b", 20L),
                     FeatureNotSupportedException.class,
                     "TODO-HIBERNATE-211 https://jira.mongodb.org/browse/HIBERNATE-211");
         }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.annotations;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies the default options of the
+ * <a href="https://www.mongodb.com/docs/manual/reference/command/aggregate/">{@code aggregate}</a> commands of the
+ * queries whose root is the annotated entity. A query overrides them via the
+ * {@linkplain com.mongodb.hibernate.query.MongoQueryHints database hints} of the same names.
+ */
+@Inherited
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface AggregateOptions {
+    /**
+     * Whether stages that exceed the memory limit may write temporary files to disk, for example, to sort or group
+     * large reports.
+     *
+     * @return {@code false} to leave it to the server.
+     */
+    boolean allowDiskUse() default false;
+
+    /**
+     * The comment that tags the commands of the queries in the database profiler and logs, or an empty string for no
+     * comment.
+     *
+     * @return The comment.
+     */
+    String comment() default "";
+
+    /**
+     * The <a href="https://www.mongodb.com/docs/manual/reference/collation/">collation</a> in the Extended JSON format,
+     * for example, {@code "{locale: 'fr', strength: 1}"}, or an empty string for the collation of the collection.
+     *
+     * @return The collation.
+     */
+    String collation() default "";
+
+    /**
+     * The variables accessible in the pipeline in the Extended JSON format, or an empty string for no variables.
+     *
+     * @return The variables.
+     */
+    String let() default "";
+
+    /**
+     * The maximum time in milliseconds that the server waits for new documents of a tailable cursor, or {@code 0} for
+     * the default of the server.
+     *
+     * @return The maximum await time in milliseconds.
+     */
+    long maxAwaitTimeMS() default 0;
+}
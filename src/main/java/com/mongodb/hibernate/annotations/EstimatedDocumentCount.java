@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.annotations;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies whether a {@code select count(*) from E} query without a {@code where} clause, whose root is the annotated
+ * entity, returns the
+ * <a href="https://www.mongodb.com/docs/manual/reference/method/db.collection.estimatedDocumentCount/">estimated</a>
+ * number of documents in the collection, which the server reads from the collection metadata instead of scanning the
+ * collection.
+ *
+ * <p>The estimated count may be inaccurate, for example, after an unclean shutdown, or on a sharded cluster with
+ * orphaned documents or migrating chunks. The count is exact if the query is executed in a transaction, in which the
+ * server does not allow reading the collection metadata.
+ */
+@Inherited
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface EstimatedDocumentCount {
+    /**
+     * Whether the count is estimated.
+     *
+     * @return {@code false} to count the documents exactly.
+     */
+    boolean value() default true;
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.annotations;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies the <a href="https://www.mongodb.com/docs/manual/reference/collation/">collation</a> that the server uses
+ * to compare the strings of the annotated entity or basic attribute.
+ *
+ * <p>The collation of an entity is the collation of the indexes of its collection that the schema export creates, and
+ * the default collation of the queries whose root is the entity, which a query overrides via
+ * {@link AggregateOptions#collation()} or the {@linkplain com.mongodb.hibernate.query.MongoQueryHints#COLLATION
+ * database hint}. The collation of an attribute overrides that of the entity for the indexes of its column.
+ *
+ * <p>If the collation of a query compares strings case-insensitively, that is, its {@link #strength()} is {@code 2},
+ * without {@link #caseLevel()}, then {@code lower(e.email) = lower(:email)}, as well as {@code <>}, {@code in} and
+ * {@code order by lower(e.email)}, are translated to comparisons of the field itself, which an index with the same
+ * collation answers, provided that the collation of the attribute, if any, equals that of the query. So is
+ * {@code like} with a literal prefix, if case-insensitive, and if the {@link #locale()} is {@code "en"} or
+ * {@code "root"}, without {@link #numericOrdering()}: the contractions of other locales, such as "ch" in Czech, sort
+ * some strings starting with the prefix far from it. The collation of an attribute never becomes that of a query,
+ * because it would then apply to all the string comparisons of the query, so such comparisons in a query without the
+ * collation of the attribute are translated to comparisons of {@code $toLower} or {@code $toUpper} of the field.
+ */
+@Inherited
+@Retention(RUNTIME)
+@Target({TYPE, FIELD, METHOD})
+public @interface MongoCollation {
+    /**
+     * The ICU locale, for example, {@code "en"}, or {@code "simple"} for binary comparison.
+     *
+     * @return The locale.
+     */
+    String locale();
+
+    /**
+     * The level of comparison, from {@code 1}, which compares base characters only, to {@code 5}.
+     *
+     * @return The strength.
+     */
+    int strength() default 3;
+
+    /**
+     * Whether to compare case at the strength {@code 1} or {@code 2}.
+     *
+     * @return {@code true} to compare case.
+     */
+    boolean caseLevel() default false;
+
+    /**
+     * Whether uppercase or lowercase sorts first at the strength {@code 3}: {@code "upper"}, {@code "lower"} or
+     * {@code "off"}.
+     *
+     * @return The case ordering.
+     */
+    String caseFirst() default "off";
+
+    /**
+     * Whether to compare numeric substrings as numbers.
+     *
+     * @return {@code true} to compare numeric substrings as numbers.
+     */
+    boolean numericOrdering() default false;
+
+    /**
+     * Whether whitespace and punctuation are compared as base characters, {@code "non-ignorable"}, or not,
+     * {@code "shifted"}.
+     *
+     * @return The handling of whitespace and punctuation.
+     */
+    String alternate() default "non-ignorable";
+
+    /**
+     * Whether to compare diacritics from the end of the string backwards.
+     *
+     * @return {@code true} to compare diacritics backwards.
+     */
+    boolean backwards() default false;
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.annotations;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies the <a href="https://www.mongodb.com/docs/manual/core/read-preference/">read preference</a> and the
+ * <a href="https://www.mongodb.com/docs/manual/reference/read-concern/">read concern</a> of the
+ * {@linkplain org.hibernate.query.SelectionQuery#setReadOnly(boolean) read-only} queries whose root is the annotated
+ * entity, overriding the {@code com.mongodb.hibernate.readOnlyQueries.*} configuration properties.
+ *
+ * <p>The read preference and the read concern are used only if auto-commit is enabled or the connection is
+ * read-only, and no transaction is active, in which case the query does not start a transaction. Otherwise, the query
+ * is part of the transaction, whose reads are from the primary, with the read concern of the transaction.
+ *
+ * @see com.mongodb.hibernate.query.MongoQueryHints
+ */
+@Inherited
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface ReadOnlyQueries {
+    /**
+     * The name of the read preference mode, for example, {@code "secondaryPreferred"}.
+     *
+     * @return The name of the read preference mode.
+     */
+    String readPreference();
+
+    /**
+     * The {@code maxStalenessSeconds} of the read preference, which must not be less than 90, or {@code 0} for no
+     * maximum staleness.
+     *
+     * @return The maximum staleness in seconds.
+     */
+    int maxStalenessSeconds() default 0;
+
+    /**
+     * The read concern level, for example, {@code "local"}, or an empty string to use the configured read concern of
+     * read-only queries.
+     *
+     * @return The read concern level.
+     */
+    String readConcern() default "";
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.annotations;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies whether JDBC batches of inserts, updates and deletes of the annotated entity are executed as
+ * <a href="https://www.mongodb.com/docs/manual/reference/method/db.collection.bulkWrite/#ordered-vs-unordered-operations">
+ * unordered</a> bulk writes, overriding the {@code com.mongodb.hibernate.unorderedBulkWrites} configuration property.
+ *
+ * <p>An unordered bulk write does not stop at the first failed write, and the server may execute its writes in any
+ * order, which, for example, lets it execute them in parallel on different shards. If some writes fail, the
+ * {@link java.sql.BatchUpdateException} has an update count for each command of the batch, with
+ * {@link java.sql.Statement#EXECUTE_FAILED} for the failed ones. Do not use unordered bulk writes if a batch may
+ * contain several writes of the same document.
+ */
+@Inherited
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface UnorderedBulkWrites {
+    /**
+     * Whether the bulk writes are unordered.
+     *
+     * @return {@code false} to use ordered bulk writes even if the configuration property specifies otherwise.
+     */
+    boolean value() default true;
+}
@@ -101,6 +101,330 @@ import org.hibernate.service.spi.Configurable;
  *                 to release. A future release may add {@code "SQL"} semantics.
  *             </td>
  *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.jdbc.commandTemplateCacheMaxSize}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link Integer}</li>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 {@code 2048}. The maximum number of distinct statements whose parsed commands are cached and shared
+ *                 by all connections, so that preparing a cached statement again does not parse it. {@code 0}
+ *                 disables the cache.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.jdbc.coalesceInserts}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link Boolean}</li>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 {@code false}. If {@code true}, JDBC batches of inserts in a transaction are not executed right
+ *                 away, but together with the following JDBC batches of inserts into the same collection, in as few
+ *                 {@code bulkWrite}s as the {@code maxWriteBatchSize} of the server allows. The buffered inserts are
+ *                 executed before any other statement, and before the transaction is committed, which is when errors
+ *                 are reported. In auto-commit mode, inserts are not buffered. Meant for bulk loading, e.g., via
+ *                 {@link org.hibernate.StatelessSession#insert(Object)} in a transaction.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.unorderedBulkWrites}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link Boolean}</li>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 {@code false}. If {@code true}, JDBC batches of inserts, updates and deletes are executed as
+ *                 unordered {@code bulkWrite}s, which do not stop at the first failed write. Entities may override
+ *                 this with {@link com.mongodb.hibernate.annotations.UnorderedBulkWrites}.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.jdbc.exactBatchUpdateCounts}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link Boolean}</li>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 {@code false}. If {@code true}, {@link java.sql.Statement#executeBatch()} returns the number of
+ *                 documents each command inserted, matched or deleted, instead of
+ *                 {@link java.sql.Statement#SUCCESS_NO_INFO}, which lets Hibernate ORM detect optimistic locking
+ *                 failures of batched updates and deletes of versioned entities. JDBC batches of updates and deletes
+ *                 are then executed via the {@code bulkWrite} command, which requires MongoDB 8.0 or later. For
+ *                 inserts, including those deferred by {@code com.mongodb.hibernate.jdbc.coalesceInserts}, the count
+ *                 is the number of documents of the command, which is predicted rather than read from the result of
+ *                 the write: {@code executeBatch} returns it before a deferred insert is executed, and a deferred
+ *                 insert that fails later is reported by whatever executes it.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.jdbc.clientBulkWrites}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link Boolean}</li>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 {@code false}. If {@code true}, JDBC batches of inserts, updates and deletes in a transaction are
+ *                 not executed right away, but together with the other JDBC batches of the flush, in a single
+ *                 {@code bulkWrite} command that may write to several collections, which requires MongoDB 8.0 or
+ *                 later. The buffered batches are executed before any other statement, before the transaction is
+ *                 committed, and once they reach the {@code maxWriteBatchSize} or the {@code maxMessageSizeBytes} of
+ *                 the server, which is when errors are reported. In auto-commit mode, JDBC batches are not buffered.
+ *                 Unordered JDBC batches are only executed together if they are of the same statement, so that the
+ *                 server cannot reorder the writes of different statements.
+ *                 Supersedes {@code com.mongodb.hibernate.jdbc.coalesceInserts}, and must not be
+ *                 combined with {@code com.mongodb.hibernate.jdbc.exactBatchUpdateCounts}.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.readOnlyQueries.readPreference}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 The read preference of the {@link MongoClientSettings}. The name of the read preference mode, for
+ *                 example, {@code secondaryPreferred}, of {@linkplain org.hibernate.query.SelectionQuery#setReadOnly
+ *                 read-only} queries, and of all queries on a {@linkplain java.sql.Connection#setReadOnly read-only}
+ *                 connection. The read preference and the read concern of a query are used only if auto-commit is
+ *                 enabled or the connection is read-only, and no transaction is active. Otherwise, the query is part
+ *                 of the transaction, whose reads are from the primary.
+ *                 Entities may override this with {@link com.mongodb.hibernate.annotations.ReadOnlyQueries}, and
+ *                 queries with {@link com.mongodb.hibernate.query.MongoQueryHints}.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.readOnlyQueries.maxStalenessSeconds}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link Integer}</li>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 {@code 0}, which means no maximum staleness. The {@code maxStalenessSeconds} of the read preference
+ *                 of read-only queries, which requires {@code com.mongodb.hibernate.readOnlyQueries.readPreference}.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.readOnlyQueries.readConcern}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 The read concern of the {@link MongoClientSettings}. The read concern level, for example,
+ *                 {@code local}, of read-only queries and of all queries on a read-only connection, which should match
+ *                 the read preference, for example, {@code majority} is slower to satisfy on lagging secondaries.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.jdbc.cursorPrefetchSize}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link Integer}</li>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 {@code 0}, which disables prefetching. The maximum number of documents of a query result, in
+ *                 addition to the batch fetched by the last {@code getMore} command, that are fetched on a background
+ *                 thread ahead of Hibernate ORM processing them, so that the round trips of the {@code getMore}
+ *                 commands overlap with the processing, for example, of {@link org.hibernate.ScrollableResults} and
+ *                 {@link org.hibernate.query.SelectionQuery#getResultStream()} over large collections. Queries in a
+ *                 transaction are not prefetched, because a transaction must not be used by several threads
+ *                 concurrently.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.cache.invalidationChangeStream}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link Boolean}</li>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 {@code false}. If {@code true} and the second-level cache or the query cache is enabled, a
+ *                 background thread watches the mapped collections via a change stream, which requires a replica set
+ *                 or a sharded cluster, and evicts the cached entities, collections and query results affected by each
+ *                 change, including the changes made by other application instances or bypassing Hibernate ORM. The
+ *                 resume token of the change stream is stored in the database, so that the changes made while the
+ *                 {@link org.hibernate.SessionFactory} is closed are observed after it is created again. Eviction is
+ *                 eventually consistent: a node may read stale cached data until it observes the change.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.cache.invalidationResumeTokenCollection}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 {@code hibernate_cache_invalidation}. The collection in which the resume token of the change stream
+ *                 of {@code com.mongodb.hibernate.cache.invalidationChangeStream} is stored, in a document whose
+ *                 {@code _id} is the {@linkplain org.hibernate.cfg.AvailableSettings#SESSION_FACTORY_NAME name} of
+ *                 the {@link org.hibernate.SessionFactory}, or {@code "default"} if it has no name, followed by
+ *                 {@code @} and {@code com.mongodb.hibernate.cache.invalidationNodeId}. A TTL index on the
+ *                 {@code updatedAt} field of the documents removes the resume tokens that have not been stored for 30
+ *                 days.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.cache.invalidationNodeId}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 The host name, with a warning. The identifier of the application instance under which the resume
+ *                 token of {@code com.mongodb.hibernate.cache.invalidationChangeStream} is stored. It must be unique
+ *                 among the application instances that share the collection of resume tokens, and must not change
+ *                 when an instance restarts, so that the instance resumes the change stream where it stopped. Must be
+ *                 set if the host name is not stable, as that of a container, for example, a Kubernetes pod, usually
+ *                 is not.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.schema.exportParallelism}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link Integer}</li>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 {@code 4}. The maximum number of collections whose schema export commands, for example, the
+ *                 {@code createIndexes} commands of the schema creation of Hibernate ORM, are executed in parallel.
+ *                 {@code 0} executes them one collection after another on the calling thread.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.schema.commitQuorum}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link String}</li>
+ *                     <li>{@link Integer}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 The default of the server, which is {@code votingMembers}. The {@code commitQuorum} of the
+ *                 {@code createIndexes} commands of the schema export: {@code majority}, {@code votingMembers}, a
+ *                 number of data-bearing voting members, or a replica set tag name. Requires MongoDB 4.4 or later,
+ *                 and a replica set or a sharded cluster.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.schema.indexMigration}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 {@code none}. How the indexes of the mapped collections are compared with those of the database
+ *                 when the {@link org.hibernate.SessionFactory} is created: {@code none}, {@code validate}, which logs
+ *                 the missing, changed and no longer mapped indexes, or {@code update}, which also creates the missing
+ *                 indexes, and hides the indexes that it has seen mapped and that are no longer mapped. The indexes are
+ *                 compared and updated on a background thread, so the queries run meanwhile may not use the indexes
+ *                 being built, and a failure is logged. Closing the {@link org.hibernate.SessionFactory} waits for the
+ *                 migration to complete.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.schema.indexMigration.wait}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link Boolean}</li>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 {@code false}. If {@code true}, the creation of the {@link org.hibernate.SessionFactory} waits for
+ *                 {@code com.mongodb.hibernate.schema.indexMigration}, and fails if the {@code update} index migration
+ *                 fails. The creation then blocks until the {@code createIndexes} commands have built the missing
+ *                 indexes, which takes as long as scanning their collections.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.schema.indexMigration.dropObsolete}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link Boolean}</li>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 {@code false}. If {@code true}, the {@code update} index migration drops the indexes that it has
+ *                 hidden, once they have been hidden for
+ *                 {@code com.mongodb.hibernate.schema.indexMigration.dropAfterSeconds}, and if they are then still
+ *                 hidden and still not mapped. Until then, mapping an index again unhides it without rebuilding it.
+ *             </td>
+ *         </tr>
+ *         <tr>
+ *             <td>&mdash;</td>
+ *             <td>✗</td>
+ *             <td>{@code com.mongodb.hibernate.schema.indexMigration.dropAfterSeconds}</td>
+ *             <td>
+ *                 <ul>
+ *                     <li>{@link Integer}</li>
+ *                     <li>{@link String}</li>
+ *                 </ul>
+ *             </td>
+ *             <td>
+ *                 {@code 604800}, that is, a week. For how many seconds an index that is no longer mapped stays hidden
+ *                 before {@code com.mongodb.hibernate.schema.indexMigration.dropObsolete} drops it.
+ *             </td>
+ *         </tr>
  *     </tbody>
  * </table>
  *
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal;
+
+import com.mongodb.hibernate.annotations.MongoCollation;
+import java.lang.reflect.AnnotatedElement;
+import java.util.Set;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Owns the conversion of {@link MongoCollation} to the
+ * <a href="https://www.mongodb.com/docs/manual/reference/collation/#collation-document">collation document</a>, so that
+ * the indexes that the schema export creates and the queries that the translator creates have equal collations, which
+ * the server requires to answer a query from an index.
+ *
+ * @hidden
+ */
+public final class MongoCollations {
+    private static final BsonString NON_IGNORABLE = new BsonString("non-ignorable");
+
+    /** The locales whose collations do not tailor the root collation of ICU. */
+    private static final Set<String> ROOT_ORDER_LOCALES = Set.of("root", "en", "en_US");
+
+    private MongoCollations() {}
+
+    /**
+     * Returns the collation document of the {@link MongoCollation} of {@code element}, if any.
+     *
+     * @param element The entity class, or the field or getter of an attribute.
+     * @return The collation document, or {@code null} if {@code element} is not annotated.
+     */
+    public static @Nullable BsonDocument of(AnnotatedElement element) {
+        var collation = element.getAnnotation(MongoCollation.class);
+        return collation == null ? null : toBsonDocument(collation);
+    }
+
+    /**
+     * Converts {@code collation} to the collation document, which has {@code locale}, {@code strength}, and only those
+     * other fields whose values are not the defaults.
+     *
+     * @param collation The collation.
+     * @return The collation document.
+     */
+    public static BsonDocument toBsonDocument(MongoCollation collation) {
+        var document = new BsonDocument();
+        document.put("locale", new BsonString(collation.locale()));
+        document.put("strength", new BsonInt32(collation.strength()));
+        if (collation.caseLevel()) {
+            document.put("caseLevel", BsonBoolean.TRUE);
+        }
+        if (!collation.caseFirst().equals("off")) {
+            document.put("caseFirst", new BsonString(collation.caseFirst()));
+        }
+        if (collation.numericOrdering()) {
+            document.put("numericOrdering", BsonBoolean.TRUE);
+        }
+        if (!collation.alternate().equals(NON_IGNORABLE.getValue())) {
+            document.put("alternate", new BsonString(collation.alternate()));
+        }
+        if (collation.backwards()) {
+            document.put("backwards", BsonBoolean.TRUE);
+        }
+        return document;
+    }
+
+    /**
+     * Returns {@code true} if {@code collation} compares strings like a case-insensitive regular expression does, that
+     * is, ignoring case differences, but not diacritic differences or the punctuation and spaces.
+     *
+     * @param collation The collation document.
+     * @return Whether the collation is case-insensitive.
+     */
+    public static boolean isCaseInsensitive(BsonDocument collation) {
+        var strength = collation.get("strength");
+        var caseLevel = collation.get("caseLevel");
+        var alternate = collation.get("alternate");
+        return strength != null
+                && strength.isNumber()
+                && strength.asNumber().intValue() == 2
+                && (caseLevel == null || caseLevel.equals(BsonBoolean.FALSE))
+                && (alternate == null || alternate.equals(NON_IGNORABLE));
+    }
+
+    /**
+     * Returns {@code true} if {@code collation} orders the strings starting with a prefix right after the prefix, and
+     * before the prefix followed by U+FFFF. This is not the case for a locale with contractions, such as "ch" in Czech,
+     * which sorts after "h", nor for {@code numericOrdering}, which sorts "a10" after "a1\uFFFF".
+     *
+     * @param collation The collation document.
+     * @return Whether the collation orders the strings as the root collation does.
+     */
+    public static boolean hasRootOrder(BsonDocument collation) {
+        var locale = collation.get("locale");
+        var numericOrdering = collation.get("numericOrdering");
+        return locale != null
+                && locale.isString()
+                && ROOT_ORDER_LOCALES.contains(locale.asString().getValue())
+                && (numericOrdering == null || numericOrdering.equals(BsonBoolean.FALSE));
+    }
+}
@@ -50,4 +50,191 @@ public final class MongoConstants {
      * class).
      */
     public static final String MONGO_CONFIGURATION_CONTRIBUTOR_KEY = "com.mongodb.hibernate.configurationContributor";
+
+    /**
+     * Configuration property that limits the number of command templates cached by the JDBC adapter, see
+     * {@link #DEFAULT_COMMAND_TEMPLATE_CACHE_MAX_SIZE}. Read by {@code MongoConfigurationBuilder}.
+     */
+    public static final String COMMAND_TEMPLATE_CACHE_MAX_SIZE_PROPERTY_NAME =
+            "com.mongodb.hibernate.jdbc.commandTemplateCacheMaxSize";
+
+    /**
+     * Matches the default size of the Hibernate ORM query plan cache, which bounds the number of distinct statements
+     * that are not mutations.
+     */
+    public static final int DEFAULT_COMMAND_TEMPLATE_CACHE_MAX_SIZE = 2048;
+
+    /**
+     * Configuration property that makes the JDBC adapter defer batched inserts while auto-commit is disabled, so that
+     * consecutive JDBC batches of inserts into the same collection are executed together. A failed deferred insert is
+     * therefore reported not by the {@code executeBatch} of its JDBC batch, but by whatever executes the deferred
+     * inserts: a later {@code executeBatch}, the execution of any other command, or the commit. The
+     * {@link java.sql.BatchUpdateException} then identifies the JDBC batch and the command that failed, and has the
+     * update counts of that JDBC batch. In auto-commit mode, inserts are executed by {@code executeBatch}, as if the
+     * property were disabled. Read by {@code MongoConfigurationBuilder}.
+     */
+    public static final String COALESCE_INSERTS_PROPERTY_NAME = "com.mongodb.hibernate.jdbc.coalesceInserts";
+
+    /**
+     * Configuration property that makes the JDBC adapter execute JDBC batches of inserts, updates and deletes as
+     * unordered bulk writes, unless an entity specifies otherwise with
+     * {@link com.mongodb.hibernate.annotations.UnorderedBulkWrites}. Read by {@code MongoConfigurationBuilder}.
+     */
+    public static final String UNORDERED_BULK_WRITES_PROPERTY_NAME = "com.mongodb.hibernate.unorderedBulkWrites";
+
+    /**
+     * Configuration property that makes {@code executeBatch} return the actual update count of each command, see
+     * {@code MongoStatement}. The update count of an insert is the number of documents of the command, which for a
+     * deferred insert, see {@link #COALESCE_INSERTS_PROPERTY_NAME}, is predicted before the insert is executed, and is
+     * not revised if the insert fails later. Must not be enabled together with
+     * {@link #CLIENT_BULK_WRITES_PROPERTY_NAME}, whose deferred updates and deletes have no update counts. Read by
+     * {@code MongoConfigurationBuilder}.
+     */
+    public static final String EXACT_BATCH_UPDATE_COUNTS_PROPERTY_NAME =
+            "com.mongodb.hibernate.jdbc.exactBatchUpdateCounts";
+
+    /**
+     * Configuration property that makes the JDBC adapter defer JDBC batches of inserts, updates and deletes while
+     * auto-commit is disabled, so that the batches of a flush are executed together in a single client-level
+     * {@code bulkWrite}, regardless of their collections. The deferred batches are executed early once they reach the
+     * {@code maxWriteBatchSize} or the {@code maxMessageSizeBytes} of the server. Read by
+     * {@code MongoConfigurationBuilder}.
+     */
+    public static final String CLIENT_BULK_WRITES_PROPERTY_NAME = "com.mongodb.hibernate.jdbc.clientBulkWrites";
+
+    /**
+     * Configuration property that specifies the name of the read preference mode of read-only queries, unless an entity
+     * specifies otherwise with {@link com.mongodb.hibernate.annotations.ReadOnlyQueries}. Read by
+     * {@code MongoConfigurationBuilder}.
+     */
+    public static final String READ_ONLY_READ_PREFERENCE_PROPERTY_NAME =
+            "com.mongodb.hibernate.readOnlyQueries.readPreference";
+
+    /**
+     * Configuration property that specifies the {@code maxStalenessSeconds} of the read preference of read-only
+     * queries, see {@link #READ_ONLY_READ_PREFERENCE_PROPERTY_NAME}. Read by {@code MongoConfigurationBuilder}.
+     */
+    public static final String READ_ONLY_MAX_STALENESS_SECONDS_PROPERTY_NAME =
+            "com.mongodb.hibernate.readOnlyQueries.maxStalenessSeconds";
+
+    /**
+     * Configuration property that specifies the read concern level of read-only queries, unless an entity specifies
+     * otherwise with {@link com.mongodb.hibernate.annotations.ReadOnlyQueries}. Read by
+     * {@code MongoConfigurationBuilder}.
+     */
+    public static final String READ_ONLY_READ_CONCERN_PROPERTY_NAME =
+            "com.mongodb.hibernate.readOnlyQueries.readConcern";
+
+    /**
+     * Configuration property that specifies the maximum number of documents that the JDBC adapter fetches ahead of the
+     * result set of a query on a background thread, {@code 0} disables prefetching. Queries in a transaction are not
+     * prefetched, and other queries are executed in a causally consistent session of their own, because the session of
+     * a connection must not be used concurrently. Read by {@code MongoConfigurationBuilder}.
+     */
+    public static final String CURSOR_PREFETCH_SIZE_PROPERTY_NAME = "com.mongodb.hibernate.jdbc.cursorPrefetchSize";
+
+    /**
+     * Configuration property that makes the MongoDB Extension for Hibernate ORM evict the second-level cache and query
+     * cache entries affected by the changes of the mapped collections that it observes via a change stream, including
+     * the changes made by other application instances. Read by {@code MongoConfigurationBuilder}.
+     */
+    public static final String CACHE_INVALIDATION_CHANGE_STREAM_PROPERTY_NAME =
+            "com.mongodb.hibernate.cache.invalidationChangeStream";
+
+    /**
+     * Configuration property that specifies the name of the collection in which the resume token of the change stream
+     * is stored, see {@link #CACHE_INVALIDATION_CHANGE_STREAM_PROPERTY_NAME}. Read by
+     * {@code MongoConfigurationBuilder}.
+     */
+    public static final String CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION_PROPERTY_NAME =
+            "com.mongodb.hibernate.cache.invalidationResumeTokenCollection";
+
+    /** The default of {@link #CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION_PROPERTY_NAME}. */
+    public static final String DEFAULT_CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION = "hibernate_cache_invalidation";
+
+    /**
+     * Configuration property that specifies the identifier of the application instance under which the resume token of
+     * the change stream is stored, see {@link #CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION_PROPERTY_NAME}. It must be
+     * unique among the application instances that share the collection, so that they do not overwrite the resume
+     * tokens of each other, and must not change when an instance restarts, so that the instance resumes the change
+     * stream where it stopped. Must therefore be set if {@link #CACHE_INVALIDATION_CHANGE_STREAM_PROPERTY_NAME} is
+     * enabled and the host name of an instance is not stable, as that of a container usually is not. Defaults, with a
+     * warning, to the host name, which is not unique if several instances run on the same host, or, if the host name
+     * cannot be determined, to a random identifier, with which an instance never resumes. The resume tokens that have
+     * not been stored for 30 days are removed. Read by {@code MongoConfigurationBuilder}.
+     */
+    public static final String CACHE_INVALIDATION_NODE_ID_PROPERTY_NAME =
+            "com.mongodb.hibernate.cache.invalidationNodeId";
+
+    /**
+     * Configuration property that specifies the maximum number of collections whose schema export commands, added to a
+     * batch via {@link java.sql.Statement#addBatch(String)}, are executed in parallel, {@code 0} executes them on the
+     * calling thread, see {@link #DEFAULT_SCHEMA_EXPORT_PARALLELISM}. The schema creation of Hibernate ORM adds all its
+     * commands to a single batch, executed once they are all generated, whereas the commands executed one by one via
+     * {@link java.sql.Statement#execute(String)} are executed before the next one is. Read by
+     * {@code MongoConfigurationBuilder}.
+     */
+    public static final String SCHEMA_EXPORT_PARALLELISM_PROPERTY_NAME =
+            "com.mongodb.hibernate.schema.exportParallelism";
+
+    /**
+     * Bounds the number of concurrent index builds that the schema export starts, each of which the server executes
+     * with several threads of its own.
+     */
+    public static final int DEFAULT_SCHEMA_EXPORT_PARALLELISM = 4;
+
+    /**
+     * Configuration property that specifies the {@code commitQuorum} of the {@code createIndexes} commands of the
+     * schema export: {@code majority}, {@code votingMembers}, a number of data-bearing voting members, or a replica
+     * set tag name. Requires MongoDB 4.4 or later, and a replica set or a sharded cluster. Read by
+     * {@code MongoConfigurationBuilder}.
+     */
+    public static final String CREATE_INDEXES_COMMIT_QUORUM_PROPERTY_NAME = "com.mongodb.hibernate.schema.commitQuorum";
+
+    /**
+     * Configuration property that specifies how the indexes of the mapped collections are compared with those of the
+     * database when the session factory is created: {@code none}, {@code validate}, which logs the differences, or
+     * {@code update}, which also creates the missing indexes, and hides the indexes that are no longer mapped. Only the
+     * indexes recorded in {@link #INDEX_MIGRATION_COLLECTION} are ever hidden or dropped. The indexes are compared and
+     * updated on a background thread, unless {@link #INDEX_MIGRATION_WAIT_PROPERTY_NAME} is enabled, in which case
+     * creating the session factory blocks until the {@code createIndexes} commands have built the missing indexes,
+     * which takes as long as scanning their collections. Read by {@code MongoConfigurationBuilder}.
+     */
+    public static final String INDEX_MIGRATION_PROPERTY_NAME = "com.mongodb.hibernate.schema.indexMigration";
+
+    /**
+     * Configuration property that makes the creation of the session factory wait for the index migration, and fail if
+     * the {@code update} index migration fails, so that the queries never run without the indexes that they are mapped
+     * to use, see {@link #INDEX_MIGRATION_PROPERTY_NAME}. Read by {@code MongoConfigurationBuilder}.
+     */
+    public static final String INDEX_MIGRATION_WAIT_PROPERTY_NAME = "com.mongodb.hibernate.schema.indexMigration.wait";
+
+    /**
+     * Configuration property that makes the {@code update} index migration drop the indexes that it has hidden, once
+     * they have been hidden for {@link #INDEX_MIGRATION_DROP_AFTER_SECONDS_PROPERTY_NAME}, see
+     * {@link #INDEX_MIGRATION_PROPERTY_NAME}. Read by {@code MongoConfigurationBuilder}.
+     */
+    public static final String INDEX_MIGRATION_DROP_OBSOLETE_PROPERTY_NAME =
+            "com.mongodb.hibernate.schema.indexMigration.dropObsolete";
+
+    /**
+     * Configuration property that specifies for how many seconds an index that is no longer mapped stays hidden before
+     * it is dropped, see {@link #INDEX_MIGRATION_DROP_OBSOLETE_PROPERTY_NAME}. Read by
+     * {@code MongoConfigurationBuilder}.
+     */
+    public static final String INDEX_MIGRATION_DROP_AFTER_SECONDS_PROPERTY_NAME =
+            "com.mongodb.hibernate.schema.indexMigration.dropAfterSeconds";
+
+    /**
+     * Leaves a week to observe the effect of hiding an index, and to map it again, before it has to be rebuilt to undo
+     * dropping it.
+     */
+    public static final int DEFAULT_INDEX_MIGRATION_DROP_AFTER_SECONDS = 7 * 24 * 60 * 60;
+
+    /**
+     * The collection in which the index migration records the indexes that it manages, which are the indexes that it
+     * has seen mapped, and when it hid those of them that are no longer mapped. The other indexes, for example those
+     * created by an administrator, are never hidden or dropped.
+     */
+    public static final String INDEX_MIGRATION_COLLECTION = "hibernate_index_migration";
 }
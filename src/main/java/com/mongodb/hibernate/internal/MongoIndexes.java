@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal;
+
+import java.util.ArrayList;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Owns the comparison of an index, as specified in a {@code createIndexes} command, with an index, as listed by
+ * {@code listIndexes}, so that the schema export and the index migration agree on which indexes already exist.
+ *
+ * @hidden
+ */
+public final class MongoIndexes {
+    /** The name of the index that the server creates on {@code _id} for every collection. */
+    public static final String ID_INDEX_NAME = "_id_";
+
+    private static final String HIDDEN = "hidden";
+
+    private MongoIndexes() {}
+
+    /**
+     * Returns {@code true} if {@code existingIndex} has the name, the key and the options of {@code index}, so that
+     * creating {@code index} is a no-op.
+     *
+     * @param index The index, as specified in a {@code createIndexes} command.
+     * @param existingIndex The index, as listed by {@code listIndexes}.
+     * @return Whether {@code existingIndex} is {@code index}.
+     */
+    public static boolean isSatisfiedBy(BsonDocument index, BsonDocument existingIndex) {
+        return isSatisfiedByIgnoringHidden(index, existingIndex) && isHidden(index) == isHidden(existingIndex);
+    }
+
+    /**
+     * Returns {@code true} if {@code existingIndex} is {@code index}, except maybe for whether it is
+     * {@linkplain #isHidden(BsonDocument) hidden}, which, unlike the other options, can be changed without rebuilding
+     * the index.
+     *
+     * @param index The index, as specified in a {@code createIndexes} command.
+     * @param existingIndex The index, as listed by {@code listIndexes}.
+     * @return Whether {@code existingIndex} is {@code index}, except maybe for whether it is hidden.
+     */
+    public static boolean isSatisfiedByIgnoringHidden(BsonDocument index, BsonDocument existingIndex) {
+        return getName(index).equals(getName(existingIndex))
+                && matches(index.get("key"), existingIndex.get("key"))
+                && isTrue(index, "unique") == isTrue(existingIndex, "unique")
+                && isTrue(index, "sparse") == isTrue(existingIndex, "sparse")
+                && collationMatches(index.get("collation"), existingIndex.get("collation"))
+                && matches(index.get("partialFilterExpression"), existingIndex.get("partialFilterExpression"))
+                && matches(index.get("expireAfterSeconds"), existingIndex.get("expireAfterSeconds"))
+                && matches(index.get("wildcardProjection"), existingIndex.get("wildcardProjection"));
+    }
+
+    /**
+     * Returns the name of {@code index}.
+     *
+     * @param index The index, either as specified in a {@code createIndexes} command or as listed by
+     *     {@code listIndexes}.
+     * @return The name, or the empty string if the index has none.
+     */
+    public static String getName(BsonDocument index) {
+        return index.getString("name", new BsonString("")).getValue();
+    }
+
+    /**
+     * Returns {@code true} if {@code index} is hidden from the query planner, which still maintains it.
+     *
+     * @param index The index, either as specified in a {@code createIndexes} command or as listed by
+     *     {@code listIndexes}.
+     * @return Whether the index is hidden.
+     */
+    public static boolean isHidden(BsonDocument index) {
+        return isTrue(index, HIDDEN);
+    }
+
+    private static boolean isTrue(BsonDocument index, String option) {
+        return index.getBoolean(option, BsonBoolean.FALSE).getValue();
+    }
+
+    /** The server adds the defaults to the collation of an index, so only the fields of ours are compared. */
+    private static boolean collationMatches(@Nullable BsonValue collation, @Nullable BsonValue existingCollation) {
+        if (collation == null || existingCollation == null) {
+            return collation == null && existingCollation == null;
+        } else if (!collation.isDocument() || !existingCollation.isDocument()) {
+            return false;
+        }
+        var existingFields = existingCollation.asDocument();
+        return collation.asDocument().entrySet().stream()
+                .allMatch(field -> matches(field.getValue(), existingFields.get(field.getKey())));
+    }
+
+    /** Compares numbers by value, regardless of their types, and documents field by field, in order. */
+    private static boolean matches(@Nullable BsonValue expected, @Nullable BsonValue actual) {
+        if (expected == null || actual == null) {
+            return expected == null && actual == null;
+        } else if (expected.isNumber() && actual.isNumber()) {
+            return expected.asNumber().doubleValue() == actual.asNumber().doubleValue();
+        } else if (expected.isDocument() && actual.isDocument()) {
+            var expectedFields = new ArrayList<>(expected.asDocument().entrySet());
+            var actualFields = new ArrayList<>(actual.asDocument().entrySet());
+            if (expectedFields.size() != actualFields.size()) {
+                return false;
+            }
+            for (var i = 0; i < expectedFields.size(); i++) {
+                if (!expectedFields.get(i).getKey().equals(actualFields.get(i).getKey())
+                        || !matches(expectedFields.get(i).getValue(), actualFields.get(i).getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return expected.equals(actual);
+    }
+}
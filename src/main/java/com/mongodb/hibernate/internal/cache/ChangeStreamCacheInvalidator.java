@@ -0,0 +1,478 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.cache;
+
+import static com.mongodb.client.model.Aggregates.match;
+import static com.mongodb.client.model.Aggregates.project;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.in;
+import static com.mongodb.client.model.Filters.or;
+import static com.mongodb.client.model.Projections.exclude;
+import static com.mongodb.hibernate.internal.MongoConstants.CACHE_INVALIDATION_NODE_ID_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.ID_FIELD_NAME;
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.MongoServerException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.hibernate.internal.cfg.MongoConfiguration;
+import com.mongodb.hibernate.internal.type.ValueConversions;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Evicts the second-level cache and query cache entries affected by the changes of the mapped collections, which it
+ * observes via a change stream on the database, so that the caches of all application instances eventually reflect the
+ * writes of any of them.
+ *
+ * <p>A change of a document evicts the entity with the {@code _id} of the document, the collections owned by it, and
+ * invalidates the cached query results that depend on the collection of the document. If the {@code _id} cannot be
+ * matched to an identifier, for example, because the document is not stored in the collection of the owner of a cached
+ * collection, the whole region is evicted instead. Events that may affect all documents of a collection, like
+ * {@code drop}, as well as lost change stream history, evict all affected regions.
+ *
+ * <p>The change stream is iterated on a background thread that is started when the {@link SessionFactory} is created
+ * and stopped when it is closing, which is when the resume token is stored for the next {@link SessionFactory} with the
+ * same name on the same application instance, in addition to periodically. The resume token of each application
+ * instance is stored separately, see
+ * {@value com.mongodb.hibernate.internal.MongoConstants#CACHE_INVALIDATION_NODE_ID_PROPERTY_NAME}, because the
+ * instances observe the changes at different positions of the change stream, and is removed by a TTL index once it has
+ * not been stored for 30 days.
+ *
+ * @mongoCme Thread-safe.
+ */
+final class ChangeStreamCacheInvalidator implements SessionFactoryObserver {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeStreamCacheInvalidator.class);
+
+    /** Bounds the time it takes the background thread to notice that it must stop. */
+    private static final long MAX_AWAIT_TIME_MS = 1_000;
+
+    private static final long RESUME_TOKEN_STORE_INTERVAL_MS = 10_000;
+    private static final long RETRY_DELAY_MS = 1_000;
+    private static final String RESUME_TOKEN_FIELD_NAME = "resumeToken";
+    private static final String UPDATED_AT_FIELD_NAME = "updatedAt";
+
+    /**
+     * The resume tokens of the application instances that have not stored them for that long are removed, because the
+     * history of the change stream rarely lasts that long, and the identifiers of the instances may not be reused.
+     */
+    private static final long RESUME_TOKEN_EXPIRE_AFTER_DAYS = 30;
+    private static final String DEFAULT_RESUME_TOKEN_ID = "default";
+
+    /**
+     * The {@code ChangeStreamFatalError} and {@code ChangeStreamHistoryLost}
+     * <a href="https://www.mongodb.com/docs/manual/reference/error-codes/">error codes</a>.
+     */
+    private static final Set<Integer> LOST_HISTORY_ERROR_CODES = Set.of(280, 286);
+
+    private final transient SessionFactoryImplementor sessionFactory;
+    private final transient MongoDatabase database;
+    private final transient MongoCollection<BsonDocument> resumeTokens;
+    private final transient String resumeTokenId;
+    private transient @Nullable Map<String, CollectionRegions> regionsByCollection;
+    private transient @Nullable Thread thread;
+
+    /** Used only by {@link #thread} once it is started. */
+    private transient @Nullable BsonDocument resumeToken;
+
+    private transient volatile boolean stopped;
+
+    ChangeStreamCacheInvalidator(
+            SessionFactoryImplementor sessionFactory, MongoConfiguration configuration, MongoClient mongoClient) {
+        this.sessionFactory = sessionFactory;
+        database = mongoClient.getDatabase(configuration.databaseName());
+        resumeTokens =
+                database.getCollection(configuration.cacheInvalidationResumeTokenCollection(), BsonDocument.class);
+        var sessionFactoryName = sessionFactory.getName();
+        var nodeId = configuration.cacheInvalidationNodeId();
+        resumeTokenId = (sessionFactoryName == null ? DEFAULT_RESUME_TOKEN_ID : sessionFactoryName) + "@"
+                + (nodeId == null ? getDefaultNodeId() : nodeId);
+    }
+
+    private static String getDefaultNodeId() {
+        try {
+            var hostName = InetAddress.getLocalHost().getHostName();
+            LOGGER.warn(
+                    "Configuration property [{}] is not set, the resume token is stored under the host name [{}],"
+                            + " with which the change stream is not resumed after a restart if the host name changes,"
+                            + " as that of a container does, and is overwritten by other instances on the same host",
+                    CACHE_INVALIDATION_NODE_ID_PROPERTY_NAME,
+                    hostName);
+            return hostName;
+        } catch (UnknownHostException e) {
+            LOGGER.warn(
+                    "Failed to determine the host name, the change stream is not resumed after a restart unless"
+                            + " configuration property [{}] is set",
+                    CACHE_INVALIDATION_NODE_ID_PROPERTY_NAME,
+                    e);
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    /**
+     * Opens the change stream and starts the background thread iterating it, once the mapping metamodel the regions are
+     * resolved from is available. The change stream is opened before this method returns, so that the changes made
+     * after the {@link SessionFactory} is created are observed even if there is no resume token.
+     */
+    @Override
+    public void sessionFactoryCreated(SessionFactory factory) {
+        var regions = resolveRegions();
+        if (regions.isEmpty()) {
+            return;
+        }
+        regionsByCollection = regions;
+        createResumeTokenExpiryIndex();
+        resumeToken = loadResumeToken();
+        MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> cursor = null;
+        try {
+            cursor = open();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to watch the changes of the cached collections, retrying", e);
+        }
+        var initialCursor = cursor;
+        var thread = new Thread(() -> run(initialCursor), "mongodb-hibernate-cache-invalidator");
+        thread.setDaemon(true);
+        this.thread = thread;
+        thread.start();
+    }
+
+    /** Stops the background thread before the {@link MongoClient} it uses is closed. */
+    @Override
+    public void sessionFactoryClosing(SessionFactory factory) {
+        var thread = this.thread;
+        if (thread == null) {
+            return;
+        }
+        stopped = true;
+        var interrupted = false;
+        while (true) {
+            try {
+                thread.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<String, CollectionRegions> resolveRegions() {
+        var result = new HashMap<String, CollectionRegions>();
+        var queryCacheEnabled = sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled();
+        var mappingMetamodel = sessionFactory.getMappingMetamodel();
+        mappingMetamodel.forEachEntityDescriptor(entityPersister -> {
+            if (!entityPersister.getEntityName().equals(entityPersister.getRootEntityName())) {
+                // the subclasses share the region of their root entity
+                return;
+            }
+            var cached = entityPersister.canWriteToCache();
+            if (!cached && !queryCacheEnabled) {
+                return;
+            }
+            for (var space : entityPersister.getQuerySpaces()) {
+                var regions = result.computeIfAbsent(space.toString(), ignored -> new CollectionRegions());
+                if (cached) {
+                    regions.entities.add(entityPersister);
+                }
+            }
+        });
+        mappingMetamodel.forEachCollectionDescriptor(collectionPersister -> {
+            if (!collectionPersister.hasCache()) {
+                return;
+            }
+            var ownerSpaces = List.of(collectionPersister.getOwnerEntityPersister().getQuerySpaces());
+            for (var space : collectionPersister.getCollectionSpaces()) {
+                var regions = result.computeIfAbsent(space, ignored -> new CollectionRegions());
+                if (ownerSpaces.contains(space)) {
+                    regions.ownedCollections.add(collectionPersister);
+                } else {
+                    regions.otherCollections.add(collectionPersister);
+                }
+            }
+        });
+        return result;
+    }
+
+    private void run(@Nullable MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> initialCursor) {
+        var cursor = initialCursor;
+        while (!stopped) {
+            try {
+                if (cursor == null) {
+                    cursor = open();
+                }
+                iterate(cursor);
+            } catch (MongoInterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopped = true;
+            } catch (MongoServerException e) {
+                if (LOST_HISTORY_ERROR_CODES.contains(e.getCode())) {
+                    LOGGER.warn("Evicting all cached data, because the changes since the resume token are lost", e);
+                    evictAll();
+                    resumeToken = null;
+                } else {
+                    LOGGER.warn("Failed to watch the changes of the cached collections, retrying", e);
+                    pause();
+                }
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to watch the changes of the cached collections, retrying", e);
+                pause();
+            } finally {
+                if (cursor != null) {
+                    cursor.close();
+                    cursor = null;
+                }
+            }
+        }
+        storeResumeToken(resumeToken);
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> open() {
+        var changeStream = database.watch(
+                        List.of(
+                                match(or(
+                                        in("ns.coll", getRegionsByCollection().keySet()),
+                                        in("operationType", "dropDatabase", "invalidate"))),
+                                project(exclude("fullDocument", "updateDescription"))),
+                        BsonDocument.class)
+                .maxAwaitTime(MAX_AWAIT_TIME_MS, MILLISECONDS);
+        var resumeToken = this.resumeToken;
+        if (resumeToken != null) {
+            changeStream = changeStream.resumeAfter(resumeToken);
+        }
+        return changeStream.cursor();
+    }
+
+    /**
+     * Iterates {@code cursor} until {@linkplain #stopped stopped}, or until the change stream is invalidated, which
+     * resets {@link #resumeToken}.
+     */
+    private void iterate(MongoChangeStreamCursor<ChangeStreamDocument<BsonDocument>> cursor) {
+        var storedAt = System.currentTimeMillis();
+        var changedCollections = new LinkedHashSet<String>();
+        try {
+            while (!stopped) {
+                var event = cursor.tryNext();
+                if (event != null && invalidate(event, changedCollections)) {
+                    resumeToken = null;
+                    storeResumeToken(null);
+                    return;
+                }
+                if (cursor.available() == 0) {
+                    invalidateQueryResults(changedCollections);
+                    changedCollections.clear();
+                }
+                var latestResumeToken = cursor.getResumeToken();
+                if (latestResumeToken != null) {
+                    resumeToken = latestResumeToken;
+                }
+                var now = System.currentTimeMillis();
+                if (now - storedAt >= RESUME_TOKEN_STORE_INTERVAL_MS) {
+                    storeResumeToken(resumeToken);
+                    storedAt = now;
+                }
+            }
+        } finally {
+            invalidateQueryResults(changedCollections);
+        }
+    }
+
+    /** @return {@code true} iff the change stream is invalidated and must be opened again without a resume token. */
+    private boolean invalidate(ChangeStreamDocument<BsonDocument> event, Set<String> changedCollections) {
+        var operationType = event.getOperationTypeString();
+        if ("invalidate".equals(operationType) || "dropDatabase".equals(operationType)) {
+            evictAll();
+            return true;
+        }
+        var namespace = event.getNamespace();
+        if (namespace == null) {
+            return false;
+        }
+        var collectionName = namespace.getCollectionName();
+        var regions = getRegionsByCollection().get(collectionName);
+        if (regions == null) {
+            return false;
+        }
+        var documentKey = event.getDocumentKey();
+        var id = documentKey == null ? null : toIdentifier(documentKey);
+        var cache = sessionFactory.getCache();
+        for (var entityPersister : regions.entities) {
+            if (id != null && entityPersister.getIdentifierType().getReturnedClass().isInstance(id)) {
+                cache.evictEntityData(entityPersister.getEntityName(), id);
+            } else {
+                cache.evictEntityData(entityPersister.getEntityName());
+            }
+        }
+        for (var collectionPersister : regions.ownedCollections) {
+            var ownerPersister = collectionPersister.getOwnerEntityPersister();
+            if (id != null && ownerPersister.getIdentifierType().getReturnedClass().isInstance(id)) {
+                cache.evictCollectionData(collectionPersister.getRole(), id);
+            } else {
+                cache.evictCollectionData(collectionPersister.getRole());
+            }
+        }
+        for (var collectionPersister : regions.otherCollections) {
+            cache.evictCollectionData(collectionPersister.getRole());
+        }
+        changedCollections.add(collectionName);
+        return false;
+    }
+
+    private static @Nullable Object toIdentifier(BsonDocument documentKey) {
+        var id = documentKey.get(ID_FIELD_NAME);
+        if (id == null) {
+            return null;
+        }
+        try {
+            return ValueConversions.toDomainValue(id);
+        } catch (SQLFeatureNotSupportedException e) {
+            return null;
+        }
+    }
+
+    private void invalidateQueryResults(Set<String> changedCollections) {
+        if (changedCollections.isEmpty() || !sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()) {
+            return;
+        }
+        try (var session = sessionFactory.openStatelessSession()) {
+            sessionFactory
+                    .getCache()
+                    .getTimestampsCache()
+                    .invalidate(changedCollections.toArray(String[]::new), (SharedSessionContractImplementor) session);
+        }
+    }
+
+    private void evictAll() {
+        var cache = sessionFactory.getCache();
+        cache.evictAllRegions();
+        cache.evictQueryRegions();
+    }
+
+    private void createResumeTokenExpiryIndex() {
+        try {
+            resumeTokens.createIndex(
+                    Indexes.ascending(UPDATED_AT_FIELD_NAME),
+                    new IndexOptions().expireAfter(RESUME_TOKEN_EXPIRE_AFTER_DAYS, DAYS));
+        } catch (MongoException e) {
+            LOGGER.warn("Failed to create the index that removes the resume tokens that are no longer stored", e);
+        }
+    }
+
+    private @Nullable BsonDocument loadResumeToken() {
+        try {
+            var stored = resumeTokens.find(eq(ID_FIELD_NAME, resumeTokenId)).first();
+            return stored == null || !stored.isDocument(RESUME_TOKEN_FIELD_NAME)
+                    ? null
+                    : stored.getDocument(RESUME_TOKEN_FIELD_NAME);
+        } catch (MongoException e) {
+            LOGGER.warn("Failed to load the resume token, evicting all cached data", e);
+            evictAll();
+            return null;
+        }
+    }
+
+    /** Storing {@code null} makes the next {@link SessionFactory} ignore the changes made before it is created. */
+    private void storeResumeToken(@Nullable BsonDocument resumeToken) {
+        var document = new BsonDocument(ID_FIELD_NAME, new BsonString(resumeTokenId))
+                .append(UPDATED_AT_FIELD_NAME, new BsonDateTime(System.currentTimeMillis()));
+        if (resumeToken != null) {
+            document.append(RESUME_TOKEN_FIELD_NAME, resumeToken);
+        }
+        try {
+            resumeTokens.replaceOne(eq(ID_FIELD_NAME, resumeTokenId), document, new ReplaceOptions().upsert(true));
+        } catch (MongoException e) {
+            LOGGER.warn("Failed to store the resume token", e);
+        }
+    }
+
+    private void pause() {
+        var deadline = System.currentTimeMillis() + RETRY_DELAY_MS;
+        while (!stopped && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopped = true;
+            }
+        }
+    }
+
+    private Map<String, CollectionRegions> getRegionsByCollection() {
+        var result = regionsByCollection;
+        if (result == null) {
+            throw new IllegalStateException("The session factory has not been created");
+        }
+        return result;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        throw new NotSerializableException(
+                "This class is not designed to be serialized despite it having to implement `Serializable`");
+    }
+
+    /**
+     * The cached data affected by the changes of the documents of a collection, in addition to the cached query results
+     * whose query spaces include the collection.
+     */
+    private static final class CollectionRegions {
+        final List<EntityPersister> entities = new ArrayList<>();
+
+        /** The collections stored in the documents of their owners. */
+        final List<CollectionPersister> ownedCollections = new ArrayList<>();
+
+        /** The collections whose elements are stored in the documents of the collection, separately from the owner. */
+        final List<CollectionPersister> otherCollections = new ArrayList<>();
+    }
+}
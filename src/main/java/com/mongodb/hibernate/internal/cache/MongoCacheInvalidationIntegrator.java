@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.cache;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.hibernate.internal.dialect.MongoDialect;
+import com.mongodb.hibernate.internal.service.StandardServiceRegistryScopedState;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+
+/**
+ * Registers a {@link ChangeStreamCacheInvalidator} with each {@link org.hibernate.SessionFactory} that uses
+ * {@link MongoDialect}, has the second-level cache or the query cache enabled, and is configured with
+ * {@value com.mongodb.hibernate.internal.MongoConstants#CACHE_INVALIDATION_CHANGE_STREAM_PROPERTY_NAME}.
+ *
+ * @hidden
+ */
+@SuppressWarnings("MissingSummary")
+public final class MongoCacheInvalidationIntegrator implements Integrator {
+    public MongoCacheInvalidationIntegrator() {}
+
+    @Override
+    public void integrate(
+            Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        if (!(sessionFactory.getJdbcServices().getDialect() instanceof MongoDialect)) {
+            return;
+        }
+        var sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
+        if (!sessionFactoryOptions.isSecondLevelCacheEnabled() && !sessionFactoryOptions.isQueryCacheEnabled()) {
+            return;
+        }
+        var serviceRegistry = sessionFactory.getServiceRegistry();
+        var configuration = serviceRegistry
+                .requireService(StandardServiceRegistryScopedState.class)
+                .getConfiguration();
+        if (!configuration.cacheInvalidationChangeStream()) {
+            return;
+        }
+        var mongoClient = serviceRegistry.requireService(ConnectionProvider.class).unwrap(MongoClient.class);
+        // the mapping metamodel is not built yet, so the invalidator starts once the session factory is created
+        sessionFactory.addObserver(new ChangeStreamCacheInvalidator(sessionFactory, configuration, mongoClient));
+    }
+}
@@ -16,8 +16,16 @@
 
 package com.mongodb.hibernate.internal.cfg;
 
+import static com.mongodb.hibernate.internal.MongoConstants.DEFAULT_CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION;
+import static com.mongodb.hibernate.internal.MongoConstants.DEFAULT_COMMAND_TEMPLATE_CACHE_MAX_SIZE;
+import static com.mongodb.hibernate.internal.MongoConstants.DEFAULT_INDEX_MIGRATION_DROP_AFTER_SECONDS;
+import static com.mongodb.hibernate.internal.MongoConstants.DEFAULT_SCHEMA_EXPORT_PARALLELISM;
+
 import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
 import com.mongodb.client.MongoClient;
+import com.mongodb.client.model.CreateIndexCommitQuorum;
 import com.mongodb.hibernate.cfg.MongoConfigurator;
 import org.jspecify.annotations.Nullable;
 
@@ -28,18 +36,130 @@ import org.jspecify.annotations.Nullable;
  * @param mongoClient an externally supplied {@link MongoClient} to use as-is (the provider does not own or close it),
  *     or {@code null} when {@code mongoClientSettings} is supplied.
  * @param databaseName {@link MongoConfigurator#databaseName(String)}.
+ * @param commandTemplateCacheMaxSize the maximum number of command templates cached by the JDBC adapter, {@code 0}
+ *     disables caching, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#COMMAND_TEMPLATE_CACHE_MAX_SIZE_PROPERTY_NAME}.
+ * @param coalesceInserts whether batched inserts are deferred and executed together with the following batched inserts
+ *     into the same collection, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#COALESCE_INSERTS_PROPERTY_NAME}.
+ * @param unorderedBulkWrites whether JDBC batches are executed as unordered bulk writes by default, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#UNORDERED_BULK_WRITES_PROPERTY_NAME}.
+ * @param exactBatchUpdateCounts whether {@code executeBatch} returns the actual update count of each command instead of
+ *     {@link java.sql.Statement#SUCCESS_NO_INFO}, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#EXACT_BATCH_UPDATE_COUNTS_PROPERTY_NAME}.
+ * @param clientBulkWrites whether JDBC batches are deferred and executed together with the other JDBC batches of a
+ *     flush in a single client-level {@code bulkWrite}, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#CLIENT_BULK_WRITES_PROPERTY_NAME}.
+ * @param readOnlyReadPreference the read preference of read-only queries, or {@code null} to use the read preference
+ *     of the client, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#READ_ONLY_READ_PREFERENCE_PROPERTY_NAME}.
+ * @param readOnlyReadConcern the read concern of read-only queries, or {@code null} to use the read concern of the
+ *     client, see {@value com.mongodb.hibernate.internal.MongoConstants#READ_ONLY_READ_CONCERN_PROPERTY_NAME}.
+ * @param cursorPrefetchSize the maximum number of documents fetched ahead of the result set of a query on a background
+ *     thread, {@code 0} disables prefetching, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#CURSOR_PREFETCH_SIZE_PROPERTY_NAME}.
+ * @param cacheInvalidationChangeStream whether the second-level cache and query cache entries affected by the changes
+ *     of the mapped collections are evicted as observed via a change stream, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#CACHE_INVALIDATION_CHANGE_STREAM_PROPERTY_NAME}.
+ * @param cacheInvalidationResumeTokenCollection the name of the collection in which the resume token of the change
+ *     stream is stored, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION_PROPERTY_NAME}.
+ * @param cacheInvalidationNodeId the identifier of the application instance under which the resume token of the change
+ *     stream is stored, or {@code null} to derive it from the host name, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#CACHE_INVALIDATION_NODE_ID_PROPERTY_NAME}.
+ * @param schemaExportParallelism the maximum number of collections whose batched schema export commands are executed
+ *     in parallel, {@code 0} executes them on the calling thread, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#SCHEMA_EXPORT_PARALLELISM_PROPERTY_NAME}.
+ * @param createIndexesCommitQuorum the {@code commitQuorum} of the {@code createIndexes} commands of the schema
+ *     export, or {@code null} to use the default of the server, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#CREATE_INDEXES_COMMIT_QUORUM_PROPERTY_NAME}.
+ * @param indexMigration how the indexes of the mapped collections are compared with those of the database when the
+ *     session factory is created, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#INDEX_MIGRATION_PROPERTY_NAME}.
+ * @param indexMigrationDropObsolete whether the index migration drops the indexes that it has hidden, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#INDEX_MIGRATION_DROP_OBSOLETE_PROPERTY_NAME}.
+ * @param indexMigrationDropAfterSeconds for how many seconds an index stays hidden before the index migration drops it,
+ *     see {@value com.mongodb.hibernate.internal.MongoConstants#INDEX_MIGRATION_DROP_AFTER_SECONDS_PROPERTY_NAME}.
+ * @param indexMigrationWait whether the creation of the session factory waits for the index migration, instead of it
+ *     running on a background thread, see
+ *     {@value com.mongodb.hibernate.internal.MongoConstants#INDEX_MIGRATION_WAIT_PROPERTY_NAME}.
  * @see MongoConfigurationBuilder#build()
  * @hidden
  */
 public record MongoConfiguration(
         @Nullable MongoClientSettings mongoClientSettings,
         @Nullable MongoClient mongoClient,
-        String databaseName) {
+        String databaseName,
+        int commandTemplateCacheMaxSize,
+        boolean coalesceInserts,
+        boolean unorderedBulkWrites,
+        boolean exactBatchUpdateCounts,
+        boolean clientBulkWrites,
+        @Nullable ReadPreference readOnlyReadPreference,
+        @Nullable ReadConcern readOnlyReadConcern,
+        int cursorPrefetchSize,
+        boolean cacheInvalidationChangeStream,
+        String cacheInvalidationResumeTokenCollection,
+        @Nullable String cacheInvalidationNodeId,
+        int schemaExportParallelism,
+        @Nullable CreateIndexCommitQuorum createIndexesCommitQuorum,
+        IndexMigration indexMigration,
+        boolean indexMigrationDropObsolete,
+        int indexMigrationDropAfterSeconds,
+        boolean indexMigrationWait) {
 
     public MongoConfiguration {
         if ((mongoClientSettings == null) == (mongoClient == null)) {
             throw new IllegalArgumentException("Exactly one of mongoClientSettings and mongoClient must be non-null");
         }
+        if (commandTemplateCacheMaxSize < 0) {
+            throw new IllegalArgumentException("commandTemplateCacheMaxSize must not be negative");
+        }
+        if (cursorPrefetchSize < 0) {
+            throw new IllegalArgumentException("cursorPrefetchSize must not be negative");
+        }
+        if (schemaExportParallelism < 0) {
+            throw new IllegalArgumentException("schemaExportParallelism must not be negative");
+        }
+        if (indexMigrationDropAfterSeconds < 0) {
+            throw new IllegalArgumentException("indexMigrationDropAfterSeconds must not be negative");
+        }
+        if (cacheInvalidationResumeTokenCollection.isEmpty()) {
+            throw new IllegalArgumentException("cacheInvalidationResumeTokenCollection must not be empty");
+        }
+        if (cacheInvalidationNodeId != null && cacheInvalidationNodeId.isEmpty()) {
+            throw new IllegalArgumentException("cacheInvalidationNodeId must not be empty");
+        }
+        if (exactBatchUpdateCounts && clientBulkWrites) {
+            throw new IllegalArgumentException(
+                    "exactBatchUpdateCounts and clientBulkWrites must not be both enabled, because deferred batches"
+                            + " have no update counts");
+        }
+    }
+
+    public MongoConfiguration(
+            @Nullable MongoClientSettings mongoClientSettings, @Nullable MongoClient mongoClient, String databaseName) {
+        this(
+                mongoClientSettings,
+                mongoClient,
+                databaseName,
+                DEFAULT_COMMAND_TEMPLATE_CACHE_MAX_SIZE,
+                false,
+                false,
+                false,
+                false,
+                null,
+                null,
+                0,
+                false,
+                DEFAULT_CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION,
+                null,
+                DEFAULT_SCHEMA_EXPORT_PARALLELISM,
+                null,
+                IndexMigration.NONE,
+                false,
+                DEFAULT_INDEX_MIGRATION_DROP_AFTER_SECONDS,
+                false);
     }
 
     public MongoConfiguration(MongoClientSettings mongoClientSettings, String databaseName) {
@@ -49,4 +169,21 @@ public record MongoConfiguration(
     public MongoConfiguration(MongoClient mongoClient, String databaseName) {
         this(null, mongoClient, databaseName);
     }
+
+    /**
+     * How the indexes of the mapped collections are compared with those of the database when the session factory is
+     * created.
+     */
+    public enum IndexMigration {
+        /** The indexes are not compared. */
+        NONE,
+        /** The missing, changed and no longer mapped indexes are logged. */
+        VALIDATE,
+        /**
+         * The missing indexes are created, and the no longer mapped indexes that were once mapped are hidden, then
+         * dropped if so configured, once they have been hidden long enough. The changed indexes are logged, because
+         * rebuilding them is left to the application.
+         */
+        UPDATE
+    }
 }
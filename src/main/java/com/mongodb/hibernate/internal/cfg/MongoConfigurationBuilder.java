@@ -17,19 +17,49 @@
 package com.mongodb.hibernate.internal.cfg;
 
 import static com.mongodb.hibernate.internal.MongoChecks.notNull;
+import static com.mongodb.hibernate.internal.MongoConstants.CACHE_INVALIDATION_CHANGE_STREAM_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.CACHE_INVALIDATION_NODE_ID_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.CLIENT_BULK_WRITES_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.COALESCE_INSERTS_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.COMMAND_TEMPLATE_CACHE_MAX_SIZE_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.CREATE_INDEXES_COMMIT_QUORUM_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.CURSOR_PREFETCH_SIZE_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.DEFAULT_CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION;
+import static com.mongodb.hibernate.internal.MongoConstants.DEFAULT_COMMAND_TEMPLATE_CACHE_MAX_SIZE;
+import static com.mongodb.hibernate.internal.MongoConstants.DEFAULT_INDEX_MIGRATION_DROP_AFTER_SECONDS;
+import static com.mongodb.hibernate.internal.MongoConstants.DEFAULT_SCHEMA_EXPORT_PARALLELISM;
+import static com.mongodb.hibernate.internal.MongoConstants.EXACT_BATCH_UPDATE_COUNTS_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.INDEX_MIGRATION_DROP_AFTER_SECONDS_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.INDEX_MIGRATION_DROP_OBSOLETE_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.INDEX_MIGRATION_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.INDEX_MIGRATION_WAIT_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.READ_ONLY_MAX_STALENESS_SECONDS_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.READ_ONLY_READ_CONCERN_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.READ_ONLY_READ_PREFERENCE_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.SCHEMA_EXPORT_PARALLELISM_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.UNORDERED_BULK_WRITES_PROPERTY_NAME;
 import static com.mongodb.hibernate.internal.VisibleForTesting.AccessModifier.PRIVATE;
 import static java.lang.String.format;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_JDBC_URL;
 
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadConcernLevel;
+import com.mongodb.ReadPreference;
 import com.mongodb.client.MongoClient;
+import com.mongodb.client.model.CreateIndexCommitQuorum;
 import com.mongodb.hibernate.cfg.MongoConfigurator;
 import com.mongodb.hibernate.internal.VisibleForTesting;
+import com.mongodb.hibernate.internal.cfg.MongoConfiguration.IndexMigration;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.Nullable;
@@ -40,6 +70,23 @@ public final class MongoConfigurationBuilder implements MongoConfigurator {
     private final MongoClientSettings.Builder mongoClientSettingsBuilder;
     private @Nullable String databaseName;
     private @Nullable MongoClient mongoClient;
+    private final int commandTemplateCacheMaxSize;
+    private final boolean coalesceInserts;
+    private final boolean unorderedBulkWrites;
+    private final boolean exactBatchUpdateCounts;
+    private final boolean clientBulkWrites;
+    private final @Nullable ReadPreference readOnlyReadPreference;
+    private final @Nullable ReadConcern readOnlyReadConcern;
+    private final int cursorPrefetchSize;
+    private final boolean cacheInvalidationChangeStream;
+    private final String cacheInvalidationResumeTokenCollection;
+    private final @Nullable String cacheInvalidationNodeId;
+    private final int schemaExportParallelism;
+    private final @Nullable CreateIndexCommitQuorum createIndexesCommitQuorum;
+    private final IndexMigration indexMigration;
+    private final boolean indexMigrationDropObsolete;
+    private final int indexMigrationDropAfterSeconds;
+    private final boolean indexMigrationWait;
 
     public MongoConfigurationBuilder(Map<String, Object> configurationValues) {
         mongoClientSettingsBuilder = MongoClientSettings.builder();
@@ -49,6 +96,58 @@ public final class MongoConfigurationBuilder implements MongoConfigurator {
             mongoClientSettingsBuilder.applyConnectionString(connectionString);
             databaseName = connectionString.getDatabase();
         }
+        commandTemplateCacheMaxSize = MongoConfigurationBuilder.ConfigPropertiesParser.getNonNegativeInt(
+                configurationValues,
+                COMMAND_TEMPLATE_CACHE_MAX_SIZE_PROPERTY_NAME,
+                DEFAULT_COMMAND_TEMPLATE_CACHE_MAX_SIZE);
+        coalesceInserts = MongoConfigurationBuilder.ConfigPropertiesParser.getBoolean(
+                configurationValues, COALESCE_INSERTS_PROPERTY_NAME, false);
+        unorderedBulkWrites = MongoConfigurationBuilder.ConfigPropertiesParser.getBoolean(
+                configurationValues, UNORDERED_BULK_WRITES_PROPERTY_NAME, false);
+        exactBatchUpdateCounts = MongoConfigurationBuilder.ConfigPropertiesParser.getBoolean(
+                configurationValues, EXACT_BATCH_UPDATE_COUNTS_PROPERTY_NAME, false);
+        clientBulkWrites = MongoConfigurationBuilder.ConfigPropertiesParser.getBoolean(
+                configurationValues, CLIENT_BULK_WRITES_PROPERTY_NAME, false);
+        if (exactBatchUpdateCounts && clientBulkWrites) {
+            throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.failedToParse(
+                    EXACT_BATCH_UPDATE_COUNTS_PROPERTY_NAME,
+                    Boolean.toString(exactBatchUpdateCounts),
+                    Boolean.class,
+                    new IllegalArgumentException(format(
+                            "Must not be enabled together with configuration property [%s], whose deferred JDBC"
+                                    + " batches have no update counts",
+                            CLIENT_BULK_WRITES_PROPERTY_NAME)));
+        }
+        readOnlyReadPreference = MongoConfigurationBuilder.ConfigPropertiesParser.getReadPreference(
+                configurationValues,
+                READ_ONLY_READ_PREFERENCE_PROPERTY_NAME,
+                READ_ONLY_MAX_STALENESS_SECONDS_PROPERTY_NAME);
+        readOnlyReadConcern = MongoConfigurationBuilder.ConfigPropertiesParser.getReadConcern(
+                configurationValues, READ_ONLY_READ_CONCERN_PROPERTY_NAME);
+        cursorPrefetchSize = MongoConfigurationBuilder.ConfigPropertiesParser.getNonNegativeInt(
+                configurationValues, CURSOR_PREFETCH_SIZE_PROPERTY_NAME, 0);
+        cacheInvalidationChangeStream = MongoConfigurationBuilder.ConfigPropertiesParser.getBoolean(
+                configurationValues, CACHE_INVALIDATION_CHANGE_STREAM_PROPERTY_NAME, false);
+        cacheInvalidationResumeTokenCollection = MongoConfigurationBuilder.ConfigPropertiesParser.getNonEmptyString(
+                configurationValues,
+                CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION_PROPERTY_NAME,
+                DEFAULT_CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION);
+        cacheInvalidationNodeId = MongoConfigurationBuilder.ConfigPropertiesParser.getNonEmptyStringOrNull(
+                configurationValues, CACHE_INVALIDATION_NODE_ID_PROPERTY_NAME);
+        schemaExportParallelism = MongoConfigurationBuilder.ConfigPropertiesParser.getNonNegativeInt(
+                configurationValues, SCHEMA_EXPORT_PARALLELISM_PROPERTY_NAME, DEFAULT_SCHEMA_EXPORT_PARALLELISM);
+        createIndexesCommitQuorum = MongoConfigurationBuilder.ConfigPropertiesParser.getCommitQuorum(
+                configurationValues, CREATE_INDEXES_COMMIT_QUORUM_PROPERTY_NAME);
+        indexMigration = MongoConfigurationBuilder.ConfigPropertiesParser.getIndexMigration(
+                configurationValues, INDEX_MIGRATION_PROPERTY_NAME);
+        indexMigrationDropObsolete = MongoConfigurationBuilder.ConfigPropertiesParser.getBoolean(
+                configurationValues, INDEX_MIGRATION_DROP_OBSOLETE_PROPERTY_NAME, false);
+        indexMigrationDropAfterSeconds = MongoConfigurationBuilder.ConfigPropertiesParser.getNonNegativeInt(
+                configurationValues,
+                INDEX_MIGRATION_DROP_AFTER_SECONDS_PROPERTY_NAME,
+                DEFAULT_INDEX_MIGRATION_DROP_AFTER_SECONDS);
+        indexMigrationWait = MongoConfigurationBuilder.ConfigPropertiesParser.getBoolean(
+                configurationValues, INDEX_MIGRATION_WAIT_PROPERTY_NAME, false);
     }
 
     @VisibleForTesting(otherwise = PRIVATE)
@@ -76,9 +175,27 @@ public final class MongoConfigurationBuilder implements MongoConfigurator {
 
     public MongoConfiguration build() {
         var db = notNull("databaseName", databaseName);
-        return mongoClient != null
-                ? new MongoConfiguration(mongoClient, db)
-                : new MongoConfiguration(mongoClientSettingsBuilder.build(), db);
+        return new MongoConfiguration(
+                mongoClient != null ? null : mongoClientSettingsBuilder.build(),
+                mongoClient,
+                db,
+                commandTemplateCacheMaxSize,
+                coalesceInserts,
+                unorderedBulkWrites,
+                exactBatchUpdateCounts,
+                clientBulkWrites,
+                readOnlyReadPreference,
+                readOnlyReadConcern,
+                cursorPrefetchSize,
+                cacheInvalidationChangeStream,
+                cacheInvalidationResumeTokenCollection,
+                cacheInvalidationNodeId,
+                schemaExportParallelism,
+                createIndexesCommitQuorum,
+                indexMigration,
+                indexMigrationDropObsolete,
+                indexMigrationDropAfterSeconds,
+                indexMigrationWait);
     }
 
     private static final class ConfigPropertiesParser {
@@ -95,6 +212,178 @@ public final class MongoConfigurationBuilder implements MongoConfigurator {
                     JAKARTA_JDBC_URL, jdbcUrl, String.class, ConnectionString.class);
         }
 
+        static boolean getBoolean(Map<String, Object> configurationValues, String propertyName, boolean defaultValue) {
+            var value = configurationValues.get(propertyName);
+            if (value == null) {
+                return defaultValue;
+            } else if (value instanceof Boolean booleanValue) {
+                return booleanValue;
+            } else if (value instanceof String text) {
+                var trimmed = text.trim();
+                if (trimmed.equalsIgnoreCase("true")) {
+                    return true;
+                } else if (trimmed.equalsIgnoreCase("false")) {
+                    return false;
+                }
+                throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.failedToParse(
+                        propertyName, text, Boolean.class, new IllegalArgumentException("Expected [true] or [false]"));
+            }
+            throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.unsupportedType(
+                    propertyName, value, Boolean.class, String.class);
+        }
+
+        static String getNonEmptyString(
+                Map<String, Object> configurationValues, String propertyName, String defaultValue) {
+            var value = configurationValues.get(propertyName);
+            if (value == null) {
+                return defaultValue;
+            } else if (value instanceof String text) {
+                var trimmed = text.trim();
+                if (trimmed.isEmpty()) {
+                    throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.failedToParse(
+                            propertyName, text, String.class, new IllegalArgumentException("Must not be empty"));
+                }
+                return trimmed;
+            }
+            throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.unsupportedType(
+                    propertyName, value, String.class);
+        }
+
+        static @Nullable String getNonEmptyStringOrNull(Map<String, Object> configurationValues, String propertyName) {
+            return configurationValues.get(propertyName) == null
+                    ? null
+                    : getNonEmptyString(configurationValues, propertyName, "");
+        }
+
+        static int getNonNegativeInt(Map<String, Object> configurationValues, String propertyName, int defaultValue) {
+            var value = configurationValues.get(propertyName);
+            int result;
+            if (value == null) {
+                return defaultValue;
+            } else if (value instanceof Integer integerValue) {
+                result = integerValue;
+            } else if (value instanceof String text) {
+                try {
+                    result = Integer.parseInt(text.trim());
+                } catch (NumberFormatException e) {
+                    throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.failedToParse(
+                            propertyName, text, Integer.class, e);
+                }
+            } else {
+                throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.unsupportedType(
+                        propertyName, value, Integer.class, String.class);
+            }
+            if (result < 0) {
+                throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.failedToParse(
+                        propertyName,
+                        value.toString(),
+                        Integer.class,
+                        new IllegalArgumentException("Must not be negative"));
+            }
+            return result;
+        }
+
+        static @Nullable ReadPreference getReadPreference(
+                Map<String, Object> configurationValues, String propertyName, String maxStalenessSecondsPropertyName) {
+            var value = configurationValues.get(propertyName);
+            var maxStalenessSeconds = MongoConfigurationBuilder.ConfigPropertiesParser.getNonNegativeInt(
+                    configurationValues, maxStalenessSecondsPropertyName, 0);
+            if (value == null) {
+                if (maxStalenessSeconds > 0) {
+                    throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.failedToParse(
+                            maxStalenessSecondsPropertyName,
+                            Integer.toString(maxStalenessSeconds),
+                            Integer.class,
+                            new IllegalArgumentException(format("Requires configuration property [%s]", propertyName)));
+                }
+                return null;
+            } else if (value instanceof String text) {
+                try {
+                    return maxStalenessSeconds > 0
+                            ? ReadPreference.valueOf(text.trim(), List.of(), maxStalenessSeconds, TimeUnit.SECONDS)
+                            : ReadPreference.valueOf(text.trim());
+                } catch (RuntimeException e) {
+                    throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.failedToParse(
+                            propertyName, text, ReadPreference.class, e);
+                }
+            }
+            throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.unsupportedType(
+                    propertyName, value, String.class);
+        }
+
+        static @Nullable ReadConcern getReadConcern(Map<String, Object> configurationValues, String propertyName) {
+            var value = configurationValues.get(propertyName);
+            if (value == null) {
+                return null;
+            } else if (value instanceof String text) {
+                try {
+                    return new ReadConcern(ReadConcernLevel.fromString(text.trim()));
+                } catch (RuntimeException e) {
+                    throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.failedToParse(
+                            propertyName, text, ReadConcern.class, e);
+                }
+            }
+            throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.unsupportedType(
+                    propertyName, value, String.class);
+        }
+
+        static @Nullable CreateIndexCommitQuorum getCommitQuorum(
+                Map<String, Object> configurationValues, String propertyName) {
+            var value = configurationValues.get(propertyName);
+            if (value == null) {
+                return null;
+            } else if (value instanceof Integer integerValue) {
+                try {
+                    return CreateIndexCommitQuorum.create(integerValue);
+                } catch (RuntimeException e) {
+                    throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.failedToParse(
+                            propertyName, value.toString(), CreateIndexCommitQuorum.class, e);
+                }
+            } else if (value instanceof String text) {
+                var trimmed = text.trim();
+                if (trimmed.isEmpty()) {
+                    throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.failedToParse(
+                            propertyName,
+                            text,
+                            CreateIndexCommitQuorum.class,
+                            new IllegalArgumentException("Must not be empty"));
+                }
+                try {
+                    if (trimmed.equals("majority")) {
+                        return CreateIndexCommitQuorum.MAJORITY;
+                    } else if (trimmed.equals("votingMembers")) {
+                        return CreateIndexCommitQuorum.VOTING_MEMBERS;
+                    } else if (trimmed.chars().allMatch(Character::isDigit)) {
+                        return CreateIndexCommitQuorum.create(Integer.parseInt(trimmed));
+                    }
+                    return CreateIndexCommitQuorum.create(trimmed);
+                } catch (RuntimeException e) {
+                    throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.failedToParse(
+                            propertyName, text, CreateIndexCommitQuorum.class, e);
+                }
+            }
+            throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.unsupportedType(
+                    propertyName, value, Integer.class, String.class);
+        }
+
+        static IndexMigration getIndexMigration(Map<String, Object> configurationValues, String propertyName) {
+            var value = configurationValues.get(propertyName);
+            if (value == null) {
+                return IndexMigration.NONE;
+            } else if (value instanceof IndexMigration indexMigration) {
+                return indexMigration;
+            } else if (value instanceof String text) {
+                try {
+                    return IndexMigration.valueOf(text.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.failedToParse(
+                            propertyName, text, IndexMigration.class, e);
+                }
+            }
+            throw MongoConfigurationBuilder.ConfigPropertiesParser.Exceptions.unsupportedType(
+                    propertyName, value, IndexMigration.class, String.class);
+        }
+
         private static ConnectionString parseConnectionString(String propertyName, String propertyValue) {
             try {
                 return new ConnectionString(propertyValue);
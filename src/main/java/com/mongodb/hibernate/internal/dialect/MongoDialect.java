@@ -37,6 +37,7 @@ import com.mongodb.hibernate.internal.dialect.function.array.MongoArrayConstruct
 import com.mongodb.hibernate.internal.dialect.function.array.MongoArrayContainsFunction;
 import com.mongodb.hibernate.internal.dialect.function.array.MongoArrayIncludesFunction;
 import com.mongodb.hibernate.internal.dialect.function.array.MongoUnnestFunction;
+import com.mongodb.hibernate.internal.schema.MongoSchemaManagementTool;
 import com.mongodb.hibernate.internal.translate.MongoTranslatorFactory;
 import com.mongodb.hibernate.internal.translate.mongoast.AstUnaryOperatorExpression;
 import com.mongodb.hibernate.internal.type.MongoArrayJdbcType;
@@ -45,15 +46,19 @@ import com.mongodb.hibernate.internal.type.ObjectIdJavaType;
 import com.mongodb.hibernate.internal.type.ObjectIdJdbcType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import org.bson.BsonDocument;
 import org.bson.BsonString;
 import org.hibernate.JDBCException;
+import org.hibernate.QueryTimeoutException;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.TypeContributions;
@@ -75,6 +80,7 @@ import org.hibernate.mapping.UniqueKey;
 import org.hibernate.persister.entity.mutation.EntityMutationTarget;
 import org.hibernate.query.sqm.produce.function.FunctionParameterType;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.ast.spi.SqlAppender;
 import org.hibernate.sql.model.MutationOperation;
@@ -82,6 +88,7 @@ import org.hibernate.sql.model.ValuesAnalysis;
 import org.hibernate.sql.model.internal.OptionalTableUpdate;
 import org.hibernate.sql.model.jdbc.OptionalTableUpdateOperation;
 import org.hibernate.tool.schema.spi.Exporter;
+import org.hibernate.tool.schema.spi.SchemaManagementTool;
 import org.hibernate.type.SqlTypes;
 import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.descriptor.jdbc.TimestampUtcAsInstantJdbcType;
@@ -175,6 +182,16 @@ public sealed class MongoDialect extends Dialect permits TestMongoDialect {
         jdbcTypeRegistry.addDescriptor(SqlTypes.TIMESTAMP_UTC, TimestampUtcAsInstantJdbcType.INSTANCE);
     }
 
+    /**
+     * Hibernate ORM uses the returned tool unless {@value AvailableSettings#SCHEMA_MANAGEMENT_TOOL} is configured. Its
+     * schema export executes the commands as a single JDBC batch.
+     */
+    @Override
+    public SchemaManagementTool getFallbackSchemaManagementTool(
+            Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+        return new MongoSchemaManagementTool();
+    }
+
     @Override
     public @Nullable String toQuotedIdentifier(@Nullable String name) {
         return name;
@@ -450,10 +467,17 @@ public sealed class MongoDialect extends Dialect permits TestMongoDialect {
         throw new FeatureNotSupportedException("TODO-HIBERNATE-88 https://jira.mongodb.org/browse/HIBERNATE-88");
     }
 
-    /** @mongoCme The {@link SQLExceptionConversionDelegate} returned from this method must be thread-safe. */
+    /**
+     * Translates a {@link SQLTimeoutException} into a {@link QueryTimeoutException}, and any other {@link SQLException}
+     * into a {@link JDBCException}.
+     *
+     * @mongoCme The {@link SQLExceptionConversionDelegate} returned from this method must be thread-safe.
+     */
     @Override
     public SQLExceptionConversionDelegate buildSQLExceptionConversionDelegate() {
-        return (sqlException, exceptionMessage, mql) -> new JDBCException(exceptionMessage, sqlException, mql);
+        return (sqlException, exceptionMessage, mql) -> sqlException instanceof SQLTimeoutException
+                ? new QueryTimeoutException(exceptionMessage, sqlException, mql)
+                : new JDBCException(exceptionMessage, sqlException, mql);
     }
 
     @Override
@@ -16,27 +16,43 @@
 
 package com.mongodb.hibernate.internal.dialect;
 
+import com.mongodb.hibernate.annotations.MongoCollation;
 import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.hibernate.internal.MongoCollations;
 import com.mongodb.hibernate.internal.MongoConstants;
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 import org.bson.BsonArray;
 import org.bson.BsonBoolean;
 import org.bson.BsonDocument;
 import org.bson.BsonElement;
 import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonInvalidOperationException;
 import org.bson.BsonString;
 import org.bson.BsonValue;
+import org.bson.json.JsonParseException;
 import org.hibernate.AnnotationException;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.model.naming.Identifier;
 import org.hibernate.boot.model.relational.Exportable;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.mapping.BasicValue;
+import org.hibernate.mapping.Property;
 import org.hibernate.mapping.Table;
 import org.hibernate.tool.schema.spi.Exporter;
+import org.jspecify.annotations.Nullable;
 
 abstract class MongoIndexExporter<T extends Exportable> implements Exporter<T> {
 
+    private static final String COLLATION_OPTION = "collation";
+    private static final String WILDCARD_PROJECTION_OPTION = "wildcardProjection";
+    private static final String WILDCARD = "$**";
+
     private final boolean unique;
 
     MongoIndexExporter(boolean unique) {
@@ -44,20 +60,73 @@ abstract class MongoIndexExporter<T extends Exportable> implements Exporter<T> {
     }
 
     private static String createIndexesCommand(
-            String collectionName, BsonDocument keys, String indexName, boolean unique) {
+            String collectionName,
+            BsonDocument keys,
+            String indexName,
+            boolean unique,
+            @Nullable BsonDocument collation,
+            BsonDocument options) {
+        var index = new BsonDocument(List.of(
+                new BsonElement("key", keys),
+                new BsonElement("name", new BsonString(indexName)),
+                new BsonElement("unique", BsonBoolean.valueOf(unique))));
+        if (collation != null) {
+            index.put(COLLATION_OPTION, collation);
+        }
+        index.putAll(options);
         var command = new BsonDocument(List.of(
                 new BsonElement("createIndexes", new BsonString(collectionName)),
-                new BsonElement(
-                        "indexes",
-                        new BsonArray(List.of(new BsonDocument(List.of(
-                                new BsonElement("key", keys),
-                                new BsonElement("name", new BsonString(indexName)),
-                                new BsonElement("unique", BsonBoolean.valueOf(unique)))))))));
+                new BsonElement("indexes", new BsonArray(List.of(index)))));
         // This intentionally looks like a Mongo command, but it is parsed by AdminCommand and is not sent directly to
         // the server
         return command.toJson(MongoConstants.EXTENDED_JSON_WRITER_SETTINGS);
     }
 
+    /**
+     * Parses the {@code options} of an index, which, unlike the DDL fragment they are for relational databases, is a
+     * JSON document of the <a href="https://www.mongodb.com/docs/manual/reference/method/db.collection.createIndex/">
+     * index options</a> {@code partialFilterExpression}, {@code sparse}, {@code expireAfterSeconds}, {@code hidden},
+     * {@code collation} and {@code wildcardProjection}, for example,
+     * {@code @Index(columnList = "publishYear", options = "{sparse: true, hidden: true}")}.
+     *
+     * @return The options, with {@code expireAfterSeconds} as a 64-bit integer, empty if {@code options} is blank.
+     */
+    private static BsonDocument parseOptions(String indexName, String collectionName, String options) {
+        if (options.isBlank()) {
+            return new BsonDocument();
+        }
+        BsonDocument document;
+        try {
+            document = BsonDocument.parse(options);
+        } catch (JsonParseException | BsonInvalidOperationException e) {
+            throw new AnnotationException("Index %s on %s has options %s, which are not a JSON document"
+                    .formatted(indexName, collectionName, options));
+        }
+        var result = new BsonDocument();
+        for (var option : document.entrySet()) {
+            var name = option.getKey();
+            var value = option.getValue();
+            var valid =
+                    switch (name) {
+                        case "partialFilterExpression", COLLATION_OPTION, WILDCARD_PROJECTION_OPTION ->
+                            value.isDocument();
+                        case "sparse", "hidden" -> value.isBoolean();
+                        case "expireAfterSeconds" ->
+                            (value.isInt32() || value.isInt64()) && value.asNumber().longValue() >= 0;
+                        default ->
+                            throw new FeatureNotSupportedException(
+                                    "Index %s on %s has option %s, which is not supported"
+                                            .formatted(indexName, collectionName, name));
+                    };
+            if (!valid) {
+                throw new AnnotationException("Index %s on %s has option %s with invalid value %s"
+                        .formatted(indexName, collectionName, name, value));
+            }
+            result.put(name, value.isNumber() ? new BsonInt64(value.asNumber().longValue()) : value);
+        }
+        return result;
+    }
+
     private static BsonValue directionFromString(String name, String direction) {
         int directionValue;
         if (direction.isBlank() || direction.equals("asc")) {
@@ -82,7 +151,7 @@ abstract class MongoIndexExporter<T extends Exportable> implements Exporter<T> {
         var collectionName = context.format(table.getQualifiedTableName());
         var keys = new BsonDocument();
         indexEntriesForExportable(exportable).forEach(e -> {
-            if (table.getColumn(new Identifier(e.name(), false)) == null) {
+            if (!isWildcard(table, e.name()) && table.getColumn(new Identifier(e.name(), false)) == null) {
                 throw new AnnotationException(
                         "Table '%s' has no column named '%s'".formatted(table.getName(), e.name()));
             }
@@ -90,20 +159,81 @@ abstract class MongoIndexExporter<T extends Exportable> implements Exporter<T> {
             keys.put(e.name(), directionFromString(e.name(), e.direction()));
         });
         var indexName = indexNameForExportable(exportable);
-        if (!optionsForExportable(exportable).isBlank()) {
-            throw new FeatureNotSupportedException(
-                    "Index %s on %s has options, which is not supported".formatted(indexName, collectionName));
+        var options = parseOptions(indexName, collectionName, optionsForExportable(exportable));
+        if (options.containsKey(WILDCARD_PROJECTION_OPTION) && !keys.containsKey(WILDCARD)) {
+            throw new AnnotationException("Index %s on %s has option %s, which requires the key %s"
+                    .formatted(indexName, collectionName, WILDCARD_PROJECTION_OPTION, WILDCARD));
+        }
+
+        var collation = options.containsKey(COLLATION_OPTION) ? null : collationOf(table, keys.keySet(), metadata);
+        return new String[] {createIndexesCommand(collectionName, keys, indexName, unique, collation, options)};
+    }
+
+    /**
+     * Returns {@code true} if {@code name} is the key of a wildcard index, that is, {@code $**} for all the fields of
+     * the documents, or {@code column.$**} for all the fields of an embedded document.
+     */
+    private static boolean isWildcard(Table table, String name) {
+        if (name.equals(WILDCARD)) {
+            return true;
         }
+        var suffix = "." + WILDCARD;
+        return name.endsWith(suffix)
+                && table.getColumn(new Identifier(name.substring(0, name.length() - suffix.length()), false)) != null;
+    }
 
-        return new String[] {createIndexesCommand(collectionName, keys, indexName, unique)};
+    /**
+     * Returns the collation of the index of {@code columnNames}: the {@link MongoCollation} of the basic attributes of
+     * the columns, which must not differ, or else of the entity mapped to {@code table}, if any.
+     */
+    private static @Nullable BsonDocument collationOf(Table table, Set<String> columnNames, Metadata metadata) {
+        var entityCollations = new HashSet<BsonDocument>();
+        var attributeCollations = new HashSet<BsonDocument>();
+        for (var persistentClass : metadata.getEntityBindings()) {
+            if (persistentClass.getTable() != table) {
+                continue;
+            }
+            var mappedClass = persistentClass.getMappedClass();
+            var entityCollation = MongoCollations.of(mappedClass);
+            if (entityCollation != null) {
+                entityCollations.add(entityCollation);
+            }
+            var properties = new ArrayList<Property>(persistentClass.getPropertyClosure());
+            if (persistentClass.getIdentifierProperty() != null) {
+                properties.add(persistentClass.getIdentifierProperty());
+            }
+            for (var property : properties) {
+                if (property.getValue() instanceof BasicValue
+                        && property.getColumns().stream().anyMatch(column -> columnNames.contains(column.getName()))
+                        && property.getGetter(mappedClass).getMember() instanceof AnnotatedElement member) {
+                    var attributeCollation = MongoCollations.of(member);
+                    if (attributeCollation != null) {
+                        attributeCollations.add(attributeCollation);
+                    }
+                }
+            }
+        }
+        var collations = attributeCollations.isEmpty() ? entityCollations : attributeCollations;
+        if (collations.size() > 1) {
+            throw new AnnotationException("The columns %s of table '%s' have different collations %s"
+                    .formatted(columnNames, table.getName(), collations));
+        }
+        return collations.isEmpty() ? null : collations.iterator().next();
     }
 
     abstract String optionsForExportable(T exportable);
 
+    /**
+     * Returns the {@code dropIndexes} command of the index, which, like the one the index migration runs for an index
+     * that is no longer mapped, is a no-op if the index does not exist.
+     */
     @Override
     public final String[] getSqlDropStrings(T exportable, Metadata metadata, SqlStringGenerationContext context) {
-        throw new IllegalStateException(
-                "HIBERNATE-66: Dropping indices was deemed something that Hibernate never called");
+        var collectionName = context.format(tableForExportable(exportable).getQualifiedTableName());
+        var command = new BsonDocument(List.of(
+                new BsonElement("dropIndexes", new BsonString(collectionName)),
+                new BsonElement("index", new BsonString(indexNameForExportable(exportable)))));
+        return new String[] {command.toJson(MongoConstants.EXTENDED_JSON_WRITER_SETTINGS)};
     }
 
     record IndexEntry(String name, String direction) {}
@@ -16,30 +16,79 @@
 
 package com.mongodb.hibernate.internal.jdbc;
 
+import static com.mongodb.hibernate.internal.MongoAssertions.assertTrue;
+
 import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCommandException;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CreateIndexCommitQuorum;
+import com.mongodb.client.model.CreateIndexOptions;
 import com.mongodb.client.model.IndexModel;
 import com.mongodb.client.model.IndexOptions;
+import com.mongodb.hibernate.internal.MongoIndexes;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonBoolean;
 import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonString;
 import org.bson.BsonType;
+import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.json.JsonReader;
+import org.jspecify.annotations.Nullable;
 
 abstract sealed class AdminCommand
         permits AdminCommand.CreateIndexesCommand,
                 AdminCommand.CreateCollectionCommand,
-                AdminCommand.DropCollectionCommand {
+                AdminCommand.DropCollectionCommand,
+                AdminCommand.DropIndexCommand,
+                AdminCommand.HideIndexCommand {
 
     private static final Decoder<Index> INDEX_DECODER =
             MongoClientSettings.getDefaultCodecRegistry().get(Index.class);
+    private static final BsonDocumentCodec DOCUMENT_CODEC = new BsonDocumentCodec();
+    private static final int NAMESPACE_NOT_FOUND_ERROR_CODE = 26;
+    private static final int INDEX_NOT_FOUND_ERROR_CODE = 27;
 
-    public record Index(String name, BsonDocument key, boolean unique) {
+    public record Index(
+            String name,
+            BsonDocument key,
+            boolean unique,
+            @Nullable BsonDocument collation,
+            @Nullable BsonDocument partialFilterExpression,
+            @Nullable Boolean sparse,
+            @Nullable Long expireAfterSeconds,
+            @Nullable Boolean hidden,
+            @Nullable BsonDocument wildcardProjection) {
         IndexModel toIndexModel() {
-            return new IndexModel(key, new IndexOptions().name(name).unique(unique));
+            var options = new IndexOptions().name(name).unique(unique);
+            if (collation != null) {
+                options.collation(MongoStatement.toCollation(collation));
+            }
+            if (partialFilterExpression != null) {
+                options.partialFilterExpression(partialFilterExpression);
+            }
+            if (sparse != null) {
+                options.sparse(sparse);
+            }
+            if (expireAfterSeconds != null) {
+                options.expireAfter(expireAfterSeconds, TimeUnit.SECONDS);
+            }
+            if (hidden != null) {
+                options.hidden(hidden);
+            }
+            if (wildcardProjection != null) {
+                options.wildcardProjection(wildcardProjection);
+            }
+            return new IndexModel(key, options);
+        }
+
+        static Index of(BsonDocument index) {
+            return INDEX_DECODER.decode(new BsonDocumentReader(index), DecoderContext.builder().build());
         }
     }
 
@@ -55,17 +104,28 @@ abstract sealed class AdminCommand
                         case "createIndexes" -> {
                             var collectionName = reader.readString();
                             reader.readName("indexes");
-                            var indexes = new ArrayList<IndexModel>();
+                            var indexes = new ArrayList<BsonDocument>();
                             reader.readStartArray();
                             while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                                indexes.add(INDEX_DECODER
-                                        .decode(reader, decoderContext)
-                                        .toIndexModel());
+                                indexes.add(DOCUMENT_CODEC.decode(reader, decoderContext));
                             }
                             reader.readEndArray();
                             yield new CreateIndexesCommand(collectionName, indexes);
                         }
                         case "drop" -> new DropCollectionCommand(reader.readString());
+                        case "dropIndexes" -> {
+                            var collectionName = reader.readString();
+                            yield new DropIndexCommand(collectionName, reader.readString("index"));
+                        }
+                        case "collMod" -> {
+                            var collectionName = reader.readString();
+                            reader.readName("index");
+                            reader.readStartDocument();
+                            var indexName = reader.readString("name");
+                            var hidden = reader.readBoolean("hidden");
+                            reader.readEndDocument();
+                            yield new HideIndexCommand(collectionName, indexName, hidden);
+                        }
                         default ->
                             throw new SQLFeatureNotSupportedException(
                                     "Cannot decode command %s: unknown command".formatted(name));
@@ -75,6 +135,9 @@ abstract sealed class AdminCommand
         }
     }
 
+    /** Returns the name of the collection that this command creates, drops or changes the indexes of. */
+    abstract String getCollectionName();
+
     abstract void execute(MongoDatabase database);
 
     static final class CreateCollectionCommand extends AdminCommand {
@@ -85,6 +148,11 @@ abstract sealed class AdminCommand
             this.collectionName = collectionName;
         }
 
+        @Override
+        String getCollectionName() {
+            return collectionName;
+        }
+
         @Override
         void execute(MongoDatabase database) {
             database.createCollection(collectionName);
@@ -99,6 +167,11 @@ abstract sealed class AdminCommand
             this.collectionName = collectionName;
         }
 
+        @Override
+        String getCollectionName() {
+            return collectionName;
+        }
+
         @Override
         void execute(MongoDatabase database) {
             database.getCollection(collectionName).drop();
@@ -107,16 +180,115 @@ abstract sealed class AdminCommand
 
     static final class CreateIndexesCommand extends AdminCommand {
         private final String collectionName;
-        private final List<IndexModel> indexes;
+        /** The indexes, as specified in the command, which is how {@link MongoIndexes} compares them. */
+        private final List<BsonDocument> indexes;
 
-        CreateIndexesCommand(String collectionName, List<IndexModel> indexes) {
+        CreateIndexesCommand(String collectionName, List<BsonDocument> indexes) {
             this.collectionName = collectionName;
             this.indexes = indexes;
         }
 
+        @Override
+        String getCollectionName() {
+            return collectionName;
+        }
+
+        /** Returns the command that creates the indexes of both this command and {@code other}, in one round trip. */
+        CreateIndexesCommand merge(CreateIndexesCommand other) {
+            assertTrue(collectionName.equals(other.collectionName));
+            var mergedIndexes = new ArrayList<>(indexes);
+            mergedIndexes.addAll(other.indexes);
+            return new CreateIndexesCommand(collectionName, mergedIndexes);
+        }
+
+        @Override
+        void execute(MongoDatabase database) {
+            execute(database, null, false);
+        }
+
+        /**
+         * Creates those of the indexes that do not already exist with the same specification, so that exporting the
+         * schema again does not start index builds, nor wait for the {@code commitQuorum}.
+         *
+         * @param commitQuorum The {@code commitQuorum}, or {@code null} to use the default of the server.
+         * @param newCollection Whether the collection has just been created, and has no indexes to compare with.
+         */
+        void execute(MongoDatabase database, @Nullable CreateIndexCommitQuorum commitQuorum, boolean newCollection) {
+            var collection = database.getCollection(collectionName, BsonDocument.class);
+            var existingIndexes = newCollection
+                    ? List.<BsonDocument>of()
+                    : collection.listIndexes(BsonDocument.class).into(new ArrayList<>());
+            var indexModels = indexes.stream()
+                    .filter(index -> existingIndexes.stream()
+                            .noneMatch(existingIndex -> MongoIndexes.isSatisfiedBy(index, existingIndex)))
+                    .map(index -> Index.of(index).toIndexModel())
+                    .toList();
+            if (indexModels.isEmpty()) {
+                return;
+            }
+            var options = new CreateIndexOptions();
+            if (commitQuorum != null) {
+                options.commitQuorum(commitQuorum);
+            }
+            collection.createIndexes(indexModels, options);
+        }
+    }
+
+    /** Drops an index, unless it, or its collection, does not exist, so that dropping it again is a no-op. */
+    static final class DropIndexCommand extends AdminCommand {
+        private final String collectionName;
+        private final String indexName;
+
+        DropIndexCommand(String collectionName, String indexName) {
+            this.collectionName = collectionName;
+            this.indexName = indexName;
+        }
+
+        @Override
+        String getCollectionName() {
+            return collectionName;
+        }
+
+        @Override
+        void execute(MongoDatabase database) {
+            try {
+                database.getCollection(collectionName).dropIndex(indexName);
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() != NAMESPACE_NOT_FOUND_ERROR_CODE
+                        && e.getErrorCode() != INDEX_NOT_FOUND_ERROR_CODE) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Hides an index from the query planner, which still maintains it, or unhides it, so that the effect of dropping
+     * the index can be observed, and undone without rebuilding the index.
+     */
+    static final class HideIndexCommand extends AdminCommand {
+        private final String collectionName;
+        private final String indexName;
+        private final boolean hidden;
+
+        HideIndexCommand(String collectionName, String indexName, boolean hidden) {
+            this.collectionName = collectionName;
+            this.indexName = indexName;
+            this.hidden = hidden;
+        }
+
+        @Override
+        String getCollectionName() {
+            return collectionName;
+        }
+
         @Override
         void execute(MongoDatabase database) {
-            database.getCollection(collectionName).createIndexes(indexes);
+            database.runCommand(new BsonDocument("collMod", new BsonString(collectionName))
+                    .append(
+                            "index",
+                            new BsonDocument("name", new BsonString(indexName))
+                                    .append("hidden", BsonBoolean.valueOf(hidden))));
         }
     }
 }
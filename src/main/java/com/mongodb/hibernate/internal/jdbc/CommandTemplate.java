@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.jdbc;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertInstanceOf;
+import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
+import static com.mongodb.hibernate.internal.MongoAssertions.assertTrue;
+import static com.mongodb.hibernate.internal.VisibleForTesting.AccessModifier.PRIVATE;
+
+import com.mongodb.hibernate.internal.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+
+/**
+ * A parsed command whose parameter markers are the BSON {@code undefined} values, together with the positions of the
+ * markers in the depth-first order that defines the parameter indexes.
+ *
+ * <p>The command of a template is never mutated. {@linkplain #bind(BsonValue[]) Binding} parameter values creates a
+ * command that copies only the containers on the paths to the parameters, and shares all other values with the
+ * template, which is why bound commands must not be mutated either.
+ *
+ * @mongoCme Immutable.
+ */
+final class CommandTemplate {
+    private final BsonDocument command;
+    private final List<ParameterPosition> parameterPositions;
+
+    private CommandTemplate(BsonDocument command, List<ParameterPosition> parameterPositions) {
+        this.command = command;
+        this.parameterPositions = parameterPositions;
+    }
+
+    /** @param command A command that must not be mutated afterwards. */
+    static CommandTemplate of(BsonDocument command) {
+        var parameterPositions = new ArrayList<ParameterPosition>();
+        findParameters(command, new ArrayList<>(), parameterPositions);
+        return new CommandTemplate(command, List.copyOf(parameterPositions));
+    }
+
+    int getParameterCount() {
+        return parameterPositions.size();
+    }
+
+    /** @param parameterValues The values of all parameters, in the order of the parameter indexes. */
+    BsonDocument bind(BsonValue[] parameterValues) {
+        assertTrue(parameterValues.length == parameterPositions.size());
+        var result = shallowCopy(command);
+        for (var i = 0; i < parameterValues.length; i++) {
+            parameterPositions.get(i).bind(command, result, parameterValues[i]);
+        }
+        return result;
+    }
+
+    @VisibleForTesting(otherwise = PRIVATE)
+    List<ParameterPosition> getParameterPositions() {
+        return parameterPositions;
+    }
+
+    private static void findParameters(
+            BsonDocument document, List<Object> path, List<ParameterPosition> parameterPositions) {
+        for (var entry : document.entrySet()) {
+            path.add(entry.getKey());
+            findParameters(entry.getValue(), path, parameterPositions);
+            path.remove(path.size() - 1);
+        }
+    }
+
+    private static void findParameters(
+            BsonArray array, List<Object> path, List<ParameterPosition> parameterPositions) {
+        for (var i = 0; i < array.size(); i++) {
+            path.add(i);
+            findParameters(array.get(i), path, parameterPositions);
+            path.remove(path.size() - 1);
+        }
+    }
+
+    private static void findParameters(
+            BsonValue value, List<Object> path, List<ParameterPosition> parameterPositions) {
+        if (isParameterMarker(value)) {
+            parameterPositions.add(ParameterPosition.of(path));
+        } else if (value instanceof BsonDocument document) {
+            findParameters(document, path, parameterPositions);
+        } else if (value instanceof BsonArray array) {
+            findParameters(array, path, parameterPositions);
+        }
+    }
+
+    private static boolean isParameterMarker(BsonValue value) {
+        return value.getBsonType() == BsonType.UNDEFINED;
+    }
+
+    private static BsonDocument shallowCopy(BsonDocument document) {
+        var copy = new BsonDocument();
+        copy.putAll(document);
+        return copy;
+    }
+
+    private static BsonValue shallowCopy(BsonValue container) {
+        if (container instanceof BsonDocument document) {
+            return shallowCopy(document);
+        }
+        var copy = new BsonArray();
+        copy.addAll(assertInstanceOf(container, BsonArray.class).getValues());
+        return copy;
+    }
+
+    /**
+     * The path from the root of a command to a parameter marker. Each step is either a key of a {@link BsonDocument},
+     * or, if {@link #indexes} has a non-negative value at that step, an index of a {@link BsonArray}.
+     *
+     * @mongoCme Immutable.
+     */
+    static final class ParameterPosition {
+        private static final int NOT_AN_INDEX = -1;
+
+        private final String[] keys;
+        private final int[] indexes;
+
+        private ParameterPosition(String[] keys, int[] indexes) {
+            this.keys = keys;
+            this.indexes = indexes;
+        }
+
+        private static ParameterPosition of(List<Object> path) {
+            var keys = new String[path.size()];
+            var indexes = new int[path.size()];
+            for (var i = 0; i < path.size(); i++) {
+                if (path.get(i) instanceof Integer index) {
+                    keys[i] = "";
+                    indexes[i] = index;
+                } else {
+                    keys[i] = assertInstanceOf(path.get(i), String.class);
+                    indexes[i] = NOT_AN_INDEX;
+                }
+            }
+            return new ParameterPosition(keys, indexes);
+        }
+
+        /**
+         * Replaces the parameter marker at this position in {@code result} with {@code value}, first replacing each
+         * container on the path that {@code result} still shares with {@code template} with a shallow copy.
+         */
+        @SuppressWarnings("ReferenceEquality")
+        private void bind(BsonDocument template, BsonDocument result, BsonValue value) {
+            BsonValue templateContainer = template;
+            BsonValue resultContainer = result;
+            var lastStep = keys.length - 1;
+            for (var i = 0; i < lastStep; i++) {
+                var templateChild = get(templateContainer, i);
+                var resultChild = get(resultContainer, i);
+                if (resultChild == templateChild) {
+                    resultChild = shallowCopy(templateChild);
+                    set(resultContainer, i, resultChild);
+                }
+                templateContainer = templateChild;
+                resultContainer = resultChild;
+            }
+            set(resultContainer, lastStep, value);
+        }
+
+        private BsonValue get(BsonValue container, int step) {
+            if (indexes[step] == NOT_AN_INDEX) {
+                return assertNotNull(assertInstanceOf(container, BsonDocument.class).get(keys[step]));
+            } else {
+                return assertInstanceOf(container, BsonArray.class).get(indexes[step]);
+            }
+        }
+
+        private void set(BsonValue container, int step, BsonValue value) {
+            if (indexes[step] == NOT_AN_INDEX) {
+                assertInstanceOf(container, BsonDocument.class).put(keys[step], value);
+            } else {
+                assertInstanceOf(container, BsonArray.class).set(indexes[step], value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            var result = new StringBuilder();
+            for (var i = 0; i < keys.length; i++) {
+                if (i > 0) {
+                    result.append('.');
+                }
+                result.append(indexes[i] == NOT_AN_INDEX ? keys[i] : Integer.toString(indexes[i]));
+            }
+            return result.toString();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.jdbc;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A bounded cache of {@linkplain CommandTemplate command templates} keyed by the Extended JSON statement string
+ * Hibernate ORM passes to {@link MongoConnection#prepareStatement(String)}, shared by all connections of a
+ * {@link MongoConnectionProvider}. A cached statement is prepared by copying the parsed command, which skips parsing
+ * the Extended JSON and finding the parameter markers.
+ *
+ * <p>Templates are cached by {@link MongoConnection} after parsing a statement string that is not cached. When the
+ * cache is full, the least recently used template is evicted.
+ *
+ * @hidden
+ * @mongoCme Thread-safe.
+ */
+@SuppressWarnings("MissingSummary")
+public final class MongoCommandTemplates {
+    private final int maxSize;
+    private final ReentrantLock lock;
+    /** An access-ordered map guarded by {@link #lock}, whose eldest entry is the least recently used template. */
+    private final LinkedHashMap<String, CommandTemplate> templates;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /** @param maxSize The maximum number of cached templates; {@code 0} disables caching. */
+    public MongoCommandTemplates(int maxSize) {
+        assertTrue(maxSize >= 0);
+        this.maxSize = maxSize;
+        lock = new ReentrantLock();
+        templates = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CommandTemplate> eldest) {
+                if (size() > maxSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the template for {@code mql}, which becomes the most recently used one, or {@code null} if there is none,
+     * in which case a miss is counted.
+     */
+    @Nullable CommandTemplate get(String mql) {
+        lock.lock();
+        try {
+            var template = templates.get(mql);
+            if (template == null) {
+                missCount++;
+            } else {
+                hitCount++;
+            }
+            return template;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Caches {@code template} for {@code mql}, unless there already is one, evicting the least recently used one. */
+    void put(String mql, CommandTemplate template) {
+        if (maxSize == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            templates.putIfAbsent(mql, template);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Returns a snapshot of the cache statistics, which are meant for sizing the cache. */
+    public Statistics getStatistics() {
+        lock.lock();
+        try {
+            return new Statistics(templates.size(), hitCount, missCount, evictionCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The statistics of a {@link MongoCommandTemplates}.
+     *
+     * @param size The number of cached templates.
+     * @param hitCount The number of prepared statements whose template was cached.
+     * @param missCount The number of prepared statements whose template was not cached.
+     * @param evictionCount The number of templates evicted because the cache was full.
+     * @hidden
+     */
+    public record Statistics(int size, long hitCount, long missCount, long evictionCount) {}
+}
@@ -18,9 +18,13 @@ package com.mongodb.hibernate.internal.jdbc;
 
 import static java.lang.String.format;
 
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CreateIndexCommitQuorum;
 import com.mongodb.hibernate.internal.cfg.MongoConfiguration;
 import java.sql.Array;
 import java.sql.DatabaseMetaData;
@@ -47,14 +51,45 @@ final class MongoConnection implements ConnectionAdapter {
     private final MongoClient mongoClient;
     private final ClientSession clientSession;
     private final MongoDatabase mongoDatabase;
+    private final MongoCommandTemplates commandTemplates;
+    private final MongoStatement.@Nullable InsertBuffer insertBuffer;
+    private final MongoStatement.@Nullable ClientBulkWriteBuffer clientBulkWriteBuffer;
+    private final boolean exactBatchUpdateCounts;
+    private final @Nullable ReadPreference readOnlyReadPreference;
+    private final @Nullable ReadConcern readOnlyReadConcern;
+    private final int cursorPrefetchSize;
+    private final int schemaExportParallelism;
+    private final @Nullable CreateIndexCommitQuorum createIndexesCommitQuorum;
     private boolean closed;
 
     private boolean autoCommit;
+    private boolean readOnly;
 
     MongoConnection(MongoConfiguration config, MongoClient mongoClient, ClientSession clientSession) {
+        this(config, mongoClient, clientSession, new MongoCommandTemplates(config.commandTemplateCacheMaxSize()));
+    }
+
+    MongoConnection(
+            MongoConfiguration config,
+            MongoClient mongoClient,
+            ClientSession clientSession,
+            MongoCommandTemplates commandTemplates) {
         this.mongoClient = mongoClient;
         this.clientSession = clientSession;
+        this.commandTemplates = commandTemplates;
         mongoDatabase = mongoClient.getDatabase(config.databaseName());
+        clientBulkWriteBuffer = config.clientBulkWrites()
+                ? new MongoStatement.ClientBulkWriteBuffer(mongoClient, mongoDatabase, clientSession)
+                : null;
+        insertBuffer = config.coalesceInserts() && clientBulkWriteBuffer == null
+                ? new MongoStatement.InsertBuffer(mongoDatabase, clientSession)
+                : null;
+        exactBatchUpdateCounts = config.exactBatchUpdateCounts();
+        readOnlyReadPreference = config.readOnlyReadPreference();
+        readOnlyReadConcern = config.readOnlyReadConcern();
+        cursorPrefetchSize = config.cursorPrefetchSize();
+        schemaExportParallelism = config.schemaExportParallelism();
+        createIndexesCommitQuorum = config.createIndexesCommitQuorum();
         autoCommit = true;
     }
 
@@ -64,6 +99,7 @@ final class MongoConnection implements ConnectionAdapter {
         if (autoCommit == this.autoCommit) {
             return;
         }
+        flushWriteBuffers();
         doCommitIfNeeded();
         this.autoCommit = autoCommit;
     }
@@ -74,12 +110,31 @@ final class MongoConnection implements ConnectionAdapter {
         return autoCommit;
     }
 
+    /**
+     * Makes all queries use the read preference and the read concern of read-only queries, see
+     * {@value com.mongodb.hibernate.internal.MongoConstants#READ_ONLY_READ_PREFERENCE_PROPERTY_NAME} and
+     * {@value com.mongodb.hibernate.internal.MongoConstants#READ_ONLY_READ_CONCERN_PROPERTY_NAME}, unless a query
+     * specifies its own.
+     */
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        checkClosed();
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        checkClosed();
+        return readOnly;
+    }
+
     @Override
     public void commit() throws SQLException {
         checkClosed();
         if (autoCommit) {
             throw new SQLException("AutoCommit state should be false when committing transaction");
         }
+        flushWriteBuffers();
         doCommitIfNeeded();
     }
 
@@ -100,6 +155,12 @@ final class MongoConnection implements ConnectionAdapter {
         if (autoCommit) {
             throw new SQLException("AutoCommit state should be false when committing transaction");
         }
+        if (insertBuffer != null) {
+            insertBuffer.discard();
+        }
+        if (clientBulkWriteBuffer != null) {
+            clientBulkWriteBuffer.discard();
+        }
         if (!clientSession.hasActiveTransaction()) {
             return;
         }
@@ -122,6 +183,101 @@ final class MongoConnection implements ConnectionAdapter {
         }
     }
 
+    /**
+     * Returns the buffer of inserts to coalesce, or {@code null} if inserts are not coalesced. Inserts are only
+     * coalesced while auto-commit is disabled, so that the failure of an insert in auto-commit mode is reported by the
+     * {@code executeBatch} of its JDBC batch, rather than by an unrelated later statement or by {@link #close()}.
+     */
+    MongoStatement.@Nullable InsertBuffer getInsertBuffer() {
+        return autoCommit ? null : insertBuffer;
+    }
+
+    /**
+     * Returns {@code true} if {@code executeBatch} must return the actual update counts, see
+     * {@value com.mongodb.hibernate.internal.MongoConstants#EXACT_BATCH_UPDATE_COUNTS_PROPERTY_NAME}.
+     */
+    boolean isExactBatchUpdateCounts() {
+        return exactBatchUpdateCounts;
+    }
+
+    MongoClient getMongoClient() {
+        return mongoClient;
+    }
+
+    /** Returns the read preference of queries that do not specify one, or {@code null} for the default. */
+    @Nullable ReadPreference getDefaultReadPreference() {
+        return readOnly ? readOnlyReadPreference : null;
+    }
+
+    /** Returns the read concern of queries that do not specify one, or {@code null} for the default. */
+    @Nullable ReadConcern getDefaultReadConcern() {
+        return readOnly ? readOnlyReadConcern : null;
+    }
+
+    /**
+     * Starts a session for a cursor that is iterated concurrently with the other uses of the session of this
+     * connection. The started session is causally consistent with the session of this connection, so that the cursor
+     * observes the writes made via this connection.
+     */
+    ClientSession startCursorSession() {
+        var cursorSession = mongoClient.startSession(ClientSessionOptions.builder().causallyConsistent(true).build());
+        var clusterTime = clientSession.getClusterTime();
+        if (clusterTime != null) {
+            cursorSession.advanceClusterTime(clusterTime);
+        }
+        var operationTime = clientSession.getOperationTime();
+        if (operationTime != null) {
+            cursorSession.advanceOperationTime(operationTime);
+        }
+        return cursorSession;
+    }
+
+    /**
+     * Returns the maximum number of documents fetched ahead of the result set of a query, see
+     * {@value com.mongodb.hibernate.internal.MongoConstants#CURSOR_PREFETCH_SIZE_PROPERTY_NAME}.
+     */
+    int getCursorPrefetchSize() {
+        return cursorPrefetchSize;
+    }
+
+    /**
+     * Returns the maximum number of collections whose batched schema export commands are executed in parallel, see
+     * {@value com.mongodb.hibernate.internal.MongoConstants#SCHEMA_EXPORT_PARALLELISM_PROPERTY_NAME}.
+     */
+    int getSchemaExportParallelism() {
+        return schemaExportParallelism;
+    }
+
+    /**
+     * Returns the {@code commitQuorum} of the {@code createIndexes} commands of the schema export, or {@code null} to
+     * use the default of the server, see
+     * {@value com.mongodb.hibernate.internal.MongoConstants#CREATE_INDEXES_COMMIT_QUORUM_PROPERTY_NAME}.
+     */
+    @Nullable CreateIndexCommitQuorum getCreateIndexesCommitQuorum() {
+        return createIndexesCommitQuorum;
+    }
+
+    /**
+     * Returns the buffer of JDBC batches to execute together, or {@code null} if JDBC batches are not buffered. As
+     * with {@link #getInsertBuffer()}, JDBC batches are only buffered while auto-commit is disabled.
+     */
+    MongoStatement.@Nullable ClientBulkWriteBuffer getClientBulkWriteBuffer() {
+        return autoCommit ? null : clientBulkWriteBuffer;
+    }
+
+    /**
+     * Executes the {@linkplain #getInsertBuffer() buffered inserts} and the
+     * {@linkplain #getClientBulkWriteBuffer() buffered JDBC batches}, if any.
+     */
+    void flushWriteBuffers() throws SQLException {
+        if (insertBuffer != null) {
+            insertBuffer.flush();
+        }
+        if (clientBulkWriteBuffer != null) {
+            clientBulkWriteBuffer.flush();
+        }
+    }
+
     @Override
     public boolean isClosed() {
         return closed;
@@ -194,7 +350,12 @@ final class MongoConnection implements ConnectionAdapter {
             throw new SQLFeatureNotSupportedException(
                     "Unsupported result set concurrency (only CONCUR_READ_ONLY is supported): " + resultSetConcurrency);
         }
-        return new MongoPreparedStatement(mongoDatabase, clientSession, this, translateParameterMarkers(mql));
+        var commandTemplate = commandTemplates.get(mql);
+        if (commandTemplate == null) {
+            commandTemplate = CommandTemplate.of(MongoStatement.parse(translateParameterMarkers(mql)));
+            commandTemplates.put(mql, commandTemplate);
+        }
+        return new MongoPreparedStatement(mongoDatabase, clientSession, this, commandTemplate);
     }
 
     @Override
@@ -72,8 +72,8 @@ public final class MongoConnectionProvider implements ConnectionProvider, Stoppa
         try {
             var client = assertNotNull(mongoClient);
             var clientSession = client.startSession();
-            var config = assertNotNull(standardServiceRegistryScopedState).getConfiguration();
-            return new MongoConnection(config, client, clientSession);
+            var state = assertNotNull(standardServiceRegistryScopedState);
+            return new MongoConnection(state.getConfiguration(), client, clientSession, state.getCommandTemplates());
         } catch (HibernateException e) {
             throw e;
         } catch (RuntimeException e) {
@@ -92,14 +92,18 @@ public final class MongoConnectionProvider implements ConnectionProvider, Stoppa
         return false;
     }
 
+    /** Only {@link MongoClient} is supported, to let other components share the client of the connections. */
     @Override
     public boolean isUnwrappableAs(Class<?> unwrapType) {
-        return false;
+        return unwrapType.equals(MongoClient.class);
     }
 
     @Override
     public <T> T unwrap(Class<T> unwrapType) {
-        throw new UnknownUnwrapTypeException(unwrapType);
+        if (!isUnwrappableAs(unwrapType)) {
+            throw new UnknownUnwrapTypeException(unwrapType);
+        }
+        return unwrapType.cast(assertNotNull(mongoClient));
     }
 
     @Override
@@ -17,7 +17,6 @@
 package com.mongodb.hibernate.internal.jdbc;
 
 import static com.mongodb.hibernate.internal.MongoAssertions.assertInstanceOf;
-import static com.mongodb.hibernate.internal.MongoAssertions.fail;
 import static com.mongodb.hibernate.internal.type.ValueConversions.toBsonValue;
 import static java.lang.String.format;
 
@@ -38,27 +37,33 @@ import java.sql.Types;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Consumer;
-import org.bson.BsonArray;
 import org.bson.BsonDocument;
-import org.bson.BsonType;
 import org.bson.BsonValue;
 import org.bson.types.ObjectId;
 
 final class MongoPreparedStatement extends MongoStatement implements PreparedStatementAdapter {
 
-    private final BsonDocument command;
-    private final List<BsonDocument> commandBatch;
-    private final List<ParameterValueSetter> parameterValueSetters;
+    private final CommandTemplate commandTemplate;
+    /** The values of the parameters, {@code null} for those that are not set. */
+    private final BsonValue[] parameterValues;
+    /** The {@link #parameterValues} of each {@linkplain #addBatch() added} command. */
+    private final List<BsonValue[]> parameterValuesBatch;
 
     MongoPreparedStatement(
             MongoDatabase mongoDatabase, ClientSession clientSession, MongoConnection mongoConnection, String mql)
             throws SQLSyntaxErrorException {
+        this(mongoDatabase, clientSession, mongoConnection, CommandTemplate.of(MongoStatement.parse(mql)));
+    }
+
+    MongoPreparedStatement(
+            MongoDatabase mongoDatabase,
+            ClientSession clientSession,
+            MongoConnection mongoConnection,
+            CommandTemplate commandTemplate) {
         super(mongoDatabase, clientSession, mongoConnection);
-        this.command = MongoStatement.parse(mql);
-        this.commandBatch = new ArrayList<>();
-        this.parameterValueSetters = new ArrayList<>();
-        parseParameters(command, parameterValueSetters);
+        this.commandTemplate = commandTemplate;
+        this.parameterValues = new BsonValue[commandTemplate.getParameterCount()];
+        this.parameterValuesBatch = new ArrayList<>();
     }
 
     @Override
@@ -66,6 +71,7 @@ final class MongoPreparedStatement extends MongoStatement implements PreparedSta
         checkClosed();
         closeLastOpenResultSet();
         checkAllParametersSet();
+        var command = commandTemplate.bind(parameterValues);
         checkSupportedQueryCommand(command);
         return executeQuery(command);
     }
@@ -75,13 +81,14 @@ final class MongoPreparedStatement extends MongoStatement implements PreparedSta
         checkClosed();
         closeLastOpenResultSet();
         checkAllParametersSet();
+        var command = commandTemplate.bind(parameterValues);
         checkSupportedUpdateCommand(command);
         return executeUpdate(command);
     }
 
     private void checkAllParametersSet() throws SQLException {
-        for (var i = 0; i < parameterValueSetters.size(); i++) {
-            if (!parameterValueSetters.get(i).isUsed()) {
+        for (var i = 0; i < parameterValues.length; i++) {
+            if (parameterValues[i] == null) {
                 throw new SQLException(format("Parameter with index [%d] is not set", i + 1));
             }
         }
@@ -181,13 +188,13 @@ final class MongoPreparedStatement extends MongoStatement implements PreparedSta
     public void addBatch() throws SQLException {
         checkClosed();
         checkAllParametersSet();
-        commandBatch.add(parameterValueSetters.isEmpty() ? command : command.clone());
+        parameterValuesBatch.add(parameterValues.clone());
     }
 
     @Override
     public void clearBatch() throws SQLException {
         checkClosed();
-        commandBatch.clear();
+        parameterValuesBatch.clear();
     }
 
     @Override
@@ -195,13 +202,17 @@ final class MongoPreparedStatement extends MongoStatement implements PreparedSta
         checkClosed();
         try {
             closeLastOpenResultSet();
-            if (commandBatch.isEmpty()) {
+            if (parameterValuesBatch.isEmpty()) {
                 return EMPTY_UPDATE_COUNTS;
             }
+            var commandBatch = new ArrayList<BsonDocument>(parameterValuesBatch.size());
+            for (var batchParameterValues : parameterValuesBatch) {
+                commandBatch.add(commandTemplate.bind(batchParameterValues));
+            }
             checkSupportedBatchCommand(commandBatch.get(0));
             return executeBatch(commandBatch);
         } finally {
-            commandBatch.clear();
+            parameterValuesBatch.clear();
         }
     }
 
@@ -230,18 +241,6 @@ final class MongoPreparedStatement extends MongoStatement implements PreparedSta
         setParameter(parameterIndex, toBsonValue(x));
     }
 
-    @Override
-    public void setQueryTimeout(int seconds) throws SQLException {
-        checkClosed();
-        throw new SQLFeatureNotSupportedException("TODO-HIBERNATE-55 https://jira.mongodb.org/browse/HIBERNATE-55");
-    }
-
-    @Override
-    public void setFetchSize(int rows) throws SQLException {
-        checkClosed();
-        throw new SQLFeatureNotSupportedException("TODO-HIBERNATE-54 https://jira.mongodb.org/browse/HIBERNATE-54");
-    }
-
     @Override
     public ResultSet executeQuery(String mql) throws SQLException {
         throw new SQLException(format("Must not be called on %s", PreparedStatement.class.getSimpleName()));
@@ -263,74 +262,17 @@ final class MongoPreparedStatement extends MongoStatement implements PreparedSta
     }
 
     private void setParameter(int parameterIndex, BsonValue parameterValue) {
-        var parameterValueSetter = parameterValueSetters.get(parameterIndex - 1);
-        parameterValueSetter.accept(parameterValue);
-    }
-
-    private static void parseParameters(BsonDocument command, List<ParameterValueSetter> parameterValueSetters) {
-        for (var entry : command.entrySet()) {
-            if (isParameterMarker(entry.getValue())) {
-                parameterValueSetters.add(new ParameterValueSetter(entry::setValue));
-            } else if (entry.getValue().getBsonType().isContainer()) {
-                parseParameters(entry.getValue(), parameterValueSetters);
-            }
-        }
-    }
-
-    private static void parseParameters(BsonArray array, List<ParameterValueSetter> parameterValueSetters) {
-        for (var i = 0; i < array.size(); i++) {
-            var value = array.get(i);
-            if (isParameterMarker(value)) {
-                var idx = i;
-                parameterValueSetters.add(new ParameterValueSetter(v -> array.set(idx, v)));
-            } else if (value.getBsonType().isContainer()) {
-                parseParameters(value, parameterValueSetters);
-            }
-        }
-    }
-
-    private static void parseParameters(BsonValue value, List<ParameterValueSetter> parameterValueSetters) {
-        if (value instanceof BsonDocument document) {
-            parseParameters(document, parameterValueSetters);
-        } else if (value instanceof BsonArray array) {
-            parseParameters(array, parameterValueSetters);
-        } else {
-            fail("Only BSON container type (BsonDocument or BsonArray) is accepted; provided type: "
-                    + value.getBsonType());
-        }
-    }
-
-    private static boolean isParameterMarker(BsonValue value) {
-        return value.getBsonType() == BsonType.UNDEFINED;
+        parameterValues[parameterIndex - 1] = parameterValue;
     }
 
     private void checkParameterIndex(int parameterIndex) throws SQLException {
-        if (parameterValueSetters.isEmpty()) {
+        if (parameterValues.length == 0) {
             throw new SQLException("No parameter exists");
         }
-        if (parameterIndex < 1 || parameterIndex > parameterValueSetters.size()) {
+        if (parameterIndex < 1 || parameterIndex > parameterValues.length) {
             throw new SQLException(format(
                     "Invalid parameter index [%d]; cannot be under 1 or over the current number of parameters [%d]",
-                    parameterIndex, parameterValueSetters.size()));
-        }
-    }
-
-    private static final class ParameterValueSetter implements Consumer<BsonValue> {
-        private final Consumer<BsonValue> setter;
-        private boolean used;
-
-        ParameterValueSetter(Consumer<BsonValue> setter) {
-            this.setter = setter;
-        }
-
-        @Override
-        public void accept(BsonValue bsonValue) {
-            used = true;
-            setter.accept(bsonValue);
-        }
-
-        boolean isUsed() {
-            return used;
+                    parameterIndex, parameterValues.length));
         }
     }
 }
@@ -35,6 +35,7 @@ package com.mongodb.hibernate.internal.jdbc;
 import static com.mongodb.hibernate.internal.MongoAssertions.assertFalse;
 import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import com.mongodb.client.MongoCursor;
 import com.mongodb.hibernate.internal.type.ValueConversions;
@@ -45,42 +46,121 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import org.bson.BsonBinaryReader;
 import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonType;
 import org.bson.BsonValue;
+import org.bson.ByteBuf;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.io.ByteBufferBsonInput;
 import org.bson.types.ObjectId;
 import org.jspecify.annotations.Nullable;
 
+/**
+ * A {@link java.sql.ResultSet} over {@link RawBsonDocument}s, which decodes the values of columns lazily.
+ *
+ * <p>{@link #next()} scans the elements of the current document once to find the offsets of the values of the columns
+ * in its buffer. The getters of {@code boolean}, {@code int}, {@code long}, {@code double} and {@link String} read the
+ * values of the corresponding BSON types straight from the buffer, other values are decoded into {@link BsonValue}s.
+ */
 final class MongoResultSet implements ResultSetAdapter {
 
-    private final MongoCursor<BsonDocument> mongoCursor;
+    private static final BsonValueCodec BSON_VALUE_CODEC = new BsonValueCodec();
+    private static final DecoderContext DEFAULT_CONTEXT = DecoderContext.builder().build();
+
+    private final MongoCursor<RawBsonDocument> mongoCursor;
 
     private final List<String> fieldNames;
 
-    private @Nullable BsonDocument currentDocument;
+    /** Maps a field name to the 0-based index of its column. */
+    private final Map<String, Integer> columnIndexes;
+
+    /**
+     * The offsets in {@link #currentBuffer} of the elements of the columns, or {@code -1} for the columns whose fields
+     * are absent in {@link #currentDocument}.
+     */
+    private final int[] elementOffsets;
+
+    /**
+     * The offsets in {@link #currentBuffer} of the values of the columns, valid only where {@link #elementOffsets} are.
+     */
+    private final int[] valueOffsets;
+
+    /** The BSON types of the values of the columns, valid only where {@link #elementOffsets} are. */
+    private final BsonType[] valueTypes;
+
+    private @Nullable RawBsonDocument currentDocument;
+
+    private @Nullable ByteBuf currentBuffer;
 
     private boolean lastReadColumnValueWasNull;
 
     private boolean closed;
 
-    MongoResultSet(MongoCursor<BsonDocument> mongoCursor, List<String> fieldNames) {
+    MongoResultSet(MongoCursor<RawBsonDocument> mongoCursor, List<String> fieldNames) {
         assertFalse(fieldNames.isEmpty());
         this.mongoCursor = mongoCursor;
         this.fieldNames = fieldNames;
+        columnIndexes = new HashMap<>();
+        for (int i = 0; i < fieldNames.size(); i++) {
+            columnIndexes.put(fieldNames.get(i), i);
+        }
+        elementOffsets = new int[fieldNames.size()];
+        valueOffsets = new int[fieldNames.size()];
+        valueTypes = new BsonType[fieldNames.size()];
     }
 
     @Override
     public boolean next() throws SQLException {
         checkClosed();
         if (mongoCursor.hasNext()) {
-            currentDocument = mongoCursor.next();
+            var document = mongoCursor.next();
+            currentDocument = null;
+            currentBuffer = null;
+            try {
+                indexValues(document);
+            } catch (RuntimeException e) {
+                throw new SQLException("Failed to read the next document", e);
+            }
+            currentDocument = document;
+            currentBuffer = document.getByteBuffer();
             return true;
         } else {
             return false;
         }
     }
 
+    /**
+     * Fills {@link #elementOffsets}, {@link #valueOffsets} and {@link #valueTypes} in a single scan of the elements of
+     * {@code document}.
+     */
+    private void indexValues(RawBsonDocument document) {
+        Arrays.fill(elementOffsets, -1);
+        try (var reader = new BsonBinaryReader(new ByteBufferBsonInput(document.getByteBuffer()))) {
+            var bsonInput = reader.getBsonInput();
+            reader.readStartDocument();
+            var elementOffset = bsonInput.getPosition();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                var columnIndex = columnIndexes.get(reader.readName());
+                if (columnIndex != null) {
+                    elementOffsets[columnIndex] = elementOffset;
+                    valueOffsets[columnIndex] = bsonInput.getPosition();
+                    valueTypes[columnIndex] = reader.getCurrentBsonType();
+                }
+                reader.skipValue();
+                elementOffset = bsonInput.getPosition();
+            }
+        }
+    }
+
     @Override
     public void close() throws SQLException {
         if (!closed) {
@@ -109,6 +189,10 @@ final class MongoResultSet implements ResultSetAdapter {
     public @Nullable String getString(int columnIndex) throws SQLException {
         checkClosed();
         checkColumnIndex(columnIndex);
+        if (isValueOfType(columnIndex, BsonType.STRING)) {
+            lastReadColumnValueWasNull = false;
+            return readString(getValueOffset(columnIndex));
+        }
         return getValue(columnIndex, ValueConversions::toStringDomainValue);
     }
 
@@ -116,6 +200,10 @@ final class MongoResultSet implements ResultSetAdapter {
     public boolean getBoolean(int columnIndex) throws SQLException {
         checkClosed();
         checkColumnIndex(columnIndex);
+        if (isValueOfType(columnIndex, BsonType.BOOLEAN)) {
+            lastReadColumnValueWasNull = false;
+            return assertNotNull(currentBuffer).get(getValueOffset(columnIndex)) != 0;
+        }
         return getValue(columnIndex, ValueConversions::toBooleanDomainValue, false);
     }
 
@@ -123,6 +211,10 @@ final class MongoResultSet implements ResultSetAdapter {
     public int getInt(int columnIndex) throws SQLException {
         checkClosed();
         checkColumnIndex(columnIndex);
+        if (isValueOfType(columnIndex, BsonType.INT32)) {
+            lastReadColumnValueWasNull = false;
+            return assertNotNull(currentBuffer).getInt(getValueOffset(columnIndex));
+        }
         return getValue(columnIndex, ValueConversions::toIntDomainValue, 0);
     }
 
@@ -130,6 +222,10 @@ final class MongoResultSet implements ResultSetAdapter {
     public long getLong(int columnIndex) throws SQLException {
         checkClosed();
         checkColumnIndex(columnIndex);
+        if (isValueOfType(columnIndex, BsonType.INT64)) {
+            lastReadColumnValueWasNull = false;
+            return assertNotNull(currentBuffer).getLong(getValueOffset(columnIndex));
+        }
         return getValue(columnIndex, ValueConversions::toLongDomainValue, 0L);
     }
 
@@ -137,6 +233,10 @@ final class MongoResultSet implements ResultSetAdapter {
     public double getDouble(int columnIndex) throws SQLException {
         checkClosed();
         checkColumnIndex(columnIndex);
+        if (isValueOfType(columnIndex, BsonType.DOUBLE)) {
+            lastReadColumnValueWasNull = false;
+            return assertNotNull(currentBuffer).getDouble(getValueOffset(columnIndex));
+        }
         return getValue(columnIndex, ValueConversions::toDoubleDomainValue, 0d);
     }
 
@@ -195,17 +295,11 @@ final class MongoResultSet implements ResultSetAdapter {
     @Override
     public int findColumn(String columnLabel) throws SQLException {
         checkClosed();
-        // Hibernate ORM calls this method once per `columnLabel` for a given instance of `MongoResultSet`,
-        // which is why not having an index for `fieldNames` seems fine,
-        // assuming that the number of columns is not too large.
-        // If we ever introduce an index, it should be built lazily, because whether the `findColumn` method
-        // is going to be called or not is not known in advance.
-        for (int i = 0; i < fieldNames.size(); i++) {
-            if (fieldNames.get(i).equals(columnLabel)) {
-                return i + 1;
-            }
+        var columnIndex = columnIndexes.get(columnLabel);
+        if (columnIndex == null) {
+            throw new SQLException(format("Unknown column label [%s]", columnLabel));
         }
-        throw new SQLException(format("Unknown column label [%s]", columnLabel));
+        return columnIndex + 1;
     }
 
     @Override
@@ -235,8 +329,7 @@ final class MongoResultSet implements ResultSetAdapter {
      */
     private <T> @Nullable T getValue(int columnIndex, SqlFunction<BsonValue, T> toJavaConverter) throws SQLException {
         try {
-            var key = getKey(columnIndex);
-            var bsonValue = assertNotNull(currentDocument).get(key);
+            var bsonValue = decodeValue(columnIndex);
             T value = ValueConversions.isNull(bsonValue) ? null : toJavaConverter.apply(assertNotNull(bsonValue));
             lastReadColumnValueWasNull = value == null;
             return value;
@@ -245,6 +338,48 @@ final class MongoResultSet implements ResultSetAdapter {
         }
     }
 
+    private boolean isValueOfType(int columnIndex, BsonType type) {
+        assertNotNull(currentDocument);
+        return elementOffsets[columnIndex - 1] >= 0 && valueTypes[columnIndex - 1] == type;
+    }
+
+    private int getValueOffset(int columnIndex) {
+        return valueOffsets[columnIndex - 1];
+    }
+
+    /** Reads the BSON {@code string} at {@code offset}, which starts with its length including the trailing zero. */
+    private String readString(int offset) {
+        var buffer = assertNotNull(currentBuffer);
+        var length = buffer.getInt(offset) - 1;
+        var nioBuffer = buffer.asNIO();
+        if (nioBuffer.hasArray()) {
+            return new String(nioBuffer.array(), nioBuffer.arrayOffset() + offset + Integer.BYTES, length, UTF_8);
+        }
+        var bytes = new byte[length];
+        buffer.get(offset + Integer.BYTES, bytes, 0, length);
+        return new String(bytes, UTF_8);
+    }
+
+    /** Returns the value of the column, or {@code null} if the field of the column is absent. */
+    private @Nullable BsonValue decodeValue(int columnIndex) {
+        var document = assertNotNull(currentDocument);
+        var elementOffset = elementOffsets[columnIndex - 1];
+        if (elementOffset < 0) {
+            return null;
+        } else if (valueTypes[columnIndex - 1] == BsonType.NULL) {
+            return BsonNull.VALUE;
+        }
+        var buffer = document.getByteBuffer();
+        try (var reader = new BsonBinaryReader(new ByteBufferBsonInput(buffer))) {
+            reader.readStartDocument();
+            // Skip to the element of the column to decode only its value
+            buffer.position(elementOffset);
+            reader.readBsonType();
+            reader.skipName();
+            return BSON_VALUE_CODEC.decode(reader, DEFAULT_CONTEXT);
+        }
+    }
+
     private void checkColumnIndex(int columnIndex) throws SQLException {
         if (columnIndex < 1 || columnIndex > fieldNames.size()) {
             throw new SQLException(format(
@@ -16,6 +16,9 @@
 
 package com.mongodb.hibernate.internal.jdbc;
 
+import static com.mongodb.client.model.bulk.ClientBulkWriteOptions.clientBulkWriteOptions;
+import static com.mongodb.client.model.bulk.ClientUpdateManyOptions.clientUpdateManyOptions;
+import static com.mongodb.client.model.bulk.ClientUpdateOneOptions.clientUpdateOneOptions;
 import static com.mongodb.hibernate.internal.MongoAssertions.assertFalse;
 import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
 import static com.mongodb.hibernate.internal.MongoAssertions.assertTrue;
@@ -23,27 +26,51 @@ import static com.mongodb.hibernate.internal.MongoAssertions.fail;
 import static com.mongodb.hibernate.internal.MongoConstants.EXTENDED_JSON_WRITER_SETTINGS;
 import static com.mongodb.hibernate.internal.MongoConstants.ID_FIELD_NAME;
 import static com.mongodb.hibernate.internal.VisibleForTesting.AccessModifier.PRIVATE;
+import static java.lang.Math.toIntExact;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.toCollection;
 import static org.bson.BsonBoolean.FALSE;
+import static org.bson.BsonBoolean.TRUE;
 
+import com.mongodb.ClientBulkWriteException;
 import com.mongodb.ErrorCategory;
 import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoException;
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.MongoNamespace;
 import com.mongodb.MongoSocketReadTimeoutException;
 import com.mongodb.MongoSocketWriteTimeoutException;
 import com.mongodb.MongoTimeoutException;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadConcernLevel;
+import com.mongodb.ReadPreference;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCluster;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Collation;
+import com.mongodb.client.model.CollationAlternate;
+import com.mongodb.client.model.CollationCaseFirst;
+import com.mongodb.client.model.CollationMaxVariable;
+import com.mongodb.client.model.CollationStrength;
+import com.mongodb.client.model.CreateIndexCommitQuorum;
 import com.mongodb.client.model.DeleteManyModel;
 import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.EstimatedDocumentCountOptions;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.UpdateManyModel;
 import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.model.bulk.ClientBulkWriteResult;
+import com.mongodb.client.model.bulk.ClientNamespacedWriteModel;
 import com.mongodb.hibernate.internal.FeatureNotSupportedException;
 import com.mongodb.hibernate.internal.VisibleForTesting;
 import java.sql.BatchUpdateException;
@@ -52,22 +79,34 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTimeoutException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import org.bson.BSONException;
 import org.bson.BsonArray;
+import org.bson.BsonBinaryWriter;
 import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonString;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
 import org.jspecify.annotations.Nullable;
 
 class MongoStatement implements StatementAdapter {
@@ -75,6 +114,7 @@ class MongoStatement implements StatementAdapter {
     private static final String EXCEPTION_MESSAGE_OPERATION_FAILED = "Failed to execute operation";
     private static final String EXCEPTION_MESSAGE_OPERATION_TIMED_OUT =
             "Timeout while waiting for operation to complete";
+    private static final String COUNT_FIELD_NAME = "count";
     static final int NO_ERROR_CODE = 0;
     static final int[] EMPTY_UPDATE_COUNTS = new int[0];
 
@@ -85,7 +125,14 @@ class MongoStatement implements StatementAdapter {
     private final ClientSession clientSession;
 
     private @Nullable ResultSet resultSet;
+    /** Created by the first {@link #execute(String)} or {@link #addBatch(String)}. */
+    private @Nullable AdminCommandBuffer adminCommandBuffer;
+
     private boolean closed;
+    /** The {@code batchSize} of the cursors of queries, or {@code 0} to use the default of the server. */
+    private int fetchSize;
+    /** The query timeout in seconds, or {@code 0} for no timeout. */
+    private int queryTimeout;
 
     MongoStatement(MongoDatabase mongoDatabase, ClientSession clientSession, MongoConnection mongoConnection) {
         this.mongoDatabase = mongoDatabase;
@@ -112,6 +159,9 @@ class MongoStatement implements StatementAdapter {
         try {
             var commandDescription = getCommandDescription(command);
             var collection = getCollection(commandDescription, command);
+            if (commandDescription == CommandDescription.COUNT) {
+                return resultSet = executeCount(command, collection);
+            }
             var pipeline = command.getArray("pipeline").stream()
                     .map(BsonValue::asDocument)
                     .toList();
@@ -121,9 +171,70 @@ class MongoStatement implements StatementAdapter {
             var projectStageIndex = pipeline.size() - 1;
             var fieldNames = getFieldNamesFromProjectStage(
                     pipeline.get(projectStageIndex).getDocument("$project"));
-            startTransactionIfNeeded();
-            return resultSet = new MongoResultSet(
-                    collection.aggregate(clientSession, pipeline).cursor(), fieldNames);
+            var readPreference = getReadPreference(command);
+            var readConcern = getReadConcern(command);
+            var hint = getHint(command);
+            var allowDiskUse = command.containsKey("allowDiskUse")
+                    ? command.getBoolean("allowDiskUse").getValue()
+                    : null;
+            var comment = command.get("comment");
+            var collation = command.containsKey("collation") ? toCollation(command.getDocument("collation")) : null;
+            var let = command.containsKey("let") ? command.getDocument("let") : null;
+            var maxAwaitTimeMS = command.containsKey("maxAwaitTimeMS")
+                    ? command.getNumber("maxAwaitTimeMS").longValue()
+                    : null;
+            mongoConnection.flushWriteBuffers();
+            collection = routeRead(collection, readPreference, readConcern, false);
+            var cursorPrefetchSize = mongoConnection.getCursorPrefetchSize();
+            // The prefetching thread issues `getMore` commands concurrently with this thread, and a session must not
+            // be used concurrently, which is why a prefetched query has a session of its own, closed with its cursor,
+            // and why queries in a transaction, which must use the session of the transaction, are not prefetched
+            var cursorSession = cursorPrefetchSize > 0 && !clientSession.hasActiveTransaction()
+                    ? mongoConnection.startCursorSession()
+                    : null;
+            var aggregateIterable = collection.aggregate(
+                    cursorSession != null ? cursorSession : clientSession, pipeline, RawBsonDocument.class);
+            if (fetchSize > 0) {
+                aggregateIterable.batchSize(fetchSize);
+            }
+            if (queryTimeout > 0) {
+                aggregateIterable.maxTime(queryTimeout, SECONDS);
+            }
+            if (hint != null) {
+                if (hint.isString()) {
+                    aggregateIterable.hintString(hint.asString().getValue());
+                } else {
+                    aggregateIterable.hint(hint.asDocument());
+                }
+            }
+            if (allowDiskUse != null) {
+                aggregateIterable.allowDiskUse(allowDiskUse);
+            }
+            if (comment != null) {
+                aggregateIterable.comment(comment);
+            }
+            if (collation != null) {
+                aggregateIterable.collation(collation);
+            }
+            if (let != null) {
+                aggregateIterable.let(let);
+            }
+            if (maxAwaitTimeMS != null) {
+                aggregateIterable.maxAwaitTime(maxAwaitTimeMS, MILLISECONDS);
+            }
+            MongoCursor<RawBsonDocument> cursor;
+            try {
+                cursor = aggregateIterable.cursor();
+            } catch (RuntimeException e) {
+                if (cursorSession != null) {
+                    cursorSession.close();
+                }
+                throw e;
+            }
+            if (cursorSession != null) {
+                cursor = new PrefetchingMongoCursor<>(cursor, cursorPrefetchSize, cursorSession);
+            }
+            return resultSet = new MongoResultSet(cursor, fieldNames);
         } catch (BSONException bsonException) {
             throw createSyntaxErrorException("%s: [%s]", command, bsonException);
         } catch (RuntimeException exception) {
@@ -131,6 +242,173 @@ class MongoStatement implements StatementAdapter {
         }
     }
 
+    /**
+     * Executes the {@code count} command as an aggregation of its {@code query} and {@code $count}, because the command
+     * itself is not allowed in transactions, or, if the command does not have {@code query} and there is no active
+     * transaction, by reading the estimated number of documents from the collection metadata.
+     *
+     * @return A {@link MongoResultSet} with a single row of the single {@code count} column.
+     */
+    private MongoResultSet executeCount(BsonDocument command, MongoCollection<BsonDocument> collection)
+            throws SQLException {
+        var query = command.get("query");
+        if (query != null && !query.isDocument()) {
+            throw createSyntaxErrorException("%s. Invalid query [%s]", command, null);
+        }
+        var readPreference = getReadPreference(command);
+        var readConcern = getReadConcern(command);
+        var hint = getHint(command);
+        var comment = command.get("comment");
+        var collation = command.containsKey("collation") ? toCollation(command.getDocument("collation")) : null;
+        mongoConnection.flushWriteBuffers();
+        // The estimated count cannot be read in a transaction, and must not start one
+        var estimated = query == null && canReadWithoutTransaction();
+        collection = routeRead(collection, readPreference, readConcern, estimated);
+        long count;
+        if (estimated) {
+            var options = new EstimatedDocumentCountOptions();
+            if (queryTimeout > 0) {
+                options.maxTime(queryTimeout, SECONDS);
+            }
+            if (comment != null) {
+                options.comment(comment);
+            }
+            count = collection.estimatedDocumentCount(options);
+        } else {
+            var pipeline = List.of(
+                    new BsonDocument("$match", query == null ? new BsonDocument() : query.asDocument()),
+                    new BsonDocument("$count", new BsonString(COUNT_FIELD_NAME)));
+            var aggregateIterable = collection.aggregate(clientSession, pipeline, BsonDocument.class);
+            if (queryTimeout > 0) {
+                aggregateIterable.maxTime(queryTimeout, SECONDS);
+            }
+            if (hint != null) {
+                if (hint.isString()) {
+                    aggregateIterable.hintString(hint.asString().getValue());
+                } else {
+                    aggregateIterable.hint(hint.asDocument());
+                }
+            }
+            if (comment != null) {
+                aggregateIterable.comment(comment);
+            }
+            if (collation != null) {
+                aggregateIterable.collation(collation);
+            }
+            // `$count` does not output a document if there are no documents to count
+            var countDocument = aggregateIterable.first();
+            count = countDocument == null ? 0 : countDocument.getNumber(COUNT_FIELD_NAME).longValue();
+        }
+        var resultDocument = new RawBsonDocument(
+                new BsonDocument(COUNT_FIELD_NAME, new BsonInt64(count)), new BsonDocumentCodec());
+        return new MongoResultSet(new SingleDocumentMongoCursor<>(resultDocument), List.of(COUNT_FIELD_NAME));
+    }
+
+    /**
+     * Applies {@code readPreference} and {@code readConcern} to {@code collection} if the read
+     * {@linkplain #canReadWithoutTransaction() can be executed without a transaction}, or else starts a transaction if
+     * needed, unless {@code withoutTransaction}.
+     */
+    private MongoCollection<BsonDocument> routeRead(
+            MongoCollection<BsonDocument> collection,
+            @Nullable ReadPreference readPreference,
+            @Nullable ReadConcern readConcern,
+            boolean withoutTransaction)
+            throws SQLException {
+        if ((withoutTransaction || readPreference != null || readConcern != null) && canReadWithoutTransaction()) {
+            if (readPreference != null) {
+                collection = collection.withReadPreference(readPreference);
+            }
+            if (readConcern != null) {
+                collection = collection.withReadConcern(readConcern);
+            }
+        } else {
+            startTransactionIfNeeded();
+        }
+        return collection;
+    }
+
+    /** Returns the {@code hint} field of {@code command}, which is either an index name or an index specification. */
+    private static @Nullable BsonValue getHint(BsonDocument command) throws SQLSyntaxErrorException {
+        var hint = command.get("hint");
+        if (hint != null && !hint.isString() && !hint.isDocument()) {
+            throw createSyntaxErrorException("%s. Invalid hint [%s]", command, null);
+        }
+        return hint;
+    }
+
+    /**
+     * Returns the read preference specified by the {@code $readPreference} field of {@code command}, or else the
+     * {@linkplain MongoConnection#getDefaultReadPreference() default} one, if any.
+     */
+    private @Nullable ReadPreference getReadPreference(BsonDocument command) throws SQLException {
+        var readPreferenceDocument = command.get("$readPreference");
+        if (readPreferenceDocument == null) {
+            return mongoConnection.getDefaultReadPreference();
+        }
+        try {
+            var document = readPreferenceDocument.asDocument();
+            var mode = document.getString("mode").getValue();
+            var maxStalenessSeconds = document.get("maxStalenessSeconds");
+            return maxStalenessSeconds == null
+                    ? ReadPreference.valueOf(mode)
+                    : ReadPreference.valueOf(mode, List.of(), maxStalenessSeconds.asNumber().longValue(), SECONDS);
+        } catch (RuntimeException e) {
+            throw createSyntaxErrorException("%s. Invalid $readPreference [%s]", command, e);
+        }
+    }
+
+    /**
+     * Returns the read concern specified by the {@code readConcern} field of {@code command}, or else the
+     * {@linkplain MongoConnection#getDefaultReadConcern() default} one, if any.
+     */
+    private @Nullable ReadConcern getReadConcern(BsonDocument command) throws SQLException {
+        var readConcernDocument = command.get("readConcern");
+        if (readConcernDocument == null) {
+            return mongoConnection.getDefaultReadConcern();
+        }
+        try {
+            var level = readConcernDocument.asDocument().getString("level").getValue();
+            return new ReadConcern(ReadConcernLevel.fromString(level));
+        } catch (RuntimeException e) {
+            throw createSyntaxErrorException("%s. Invalid readConcern [%s]", command, e);
+        }
+    }
+
+    /**
+     * Converts the <a href="https://www.mongodb.com/docs/manual/reference/collation/#collation-document">collation
+     * document</a> to a {@link Collation}.
+     *
+     * @throws BSONException If {@code document} is not a valid collation document.
+     */
+    static Collation toCollation(BsonDocument document) {
+        var builder = Collation.builder();
+        try {
+            for (var field : document.entrySet()) {
+                var value = field.getValue();
+                switch (field.getKey()) {
+                    case "locale" -> builder.locale(value.asString().getValue());
+                    case "caseLevel" -> builder.caseLevel(value.asBoolean().getValue());
+                    case "caseFirst" -> builder.collationCaseFirst(
+                            CollationCaseFirst.fromString(value.asString().getValue()));
+                    case "strength" -> builder.collationStrength(
+                            CollationStrength.fromInt(value.asNumber().intValue()));
+                    case "numericOrdering" -> builder.numericOrdering(value.asBoolean().getValue());
+                    case "alternate" -> builder.collationAlternate(
+                            CollationAlternate.fromString(value.asString().getValue()));
+                    case "maxVariable" -> builder.collationMaxVariable(
+                            CollationMaxVariable.fromString(value.asString().getValue()));
+                    case "normalization" -> builder.normalization(value.asBoolean().getValue());
+                    case "backwards" -> builder.backwards(value.asBoolean().getValue());
+                    default -> throw new BSONException(format("Unsupported collation field [%s]", field.getKey()));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new BSONException(format("Invalid collation [%s]", document.toJson()), e);
+        }
+        return builder.build();
+    }
+
     @VisibleForTesting(otherwise = PRIVATE)
     static List<String> getFieldNamesFromProjectStage(BsonDocument projectStage) {
         var fieldNames = projectStage.entrySet().stream()
@@ -182,11 +460,27 @@ class MongoStatement implements StatementAdapter {
 
     int[] executeBatch(List<BsonDocument> commandBatch) throws SQLException {
         WriteModelsToCommandMapper writeModelsToCommandMapper = null;
+        var ordered = true;
         try {
             var firstCommandInBatch = commandBatch.get(0);
             var commandBatchSize = commandBatch.size();
             var commandDescription = getCommandDescription(firstCommandInBatch);
             var collection = getCollection(commandDescription, firstCommandInBatch);
+            ordered = isOrdered(firstCommandInBatch);
+            var clientBulkWriteBuffer = mongoConnection.getClientBulkWriteBuffer();
+            if (clientBulkWriteBuffer != null) {
+                startTransactionIfNeeded();
+                clientBulkWriteBuffer.add(
+                        this, commandDescription, collection.getNamespace(), commandBatch, ordered, queryTimeout);
+                return createUpdateCounts(commandBatchSize);
+            }
+            var insertBuffer = mongoConnection.getInsertBuffer();
+            if (insertBuffer != null && commandDescription == CommandDescription.INSERT) {
+                startTransactionIfNeeded();
+                var updateCounts = insertBuffer.add(collection, commandBatch, ordered, queryTimeout);
+                return mongoConnection.isExactBatchUpdateCounts() ? updateCounts : createUpdateCounts(commandBatchSize);
+            }
+            mongoConnection.flushWriteBuffers();
             var writeModels = new ArrayList<WriteModel<BsonDocument>>(commandBatchSize);
             writeModelsToCommandMapper = new WriteModelsToCommandMapper(commandBatchSize);
             for (var command : commandBatch) {
@@ -194,13 +488,156 @@ class MongoStatement implements StatementAdapter {
                 writeModelsToCommandMapper.add(writeModels.size());
             }
             startTransactionIfNeeded();
-            collection.bulkWrite(clientSession, writeModels);
+            if (mongoConnection.isExactBatchUpdateCounts()) {
+                return executeBatchWithExactUpdateCounts(
+                        commandDescription, collection, writeModels, writeModelsToCommandMapper, ordered);
+            }
+            bulkWrite(collection, writeModels, ordered);
             return createUpdateCounts(commandBatchSize);
         } catch (RuntimeException exception) {
-            throw handleExecuteBatchException(exception, writeModelsToCommandMapper);
+            throw handleExecuteBatchException(exception, writeModelsToCommandMapper, ordered);
         }
     }
 
+    /**
+     * Returns the value of the {@code ordered} field of a write command, which the translators render only for
+     * unordered bulk writes.
+     */
+    private static boolean isOrdered(BsonDocument command) {
+        return command.getBoolean("ordered", TRUE).getValue();
+    }
+
+    private BulkWriteResult bulkWrite(
+            MongoCollection<BsonDocument> collection, List<WriteModel<BsonDocument>> writeModels, boolean ordered) {
+        return bulkWrite(
+                withWriteTimeout(collection, clientSession, queryTimeout), clientSession, writeModels, ordered);
+    }
+
+    /**
+     * Applies {@code queryTimeout} to the writes executed via {@code collection}, unless it is {@code 0}, or the writes
+     * are part of a transaction, whose lifetime is bounded by the server.
+     */
+    private static MongoCollection<BsonDocument> withWriteTimeout(
+            MongoCollection<BsonDocument> collection, ClientSession clientSession, int queryTimeout) {
+        return queryTimeout > 0 && !clientSession.hasActiveTransaction()
+                ? collection.withTimeout(queryTimeout, SECONDS)
+                : collection;
+    }
+
+    /** Applies {@code queryTimeout} as {@link #withWriteTimeout(MongoCollection, ClientSession, int)} does. */
+    private static MongoCluster withWriteTimeout(
+            MongoCluster mongoCluster, ClientSession clientSession, int queryTimeout) {
+        return queryTimeout > 0 && !clientSession.hasActiveTransaction()
+                ? mongoCluster.withTimeout(queryTimeout, SECONDS)
+                : mongoCluster;
+    }
+
+    /**
+     * Returns the query timeout of a write that executes the JDBC batches of statements with the query timeouts
+     * {@code queryTimeout} and {@code otherQueryTimeout}, where {@code 0} means that there is no timeout.
+     */
+    private static int combineQueryTimeouts(int queryTimeout, int otherQueryTimeout) {
+        return queryTimeout == 0 || otherQueryTimeout == 0 ? 0 : Math.max(queryTimeout, otherQueryTimeout);
+    }
+
+    private static BulkWriteResult bulkWrite(
+            MongoCollection<BsonDocument> collection,
+            ClientSession clientSession,
+            List<WriteModel<BsonDocument>> writeModels,
+            boolean ordered) {
+        return ordered
+                ? collection.bulkWrite(clientSession, writeModels)
+                : collection.bulkWrite(clientSession, writeModels, new BulkWriteOptions().ordered(false));
+    }
+
+    /**
+     * Executes {@code writeModels} such that the number of documents each command inserted, matched or deleted is
+     * known.
+     * For inserts, that is the number of documents in the command. For updates and deletes, the result of
+     * {@link MongoCollection#bulkWrite} has only the total counts, which is why they are executed via
+     * {@link com.mongodb.client.MongoClient#bulkWrite} with verbose results, which has the counts of each write model.
+     */
+    private int[] executeBatchWithExactUpdateCounts(
+            CommandDescription commandDescription,
+            MongoCollection<BsonDocument> collection,
+            List<WriteModel<BsonDocument>> writeModels,
+            WriteModelsToCommandMapper writeModelsToCommandMapper,
+            boolean ordered) {
+        if (commandDescription == CommandDescription.INSERT) {
+            bulkWrite(collection, writeModels, ordered);
+            var updateCounts = new int[writeModelsToCommandMapper.getCommandCount()];
+            for (var i = 0; i < updateCounts.length; i++) {
+                updateCounts[i] = writeModelsToCommandMapper.getWriteModelCount(i);
+            }
+            return updateCounts;
+        }
+        var namespace = collection.getNamespace();
+        var clientWriteModels = new ArrayList<ClientNamespacedWriteModel>(writeModels.size());
+        for (var writeModel : writeModels) {
+            clientWriteModels.add(toClientNamespacedWriteModel(namespace, writeModel));
+        }
+        var clientBulkWriteResult = withWriteTimeout(mongoConnection.getMongoClient(), clientSession, queryTimeout)
+                .bulkWrite(
+                        clientSession,
+                        clientWriteModels,
+                        clientBulkWriteOptions().ordered(ordered).verboseResults(true));
+        return calculateUpdateCounts(clientBulkWriteResult, writeModelsToCommandMapper);
+    }
+
+    private static ClientNamespacedWriteModel toClientNamespacedWriteModel(
+            MongoNamespace namespace, WriteModel<BsonDocument> writeModel) {
+        if (writeModel instanceof InsertOneModel<BsonDocument> insertOneModel) {
+            return ClientNamespacedWriteModel.insertOne(namespace, insertOneModel.getDocument());
+        } else if (writeModel instanceof UpdateOneModel<BsonDocument> updateOneModel) {
+            var filter = updateOneModel.getFilter();
+            var options = clientUpdateOneOptions().upsert(updateOneModel.getOptions().isUpsert());
+            var update = updateOneModel.getUpdate();
+            return update != null
+                    ? ClientNamespacedWriteModel.updateOne(namespace, filter, update, options)
+                    : ClientNamespacedWriteModel.updateOne(
+                            namespace, filter, assertNotNull(updateOneModel.getUpdatePipeline()), options);
+        } else if (writeModel instanceof UpdateManyModel<BsonDocument> updateManyModel) {
+            var filter = updateManyModel.getFilter();
+            var options = clientUpdateManyOptions().upsert(updateManyModel.getOptions().isUpsert());
+            var update = updateManyModel.getUpdate();
+            return update != null
+                    ? ClientNamespacedWriteModel.updateMany(namespace, filter, update, options)
+                    : ClientNamespacedWriteModel.updateMany(
+                            namespace, filter, assertNotNull(updateManyModel.getUpdatePipeline()), options);
+        } else if (writeModel instanceof DeleteOneModel<BsonDocument> deleteOneModel) {
+            return ClientNamespacedWriteModel.deleteOne(namespace, deleteOneModel.getFilter());
+        } else if (writeModel instanceof DeleteManyModel<BsonDocument> deleteManyModel) {
+            return ClientNamespacedWriteModel.deleteMany(namespace, deleteManyModel.getFilter());
+        }
+        throw fail(writeModel.toString());
+    }
+
+    /**
+     * Returns the number of documents each command matched or deleted, where an upsert that inserted a document counts
+     * as having matched it.
+     */
+    private static int[] calculateUpdateCounts(
+            ClientBulkWriteResult clientBulkWriteResult, WriteModelsToCommandMapper writeModelsToCommandMapper) {
+        var verboseResults = clientBulkWriteResult.isAcknowledged()
+                ? clientBulkWriteResult.getVerboseResults().orElse(null)
+                : null;
+        if (verboseResults == null) {
+            return createUpdateCounts(writeModelsToCommandMapper.getCommandCount());
+        }
+        var updateCounts = new int[writeModelsToCommandMapper.getCommandCount()];
+        verboseResults.getUpdateResults().forEach((writeModelIndex, updateResult) -> {
+            var upsertedCount = updateResult.getUpsertedId().isPresent() ? 1 : 0;
+            updateCounts[writeModelsToCommandMapper.findCommandIndex(writeModelIndex)] +=
+                    toIntExact(updateResult.getMatchedCount()) + upsertedCount;
+        });
+        verboseResults
+                .getDeleteResults()
+                .forEach((writeModelIndex, deleteResult) ->
+                        updateCounts[writeModelsToCommandMapper.findCommandIndex(writeModelIndex)] +=
+                                toIntExact(deleteResult.getDeletedCount()));
+        return updateCounts;
+    }
+
     private static int[] createUpdateCounts(int updateCountsSize) {
         // We cannot determine the actual number of rows affected for each command in the batch.
         var updateCounts = new int[updateCountsSize];
@@ -214,8 +651,9 @@ class MongoStatement implements StatementAdapter {
             var collection = getCollection(commandDescription, command);
             var writeModels = new ArrayList<WriteModel<BsonDocument>>();
             WriteModelConverter.convertToWriteModels(commandDescription, command, writeModels);
+            mongoConnection.flushWriteBuffers();
             startTransactionIfNeeded();
-            var bulkWriteResult = collection.bulkWrite(clientSession, writeModels);
+            var bulkWriteResult = bulkWrite(collection, writeModels, isOrdered(command));
             return getUpdateCount(commandDescription, bulkWriteResult);
         } catch (RuntimeException exception) {
             throw handleExecuteQueryOrUpdateException(exception);
@@ -243,19 +681,113 @@ class MongoStatement implements StatementAdapter {
         checkClosed();
     }
 
+    /**
+     * Executes a schema export command before returning. The schema creation of Hibernate ORM uses
+     * {@link #addBatch(String)} instead, see {@link com.mongodb.hibernate.internal.schema.MongoSchemaManagementTool}.
+     */
     @Override
     public boolean execute(String mql) throws SQLException {
         checkClosed();
         closeLastOpenResultSet();
         var command = AdminCommand.toAdminCommand(mql);
+        mongoConnection.flushWriteBuffers();
         try {
-            command.execute(mongoDatabase);
+            getAdminCommandBuffer().execute(command);
             return false;
         } catch (RuntimeException exception) {
             throw handleExecuteQueryOrUpdateException(exception);
         }
     }
 
+    /** Adds a schema export command to the {@linkplain AdminCommandBuffer batch}. */
+    @Override
+    public void addBatch(String mql) throws SQLException {
+        checkClosed();
+        getAdminCommandBuffer().add(AdminCommand.toAdminCommand(mql));
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        checkClosed();
+        if (adminCommandBuffer != null) {
+            adminCommandBuffer.clear();
+        }
+    }
+
+    /**
+     * Executes the {@linkplain #addBatch(String) batched} schema export commands.
+     *
+     * @return {@link Statement#SUCCESS_NO_INFO} for each command.
+     */
+    @Override
+    public int[] executeBatch() throws SQLException {
+        checkClosed();
+        closeLastOpenResultSet();
+        var buffer = adminCommandBuffer;
+        if (buffer == null) {
+            return EMPTY_UPDATE_COUNTS;
+        }
+        mongoConnection.flushWriteBuffers();
+        try {
+            var updateCounts = new int[buffer.flush()];
+            Arrays.fill(updateCounts, Statement.SUCCESS_NO_INFO);
+            return updateCounts;
+        } catch (RuntimeException exception) {
+            throw handleExecuteQueryOrUpdateException(exception);
+        }
+    }
+
+    private AdminCommandBuffer getAdminCommandBuffer() {
+        var buffer = adminCommandBuffer;
+        if (buffer == null) {
+            buffer = new AdminCommandBuffer(
+                    mongoDatabase,
+                    mongoConnection.getSchemaExportParallelism(),
+                    mongoConnection.getCreateIndexesCommitQuorum());
+            adminCommandBuffer = buffer;
+        }
+        return buffer;
+    }
+
+    /**
+     * Sets the {@code batchSize} of the cursors of queries, which applies both to the first batch and to the batches
+     * returned by {@code getMore}.
+     */
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        checkClosed();
+        if (rows < 0) {
+            throw new SQLException(format("Invalid fetch size: %d", rows));
+        }
+        fetchSize = rows;
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        checkClosed();
+        return fetchSize;
+    }
+
+    /**
+     * Sets the timeout of queries and writes. A query is run with {@code maxTimeMS}, so that the server kills it when
+     * it times out. A write is run with the {@code timeoutMS} of the driver, unless it is part of a transaction, whose
+     * lifetime is limited by the server instead.
+     */
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+        checkClosed();
+        if (seconds < 0) {
+            throw new SQLException(format("Invalid query timeout: %d", seconds));
+        }
+        queryTimeout = seconds;
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        checkClosed();
+        return queryTimeout;
+    }
+
     @Override
     public @Nullable ResultSet getResultSet() throws SQLException {
         checkClosed();
@@ -323,6 +855,18 @@ class MongoStatement implements StatementAdapter {
         }
     }
 
+    /**
+     * Returns whether a read may be executed without a transaction, which is the case if no transaction is active, and
+     * either auto-commit is enabled, or the connection is read-only. Without auto-commit, a read of a connection that
+     * is not read-only is part of the transaction, so that it observes the writes of the transaction, and is
+     * consistent with its other reads. Reads in a transaction are from the primary, with the read concern of the
+     * transaction, which is why they are not routed.
+     */
+    private boolean canReadWithoutTransaction() throws SQLException {
+        return (mongoConnection.getAutoCommit() || mongoConnection.isReadOnly())
+                && !clientSession.hasActiveTransaction();
+    }
+
     /**
      * Starts transaction for the first {@link Statement} executing if {@linkplain MongoConnection#getAutoCommit()
      * auto-commit} is disabled.
@@ -372,47 +916,88 @@ class MongoStatement implements StatementAdapter {
     }
 
     private static SQLException handleExecuteBatchException(
-            RuntimeException exceptionToHandle, @Nullable WriteModelsToCommandMapper writeModelsToCommandMapper) {
+            RuntimeException exceptionToHandle,
+            @Nullable WriteModelsToCommandMapper writeModelsToCommandMapper,
+            boolean ordered) {
         var errorCode = getErrorCode(exceptionToHandle);
         var exceptionMessage = getExceptionMessage(errorCode, exceptionToHandle);
-        if (exceptionToHandle instanceof MongoBulkWriteException bulkWriteException) {
+        if (exceptionToHandle instanceof ClientBulkWriteException clientBulkWriteException) {
+            var updateCounts = calculateBatchUpdateCounts(
+                    clientBulkWriteException, assertNotNull(writeModelsToCommandMapper), ordered);
+            return new BatchUpdateException(
+                    exceptionMessage, NULL_SQL_STATE, errorCode, updateCounts, clientBulkWriteException);
+        } else if (exceptionToHandle instanceof MongoBulkWriteException bulkWriteException) {
             return createBatchUpdateException(
-                    exceptionMessage, errorCode, bulkWriteException, assertNotNull(writeModelsToCommandMapper));
+                    exceptionMessage,
+                    errorCode,
+                    bulkWriteException,
+                    assertNotNull(writeModelsToCommandMapper),
+                    ordered);
         }
 
         // TODO-HIBERNATE-132 java.sql.BatchUpdateException is thrown when one of the
         // commands fails to execute properly. When exception is not of MongoBulkWriteException,
         // we are not sure if any command was executed successfully or failed.
-        return new SQLException(exceptionMessage, NULL_SQL_STATE, errorCode, exceptionToHandle);
+        return createSqlException(exceptionMessage, errorCode, exceptionToHandle);
     }
 
     private static SQLException handleExecuteQueryOrUpdateException(RuntimeException exceptionToHandle) {
         var errorCode = getErrorCode(exceptionToHandle);
         var exceptionMessage = getExceptionMessage(errorCode, exceptionToHandle);
-        return new SQLException(exceptionMessage, NULL_SQL_STATE, errorCode, exceptionToHandle);
+        return createSqlException(exceptionMessage, errorCode, exceptionToHandle);
+    }
+
+    /**
+     * Creates a {@link SQLTimeoutException} if the operation timed out, which Hibernate ORM translates into a
+     * {@link org.hibernate.QueryTimeoutException}, and a {@link SQLException} otherwise.
+     */
+    private static SQLException createSqlException(
+            String exceptionMessage, int errorCode, RuntimeException exceptionToHandle) {
+        return isTimeout(errorCode, exceptionToHandle)
+                ? new SQLTimeoutException(exceptionMessage, NULL_SQL_STATE, errorCode, exceptionToHandle)
+                : new SQLException(exceptionMessage, NULL_SQL_STATE, errorCode, exceptionToHandle);
     }
 
     private static String getExceptionMessage(int errorCode, RuntimeException exceptionToHandle) {
+        return isTimeout(errorCode, exceptionToHandle)
+                ? EXCEPTION_MESSAGE_OPERATION_TIMED_OUT
+                : EXCEPTION_MESSAGE_OPERATION_FAILED;
+    }
+
+    private static boolean isTimeout(int errorCode, RuntimeException exceptionToHandle) {
         if (exceptionToHandle instanceof MongoException mongoException && isTimeoutException(mongoException)) {
-            return EXCEPTION_MESSAGE_OPERATION_TIMED_OUT;
+            return true;
         }
         var errorCategory = ErrorCategory.fromErrorCode(errorCode);
         return switch (errorCategory) {
-            case DUPLICATE_KEY, UNCATEGORIZED -> EXCEPTION_MESSAGE_OPERATION_FAILED;
+            case DUPLICATE_KEY, UNCATEGORIZED -> false;
             // TODO-HIBERNATE-132 EXECUTION_TIMEOUT code is returned from the server. Do we know how many commands were
             // executed successfully so we can return it as BatchUpdateException?
-            case EXECUTION_TIMEOUT -> EXCEPTION_MESSAGE_OPERATION_TIMED_OUT;
+            case EXECUTION_TIMEOUT -> true;
         };
     }
 
     private static int getErrorCode(RuntimeException runtimeException) {
-        if (runtimeException instanceof MongoBulkWriteException mongoBulkWriteException) {
+        if (runtimeException instanceof ClientBulkWriteException clientBulkWriteException) {
+            var writeErrors = clientBulkWriteException.getWriteErrors();
+            if (writeErrors.isEmpty()) {
+                return clientBulkWriteException.getCause() instanceof MongoException mongoException
+                        ? mongoException.getCode()
+                        : NO_ERROR_CODE;
+            }
+            var code = writeErrors.entrySet().stream()
+                    .min(Map.Entry.comparingByKey())
+                    .orElseThrow()
+                    .getValue()
+                    .getCode();
+            assertFalse(code == NO_ERROR_CODE);
+            return code;
+        } else if (runtimeException instanceof MongoBulkWriteException mongoBulkWriteException) {
             var writeErrors = mongoBulkWriteException.getWriteErrors();
             if (writeErrors.isEmpty()) {
                 return NO_ERROR_CODE;
             }
-            // Since we are executing an ordered bulk write, there will be at most one BulkWriteError.
-            assertTrue(writeErrors.size() == 1);
+            // An ordered bulk write has at most one BulkWriteError, an unordered one reports the first of them.
             var code = writeErrors.get(0).getCode();
             assertFalse(code == NO_ERROR_CODE);
             return code;
@@ -440,29 +1025,74 @@ class MongoStatement implements StatementAdapter {
             String exceptionMessage,
             int errorCode,
             MongoBulkWriteException mongoBulkWriteException,
-            WriteModelsToCommandMapper writeModelsToCommandMapper) {
-        var updateCounts = calculateBatchUpdateCounts(mongoBulkWriteException, writeModelsToCommandMapper);
+            WriteModelsToCommandMapper writeModelsToCommandMapper,
+            boolean ordered) {
+        var updateCounts = calculateBatchUpdateCounts(mongoBulkWriteException, writeModelsToCommandMapper, ordered);
         return new BatchUpdateException(
                 exceptionMessage, NULL_SQL_STATE, errorCode, updateCounts, mongoBulkWriteException);
     }
 
+    /**
+     * An ordered bulk write stops at the failed command, so the update counts are those of the commands before it. An
+     * unordered bulk write attempts all commands, so there is an update count for each of them, which is
+     * {@link Statement#EXECUTE_FAILED} for each failed command.
+     */
     private static int[] calculateBatchUpdateCounts(
-            MongoBulkWriteException mongoBulkWriteException, WriteModelsToCommandMapper writeModelsToCommandMapper) {
+            MongoBulkWriteException mongoBulkWriteException,
+            WriteModelsToCommandMapper writeModelsToCommandMapper,
+            boolean ordered) {
         var writeErrors = mongoBulkWriteException.getWriteErrors();
         var writeConcernError = mongoBulkWriteException.getWriteConcernError();
         if (writeConcernError == null) {
-            assertTrue(writeErrors.size() == 1);
-            var failedModelIndex = writeErrors.get(0).getIndex();
-            var failedCommandIndexInBatch = writeModelsToCommandMapper.findCommandIndex(failedModelIndex);
-            return createUpdateCounts(failedCommandIndexInBatch);
+            if (ordered) {
+                assertTrue(writeErrors.size() == 1);
+                var failedModelIndex = writeErrors.get(0).getIndex();
+                var failedCommandIndexInBatch = writeModelsToCommandMapper.findCommandIndex(failedModelIndex);
+                return createUpdateCounts(failedCommandIndexInBatch);
+            }
+            var updateCounts = createUpdateCounts(writeModelsToCommandMapper.getCommandCount());
+            for (var writeError : writeErrors) {
+                updateCounts[writeModelsToCommandMapper.findCommandIndex(writeError.getIndex())] =
+                        Statement.EXECUTE_FAILED;
+            }
+            return updateCounts;
         }
         return EMPTY_UPDATE_COUNTS;
     }
 
+    /**
+     * The update counts are calculated as in
+     * {@link #calculateBatchUpdateCounts(MongoBulkWriteException, WriteModelsToCommandMapper, boolean)}, except that
+     * the update counts of the successful commands are taken from the partial result, if there is one.
+     */
+    private static int[] calculateBatchUpdateCounts(
+            ClientBulkWriteException clientBulkWriteException,
+            WriteModelsToCommandMapper writeModelsToCommandMapper,
+            boolean ordered) {
+        if (clientBulkWriteException.getCause() != null
+                || !clientBulkWriteException.getWriteConcernErrors().isEmpty()) {
+            return EMPTY_UPDATE_COUNTS;
+        }
+        var partialResult = clientBulkWriteException.getPartialResult().orElse(null);
+        var updateCounts = partialResult == null
+                ? createUpdateCounts(writeModelsToCommandMapper.getCommandCount())
+                : calculateUpdateCounts(partialResult, writeModelsToCommandMapper);
+        var failedModelIndexes = clientBulkWriteException.getWriteErrors().keySet();
+        if (ordered) {
+            assertTrue(failedModelIndexes.size() == 1);
+            var failedModelIndex = failedModelIndexes.iterator().next();
+            return Arrays.copyOf(updateCounts, writeModelsToCommandMapper.findCommandIndex(failedModelIndex));
+        }
+        for (var failedModelIndex : failedModelIndexes) {
+            updateCounts[writeModelsToCommandMapper.findCommandIndex(failedModelIndex)] = Statement.EXECUTE_FAILED;
+        }
+        return updateCounts;
+    }
+
     private static boolean isTimeoutException(MongoException exception) {
-        // We do not check for `MongoExecutionTimeoutException` and `MongoOperationTimeoutException` here,
-        // because they are handled via error codes.
-        return exception instanceof MongoSocketReadTimeoutException
+        // `MongoOperationTimeoutException` is a `MongoTimeoutException`.
+        return exception instanceof MongoExecutionTimeoutException
+                || exception instanceof MongoSocketReadTimeoutException
                 || exception instanceof MongoSocketWriteTimeoutException
                 || exception instanceof MongoTimeoutException;
     }
@@ -475,7 +1105,9 @@ class MongoStatement implements StatementAdapter {
         /** See <a href="https://www.mongodb.com/docs/manual/reference/command/delete/">{@code delete}</a>. */
         DELETE("delete", false, true),
         /** See <a href="https://www.mongodb.com/docs/manual/reference/command/aggregate/">{@code aggregate}</a>. */
-        AGGREGATE("aggregate", true, false);
+        AGGREGATE("aggregate", true, false),
+        /** See <a href="https://www.mongodb.com/docs/manual/reference/command/count/">{@code count}</a>. */
+        COUNT("count", true, false);
 
         private final String commandName;
         private final boolean isQuery;
@@ -515,6 +1147,7 @@ class MongoStatement implements StatementAdapter {
                 case "update" -> UPDATE;
                 case "delete" -> DELETE;
                 case "aggregate" -> AGGREGATE;
+                case "count" -> COUNT;
                 default -> throw new SQLFeatureNotSupportedException("Unsupported command: %s".formatted(commandName));
             };
         }
@@ -526,12 +1159,12 @@ class MongoStatement implements StatementAdapter {
         private static final String UNSUPPORTED_MESSAGE_TEMPLATE_COMMAND_FIELD =
                 "Unsupported field in [%s] command: [%s]";
 
-        private static final Set<String> SUPPORTED_INSERT_COMMAND_FIELDS = Set.of("documents");
+        private static final Set<String> SUPPORTED_INSERT_COMMAND_FIELDS = Set.of("documents", "ordered");
 
-        private static final Set<String> SUPPORTED_UPDATE_COMMAND_FIELDS = Set.of("updates");
+        private static final Set<String> SUPPORTED_UPDATE_COMMAND_FIELDS = Set.of("updates", "ordered");
         private static final Set<String> SUPPORTED_UPDATE_STATEMENT_FIELDS = Set.of("q", "u", "multi", "upsert");
 
-        private static final Set<String> SUPPORTED_DELETE_COMMAND_FIELDS = Set.of("deletes");
+        private static final Set<String> SUPPORTED_DELETE_COMMAND_FIELDS = Set.of("deletes", "ordered");
         private static final Set<String> SUPPORTED_DELETE_STATEMENT_FIELDS = Set.of("q", "limit");
 
         private WriteModelConverter() {}
@@ -572,7 +1205,10 @@ class MongoStatement implements StatementAdapter {
         }
 
         private static WriteModel<BsonDocument> createInsertModel(BsonDocument insertDocument) {
-            return new InsertOneModel<>(insertDocument);
+            // The driver adds the `_id` field to a document that does not have it,
+            // and the document may be shared with a `CommandTemplate`.
+            return new InsertOneModel<>(
+                    insertDocument.containsKey(ID_FIELD_NAME) ? insertDocument : insertDocument.clone());
         }
 
         private static WriteModel<BsonDocument> createUpdateModel(
@@ -655,7 +1291,7 @@ class MongoStatement implements StatementAdapter {
     /** Maps write model indices to their corresponding command indices in batch of commands. */
     private static class WriteModelsToCommandMapper {
         /** The cumulative counts of write models for each command in the batch (prefix sum). */
-        private final int[] cumulativeCounts;
+        private int[] cumulativeCounts;
 
         private int cumulativeCountIndex;
 
@@ -665,14 +1301,27 @@ class MongoStatement implements StatementAdapter {
         }
 
         void add(int cumulativeWriteModelCount) {
-            assertFalse(cumulativeCountIndex >= cumulativeCounts.length);
+            if (cumulativeCountIndex == cumulativeCounts.length) {
+                cumulativeCounts = Arrays.copyOf(cumulativeCounts, Math.max(1, cumulativeCounts.length * 2));
+            }
             cumulativeCounts[cumulativeCountIndex++] = cumulativeWriteModelCount;
         }
 
+        void clear() {
+            cumulativeCountIndex = 0;
+        }
+
+        int getCommandCount() {
+            return cumulativeCountIndex;
+        }
+
+        int getWriteModelCount(int commandIndex) {
+            return cumulativeCounts[commandIndex] - (commandIndex == 0 ? 0 : cumulativeCounts[commandIndex - 1]);
+        }
+
         int findCommandIndex(int writeModelIndex) {
-            assertTrue(cumulativeCountIndex == cumulativeCounts.length);
             var lo = 0;
-            var hi = cumulativeCounts.length;
+            var hi = cumulativeCountIndex;
             while (lo < hi) {
                 var mid = (lo + hi) >>> 1;
                 if (cumulativeCounts[mid] >= writeModelIndex + 1) {
@@ -684,4 +1333,482 @@ class MongoStatement implements StatementAdapter {
             return lo;
         }
     }
+
+    /**
+     * Inserts from {@link #executeBatch(List)} that are not executed yet, so that consecutive JDBC batches of inserts
+     * into the same collection are sent in as few {@code bulkWrite}s as possible, see
+     * {@value com.mongodb.hibernate.internal.MongoConstants#COALESCE_INSERTS_PROPERTY_NAME}.
+     *
+     * <p>Inserts are only buffered while auto-commit is disabled, see {@link MongoConnection#getInsertBuffer()}. The
+     * buffer is flushed when it reaches the {@code maxWriteBatchSize} of the server, before any other command is
+     * executed, and before the transaction is committed. A flush never splits a JDBC batch; the driver splits the
+     * {@code bulkWrite} into messages within {@code maxMessageSizeBytes}. A flush is bounded by the largest query
+     * timeout of the statements whose JDBC batches it executes, as far as writes in a transaction are bounded by it. If
+     * an insert fails, the {@link BatchUpdateException} identifies the JDBC batch and the command that failed, and has
+     * the update counts of that JDBC batch.
+     *
+     * @mongoCme Not thread-safe.
+     */
+    static final class InsertBuffer {
+        private static final int DEFAULT_MAX_WRITE_BATCH_SIZE = 100_000;
+
+        private final MongoDatabase mongoDatabase;
+        private final ClientSession clientSession;
+        private final List<WriteModel<BsonDocument>> writeModels;
+        /** Maps the buffered write models to the commands of all buffered JDBC batches. */
+        private final WriteModelsToCommandMapper writeModelsToCommandMapper;
+
+        private final List<BufferedBatch> batches;
+        private @Nullable MongoCollection<BsonDocument> collection;
+        private boolean ordered;
+        private int queryTimeout;
+        private int maxWriteBatchSize;
+
+        InsertBuffer(MongoDatabase mongoDatabase, ClientSession clientSession) {
+            this.mongoDatabase = mongoDatabase;
+            this.clientSession = clientSession;
+            writeModels = new ArrayList<>();
+            writeModelsToCommandMapper = new WriteModelsToCommandMapper(0);
+            batches = new ArrayList<>();
+        }
+
+        /** Returns the number of documents that each command of {@code commandBatch} inserts once flushed. */
+        private int[] add(
+                MongoCollection<BsonDocument> collection,
+                List<BsonDocument> commandBatch,
+                boolean ordered,
+                int queryTimeout)
+                throws SQLException {
+            var batchWriteModels = new ArrayList<WriteModel<BsonDocument>>(commandBatch.size());
+            var batchCumulativeCounts = new int[commandBatch.size()];
+            var updateCounts = new int[commandBatch.size()];
+            for (var i = 0; i < commandBatch.size(); i++) {
+                WriteModelConverter.convertToWriteModels(
+                        CommandDescription.INSERT, commandBatch.get(i), batchWriteModels);
+                batchCumulativeCounts[i] = batchWriteModels.size();
+                updateCounts[i] = batchCumulativeCounts[i] - (i == 0 ? 0 : batchCumulativeCounts[i - 1]);
+            }
+            if (this.collection != null
+                    && (this.ordered != ordered
+                            || !this.collection.getNamespace().equals(collection.getNamespace()))) {
+                flush();
+            }
+            this.queryTimeout =
+                    batches.isEmpty() ? queryTimeout : combineQueryTimeouts(this.queryTimeout, queryTimeout);
+            this.collection = collection;
+            this.ordered = ordered;
+            batches.add(new BufferedBatch(
+                    CommandDescription.INSERT,
+                    collection.getNamespace(),
+                    writeModelsToCommandMapper.getCommandCount(),
+                    commandBatch.size()));
+            var writeModelCountBeforeBatch = writeModels.size();
+            writeModels.addAll(batchWriteModels);
+            for (var batchCumulativeCount : batchCumulativeCounts) {
+                writeModelsToCommandMapper.add(writeModelCountBeforeBatch + batchCumulativeCount);
+            }
+            if (writeModels.size() >= getMaxWriteBatchSize()) {
+                flush();
+            }
+            return updateCounts;
+        }
+
+        void flush() throws SQLException {
+            var collection = this.collection;
+            if (collection == null) {
+                return;
+            }
+            try {
+                bulkWrite(
+                        withWriteTimeout(collection, clientSession, queryTimeout),
+                        clientSession,
+                        writeModels,
+                        ordered);
+            } catch (MongoBulkWriteException exception) {
+                throw createBatchUpdateException(exception);
+            } catch (RuntimeException exception) {
+                throw handleExecuteBatchException(exception, writeModelsToCommandMapper, ordered);
+            } finally {
+                discard();
+            }
+        }
+
+        void discard() {
+            collection = null;
+            writeModels.clear();
+            writeModelsToCommandMapper.clear();
+            batches.clear();
+        }
+
+        /**
+         * Creates an exception for the buffered JDBC batch that has the first failed write, whose update counts are
+         * calculated as in {@link MongoStatement#calculateBatchUpdateCounts(MongoBulkWriteException,
+         * WriteModelsToCommandMapper, boolean)}, but only for the commands of that JDBC batch.
+         */
+        private SQLException createBatchUpdateException(MongoBulkWriteException exception) {
+            var writeErrors = exception.getWriteErrors();
+            if (exception.getWriteConcernError() != null || writeErrors.isEmpty()) {
+                return handleExecuteBatchException(exception, writeModelsToCommandMapper, ordered);
+            }
+            var failedCommandIndexes = writeErrors.stream()
+                    .map(writeError -> writeModelsToCommandMapper.findCommandIndex(writeError.getIndex()))
+                    .sorted()
+                    .toList();
+            return createBufferedBatchUpdateException(exception, batches, failedCommandIndexes, ordered);
+        }
+
+        private int getMaxWriteBatchSize() {
+            if (maxWriteBatchSize == 0) {
+                // `hello` must not run in a transaction, which is why the session is not used.
+                var hello = mongoDatabase.runCommand(new BsonDocument("hello", new BsonInt32(1)), BsonDocument.class);
+                maxWriteBatchSize = hello.getNumber(
+                                "maxWriteBatchSize", new BsonInt32(DEFAULT_MAX_WRITE_BATCH_SIZE))
+                        .intValue();
+            }
+            return maxWriteBatchSize;
+        }
+    }
+
+    /**
+     * Write models from {@link #executeBatch(List)} that are not executed yet, so that the JDBC batches of a flush are
+     * sent to the server in a single {@link com.mongodb.client.MongoClient#bulkWrite}, regardless of their collections,
+     * see {@value com.mongodb.hibernate.internal.MongoConstants#CLIENT_BULK_WRITES_PROPERTY_NAME}.
+     *
+     * <p>JDBC batches are only buffered while auto-commit is disabled, see
+     * {@link MongoConnection#getClientBulkWriteBuffer()}. The buffer is flushed before any other command is executed,
+     * before the transaction is committed, and once the buffered write models reach the {@code maxWriteBatchSize} or,
+     * approximately, the {@code maxMessageSizeBytes} of the server, beyond which the driver splits the
+     * {@code bulkWrite} anyway. If a write fails, the {@link BatchUpdateException} identifies the JDBC batch and the
+     * command that failed, and has the update counts of that JDBC batch. A flush is bounded by the largest query
+     * timeout of the statements whose JDBC batches it executes, as {@link InsertBuffer#flush()} is.
+     *
+     * <p>Unordered JDBC batches are only buffered together if they are executed by the same {@link Statement}, because
+     * the server may reorder the writes of an unordered {@code bulkWrite}, for instance an update before the insert of
+     * the same document. The buffer is therefore flushed before a JDBC batch of another statement is added, if either
+     * that JDBC batch or the buffered ones are unordered.
+     *
+     * @mongoCme Not thread-safe.
+     */
+    static final class ClientBulkWriteBuffer {
+        private static final int DEFAULT_MAX_WRITE_BATCH_SIZE = 100_000;
+        private static final int DEFAULT_MAX_MESSAGE_SIZE_BYTES = 48_000_000;
+        private static final BsonDocumentCodec DOCUMENT_CODEC = new BsonDocumentCodec();
+
+        private final MongoClient mongoClient;
+        private final MongoDatabase mongoDatabase;
+        private final ClientSession clientSession;
+        private final List<ClientNamespacedWriteModel> writeModels;
+        /** Maps the buffered write models to the commands of all buffered JDBC batches. */
+        private final WriteModelsToCommandMapper writeModelsToCommandMapper;
+
+        private final List<BufferedBatch> batches;
+        /** Reused to measure the encoded size of the buffered commands. */
+        private final BasicOutputBuffer outputBuffer;
+
+        private boolean ordered;
+        /** The statement that executed the last buffered JDBC batch. */
+        private @Nullable MongoStatement statement;
+        private int queryTimeout;
+        /** The encoded size of the buffered commands, which approximates that of the buffered write models. */
+        private long encodedSize;
+
+        private int maxWriteBatchSize;
+        private int maxMessageSizeBytes;
+
+        ClientBulkWriteBuffer(MongoClient mongoClient, MongoDatabase mongoDatabase, ClientSession clientSession) {
+            this.mongoClient = mongoClient;
+            this.mongoDatabase = mongoDatabase;
+            this.clientSession = clientSession;
+            writeModels = new ArrayList<>();
+            writeModelsToCommandMapper = new WriteModelsToCommandMapper(0);
+            batches = new ArrayList<>();
+            outputBuffer = new BasicOutputBuffer();
+        }
+
+        private void add(
+                MongoStatement statement,
+                CommandDescription commandDescription,
+                MongoNamespace namespace,
+                List<BsonDocument> commandBatch,
+                boolean ordered,
+                int queryTimeout)
+                throws SQLException {
+            var batchWriteModels = new ArrayList<WriteModel<BsonDocument>>(commandBatch.size());
+            var batchCumulativeCounts = new int[commandBatch.size()];
+            var batchEncodedSize = 0L;
+            for (var i = 0; i < commandBatch.size(); i++) {
+                var command = commandBatch.get(i);
+                WriteModelConverter.convertToWriteModels(commandDescription, command, batchWriteModels);
+                batchCumulativeCounts[i] = batchWriteModels.size();
+                batchEncodedSize += getEncodedSize(command);
+            }
+            if (!batches.isEmpty() && (this.ordered != ordered || (!ordered && this.statement != statement))) {
+                flush();
+            }
+            this.queryTimeout =
+                    batches.isEmpty() ? queryTimeout : combineQueryTimeouts(this.queryTimeout, queryTimeout);
+            this.ordered = ordered;
+            this.statement = statement;
+            encodedSize += batchEncodedSize;
+            batches.add(new BufferedBatch(
+                    commandDescription, namespace, writeModelsToCommandMapper.getCommandCount(), commandBatch.size()));
+            var writeModelCountBeforeBatch = writeModels.size();
+            for (var batchWriteModel : batchWriteModels) {
+                writeModels.add(toClientNamespacedWriteModel(namespace, batchWriteModel));
+            }
+            for (var batchCumulativeCount : batchCumulativeCounts) {
+                writeModelsToCommandMapper.add(writeModelCountBeforeBatch + batchCumulativeCount);
+            }
+            fetchServerLimitsIfNeeded();
+            if (writeModels.size() >= maxWriteBatchSize || encodedSize >= maxMessageSizeBytes) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (batches.isEmpty()) {
+                return;
+            }
+            try {
+                withWriteTimeout(mongoClient, clientSession, queryTimeout)
+                        .bulkWrite(clientSession, writeModels, clientBulkWriteOptions().ordered(ordered));
+            } catch (ClientBulkWriteException exception) {
+                throw createBatchUpdateException(exception);
+            } catch (RuntimeException exception) {
+                throw handleExecuteBatchException(exception, writeModelsToCommandMapper, ordered);
+            } finally {
+                discard();
+            }
+        }
+
+        void discard() {
+            writeModels.clear();
+            writeModelsToCommandMapper.clear();
+            batches.clear();
+            statement = null;
+            encodedSize = 0;
+        }
+
+        private int getEncodedSize(BsonDocument command) {
+            outputBuffer.truncateToPosition(0);
+            try (var writer = new BsonBinaryWriter(outputBuffer)) {
+                DOCUMENT_CODEC.encode(writer, command, EncoderContext.builder().build());
+            }
+            return outputBuffer.getPosition();
+        }
+
+        private void fetchServerLimitsIfNeeded() {
+            if (maxWriteBatchSize == 0) {
+                // `hello` must not run in a transaction, which is why the session is not used.
+                var hello = mongoDatabase.runCommand(new BsonDocument("hello", new BsonInt32(1)), BsonDocument.class);
+                maxWriteBatchSize = hello.getNumber(
+                                "maxWriteBatchSize", new BsonInt32(DEFAULT_MAX_WRITE_BATCH_SIZE))
+                        .intValue();
+                maxMessageSizeBytes = hello.getNumber(
+                                "maxMessageSizeBytes", new BsonInt32(DEFAULT_MAX_MESSAGE_SIZE_BYTES))
+                        .intValue();
+            }
+        }
+
+        /**
+         * Creates an exception for the buffered JDBC batch that has the first failed write, whose update counts are
+         * calculated as in {@link MongoStatement#calculateBatchUpdateCounts(MongoBulkWriteException,
+         * WriteModelsToCommandMapper, boolean)}, but only for the commands of that JDBC batch.
+         */
+        private SQLException createBatchUpdateException(ClientBulkWriteException exception) {
+            var failedModelIndexes = exception.getWriteErrors().keySet();
+            if (exception.getCause() != null
+                    || !exception.getWriteConcernErrors().isEmpty()
+                    || failedModelIndexes.isEmpty()) {
+                return handleExecuteBatchException(exception, writeModelsToCommandMapper, ordered);
+            }
+            var failedCommandIndexes = failedModelIndexes.stream()
+                    .map(writeModelsToCommandMapper::findCommandIndex)
+                    .sorted()
+                    .toList();
+            return createBufferedBatchUpdateException(exception, batches, failedCommandIndexes, ordered);
+        }
+    }
+
+    /**
+     * Creates an exception for the buffered JDBC batch that has the first of the {@code failedCommandIndexes}, whose
+     * update counts are only those of the commands of that JDBC batch, because the update counts of the JDBC batches
+     * before it have already been returned by {@code executeBatch}.
+     *
+     * @param failedCommandIndexes The sorted indexes of the failed commands among all buffered commands.
+     */
+    private static BatchUpdateException createBufferedBatchUpdateException(
+            RuntimeException exception,
+            List<BufferedBatch> batches,
+            List<Integer> failedCommandIndexes,
+            boolean ordered) {
+        var firstFailedCommandIndex = failedCommandIndexes.get(0);
+        var failedBatch = batches.stream()
+                .filter(batch -> batch.contains(firstFailedCommandIndex))
+                .findFirst()
+                .orElseThrow();
+        int[] updateCounts;
+        if (ordered) {
+            updateCounts = createUpdateCounts(firstFailedCommandIndex - failedBatch.firstCommandIndex());
+        } else {
+            updateCounts = createUpdateCounts(failedBatch.commandCount());
+            for (var failedCommandIndex : failedCommandIndexes) {
+                if (failedBatch.contains(failedCommandIndex)) {
+                    updateCounts[failedCommandIndex - failedBatch.firstCommandIndex()] = Statement.EXECUTE_FAILED;
+                }
+            }
+        }
+        var errorCode = getErrorCode(exception);
+        var exceptionMessage = "%s: command [%d] of the JDBC batch of [%s] commands on [%s]"
+                .formatted(
+                        getExceptionMessage(errorCode, exception),
+                        firstFailedCommandIndex - failedBatch.firstCommandIndex(),
+                        failedBatch.commandDescription().getCommandName(),
+                        failedBatch.namespace());
+        return new BatchUpdateException(exceptionMessage, NULL_SQL_STATE, errorCode, updateCounts, exception);
+    }
+
+    /**
+     * A JDBC batch buffered by an {@link InsertBuffer} or a {@link ClientBulkWriteBuffer}.
+     *
+     * @param firstCommandIndex The index of the first command of the JDBC batch among all buffered commands.
+     */
+    private record BufferedBatch(
+            CommandDescription commandDescription, MongoNamespace namespace, int firstCommandIndex, int commandCount) {
+        boolean contains(int commandIndex) {
+            return commandIndex >= firstCommandIndex && commandIndex < firstCommandIndex + commandCount;
+        }
+    }
+
+    /**
+     * Schema export commands from {@link #addBatch(String)} that are not executed yet, so that the commands of a batch
+     * are executed per collection, with all the indexes of a collection created in a single {@code createIndexes}, and
+     * the collections processed in parallel, see
+     * {@value com.mongodb.hibernate.internal.MongoConstants#SCHEMA_EXPORT_PARALLELISM_PROPERTY_NAME}.
+     *
+     * <p>The commands of a collection are executed in the order they were added, and a failed command does not prevent
+     * the execution of the subsequent ones. If several commands fail, the exception of the first has those of the
+     * others suppressed. A command passed to {@link #execute(String)} is not added, the buffer
+     * {@linkplain #execute(AdminCommand) executes} it immediately.
+     *
+     * @mongoCme Not thread-safe.
+     */
+    static final class AdminCommandBuffer {
+        private final MongoDatabase mongoDatabase;
+        private final int parallelism;
+        private final @Nullable CreateIndexCommitQuorum commitQuorum;
+        private final Map<String, List<AdminCommand>> commandsByCollection;
+        private int commandCount;
+
+        /** The collections created via this buffer, which have no indexes to compare with but those created via it. */
+        private final Set<String> newCollectionNames;
+
+        AdminCommandBuffer(
+                MongoDatabase mongoDatabase, int parallelism, @Nullable CreateIndexCommitQuorum commitQuorum) {
+            this.mongoDatabase = mongoDatabase;
+            this.parallelism = parallelism;
+            this.commitQuorum = commitQuorum;
+            commandsByCollection = new LinkedHashMap<>();
+            newCollectionNames = ConcurrentHashMap.newKeySet();
+        }
+
+        void add(AdminCommand command) {
+            commandCount++;
+            var commands = commandsByCollection.computeIfAbsent(command.getCollectionName(), name -> new ArrayList<>());
+            var lastIndex = commands.size() - 1;
+            if (command instanceof AdminCommand.CreateIndexesCommand createIndexes
+                    && lastIndex >= 0
+                    && commands.get(lastIndex) instanceof AdminCommand.CreateIndexesCommand previousCreateIndexes) {
+                commands.set(lastIndex, previousCreateIndexes.merge(createIndexes));
+            } else {
+                commands.add(command);
+            }
+        }
+
+        void clear() {
+            commandsByCollection.clear();
+            commandCount = 0;
+        }
+
+        /**
+         * Executes the added commands.
+         *
+         * @return The number of the added commands.
+         */
+        int flush() {
+            var commandGroups = List.copyOf(commandsByCollection.values());
+            var result = commandCount;
+            clear();
+            if (parallelism == 0 || commandGroups.size() <= 1) {
+                commandGroups.forEach(this::execute);
+                return result;
+            }
+            var executor = Executors.newFixedThreadPool(Math.min(parallelism, commandGroups.size()), runnable -> {
+                var thread = new Thread(runnable, "mongodb-hibernate-schema-export");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                var futures = commandGroups.stream()
+                        .map(commands -> executor.submit(() -> execute(commands)))
+                        .toList();
+                RuntimeException failure = null;
+                for (var future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        var cause = e.getCause() instanceof RuntimeException runtimeException
+                                ? runtimeException
+                                : new MongoException("Failed to export the schema", e.getCause());
+                        if (failure == null) {
+                            failure = cause;
+                        } else {
+                            failure.addSuppressed(cause);
+                        }
+                    }
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+                return result;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MongoInterruptedException("Interrupted while exporting the schema", e);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        private void execute(List<AdminCommand> commands) {
+            RuntimeException failure = null;
+            for (var command : commands) {
+                try {
+                    execute(command);
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        /** Executes {@code command} without adding it. */
+        void execute(AdminCommand command) {
+            var collectionName = command.getCollectionName();
+            if (command instanceof AdminCommand.CreateIndexesCommand createIndexes) {
+                createIndexes.execute(mongoDatabase, commitQuorum, newCollectionNames.contains(collectionName));
+                return;
+            }
+            newCollectionNames.remove(collectionName);
+            command.execute(mongoDatabase);
+            if (command instanceof AdminCommand.CreateCollectionCommand) {
+                newCollectionNames.add(collectionName);
+            }
+        }
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.jdbc;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
+import static com.mongodb.hibernate.internal.MongoAssertions.assertTrue;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCursor;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link MongoCursor} that iterates another cursor on a background thread, so that the {@code getMore} commands of
+ * the other cursor overlap with the processing of the documents already fetched.
+ *
+ * <p>At most {@code maxPrefetchedDocuments} documents, in addition to the batch buffered by the other cursor, are
+ * fetched ahead of the caller, which blocks in {@link #hasNext()} and {@link #next()} only if no fetched document is
+ * available. Only the background thread uses the other cursor and its {@link ClientSession}, which must not be used by
+ * anything else, and which the background thread closes after the other cursor. {@link #close()} waits for the
+ * background thread to finish, so that neither is used after this cursor is closed.
+ *
+ * <p>This class is not thread-safe, other than in its interaction with the background thread.
+ */
+final class PrefetchingMongoCursor<T> implements MongoCursor<T> {
+
+    private static final Object END = new Object();
+
+    private final MongoCursor<T> cursor;
+    private final ClientSession session;
+
+    /** Contains documents, followed by either {@link #END} or a {@link Failure}. */
+    private final BlockingQueue<Object> prefetched;
+
+    private final Thread prefetcher;
+
+    private volatile boolean closed;
+
+    /** The element taken from {@link #prefetched} but not yet returned by {@link #next()}. */
+    private @Nullable Object current;
+
+    /** @param session The session of {@code cursor}, which this cursor takes ownership of. */
+    PrefetchingMongoCursor(MongoCursor<T> cursor, int maxPrefetchedDocuments, ClientSession session) {
+        assertTrue(maxPrefetchedDocuments > 0);
+        this.cursor = cursor;
+        this.session = session;
+        prefetched = new ArrayBlockingQueue<>(maxPrefetchedDocuments);
+        prefetcher = new Thread(this::prefetch, "mongodb-hibernate-cursor-prefetcher");
+        prefetcher.setDaemon(true);
+        prefetcher.start();
+    }
+
+    private void prefetch() {
+        Object last = END;
+        try {
+            while (!closed && cursor.hasNext()) {
+                prefetched.put(cursor.next());
+            }
+        } catch (InterruptedException e) {
+            last = new Failure(new MongoInterruptedException("Interrupted while prefetching documents", e));
+        } catch (RuntimeException e) {
+            last = new Failure(e);
+        } finally {
+            try {
+                cursor.close();
+            } catch (RuntimeException e) {
+                if (last == END) {
+                    last = new Failure(e);
+                }
+            } finally {
+                session.close();
+            }
+        }
+        if (!closed) {
+            // `put` may block only until `close` clears `prefetched`,
+            // because nothing else is put into `prefetched` after `closed` is set
+            try {
+                prefetched.put(last);
+            } catch (InterruptedException e) {
+                // nothing interrupts the background thread, which is about to terminate anyway
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return peek() != END;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var result = (T) assertNotNull(current);
+        current = null;
+        return result;
+    }
+
+    @Override
+    public int available() {
+        return prefetched.size() + (current == null || current == END ? 0 : 1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable T tryNext() {
+        if (current == null) {
+            current = prefetched.poll();
+        }
+        if (current == null || current == END) {
+            return null;
+        }
+        rethrowIfFailure(current);
+        var result = (T) current;
+        current = null;
+        return result;
+    }
+
+    @Override
+    public @Nullable ServerCursor getServerCursor() {
+        return cursor.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return cursor.getServerAddress();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        current = null;
+        // unblocks the background thread if it waits for space in `prefetched`
+        prefetched.clear();
+        var interrupted = false;
+        while (true) {
+            try {
+                prefetcher.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        prefetched.clear();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Object peek() {
+        if (closed) {
+            throw new IllegalStateException("Cursor has been closed");
+        }
+        if (current == null) {
+            try {
+                current = prefetched.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MongoInterruptedException("Interrupted while waiting for prefetched documents", e);
+            }
+        }
+        rethrowIfFailure(current);
+        return current;
+    }
+
+    private static void rethrowIfFailure(Object element) {
+        if (element instanceof Failure failure) {
+            throw failure.exception();
+        }
+    }
+
+    /** The exception thrown by the other cursor, which is rethrown by every subsequent call of this cursor. */
+    private record Failure(RuntimeException exception) {}
+}
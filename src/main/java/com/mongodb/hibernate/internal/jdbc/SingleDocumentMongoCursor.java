@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.jdbc;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import java.util.NoSuchElementException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link MongoCursor} over a single document computed by the client, for example, from the result of a command that
+ * does not return a cursor, so that it can be read via {@link MongoResultSet}.
+ */
+final class SingleDocumentMongoCursor<T> implements MongoCursor<T> {
+    private @Nullable T document;
+
+    SingleDocumentMongoCursor(T document) {
+        this.document = document;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return document != null;
+    }
+
+    @Override
+    public T next() {
+        var result = document;
+        if (result == null) {
+            throw new NoSuchElementException();
+        }
+        document = null;
+        return result;
+    }
+
+    @Override
+    public int available() {
+        return document == null ? 0 : 1;
+    }
+
+    @Override
+    public @Nullable T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    @Override
+    public @Nullable ServerCursor getServerCursor() {
+        return null;
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        throw new UnsupportedOperationException("The document is not from a server cursor");
+    }
+
+    @Override
+    public void close() {
+        document = null;
+    }
+}
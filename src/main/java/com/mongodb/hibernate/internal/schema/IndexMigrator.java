@@ -0,0 +1,409 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.schema;
+
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.hibernate.internal.MongoConstants.EXTENDED_JSON_WRITER_SETTINGS;
+import static com.mongodb.hibernate.internal.MongoConstants.INDEX_MIGRATION_COLLECTION;
+import static com.mongodb.hibernate.internal.VisibleForTesting.AccessModifier.PRIVATE;
+import static java.lang.String.format;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.hibernate.internal.MongoIndexes;
+import com.mongodb.hibernate.internal.VisibleForTesting;
+import com.mongodb.hibernate.internal.cfg.MongoConfiguration.IndexMigration;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.bson.BsonArray;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.hibernate.HibernateException;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the mapped indexes of each mapped collection with those listed by {@code listIndexes}, and
+ * {@linkplain IndexMigration#UPDATE updates} the indexes of the collection if so configured.
+ *
+ * <p>Only the indexes recorded in {@value com.mongodb.hibernate.internal.MongoConstants#INDEX_MIGRATION_COLLECTION}
+ * are managed, that is, hidden and dropped when they are no longer mapped. An index is recorded there when the
+ * migration sees it mapped, so the indexes created otherwise, for example by an administrator, are left alone. An index
+ * that is no longer mapped is first hidden, so that the query planner stops using it while the server still maintains
+ * it, and the time at which it is hidden is recorded. It is dropped only if
+ * {@linkplain com.mongodb.hibernate.internal.MongoConstants#INDEX_MIGRATION_DROP_OBSOLETE_PROPERTY_NAME so configured},
+ * once it has been hidden for the configured duration, and if it is then still hidden and still not mapped. Until then,
+ * mapping the index again unhides it without rebuilding it. An index whose specification differs from the mapped one,
+ * other than in whether it is hidden, is only logged, because rebuilding it may take long and must be planned by the
+ * application.
+ *
+ * <p>The indexes are compared and updated on a background thread started when the {@link SessionFactory} is created,
+ * because {@code createIndexes} returns only once the indexes are built, which takes as long as scanning their
+ * collections, and would otherwise delay the startup of the application. The queries run meanwhile may therefore not
+ * use the indexes that they are mapped to use. If
+ * {@linkplain com.mongodb.hibernate.internal.MongoConstants#INDEX_MIGRATION_WAIT_PROPERTY_NAME so configured}, the
+ * indexes are instead compared and updated before the {@link SessionFactory} is used. Closing the
+ * {@link SessionFactory} waits for the migration to complete, so that it is never abandoned half-way when the
+ * application exits. The updates are executed as a JDBC batch, like those of the schema export, and so are
+ * idempotent. If updating the indexes of any collection fails, the indexes of the other collections are still updated,
+ * then the failure is logged, or, if the creation of the {@link SessionFactory} waits for the migration, it fails.
+ *
+ * @mongoCme Thread-safe.
+ */
+final class IndexMigrator implements SessionFactoryObserver {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexMigrator.class);
+
+    private static final String COLLECTION_FIELD_NAME = "collection";
+    private static final String INDEX_FIELD_NAME = "index";
+    private static final String HIDDEN_AT_FIELD_NAME = "hiddenAt";
+
+    private final transient IndexMigration indexMigration;
+    private final transient boolean waitForMigration;
+    private final transient boolean dropObsolete;
+    private final transient Duration dropAfter;
+    private final transient Map<String, List<BsonDocument>> mappedIndexes;
+    private final transient MongoDatabase database;
+    private final transient ConnectionProvider connectionProvider;
+    private transient @Nullable Thread thread;
+
+    /**
+     * @param waitForMigration Whether the creation of the {@link SessionFactory} waits for the migration, instead of
+     *     it running on a background thread.
+     * @param dropObsolete Whether the managed indexes that are no longer mapped are dropped, once they have been hidden
+     *     for {@code dropAfter}.
+     * @param mappedIndexes The mapped indexes of each mapped collection, as specified in {@code createIndexes}
+     *     commands.
+     */
+    IndexMigrator(
+            IndexMigration indexMigration,
+            boolean waitForMigration,
+            boolean dropObsolete,
+            Duration dropAfter,
+            Map<String, List<BsonDocument>> mappedIndexes,
+            MongoDatabase database,
+            ConnectionProvider connectionProvider) {
+        this.indexMigration = indexMigration;
+        this.waitForMigration = waitForMigration;
+        this.dropObsolete = dropObsolete;
+        this.dropAfter = dropAfter;
+        this.mappedIndexes = mappedIndexes;
+        this.database = database;
+        this.connectionProvider = connectionProvider;
+    }
+
+    @Override
+    public void sessionFactoryCreated(SessionFactory factory) {
+        if (waitForMigration) {
+            migrate();
+            return;
+        }
+        var thread = new Thread(
+                () -> {
+                    try {
+                        migrate();
+                    } catch (HibernateException e) {
+                        LOGGER.error("Failed to migrate the indexes", e);
+                    }
+                },
+                "mongodb-hibernate-index-migrator");
+        thread.setDaemon(true);
+        this.thread = thread;
+        thread.start();
+    }
+
+    /** Waits for the background thread to complete the migration before the {@code MongoClient} it uses is closed. */
+    @Override
+    public void sessionFactoryClosing(SessionFactory factory) {
+        var thread = this.thread;
+        if (thread == null) {
+            return;
+        }
+        var interrupted = false;
+        while (true) {
+            try {
+                thread.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void migrate() {
+        HibernateException failure = null;
+        for (var entry : mappedIndexes.entrySet()) {
+            var collectionName = entry.getKey();
+            try {
+                migrate(collectionName, entry.getValue());
+            } catch (RuntimeException | SQLException e) {
+                if (indexMigration != IndexMigration.UPDATE) {
+                    LOGGER.warn("Failed to validate the indexes of collection [{}]", collectionName, e);
+                } else if (failure == null) {
+                    failure = new HibernateException(
+                            format("Failed to migrate the indexes of collection [%s]", collectionName), e);
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void migrate(String collectionName, List<BsonDocument> indexes) throws SQLException {
+        var existingIndexes = database.getCollection(collectionName, BsonDocument.class)
+                .listIndexes(BsonDocument.class)
+                .into(new ArrayList<>());
+        var managedIndexes = database.getCollection(INDEX_MIGRATION_COLLECTION, BsonDocument.class);
+        var hiddenAt = new HashMap<String, @Nullable Instant>();
+        for (var managedIndex : managedIndexes
+                .find(eq("_id." + COLLECTION_FIELD_NAME, collectionName))
+                .into(new ArrayList<>())) {
+            var time = managedIndex.get(HIDDEN_AT_FIELD_NAME);
+            hiddenAt.put(
+                    managedIndex.getDocument("_id").getString(INDEX_FIELD_NAME).getValue(),
+                    time != null && time.isDateTime()
+                            ? Instant.ofEpochMilli(time.asDateTime().getValue())
+                            : null);
+        }
+        var diff = Diff.of(indexes, existingIndexes, hiddenAt.keySet());
+        var update = indexMigration == IndexMigration.UPDATE;
+        for (var index : diff.changed()) {
+            LOGGER.warn(
+                    "Index [{}] of collection [{}] differs from the mapped index {}, drop it to have it created again",
+                    MongoIndexes.getName(index),
+                    collectionName,
+                    index.toJson());
+        }
+        if (!update) {
+            diff.missing()
+                    .forEach(index -> LOGGER.warn(
+                            "Index [{}] of collection [{}] is missing", MongoIndexes.getName(index), collectionName));
+            diff.visibilityChanged()
+                    .forEach(index -> LOGGER.warn(
+                            "Index [{}] of collection [{}] must be {}",
+                            MongoIndexes.getName(index),
+                            collectionName,
+                            MongoIndexes.isHidden(index) ? "hidden" : "unhidden"));
+            diff.obsolete()
+                    .forEach(index -> LOGGER.warn(
+                            "Index [{}] of collection [{}] is no longer mapped",
+                            MongoIndexes.getName(index),
+                            collectionName));
+            return;
+        }
+        var now = Instant.now();
+        // The mapped indexes are recorded before they are created, so that they are managed even if creating them fails
+        var mappedIndexRecords = new ArrayList<WriteModel<BsonDocument>>();
+        for (var index : indexes) {
+            var name = MongoIndexes.getName(index);
+            if (!hiddenAt.containsKey(name) || hiddenAt.get(name) != null) {
+                mappedIndexRecords.add(new UpdateOneModel<>(
+                        eq("_id", id(collectionName, name)),
+                        Updates.unset(HIDDEN_AT_FIELD_NAME),
+                        new UpdateOptions().upsert(true)));
+            }
+        }
+        write(managedIndexes, mappedIndexRecords);
+        Predicate<String> droppable = name -> {
+            var time = hiddenAt.get(name);
+            return dropObsolete && time != null && !time.plus(dropAfter).isAfter(now);
+        };
+        var commands = diff.toCommands(collectionName, droppable);
+        if (!commands.isEmpty()) {
+            LOGGER.info("Migrating the indexes of collection [{}]: {}", collectionName, commands);
+            var connection = connectionProvider.getConnection();
+            try (var statement = connection.createStatement()) {
+                for (var command : commands) {
+                    statement.addBatch(command);
+                }
+                statement.executeBatch();
+            } finally {
+                connectionProvider.closeConnection(connection);
+            }
+        }
+        var obsoleteIndexRecords = new ArrayList<WriteModel<BsonDocument>>();
+        for (var index : diff.obsolete()) {
+            var name = MongoIndexes.getName(index);
+            if (!MongoIndexes.isHidden(index) || hiddenAt.get(name) == null) {
+                obsoleteIndexRecords.add(new UpdateOneModel<>(
+                        eq("_id", id(collectionName, name)),
+                        Updates.set(HIDDEN_AT_FIELD_NAME, new BsonDateTime(now.toEpochMilli())),
+                        new UpdateOptions().upsert(true)));
+            } else if (droppable.test(name)) {
+                obsoleteIndexRecords.add(new DeleteOneModel<>(eq("_id", id(collectionName, name))));
+            } else {
+                LOGGER.info(
+                        "Index [{}] of collection [{}] is hidden since {}, and is no longer mapped",
+                        name,
+                        collectionName,
+                        hiddenAt.get(name));
+            }
+        }
+        var existingNames = existingIndexes.stream().map(MongoIndexes::getName).collect(Collectors.toSet());
+        var mappedNames = indexes.stream().map(MongoIndexes::getName).collect(Collectors.toSet());
+        for (var name : hiddenAt.keySet()) {
+            if (!existingNames.contains(name) && !mappedNames.contains(name)) {
+                obsoleteIndexRecords.add(new DeleteOneModel<>(eq("_id", id(collectionName, name))));
+            }
+        }
+        write(managedIndexes, obsoleteIndexRecords);
+    }
+
+    private static void write(MongoCollection<BsonDocument> managedIndexes, List<WriteModel<BsonDocument>> records) {
+        if (!records.isEmpty()) {
+            managedIndexes.bulkWrite(records);
+        }
+    }
+
+    private static BsonValue id(String collectionName, String indexName) {
+        return new BsonDocument(COLLECTION_FIELD_NAME, new BsonString(collectionName))
+                .append(INDEX_FIELD_NAME, new BsonString(indexName));
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        throw new NotSerializableException(
+                "This class is not designed to be serialized despite it having to implement `Serializable`");
+    }
+
+    /**
+     * The differences between the mapped indexes of a collection and its existing indexes, matched by name.
+     *
+     * @param missing The mapped indexes that do not exist.
+     * @param changed The mapped indexes that exist with a different specification, other than in whether they are
+     *     hidden.
+     * @param visibilityChanged The mapped indexes that exist, but are hidden while they must not be, or vice versa.
+     * @param obsolete The existing managed indexes, other than the {@value MongoIndexes#ID_INDEX_NAME} index, that are
+     *     not mapped.
+     */
+    @VisibleForTesting(otherwise = PRIVATE)
+    record Diff(
+            List<BsonDocument> missing,
+            List<BsonDocument> changed,
+            List<BsonDocument> visibilityChanged,
+            List<BsonDocument> obsolete) {
+
+        /**
+         * Compares the mapped {@code indexes} with the {@code existingIndexes}.
+         *
+         * @param managedIndexNames The names of the indexes that may be hidden and dropped when no longer mapped.
+         */
+        static Diff of(List<BsonDocument> indexes, List<BsonDocument> existingIndexes, Set<String> managedIndexNames) {
+            var missing = new ArrayList<BsonDocument>();
+            var changed = new ArrayList<BsonDocument>();
+            var visibilityChanged = new ArrayList<BsonDocument>();
+            for (var index : indexes) {
+                var name = MongoIndexes.getName(index);
+                var existingIndex = existingIndexes.stream()
+                        .filter(candidate -> MongoIndexes.getName(candidate).equals(name))
+                        .findFirst()
+                        .orElse(null);
+                if (existingIndex == null) {
+                    missing.add(index);
+                } else if (!MongoIndexes.isSatisfiedByIgnoringHidden(index, existingIndex)) {
+                    changed.add(index);
+                } else if (MongoIndexes.isHidden(index) != MongoIndexes.isHidden(existingIndex)) {
+                    visibilityChanged.add(index);
+                }
+            }
+            var mappedNames = indexes.stream().map(MongoIndexes::getName).collect(Collectors.toSet());
+            var obsolete = existingIndexes.stream()
+                    .filter(existingIndex -> {
+                        var name = MongoIndexes.getName(existingIndex);
+                        return !name.equals(MongoIndexes.ID_INDEX_NAME)
+                                && !mappedNames.contains(name)
+                                && managedIndexNames.contains(name);
+                    })
+                    .toList();
+            return new Diff(missing, changed, visibilityChanged, obsolete);
+        }
+
+        /**
+         * Returns the commands that drop the {@linkplain #obsolete() obsolete} indexes that are already hidden and
+         * {@code droppable}, hide the obsolete indexes that are not hidden, change the
+         * {@linkplain #visibilityChanged() visibility} of the mapped indexes, and create the {@linkplain #missing()
+         * missing} indexes, in this order, so that a missing index may replace an obsolete one with the same key once
+         * the latter is dropped.
+         *
+         * @param droppable Whether the hidden obsolete index with the given name may be dropped.
+         */
+        List<String> toCommands(String collectionName, Predicate<String> droppable) {
+            var result = new ArrayList<String>();
+            for (var index : obsolete) {
+                var name = MongoIndexes.getName(index);
+                BsonDocument command;
+                if (!MongoIndexes.isHidden(index)) {
+                    command = hideIndexCommand(collectionName, new BsonString(name), true);
+                } else if (droppable.test(name)) {
+                    command = new BsonDocument("dropIndexes", new BsonString(collectionName))
+                            .append("index", new BsonString(name));
+                } else {
+                    continue;
+                }
+                result.add(command.toJson(EXTENDED_JSON_WRITER_SETTINGS));
+            }
+            for (var index : visibilityChanged) {
+                var name = new BsonString(MongoIndexes.getName(index));
+                result.add(hideIndexCommand(collectionName, name, MongoIndexes.isHidden(index))
+                        .toJson(EXTENDED_JSON_WRITER_SETTINGS));
+            }
+            if (!missing.isEmpty()) {
+                result.add(new BsonDocument("createIndexes", new BsonString(collectionName))
+                        .append("indexes", new BsonArray(missing))
+                        .toJson(EXTENDED_JSON_WRITER_SETTINGS));
+            }
+            return result;
+        }
+
+        private static BsonDocument hideIndexCommand(String collectionName, BsonString indexName, boolean hidden) {
+            return new BsonDocument("collMod", new BsonString(collectionName))
+                    .append("index", new BsonDocument("name", indexName).append("hidden", BsonBoolean.valueOf(hidden)));
+        }
+    }
+}
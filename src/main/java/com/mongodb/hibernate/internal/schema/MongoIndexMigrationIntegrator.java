@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.schema;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.hibernate.internal.cfg.MongoConfiguration.IndexMigration;
+import com.mongodb.hibernate.internal.dialect.MongoDialect;
+import com.mongodb.hibernate.internal.service.StandardServiceRegistryScopedState;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.boot.model.relational.internal.SqlStringGenerationContextImpl;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+
+/**
+ * Registers an {@link IndexMigrator} with each {@link org.hibernate.SessionFactory} that uses {@link MongoDialect} and
+ * is configured with {@value com.mongodb.hibernate.internal.MongoConstants#INDEX_MIGRATION_PROPERTY_NAME} other than
+ * {@code none}.
+ *
+ * @hidden
+ */
+@SuppressWarnings("MissingSummary")
+public final class MongoIndexMigrationIntegrator implements Integrator {
+    public MongoIndexMigrationIntegrator() {}
+
+    @Override
+    public void integrate(
+            Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        var dialect = sessionFactory.getJdbcServices().getDialect();
+        if (!(dialect instanceof MongoDialect mongoDialect)) {
+            return;
+        }
+        var serviceRegistry = sessionFactory.getServiceRegistry();
+        var configuration = serviceRegistry
+                .requireService(StandardServiceRegistryScopedState.class)
+                .getConfiguration();
+        if (configuration.indexMigration() == IndexMigration.NONE) {
+            return;
+        }
+        var context = SqlStringGenerationContextImpl.fromConfigurationMap(
+                sessionFactory.getJdbcServices().getJdbcEnvironment(),
+                metadata.getDatabase(),
+                sessionFactory.getProperties());
+        var mappedIndexes = mappedIndexes(mongoDialect, metadata, context);
+        var connectionProvider = serviceRegistry.requireService(ConnectionProvider.class);
+        var mongoClient = connectionProvider.unwrap(MongoClient.class);
+        sessionFactory.addObserver(new IndexMigrator(
+                configuration.indexMigration(),
+                configuration.indexMigrationWait(),
+                configuration.indexMigrationDropObsolete(),
+                Duration.ofSeconds(configuration.indexMigrationDropAfterSeconds()),
+                mappedIndexes,
+                mongoClient.getDatabase(configuration.databaseName()),
+                connectionProvider));
+    }
+
+    /**
+     * Returns the indexes of each mapped collection, as specified in the {@code createIndexes} commands of the schema
+     * export, including the collections without indexes, whose indexes are then all no longer mapped.
+     */
+    private static Map<String, List<BsonDocument>> mappedIndexes(
+            MongoDialect dialect, Metadata metadata, SqlStringGenerationContext context) {
+        var result = new LinkedHashMap<String, List<BsonDocument>>();
+        for (var namespace : metadata.getDatabase().getNamespaces()) {
+            for (var table : namespace.getTables()) {
+                if (!table.isPhysicalTable()) {
+                    continue;
+                }
+                var indexes = result.computeIfAbsent(
+                        context.format(table.getQualifiedTableName()), ignored -> new ArrayList<>());
+                var commands = new ArrayList<String>();
+                for (var index : table.getIndexes().values()) {
+                    commands.addAll(List.of(dialect.getIndexExporter().getSqlCreateStrings(index, metadata, context)));
+                }
+                for (var uniqueKey : table.getUniqueKeys().values()) {
+                    commands.addAll(
+                            List.of(dialect.getUniqueKeyExporter().getSqlCreateStrings(uniqueKey, metadata, context)));
+                }
+                for (var command : commands) {
+                    BsonDocument.parse(command).getArray("indexes").stream()
+                            .map(BsonValue::asDocument)
+                            .forEach(indexes::add);
+                }
+            }
+        }
+        return result;
+    }
+}
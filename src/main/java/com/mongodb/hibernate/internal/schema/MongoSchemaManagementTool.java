@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.schema;
+
+import static com.mongodb.hibernate.internal.VisibleForTesting.AccessModifier.PRIVATE;
+import static java.lang.String.format;
+
+import com.mongodb.hibernate.internal.VisibleForTesting;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.boot.Metadata;
+import org.hibernate.resource.transaction.spi.DdlTransactionIsolator;
+import org.hibernate.tool.schema.TargetType;
+import org.hibernate.tool.schema.internal.HibernateSchemaManagementTool;
+import org.hibernate.tool.schema.internal.SchemaCreatorImpl;
+import org.hibernate.tool.schema.spi.CommandAcceptanceException;
+import org.hibernate.tool.schema.spi.ContributableMatcher;
+import org.hibernate.tool.schema.spi.ExecutionOptions;
+import org.hibernate.tool.schema.spi.GenerationTarget;
+import org.hibernate.tool.schema.spi.SchemaCreator;
+import org.hibernate.tool.schema.spi.ScriptTargetOutput;
+import org.hibernate.tool.schema.spi.SourceDescriptor;
+import org.hibernate.tool.schema.spi.TargetDescriptor;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The {@link org.hibernate.tool.schema.spi.SchemaManagementTool} of
+ * {@link com.mongodb.hibernate.internal.dialect.MongoDialect}, the {@link SchemaCreator} of which adds the commands
+ * that the schema export executes against the database to a JDBC batch, which it executes once Hibernate ORM has
+ * generated all of them, so that the commands of different collections are executed in parallel, and the
+ * {@code createIndexes} commands of a collection are merged, see
+ * {@value com.mongodb.hibernate.internal.MongoConstants#SCHEMA_EXPORT_PARALLELISM_PROPERTY_NAME}.
+ *
+ * <p>Hibernate ORM ignores the exceptions thrown when a {@link GenerationTarget} is released, so the failure of the
+ * batch is handed to the {@linkplain ExecutionOptions#getExceptionHandler() exception handler} of the schema export
+ * after the batch is executed, which, for example, halts the schema export with {@code halt_on_error}.
+ *
+ * @hidden
+ */
+@SuppressWarnings("MissingSummary")
+public final class MongoSchemaManagementTool extends HibernateSchemaManagementTool {
+    public MongoSchemaManagementTool() {}
+
+    @Override
+    public SchemaCreator getSchemaCreator(Map<String, Object> options) {
+        var schemaCreator = (SchemaCreatorImpl) super.getSchemaCreator(options);
+        return (metadata, executionOptions, contributableInclusionFilter, sourceDescriptor, targetDescriptor) ->
+                doCreation(
+                        schemaCreator,
+                        metadata,
+                        executionOptions,
+                        contributableInclusionFilter,
+                        sourceDescriptor,
+                        targetDescriptor);
+    }
+
+    private void doCreation(
+            SchemaCreatorImpl schemaCreator,
+            Metadata metadata,
+            ExecutionOptions options,
+            ContributableMatcher contributableInclusionFilter,
+            SourceDescriptor sourceDescriptor,
+            TargetDescriptor targetDescriptor) {
+        if (!targetDescriptor.getTargetTypes().contains(TargetType.DATABASE)) {
+            schemaCreator.doCreation(
+                    metadata, options, contributableInclusionFilter, sourceDescriptor, targetDescriptor);
+            return;
+        }
+        var configurationValues = options.getConfigurationValues();
+        var jdbcContext = resolveJdbcContext(configurationValues);
+        var targets = new ArrayList<>(List.of(buildGenerationTargets(
+                withoutDatabase(targetDescriptor), jdbcContext, configurationValues, true)));
+        var batchingTarget = new BatchingGenerationTarget(getDdlTransactionIsolator(jdbcContext));
+        targets.add(batchingTarget);
+        schemaCreator.doCreation(
+                metadata,
+                jdbcContext.getDialect(),
+                options,
+                contributableInclusionFilter,
+                sourceDescriptor,
+                targets.toArray(GenerationTarget[]::new));
+        var failure = batchingTarget.getFailure();
+        if (failure != null) {
+            options.getExceptionHandler().handleException(failure);
+        }
+    }
+
+    private static TargetDescriptor withoutDatabase(TargetDescriptor targetDescriptor) {
+        var targetTypes = EnumSet.copyOf(targetDescriptor.getTargetTypes());
+        targetTypes.remove(TargetType.DATABASE);
+        return new TargetDescriptor() {
+            @Override
+            public EnumSet<TargetType> getTargetTypes() {
+                return targetTypes;
+            }
+
+            @Override
+            public @Nullable ScriptTargetOutput getScriptTargetOutput() {
+                return targetDescriptor.getScriptTargetOutput();
+            }
+        };
+    }
+
+    /**
+     * Adds the {@linkplain #accept(String) accepted} commands to a JDBC batch, which it executes when it is
+     * {@linkplain #release() released}, remembering the failure of the batch instead of throwing it.
+     *
+     * @mongoCme Not thread-safe.
+     */
+    @VisibleForTesting(otherwise = PRIVATE)
+    static final class BatchingGenerationTarget implements GenerationTarget {
+        private final DdlTransactionIsolator ddlTransactionIsolator;
+        private final List<String> commands;
+        private @Nullable CommandAcceptanceException failure;
+
+        BatchingGenerationTarget(DdlTransactionIsolator ddlTransactionIsolator) {
+            this.ddlTransactionIsolator = ddlTransactionIsolator;
+            commands = new ArrayList<>();
+        }
+
+        @Override
+        public void prepare() {}
+
+        @Override
+        public void accept(String command) {
+            ddlTransactionIsolator.getJdbcContext().getSqlStatementLogger().logStatement(command);
+            commands.add(command);
+        }
+
+        @Override
+        public void release() {
+            try {
+                if (!commands.isEmpty()) {
+                    executeBatch();
+                }
+            } finally {
+                commands.clear();
+                ddlTransactionIsolator.release();
+            }
+        }
+
+        private void executeBatch() {
+            try (var statement = ddlTransactionIsolator.getIsolatedConnection().createStatement()) {
+                for (var command : commands) {
+                    statement.addBatch(command);
+                }
+                statement.executeBatch();
+            } catch (SQLException e) {
+                failure = new CommandAcceptanceException(
+                        format(
+                                "Error executing the JDBC batch of [%d] DDL commands [%s]",
+                                commands.size(), e.getMessage()),
+                        e);
+            }
+        }
+
+        /** Returns the failure of the batch, if it failed. */
+        @Nullable CommandAcceptanceException getFailure() {
+            return failure;
+        }
+    }
+}
@@ -30,6 +30,7 @@ import com.mongodb.hibernate.internal.VisibleForTesting;
 import com.mongodb.hibernate.internal.cfg.MongoConfiguration;
 import com.mongodb.hibernate.internal.cfg.MongoConfigurationBuilder;
 import com.mongodb.hibernate.internal.dialect.TestMongoDialect;
+import com.mongodb.hibernate.internal.jdbc.MongoCommandTemplates;
 import com.mongodb.hibernate.internal.jdbc.MongoConnectionProvider;
 import java.io.IOException;
 import java.io.NotSerializableException;
@@ -59,16 +60,23 @@ public final class StandardServiceRegistryScopedState implements Service {
     private static final long serialVersionUID = 1L;
 
     private final transient MongoConfiguration config;
+    private final transient MongoCommandTemplates commandTemplates;
 
     @VisibleForTesting(otherwise = PRIVATE)
     public StandardServiceRegistryScopedState(MongoConfiguration config) {
         this.config = config;
+        this.commandTemplates = new MongoCommandTemplates(config.commandTemplateCacheMaxSize());
     }
 
     public MongoConfiguration getConfiguration() {
         return config;
     }
 
+    /** The command template cache shared by all connections of the {@link MongoConnectionProvider}. */
+    public MongoCommandTemplates getCommandTemplates() {
+        return commandTemplates;
+    }
+
     @Serial
     private void writeObject(ObjectOutputStream out) throws IOException {
         throw new NotSerializableException(
@@ -51,14 +51,27 @@ import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstCompar
 import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.NE;
 import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstListComparisonFilterOperator.IN;
 import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstListComparisonFilterOperator.NIN;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstRegularExpressionFilterOperation.literalPrefix;
 import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstRegularExpressionFilterOperation.quoteMeta;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstRegularExpressionFilterOperation.quotePrefix;
 import static java.lang.String.format;
 import static java.util.Comparator.comparing;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hibernate.query.common.FetchClauseType.ROWS_ONLY;
 import static org.hibernate.sql.ast.tree.expression.SqlTupleContainer.getSqlTuple;
 
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadConcernLevel;
+import com.mongodb.ReadPreference;
+import com.mongodb.hibernate.annotations.AggregateOptions;
+import com.mongodb.hibernate.annotations.EstimatedDocumentCount;
+import com.mongodb.hibernate.annotations.MongoCollation;
+import com.mongodb.hibernate.annotations.ReadOnlyQueries;
+import com.mongodb.hibernate.annotations.UnorderedBulkWrites;
 import com.mongodb.hibernate.internal.EmbeddedIdColumnName;
 import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.hibernate.internal.MongoCollations;
+import com.mongodb.hibernate.internal.cfg.MongoConfiguration;
 import com.mongodb.hibernate.internal.dialect.function.ExpressionFunction;
 import com.mongodb.hibernate.internal.dialect.function.array.MongoUnnestFunction;
 import com.mongodb.hibernate.internal.service.StandardServiceRegistryScopedState;
@@ -86,6 +99,7 @@ import com.mongodb.hibernate.internal.translate.mongoast.AstUnaryOperatorExpress
 import com.mongodb.hibernate.internal.translate.mongoast.AstValue;
 import com.mongodb.hibernate.internal.translate.mongoast.AstValueExpression;
 import com.mongodb.hibernate.internal.translate.mongoast.AstVariableExpression;
+import com.mongodb.hibernate.internal.translate.mongoast.command.AstCountCommand;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstDeleteCommand;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstDocumentUpdate;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstInsertCommand;
@@ -93,6 +107,7 @@ import com.mongodb.hibernate.internal.translate.mongoast.command.AstPipelineUpda
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstUpdate;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstUpdateCommand;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAggregateCommand;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAggregateOptions;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstGroupStage;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstGroupStageSpecification;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstLetVariable;
@@ -123,9 +138,11 @@ import com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilter
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilterOperator;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstRegularExpressionFilterOperation;
 import com.mongodb.hibernate.internal.type.ValueConversions;
+import com.mongodb.hibernate.query.MongoQueryHints;
 import jakarta.persistence.criteria.Nulls;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.lang.reflect.AnnotatedElement;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
@@ -135,12 +152,14 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
+import org.bson.BsonDocument;
 import org.bson.BsonInt32;
 import org.bson.BsonNull;
 import org.bson.BsonString;
@@ -149,6 +168,7 @@ import org.bson.json.JsonWriter;
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.util.collections.Stack;
+import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
 import org.hibernate.metamodel.mapping.SelectableMapping;
 import org.hibernate.metamodel.mapping.internal.EmbeddedAttributeMapping;
@@ -156,6 +176,7 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.JoinedSubclassEntityPersister;
 import org.hibernate.persister.entity.SingleTableEntityPersister;
 import org.hibernate.persister.entity.UnionSubclassEntityPersister;
+import org.hibernate.persister.entity.mutation.EntityMutationTarget;
 import org.hibernate.persister.internal.SqlFragmentPredicate;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
@@ -177,6 +198,7 @@ import org.hibernate.sql.ast.tree.Statement;
 import org.hibernate.sql.ast.tree.cte.CteContainer;
 import org.hibernate.sql.ast.tree.delete.DeleteStatement;
 import org.hibernate.sql.ast.tree.expression.AggregateColumnWriteExpression;
+import org.hibernate.sql.ast.tree.expression.AggregateFunctionExpression;
 import org.hibernate.sql.ast.tree.expression.Any;
 import org.hibernate.sql.ast.tree.expression.BinaryArithmeticExpression;
 import org.hibernate.sql.ast.tree.expression.CaseSearchedExpression;
@@ -193,6 +215,7 @@ import org.hibernate.sql.ast.tree.expression.Every;
 import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.expression.ExtractUnit;
 import org.hibernate.sql.ast.tree.expression.Format;
+import org.hibernate.sql.ast.tree.expression.FunctionExpression;
 import org.hibernate.sql.ast.tree.expression.JdbcLiteral;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.expression.Literal;
@@ -255,6 +278,7 @@ import org.hibernate.sql.model.ast.ColumnValueBinding;
 import org.hibernate.sql.model.ast.ColumnValueParameter;
 import org.hibernate.sql.model.ast.ColumnWriteFragment;
 import org.hibernate.sql.model.ast.MutatingTableReference;
+import org.hibernate.sql.model.ast.TableMutation;
 import org.hibernate.sql.model.internal.OptionalTableUpdate;
 import org.hibernate.sql.model.internal.TableDeleteCustomSql;
 import org.hibernate.sql.model.internal.TableDeleteStandard;
@@ -281,8 +305,21 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
     // Match a quoted SQL string with the contents of the string being in match group 1
     private static final Pattern SQL_STRING = Pattern.compile("^'((?:''|[^'])*)'$");
 
+    private static final Set<String> SUPPORTED_DATABASE_HINT_NAMES = Set.of(
+            MongoQueryHints.READ_PREFERENCE,
+            MongoQueryHints.MAX_STALENESS_SECONDS,
+            MongoQueryHints.READ_CONCERN,
+            MongoQueryHints.HINT,
+            MongoQueryHints.ALLOW_DISK_USE,
+            MongoQueryHints.COMMENT,
+            MongoQueryHints.COLLATION,
+            MongoQueryHints.LET,
+            MongoQueryHints.MAX_AWAIT_TIME_MS);
+
     private final SessionFactoryImplementor sessionFactory;
 
+    private final MongoConfiguration configuration;
+
     private final AstVisitorValueHolder astVisitorValueHolder = new AstVisitorValueHolder();
 
     private @Nullable String elemMatchInnerAlias;
@@ -293,6 +330,15 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
 
     private final Set<String> joinedTableQualifiers = new HashSet<>();
 
+    /** Collects the {@link #joinedTableQualifiers} that the predicate being translated references, if not null. */
+    private @Nullable Set<String> referencedJoinedTableQualifiers;
+
+    /**
+     * The qualifier of the joined table whose {@code $lookup} sub-pipeline the predicate being translated is rendered
+     * into, which makes the columns of that table bare field paths, see {@link #createWhereStages}.
+     */
+    private @Nullable String lookupPipelineQualifier;
+
     private final GroupByContext groupByContext = new GroupByContext();
 
     /**
@@ -333,13 +379,24 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
     // Per-query counter for naming $lookup `let` variables; see nextLetVariableName.
     private int letVariableCounter;
 
+    // The number of NegatedPredicate filters being translated; see toRowValueFieldFilter.
+    private int negatedFilterDepth;
+
     private @Nullable QueryOptionsLimit queryOptionsLimit;
 
+    private boolean readOnlyQuery;
+
+    /** The {@linkplain #parseDatabaseHints(List) parsed} database hints of the query. */
+    private Map<String, String> databaseHints = Map.of();
+
+    /** The collation of the query, if any, which the server uses to compare strings. */
+    private @Nullable BsonDocument queryCollation;
+
     private @Nullable Map<Integer, String> projectionKeyMap;
 
     AbstractMqlTranslator(SessionFactoryImplementor sessionFactory) {
         this.sessionFactory = sessionFactory;
-        assertNotNull(sessionFactory
+        configuration = assertNotNull(sessionFactory
                 .getServiceRegistry()
                 .requireService(StandardServiceRegistryScopedState.class)
                 .getConfiguration());
@@ -466,7 +523,8 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
                 MODEL_MUTATION_RESULT,
                 ModelMutationMqlTranslator.Result.create(new AstInsertCommand(
                         tableInsert.getMutatingTable().getTableName(),
-                        List.of(new AstDocument(assembleWithIdSubdocument(astElements))))));
+                        List.of(new AstDocument(assembleWithIdSubdocument(astElements))),
+                        isOrderedBulkWrite(tableInsert))));
     }
 
     @Override
@@ -509,8 +567,8 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
         var keyFilter = createKeyFilter(tableDelete);
         astVisitorValueHolder.yield(
                 MODEL_MUTATION_RESULT,
-                ModelMutationMqlTranslator.Result.create(
-                        new AstDeleteCommand(tableDelete.getMutatingTable().getTableName(), keyFilter)));
+                ModelMutationMqlTranslator.Result.create(new AstDeleteCommand(
+                        tableDelete.getMutatingTable().getTableName(), keyFilter, isOrderedBulkWrite(tableDelete))));
     }
 
     @Override
@@ -524,16 +582,36 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
         var mutationResult = createMutationResult(
                 tableUpdate.getValueBindings(),
                 tableUpdate.getMutatingTable().getTableName(),
-                createKeyFilter(tableUpdate));
+                createKeyFilter(tableUpdate),
+                isOrderedBulkWrite(tableUpdate));
         astVisitorValueHolder.yield(MODEL_MUTATION_RESULT, mutationResult);
     }
 
     private ModelMutationMqlTranslator.Result createMutationResult(
-            List<ColumnValueBinding> valueBindings, String tableName, AstFilter keyFilter) {
-        var astUpdateCommand = createAstUpdateCommand(valueBindings, tableName, keyFilter);
+            List<ColumnValueBinding> valueBindings, String tableName, AstFilter keyFilter, boolean ordered) {
+        var astUpdateCommand = createAstUpdateCommand(valueBindings, tableName, keyFilter, ordered);
         return ModelMutationMqlTranslator.Result.create(astUpdateCommand);
     }
 
+    /**
+     * Returns {@code false} if JDBC batches of {@code tableMutation} are to be executed as unordered bulk writes, as
+     * specified by {@link UnorderedBulkWrites} on the entity, or else by
+     * {@value com.mongodb.hibernate.internal.MongoConstants#UNORDERED_BULK_WRITES_PROPERTY_NAME}.
+     */
+    private boolean isOrderedBulkWrite(TableMutation<?> tableMutation) {
+        if (tableMutation.getMutationTarget() instanceof EntityMutationTarget entityMutationTarget) {
+            var unorderedBulkWrites = entityMutationTarget
+                    .getTargetPart()
+                    .getMappedJavaType()
+                    .getJavaTypeClass()
+                    .getAnnotation(UnorderedBulkWrites.class);
+            if (unorderedBulkWrites != null) {
+                return !unorderedBulkWrites.value();
+            }
+        }
+        return !configuration.unorderedBulkWrites();
+    }
+
     private AstFilter createKeyFilter(AbstractRestrictedTableMutation<? extends MutationOperation> tableMutation) {
         var predicates = new ArrayList<AstFilter>(
                 tableMutation.getNumberOfKeyBindings() + tableMutation.getNumberOfOptimisticLockBindings());
@@ -589,28 +667,279 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
         var stages = new ArrayList<AstStage>();
 
         var root = querySpec.getFromClause().getRoots().get(0);
-        stages.addAll(buildJoinStages(root));
-
-        createMatchStage(querySpec.getWhereClauseRestrictions()).ifPresent(stages::add);
-        createGroupStage(querySpec).ifPresent(stages::add);
-        createMatchStage(querySpec.getHavingClauseRestrictions()).ifPresent(stages::add);
-        createSortStage(querySpec).ifPresent(stages::add);
+        var rootEntityClass = root.getModelPart() instanceof EntityPersister entityPersister
+                ? entityPersister.getMappedClass()
+                : null;
+        var aggregateOptions = createAggregateOptions(rootEntityClass);
+        queryCollation = aggregateOptions.collation();
+        stages.addAll(createWhereStages(buildJoinStages(root), querySpec.getWhereClauseRestrictions()));
+        var groupStage = createGroupStage(querySpec);
+        groupStage.ifPresent(stages::add);
+        var havingStage = createMatchStage(querySpec.getHavingClauseRestrictions());
+        havingStage.ifPresent(stages::add);
+        var sortStage = createSortStage(querySpec);
 
         var skipLimitStagesAndJdbcParams =
                 assertNotNull(queryOptionsLimit).createSkipLimitStagesAndJdbcParams(querySpec);
+        var countCommand = groupStage.isEmpty()
+                        && havingStage.isEmpty()
+                        && sortStage.isEmpty()
+                        && skipLimitStagesAndJdbcParams.stages().isEmpty()
+                ? createCountCommand(
+                        collection, stages, querySpec.getSelectClause(), rootEntityClass, aggregateOptions)
+                : Optional.<AstCountCommand>empty();
+        if (countCommand.isPresent()) {
+            astVisitorValueHolder.yield(
+                    SELECT_RESULT,
+                    new SelectMqlTranslator.Result(
+                            countCommand.get(),
+                            affectedTableNames,
+                            skipLimitStagesAndJdbcParams.offset(),
+                            skipLimitStagesAndJdbcParams.limit()));
+            return;
+        }
+
+        var deferredJoinStages = groupStage.isEmpty()
+                        && havingStage.isEmpty()
+                        && !skipLimitStagesAndJdbcParams.stages().isEmpty()
+                ? removeCardinalityPreservingJoinStages(stages, sortStage.orElse(null))
+                : List.<AstStage>of();
+        sortStage.ifPresent(stages::add);
         stages.addAll(skipLimitStagesAndJdbcParams.stages());
+        stages.addAll(deferredJoinStages);
 
         stages.add(createProjectStage(querySpec.getSelectClause()));
 
         astVisitorValueHolder.yield(
                 SELECT_RESULT,
                 new SelectMqlTranslator.Result(
-                        new AstAggregateCommand(collection, stages),
+                        new AstAggregateCommand(collection, stages, aggregateOptions),
                         affectedTableNames,
                         skipLimitStagesAndJdbcParams.offset(),
                         skipLimitStagesAndJdbcParams.limit()));
     }
 
+    /**
+     * Creates the {@code count} command of a {@code select count(*) from E [where ...]} query, whose {@code stages} are
+     * at most the {@code $match} stage of the {@code where} clause, so that the server counts the matching documents
+     * instead of returning them. Without a {@code where} clause, the count is estimated from the collection metadata
+     * if the root entity is annotated with {@link EstimatedDocumentCount}.
+     */
+    private static Optional<AstCountCommand> createCountCommand(
+            String collection,
+            List<AstStage> stages,
+            SelectClause selectClause,
+            @Nullable Class<?> rootEntityClass,
+            AstAggregateOptions options) {
+        if (stages.size() > 1
+                || (stages.size() == 1 && !(stages.get(0) instanceof AstMatchStage))
+                || selectClause.isDistinct()
+                || selectClause.getSqlSelections().size() != 1
+                || !isCountAll(selectClause.getSqlSelections().get(0).getExpression())) {
+            return Optional.empty();
+        }
+        var estimatedDocumentCount =
+                rootEntityClass == null ? null : rootEntityClass.getAnnotation(EstimatedDocumentCount.class);
+        AstFilter query;
+        if (!stages.isEmpty()) {
+            query = ((AstMatchStage) stages.get(0)).filter();
+        } else if (estimatedDocumentCount != null && estimatedDocumentCount.value()) {
+            query = null;
+        } else {
+            query = AstEmptyFilter.INSTANCE;
+        }
+        return Optional.of(new AstCountCommand(
+                collection,
+                query,
+                new AstAggregateOptions(
+                        options.readPreference(),
+                        options.readConcern(),
+                        options.hint(),
+                        null,
+                        options.comment(),
+                        options.collation(),
+                        null,
+                        null)));
+    }
+
+    /**
+     * Returns {@code true} if {@code expression} is {@code count(*)}, or {@code count} of the {@value
+     * com.mongodb.hibernate.internal.MongoConstants#ID_FIELD_NAME} field, as {@code count(e)} of the root entity is,
+     * which no document lacks.
+     */
+    private static boolean isCountAll(Expression expression) {
+        if (!(expression instanceof AggregateFunctionExpression function)
+                || !function.getFunctionName().equals("count")
+                || function.getFilter() != null
+                || function.getArguments().size() != 1) {
+            return false;
+        }
+        var argument = function.getArguments().get(0);
+        if (argument instanceof Star) {
+            return true;
+        }
+        var columnReference = argument instanceof Expression argumentExpression
+                ? argumentExpression.getColumnReference()
+                : null;
+        return columnReference != null
+                && !columnReference.isColumnExpressionFormula()
+                && columnReference.getColumnExpression().equals(ID_FIELD_NAME);
+    }
+
+    /**
+     * Creates the options of the {@code aggregate} command from the {@linkplain #databaseHints database hints}, which
+     * override the defaults specified by {@link ReadOnlyQueries}, {@link AggregateOptions} and {@link MongoCollation}
+     * on the root entity.
+     */
+    private AstAggregateOptions createAggregateOptions(@Nullable Class<?> rootEntityClass) {
+        var readOnlyQueries = rootEntityClass == null ? null : rootEntityClass.getAnnotation(ReadOnlyQueries.class);
+        var aggregateOptions = rootEntityClass == null ? null : rootEntityClass.getAnnotation(AggregateOptions.class);
+        var entityCollation = rootEntityClass == null ? null : MongoCollations.of(rootEntityClass);
+        var allowDiskUse = databaseHints.get(MongoQueryHints.ALLOW_DISK_USE);
+        var comment = databaseHints.get(MongoQueryHints.COMMENT);
+        var collation = databaseHints.get(MongoQueryHints.COLLATION);
+        var let = databaseHints.get(MongoQueryHints.LET);
+        var maxAwaitTimeMS = databaseHints.get(MongoQueryHints.MAX_AWAIT_TIME_MS);
+        if (aggregateOptions != null) {
+            allowDiskUse = allowDiskUse == null && aggregateOptions.allowDiskUse() ? "true" : allowDiskUse;
+            comment = comment == null ? emptyToNull(aggregateOptions.comment()) : comment;
+            collation = collation == null ? emptyToNull(aggregateOptions.collation()) : collation;
+            let = let == null ? emptyToNull(aggregateOptions.let()) : let;
+            maxAwaitTimeMS = maxAwaitTimeMS == null && aggregateOptions.maxAwaitTimeMS() > 0
+                    ? Long.toString(aggregateOptions.maxAwaitTimeMS())
+                    : maxAwaitTimeMS;
+        }
+        return new AstAggregateOptions(
+                getReadPreference(readOnlyQueries),
+                getReadConcern(readOnlyQueries),
+                getHint(),
+                allowDiskUse == null ? null : parseBooleanOption(MongoQueryHints.ALLOW_DISK_USE, allowDiskUse),
+                comment,
+                collation == null ? entityCollation : parseDocumentOption(MongoQueryHints.COLLATION, collation),
+                let == null ? null : parseDocumentOption(MongoQueryHints.LET, let),
+                maxAwaitTimeMS == null
+                        ? null
+                        : parseNonNegativeLongOption(MongoQueryHints.MAX_AWAIT_TIME_MS, maxAwaitTimeMS));
+    }
+
+    private static @Nullable String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static boolean parseBooleanOption(String name, String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw new FeatureNotSupportedException(
+                    "Aggregate option [%s] with value [%s] is not supported".formatted(name, value));
+        };
+    }
+
+    private static BsonDocument parseDocumentOption(String name, String value) {
+        try {
+            return BsonDocument.parse(value);
+        } catch (RuntimeException e) {
+            throw new FeatureNotSupportedException("Aggregate option [%s] with value [%s] is not supported: %s"
+                    .formatted(name, value, e.getMessage()));
+        }
+    }
+
+    private static long parseNonNegativeLongOption(String name, String value) {
+        long result;
+        try {
+            result = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            result = -1;
+        }
+        if (result < 0) {
+            throw new FeatureNotSupportedException(
+                    "Aggregate option [%s] with value [%s] is not supported".formatted(name, value));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the read preference specified by {@link MongoQueryHints#READ_PREFERENCE}, or else, if the query is
+     * read-only, by {@link ReadOnlyQueries} on the root entity, or else by
+     * {@value com.mongodb.hibernate.internal.MongoConstants#READ_ONLY_READ_PREFERENCE_PROPERTY_NAME}.
+     */
+    private @Nullable ReadPreference getReadPreference(@Nullable ReadOnlyQueries readOnlyQueries) {
+        var mode = databaseHints.get(MongoQueryHints.READ_PREFERENCE);
+        var maxStalenessSeconds = databaseHints.get(MongoQueryHints.MAX_STALENESS_SECONDS);
+        if (mode != null) {
+            return createReadPreference(mode, maxStalenessSeconds == null ? "0" : maxStalenessSeconds);
+        } else if (maxStalenessSeconds != null) {
+            throw new FeatureNotSupportedException("Database hint [%s] requires database hint [%s]"
+                    .formatted(MongoQueryHints.MAX_STALENESS_SECONDS, MongoQueryHints.READ_PREFERENCE));
+        } else if (!readOnlyQuery) {
+            return null;
+        } else if (readOnlyQueries != null) {
+            return createReadPreference(
+                    readOnlyQueries.readPreference(), Integer.toString(readOnlyQueries.maxStalenessSeconds()));
+        }
+        return configuration.readOnlyReadPreference();
+    }
+
+    private static ReadPreference createReadPreference(String mode, String maxStalenessSeconds) {
+        try {
+            var maxStaleness = Integer.parseInt(maxStalenessSeconds.trim());
+            return maxStaleness == 0
+                    ? ReadPreference.valueOf(mode.trim())
+                    : ReadPreference.valueOf(mode.trim(), List.of(), maxStaleness, SECONDS);
+        } catch (RuntimeException e) {
+            throw new FeatureNotSupportedException(
+                    "Read preference [%s] with maxStalenessSeconds [%s] is not supported: %s"
+                            .formatted(mode, maxStalenessSeconds, e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns the read concern specified by {@link MongoQueryHints#READ_CONCERN}, or else, if the query is read-only,
+     * by {@link ReadOnlyQueries} on the root entity, or else by
+     * {@value com.mongodb.hibernate.internal.MongoConstants#READ_ONLY_READ_CONCERN_PROPERTY_NAME}.
+     */
+    private @Nullable ReadConcern getReadConcern(@Nullable ReadOnlyQueries readOnlyQueries) {
+        var level = databaseHints.get(MongoQueryHints.READ_CONCERN);
+        if (level != null) {
+            return createReadConcern(level);
+        } else if (!readOnlyQuery) {
+            return null;
+        } else if (readOnlyQueries != null && !readOnlyQueries.readConcern().isEmpty()) {
+            return createReadConcern(readOnlyQueries.readConcern());
+        }
+        return configuration.readOnlyReadConcern();
+    }
+
+    private static ReadConcern createReadConcern(String level) {
+        try {
+            return new ReadConcern(ReadConcernLevel.fromString(level.trim()));
+        } catch (RuntimeException e) {
+            throw new FeatureNotSupportedException(
+                    "Read concern [%s] is not supported: %s".formatted(level, e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns the index name or the index key pattern specified by {@link MongoQueryHints#HINT}, or {@code null} if
+     * there is none.
+     */
+    private @Nullable BsonValue getHint() {
+        var hint = databaseHints.get(MongoQueryHints.HINT);
+        if (hint == null) {
+            return null;
+        } else if (hint.isEmpty()) {
+            throw new FeatureNotSupportedException("Empty index hint is not supported");
+        } else if (!hint.startsWith("{")) {
+            return new BsonString(hint);
+        }
+        try {
+            return BsonDocument.parse(hint);
+        } catch (RuntimeException e) {
+            throw new FeatureNotSupportedException(
+                    "Index hint [%s] is not supported: %s".formatted(hint, e.getMessage()));
+        }
+    }
+
     private Optional<AstGroupStage> createGroupStage(final QuerySpec querySpec) {
         if (querySpec.getGroupByClauseExpressions().isEmpty()) {
             return Optional.empty();
@@ -645,6 +974,164 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
         }
     }
 
+    /**
+     * Creates the join stages followed by the {@code $match} stage of the {@code WHERE} clause, with the conjuncts of
+     * the {@code WHERE} clause moved ahead of the joins where it does not change the result, so that the server joins
+     * fewer documents:
+     *
+     * <ul>
+     *   <li>A conjunct that references only the root collection is matched before the first {@code $lookup}, where it
+     *       may also use an index.
+     *   <li>A conjunct that references only the collection of an inner join is matched in the {@code $lookup}
+     *       sub-pipeline of that join, so that the joined documents it rejects are neither returned by the
+     *       {@code $lookup} nor unwound. This is not done for a left join, because a left join preserves the documents
+     *       that have no joined documents, while the {@code WHERE} clause must reject them.
+     *   <li>Any other conjunct is matched after the joins.
+     * </ul>
+     */
+    private List<AstStage> createWhereStages(List<AstStage> joinStages, Predicate whereClauseRestrictions) {
+        var result = new ArrayList<AstStage>();
+        if (joinStages.isEmpty() || whereClauseRestrictions == null || whereClauseRestrictions.isEmpty()) {
+            result.addAll(joinStages);
+            createMatchStage(whereClauseRestrictions).ifPresent(result::add);
+            return result;
+        }
+        var innerJoinAliases = new HashSet<String>();
+        for (var stage : joinStages) {
+            if (stage instanceof AstUnwindStage unwindStage && !unwindStage.preserveNullAndEmptyArrays()) {
+                innerJoinAliases.add(unwindStage.path());
+            }
+        }
+        var rootFilters = new ArrayList<AstFilter>();
+        var lookupPipelineFiltersByJoinAlias = new HashMap<String, List<AstFilter>>();
+        var joinedFilters = new ArrayList<AstFilter>();
+        for (var conjunct : getConjuncts(whereClauseRestrictions, new ArrayList<>())) {
+            var referencedQualifiers = new HashSet<String>();
+            referencedJoinedTableQualifiers = referencedQualifiers;
+            AstFilter filter;
+            try {
+                filter = acceptAndYield(conjunct, FILTER);
+            } finally {
+                referencedJoinedTableQualifiers = null;
+            }
+            var joinAlias = referencedQualifiers.size() == 1
+                    ? JOIN_ALIAS_PREFIX + referencedQualifiers.iterator().next()
+                    : null;
+            if (referencedQualifiers.isEmpty()) {
+                rootFilters.add(filter);
+            } else if (joinAlias != null && innerJoinAliases.contains(joinAlias)) {
+                // translated again, with the columns of the joined table relative to the sub-pipeline
+                lookupPipelineQualifier = referencedQualifiers.iterator().next();
+                try {
+                    filter = acceptAndYield(conjunct, FILTER);
+                } finally {
+                    lookupPipelineQualifier = null;
+                }
+                lookupPipelineFiltersByJoinAlias
+                        .computeIfAbsent(joinAlias, ignored -> new ArrayList<>())
+                        .add(filter);
+            } else {
+                joinedFilters.add(filter);
+            }
+        }
+        createMatchStage(rootFilters).ifPresent(result::add);
+        for (var stage : joinStages) {
+            if (stage instanceof AstLookupStage lookupStage) {
+                var filters = lookupPipelineFiltersByJoinAlias.get(lookupStage.as());
+                if (filters != null) {
+                    stage = new AstLookupStage(
+                            lookupStage.from(),
+                            lookupStage.localField(),
+                            lookupStage.foreignField(),
+                            appendMatchStage(lookupStage.pipeline(), filters),
+                            lookupStage.as());
+                }
+            } else if (stage instanceof AstLookupStageWithPipeline lookupStage) {
+                var filters = lookupPipelineFiltersByJoinAlias.get(lookupStage.as());
+                if (filters != null) {
+                    stage = new AstLookupStageWithPipeline(
+                            lookupStage.from(),
+                            lookupStage.let(),
+                            appendMatchStage(lookupStage.pipeline(), filters),
+                            lookupStage.as());
+                }
+            }
+            result.add(stage);
+        }
+        createMatchStage(joinedFilters).ifPresent(result::add);
+        return result;
+    }
+
+    private static List<AstStage> appendMatchStage(List<AstStage> pipeline, List<AstFilter> conjuncts) {
+        var result = new ArrayList<>(pipeline);
+        createMatchStage(conjuncts).ifPresent(result::add);
+        return result;
+    }
+
+    /** Flattens the nested conjunctions of {@code predicate} into {@code conjuncts}. */
+    private static List<Predicate> getConjuncts(Predicate predicate, List<Predicate> conjuncts) {
+        var unwrapped = assertNotNull(unwrapGrouped(predicate));
+        if (unwrapped instanceof Junction junction && junction.getNature() == Junction.Nature.CONJUNCTION) {
+            for (var subPredicate : junction.getPredicates()) {
+                getConjuncts(subPredicate, conjuncts);
+            }
+        } else {
+            conjuncts.add(unwrapped);
+        }
+        return conjuncts;
+    }
+
+    private static Optional<AstMatchStage> createMatchStage(List<AstFilter> conjuncts) {
+        return switch (conjuncts.size()) {
+            case 0 -> Optional.empty();
+            case 1 -> Optional.of(new AstMatchStage(conjuncts.get(0)));
+            default -> Optional.of(new AstMatchStage(new AstLogicalFilter(AstLogicalFilterOperator.AND, conjuncts)));
+        };
+    }
+
+    /**
+     * Removes from the end of {@code stages} the join stages that neither add nor remove documents, and which
+     * {@code sortStage} does not reference, so that the caller may move them after the {@code $skip}/{@code $limit}
+     * stages and join only the documents of the requested page.
+     *
+     * <p>Such a join is a left join, whose {@code $unwind} preserves the documents that have no joined document, with a
+     * compact {@code $lookup} that has no sub-pipeline and whose {@code foreignField} is {@value
+     * com.mongodb.hibernate.internal.MongoConstants#ID_FIELD_NAME}, which is unique, so that each document has at most
+     * one joined document, as is the case for a to-one association.
+     *
+     * @return The removed stages, in their original order.
+     */
+    private static List<AstStage> removeCardinalityPreservingJoinStages(
+            List<AstStage> stages, @Nullable AstSortStage sortStage) {
+        var firstRemovedIndex = stages.size();
+        while (firstRemovedIndex >= 2
+                && stages.get(firstRemovedIndex - 2) instanceof AstLookupStage lookupStage
+                && stages.get(firstRemovedIndex - 1) instanceof AstUnwindStage unwindStage
+                && unwindStage.preserveNullAndEmptyArrays()
+                && unwindStage.path().equals(lookupStage.as())
+                && lookupStage.foreignField().equals(ID_FIELD_NAME)
+                && lookupStage.pipeline().isEmpty()
+                && !isReferencedBySortStage(lookupStage.as(), sortStage)) {
+            firstRemovedIndex -= 2;
+        }
+        var removedStages = stages.subList(firstRemovedIndex, stages.size());
+        var result = List.copyOf(removedStages);
+        removedStages.clear();
+        return result;
+    }
+
+    private static boolean isReferencedBySortStage(String joinAlias, @Nullable AstSortStage sortStage) {
+        if (sortStage == null) {
+            return false;
+        }
+        for (var sortField : sortStage.sortFields()) {
+            if (sortField.path().equals(joinAlias) || sortField.path().startsWith(joinAlias + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Optional<AstSortStage> createSortStage(QuerySpec querySpec) {
         if (querySpec.hasSortSpecifications()) {
             var sortFields = new ArrayList<AstSortField>(
@@ -723,6 +1210,8 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
         checkQueryOptionsSupportability(queryOptions);
         assertNull(queryOptionsLimit);
         queryOptionsLimit = new QueryOptionsLimit(queryOptions.getLimit());
+        readOnlyQuery = Boolean.TRUE.equals(queryOptions.isReadOnly());
+        databaseHints = parseDatabaseHints(queryOptions.getDatabaseHints());
     }
 
     private AstProjectStage createProjectStage(SelectClause selectClause) {
@@ -756,9 +1245,93 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
     }
 
     private AstFilter toFilter(ComparisonPredicate comparisonPredicate) {
-        return isFieldValueComparison(comparisonPredicate)
-                ? toFieldValueFilter(comparisonPredicate)
-                : new AstExprFilter(toComparisonExpression(comparisonPredicate));
+        if (isFieldValueComparison(comparisonPredicate)) {
+            return toFieldValueFilter(comparisonPredicate);
+        }
+        var operator = comparisonPredicate.getOperator();
+        if (operator == ComparisonOperator.EQUAL || operator == ComparisonOperator.NOT_EQUAL) {
+            var lhs = comparisonPredicate.getLeftHandExpression();
+            var rhs = comparisonPredicate.getRightHandExpression();
+            var comparison = getCaseInsensitiveComparison(lhs, List.of(rhs));
+            if (comparison == null) {
+                comparison = getCaseInsensitiveComparison(rhs, List.of(lhs));
+            }
+            if (comparison != null) {
+                return new AstFieldOperationFilter(
+                        acceptAndYield(comparison.field(), FIELD_PATH),
+                        new AstComparisonFilterOperation(
+                                operator == ComparisonOperator.EQUAL ? EQ : NE,
+                                acceptAndYield(comparison.values().get(0), VALUE)));
+            }
+        }
+        return new AstExprFilter(toComparisonExpression(comparisonPredicate));
+    }
+
+    /**
+     * The field and the values of a case-insensitive comparison, such as {@code lower(field) = lower(value)}, which the
+     * query collation allows to translate to a comparison of the field itself.
+     */
+    private record CaseInsensitiveComparison(Expression field, List<Expression> values) {}
+
+    /**
+     * Returns the {@link CaseInsensitiveComparison} of {@code test}, which is {@code lower(field)} or
+     * {@code upper(field)}, with {@code values}, which are the same function of values, if the field is
+     * {@linkplain #isComparedCaseInsensitively(Expression) compared case-insensitively}.
+     */
+    private @Nullable CaseInsensitiveComparison getCaseInsensitiveComparison(
+            Expression test, List<? extends Expression> values) {
+        var field = getCaseFunctionArgument(test, null);
+        if (field == null || !isFieldPathExpression(field)) {
+            return null;
+        }
+        var functionName = ((FunctionExpression) test).getFunctionName();
+        var valueArguments = new ArrayList<Expression>(values.size());
+        for (var value : values) {
+            var valueArgument = getCaseFunctionArgument(value, functionName);
+            if (valueArgument == null || !isValueExpression(valueArgument)) {
+                return null;
+            }
+            valueArguments.add(valueArgument);
+        }
+        return isComparedCaseInsensitively(field) ? new CaseInsensitiveComparison(field, valueArguments) : null;
+    }
+
+    /**
+     * Returns the argument of {@code expression} if it is {@code lower(argument)} or {@code upper(argument)}, or, if
+     * {@code functionName} is not {@code null}, only the function of that name.
+     */
+    private static @Nullable Expression getCaseFunctionArgument(Expression expression, @Nullable String functionName) {
+        if (expression instanceof FunctionExpression function
+                && (functionName == null
+                        ? function.getFunctionName().equals("lower")
+                                || function.getFunctionName().equals("upper")
+                        : function.getFunctionName().equals(functionName))
+                && function.getArguments().size() == 1
+                && function.getArguments().get(0) instanceof Expression argument) {
+            return argument;
+        }
+        return null;
+    }
+
+    /**
+     * Returns {@code true} if the strings of {@code field} are compared case-insensitively, that is, if the query
+     * collation, which is that of the entity unless the query specifies one, is
+     * {@linkplain MongoCollations#isCaseInsensitive(BsonDocument) case-insensitive}, and equals the
+     * {@link MongoCollation} of the attribute, if any, that is, the collation of its indexes. The collation of the
+     * attribute never becomes that of the query, because it would then apply to all the string comparisons of the
+     * query, so a query with another collation compares the field via {@code $toLower} or {@code $toUpper}.
+     */
+    private boolean isComparedCaseInsensitively(Expression field) {
+        if (queryCollation == null || !MongoCollations.isCaseInsensitive(queryCollation)) {
+            return false;
+        }
+        var attributeCollation = field instanceof BasicValuedPathInterpretation<?> path
+                        && path.getExpressionType() instanceof AttributeMapping attributeMapping
+                        && attributeMapping.getPropertyAccess().getGetter().getMember()
+                                instanceof AnnotatedElement member
+                ? MongoCollations.of(member)
+                : null;
+        return attributeCollation == null || attributeCollation.equals(queryCollation);
     }
 
     private AstFilter toFieldValueFilter(ComparisonPredicate comparisonPredicate) {
@@ -814,26 +1387,77 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
         }
     }
 
-    // Compact form of a row-value = / <> comparison: AND of per-component {field: {$eq: value}} (field side
-    // detected per component), wrapped in $nor for <>. Only reached when isFieldValueComparison is true.
+    // Compact form of a row-value comparison (field side detected per component). = / <> is the AND of
+    // per-component {field: {$eq: value}}, wrapped in $nor for <>. An ordering comparison is expanded
+    // lexicographically, e.g. (a, b) > (x, y) becomes
+    // {$and: [{a: {$gte: x}}, {$or: [{a: {$gt: x}}, {$and: [{a: {$eq: x}}, {b: {$gt: y}}]}]}]}, where the leading
+    // range on the first component lets an index on the components bound the scan of a keyset (seek) pagination
+    // query and still provide its sort order. Only reached when isFieldValueComparison is true.
+    // An ordering comparison under a NegatedPredicate is rejected: $nor would also match documents with a missing or
+    // null component, for which the SQL comparison, and hence its negation, is unknown.
     private AstFilter toRowValueFieldFilter(ComparisonPredicate comparisonPredicate) {
         var lhsComponents = assertNotNull(getSqlTuple(comparisonPredicate.getLeftHandExpression()))
                 .getExpressions();
         var rhsComponents = assertNotNull(getSqlTuple(comparisonPredicate.getRightHandExpression()))
                 .getExpressions();
-        var componentFilters = new ArrayList<AstFilter>(lhsComponents.size());
-        for (var i = 0; i < lhsComponents.size(); i++) {
-            var left = lhsComponents.get(i);
-            var right = rhsComponents.get(i);
-            var fieldOnLeft = isFieldPathExpression(left);
-            componentFilters.add(new AstFieldOperationFilter(
-                    acceptAndYield(fieldOnLeft ? left : right, FIELD_PATH),
-                    new AstComparisonFilterOperation(EQ, acceptAndYield(fieldOnLeft ? right : left, VALUE))));
+        var operator = comparisonPredicate.getOperator();
+        if (operator == ComparisonOperator.EQUAL || operator == ComparisonOperator.NOT_EQUAL) {
+            var componentFilters = new ArrayList<AstFilter>(lhsComponents.size());
+            for (var i = 0; i < lhsComponents.size(); i++) {
+                componentFilters.add(toRowValueComponentFilter(
+                        lhsComponents.get(i), ComparisonOperator.EQUAL, rhsComponents.get(i)));
+            }
+            var conjunction = new AstLogicalFilter(AstLogicalFilterOperator.AND, componentFilters);
+            return operator == ComparisonOperator.EQUAL
+                    ? conjunction
+                    : new AstLogicalFilter(AstLogicalFilterOperator.NOR, List.of(conjunction));
+        }
+        if (negatedFilterDepth > 0) {
+            throw new FeatureNotSupportedException("Negated row-value ordering comparison is not supported");
         }
-        var conjunction = new AstLogicalFilter(AstLogicalFilterOperator.AND, componentFilters);
-        return comparisonPredicate.getOperator() == ComparisonOperator.EQUAL
-                ? conjunction
-                : new AstLogicalFilter(AstLogicalFilterOperator.NOR, List.of(conjunction));
+        var strictOperator =
+                switch (operator) {
+                    case LESS_THAN, LESS_THAN_OR_EQUAL -> ComparisonOperator.LESS_THAN;
+                    case GREATER_THAN, GREATER_THAN_OR_EQUAL -> ComparisonOperator.GREATER_THAN;
+                    default -> throw fail(operator.toString());
+                };
+        var size = lhsComponents.size();
+        var disjuncts = new ArrayList<AstFilter>(size);
+        for (var i = 0; i < size; i++) {
+            var conjuncts = new ArrayList<AstFilter>(i + 1);
+            for (var j = 0; j < i; j++) {
+                conjuncts.add(toRowValueComponentFilter(
+                        lhsComponents.get(j), ComparisonOperator.EQUAL, rhsComponents.get(j)));
+            }
+            // only the last component is compared inclusively, if the operator is inclusive
+            conjuncts.add(toRowValueComponentFilter(
+                    lhsComponents.get(i), i == size - 1 ? operator : strictOperator, rhsComponents.get(i)));
+            disjuncts.add(
+                    conjuncts.size() == 1
+                            ? conjuncts.get(0)
+                            : new AstLogicalFilter(AstLogicalFilterOperator.AND, conjuncts));
+        }
+        if (size == 1) {
+            return disjuncts.get(0);
+        }
+        var leadingRangeOperator = strictOperator == ComparisonOperator.LESS_THAN
+                ? ComparisonOperator.LESS_THAN_OR_EQUAL
+                : ComparisonOperator.GREATER_THAN_OR_EQUAL;
+        return new AstLogicalFilter(
+                AstLogicalFilterOperator.AND,
+                List.of(
+                        toRowValueComponentFilter(lhsComponents.get(0), leadingRangeOperator, rhsComponents.get(0)),
+                        new AstLogicalFilter(AstLogicalFilterOperator.OR, disjuncts)));
+    }
+
+    /** Compares a component of the left-hand side of a row-value comparison with that of the right-hand side. */
+    private AstFilter toRowValueComponentFilter(Expression left, ComparisonOperator operator, Expression right) {
+        var fieldOnLeft = isFieldPathExpression(left);
+        return new AstFieldOperationFilter(
+                acceptAndYield(fieldOnLeft ? left : right, FIELD_PATH),
+                new AstComparisonFilterOperation(
+                        createAstComparisonFilterOperator(fieldOnLeft ? operator : operator.invert()),
+                        acceptAndYield(fieldOnLeft ? right : left, VALUE)));
     }
 
     @Override
@@ -843,7 +1467,13 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
             astVisitorValueHolder.yield(
                     EXPRESSION, new AstLogicalOperatorExpression(AstLogicalOperator.NOT, List.of(operand)));
         } else {
-            var filter = acceptAndYield(negatedPredicate.getPredicate(), FILTER);
+            AstFilter filter;
+            negatedFilterDepth++;
+            try {
+                filter = acceptAndYield(negatedPredicate.getPredicate(), FILTER);
+            } finally {
+                negatedFilterDepth--;
+            }
             astVisitorValueHolder.yield(FILTER, new AstLogicalFilter(AstLogicalFilterOperator.NOR, List.of(filter)));
         }
     }
@@ -938,9 +1568,15 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
             throw new FeatureNotSupportedException(
                     "TODO-HIBERNATE-241 Columns that are not part of group by are not supported");
         }
-        return (qualifier != null && joinedTableQualifiers.contains(qualifier))
-                ? JOIN_ALIAS_PREFIX + qualifier + "." + columnReference.getColumnExpression()
-                : columnReference.getColumnExpression();
+        if (qualifier == null || !joinedTableQualifiers.contains(qualifier)) {
+            return columnReference.getColumnExpression();
+        }
+        if (referencedJoinedTableQualifiers != null) {
+            referencedJoinedTableQualifiers.add(qualifier);
+        }
+        return qualifier.equals(lookupPipelineQualifier)
+                ? columnReference.getColumnExpression()
+                : JOIN_ALIAS_PREFIX + qualifier + "." + columnReference.getColumnExpression();
     }
 
     // A literal or parameter is a document value in FIELD/VALUE position, but in aggregation-expression
@@ -1107,7 +1743,15 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
             throw new FeatureNotSupportedException(
                     format("%s does not support null precedence: NULLS %s", MONGO_DBMS_NAME, nullPrecedence));
         }
-        if (sortSpecification.isIgnoreCase()) {
+        var sortExpression = sortSpecification.getSortExpression();
+        var caseFunctionArgument = getCaseFunctionArgument(sortExpression, null);
+        if (caseFunctionArgument != null
+                && isFieldPathExpression(caseFunctionArgument)
+                && isComparedCaseInsensitively(caseFunctionArgument)) {
+            // The case-insensitive collation of the query orders the field like the function of it
+            sortExpression = caseFunctionArgument;
+        } else if (sortSpecification.isIgnoreCase()
+                && !(isFieldPathExpression(sortExpression) && isComparedCaseInsensitively(sortExpression))) {
             throw new FeatureNotSupportedException("TODO-HIBERNATE-79 https://jira.mongodb.org/browse/HIBERNATE-79");
         }
 
@@ -1116,7 +1760,6 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
                     case ASCENDING -> ASC;
                     case DESCENDING -> DESC;
                 };
-        var sortExpression = sortSpecification.getSortExpression();
         var sqlTuple = getSqlTuple(sortExpression);
         if (sqlTuple == null) {
             var astSortField = createAstSortField(sortExpression, astSortOrder);
@@ -1290,11 +1933,15 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
     }
 
     private AstUpdateCommand createAstUpdateCommand(
-            final List<ColumnValueBinding> valueBindings, final String tableName, final AstFilter keyFilter) {
+            final List<ColumnValueBinding> valueBindings,
+            final String tableName,
+            final AstFilter keyFilter,
+            final boolean ordered) {
         return new AstUpdateCommand(
                 tableName,
                 List.of(createMultiUpdateStatement(
-                        keyFilter, new AstDocumentUpdate(createFieldUpdates(valueBindings)))));
+                        keyFilter, new AstDocumentUpdate(createFieldUpdates(valueBindings)))),
+                ordered);
     }
 
     @Override
@@ -1726,6 +2373,20 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
                                 .map(item -> acceptAndYield(item, VALUE))
                                 .toList());
                 astVisitorValueHolder.yield(FILTER, new AstFieldOperationFilter(fieldPath, operation));
+            } else if (getCaseInsensitiveComparison(expression, inListPredicate.getListExpressions())
+                    instanceof CaseInsensitiveComparison comparison) {
+                var fieldPath = acceptAndYield(comparison.field(), FIELD_PATH);
+                var operator = inListPredicate.isNegated() ? NIN : IN;
+                var operation = new AstListComparisonFilterOperation(
+                        operator,
+                        comparison.values().stream()
+                                .map(value -> acceptAndYield(value, VALUE))
+                                .toList());
+                astVisitorValueHolder.yield(FILTER, new AstFieldOperationFilter(fieldPath, operation));
+            } else if (getCaseFunctionArgument(expression, null) instanceof Expression field
+                    && isFieldPathExpression(field)) {
+                // A case-insensitive comparison that the query collation does not answer
+                astVisitorValueHolder.yield(FILTER, new AstExprFilter(acceptAndYieldExpression(inListPredicate)));
             } else {
                 throw new FeatureNotSupportedException(
                         "Only the following list predicates are supported: field in [not] (...)");
@@ -1911,8 +2572,11 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
                             : regexMatch);
         } else {
             var fieldPath = acceptAndYield(likePredicate.getMatchExpression(), FIELD_PATH);
-            var filter =
+            AstFilter regexFilter =
                     new AstFieldOperationFilter(fieldPath, new AstRegularExpressionFilterOperation(regex, options));
+            var filter = createPrefixLikeFilter(
+                            fieldPath, literalPrefix(pattern, escape), likePredicate.isCaseSensitive(), regexFilter)
+                    .orElse(regexFilter);
             astVisitorValueHolder.yield(
                     FILTER,
                     likePredicate.isNegated()
@@ -1921,6 +2585,50 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
         }
     }
 
+    /**
+     * Creates a filter of {@code fieldPath like 'prefix%'} for which the server computes tight index bounds, unlike for
+     * the regular expression that {@link AstRegularExpressionFilterOperation#quoteMeta(String, Character)} converts the
+     * pattern to. That is, an anchored regular expression without options if the predicate is case-sensitive, or else,
+     * if the {@linkplain #queryCollation query collation} compares strings case-insensitively and
+     * {@linkplain MongoCollations#hasRootOrder(BsonDocument) in the root order}, {@code regexFilter} together with the
+     * range of strings starting with the prefix, which is answered from an index with the same collation. Otherwise,
+     * only {@code regexFilter} is used. The range only bounds the index scan: it also contains strings that the
+     * predicate does not match, for instance those that differ from the prefix in their diacritics under a collation of
+     * strength 2, which {@code regexFilter} then rejects.
+     *
+     * @param prefix The {@linkplain AstRegularExpressionFilterOperation#literalPrefix(String, Character) literal
+     *     prefix} of the pattern, if any.
+     * @param regexFilter The filter with the regular expression that the pattern is converted to.
+     */
+    private Optional<AstFilter> createPrefixLikeFilter(
+            String fieldPath, @Nullable String prefix, boolean caseSensitive, AstFilter regexFilter) {
+        if (prefix == null || prefix.isEmpty()) {
+            return Optional.empty();
+        }
+        if (caseSensitive) {
+            return Optional.of(new AstFieldOperationFilter(
+                    fieldPath, new AstRegularExpressionFilterOperation(quotePrefix(prefix), "")));
+        }
+        if (queryCollation == null
+                || !MongoCollations.isCaseInsensitive(queryCollation)
+                || !MongoCollations.hasRootOrder(queryCollation)) {
+            return Optional.empty();
+        }
+        // U+FFFF has the greatest primary weight in the root collation, so that it follows all the strings starting
+        // with the prefix
+        return Optional.of(new AstLogicalFilter(
+                AstLogicalFilterOperator.AND,
+                List.of(
+                        new AstFieldOperationFilter(
+                                fieldPath,
+                                new AstComparisonFilterOperation(GTE, new AstLiteral(new BsonString(prefix)))),
+                        new AstFieldOperationFilter(
+                                fieldPath,
+                                new AstComparisonFilterOperation(
+                                        LT, new AstLiteral(new BsonString(prefix + '\uFFFF')))),
+                        regexFilter)));
+    }
+
     @Override
     public void visitNullnessPredicate(NullnessPredicate nullnessPredicate) {
         var expression = nullnessPredicate.getExpression();
@@ -2018,7 +2726,8 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
             var mutationResult = createMutationResult(
                     optionalTableUpdate.getValueBindings(),
                     optionalTableUpdate.getMutatingTable().getTableName(),
-                    createKeyFilter(optionalTableUpdate));
+                    createKeyFilter(optionalTableUpdate),
+                    isOrderedBulkWrite(optionalTableUpdate));
             astVisitorValueHolder.yield(MODEL_MUTATION_RESULT, mutationResult);
         }
     }
@@ -2042,15 +2751,10 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
     }
 
     private static void checkQueryOptionsSupportability(QueryOptions queryOptions) {
-        if (queryOptions.getTimeout() != null) {
-            throw new FeatureNotSupportedException("'timeout' inQueryOptions is not supported");
-        }
+        // `timeout` is not checked, because Hibernate ORM applies it via `Statement.setQueryTimeout`.
         if (queryOptions.getFlushMode() != null) {
             throw new FeatureNotSupportedException("'flushMode' in QueryOptions is not supported");
         }
-        if (Boolean.TRUE.equals(queryOptions.isReadOnly())) {
-            throw new FeatureNotSupportedException("'readOnly' in QueryOptions is not supported");
-        }
         if (queryOptions.getAppliedGraph() != null
                 && queryOptions.getAppliedGraph().getGraph() != null) {
             throw new FeatureNotSupportedException("'appliedGraph' in QueryOptions is not supported");
@@ -2061,9 +2765,6 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
         if (queryOptions.getResultListTransformer() != null) {
             throw new FeatureNotSupportedException("'resultListTransformer' in QueryOptions is not supported");
         }
-        if (Boolean.TRUE.equals(queryOptions.isResultCachingEnabled())) {
-            throw new FeatureNotSupportedException("'resultCaching' in QueryOptions is not supported");
-        }
         if (queryOptions.getDisabledFetchProfiles() != null
                 && !queryOptions.getDisabledFetchProfiles().isEmpty()) {
             throw new FeatureNotSupportedException("'disabledFetchProfiles' in QueryOptions is not supported");
@@ -2076,13 +2777,31 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
                 && !queryOptions.getLockOptions().isEmpty()) {
             throw new FeatureNotSupportedException("'lockOptions' in QueryOptions is not supported");
         }
-        if (queryOptions.getDatabaseHints() != null
-                && !queryOptions.getDatabaseHints().isEmpty()) {
-            throw new FeatureNotSupportedException("'databaseHints' in QueryOptions is not supported");
-        }
-        if (queryOptions.getFetchSize() != null) {
-            throw new FeatureNotSupportedException("TODO-HIBERNATE-54 https://jira.mongodb.org/browse/HIBERNATE-54");
+        // `readOnly` and `databaseHints` are applied by `visitQuerySpec`.
+        // `resultCachingEnabled` is not checked, because Hibernate ORM caches query results keyed by the MQL
+        // and the parameter values, and invalidates them based on the affected collections.
+        // `fetchSize` is not checked, because Hibernate ORM applies it via `Statement.setFetchSize`.
+    }
+
+    /**
+     * Parses database hints of the form {@code name=value}, whose names are {@linkplain MongoQueryHints specified},
+     * into a map from names to values.
+     */
+    private static Map<String, String> parseDatabaseHints(@Nullable List<String> databaseHints) {
+        if (databaseHints == null || databaseHints.isEmpty()) {
+            return Map.of();
+        }
+        var result = new HashMap<String, String>();
+        for (var databaseHint : databaseHints) {
+            var separatorIndex = databaseHint.indexOf('=');
+            var name = separatorIndex < 0 ? "" : databaseHint.substring(0, separatorIndex).trim();
+            if (!SUPPORTED_DATABASE_HINT_NAMES.contains(name)) {
+                throw new FeatureNotSupportedException(
+                        "Database hint [%s] is not supported, see %s".formatted(databaseHint, MongoQueryHints.class));
+            }
+            result.put(name, databaseHint.substring(separatorIndex + 1).trim());
         }
+        return result;
     }
 
     private static AstComparisonFilterOperator createAstComparisonFilterOperator(ComparisonOperator operator) {
@@ -2129,7 +2848,7 @@ public abstract class AbstractMqlTranslator<T extends JdbcOperation> implements
                     comparisonPredicate.getLeftHandExpression(), comparisonPredicate.getRightHandExpression());
         } else {
             var operator = comparisonPredicate.getOperator();
-            if (operator != ComparisonOperator.EQUAL && operator != ComparisonOperator.NOT_EQUAL) {
+            if (operator == ComparisonOperator.DISTINCT_FROM || operator == ComparisonOperator.NOT_DISTINCT_FROM) {
                 return false;
             }
             var lhsTuple = getSqlTuple(comparisonPredicate.getLeftHandExpression());
@@ -24,6 +24,7 @@ import static org.hibernate.sql.exec.spi.JdbcLockStrategy.NONE;
 
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstCommand;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.spi.QueryOptions;
@@ -34,6 +35,7 @@ import org.hibernate.sql.exec.internal.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelect;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducerProvider;
 import org.jspecify.annotations.Nullable;
 
@@ -59,7 +61,7 @@ final class SelectMqlTranslator extends AbstractMqlTranslator<JdbcSelect> {
         applyQueryOptions(queryOptions);
 
         var result = acceptAndYield((Statement) selectStatement, SELECT_RESULT);
-        return result.createJdbcOperationQuerySelect(selectStatement, getSessionFactory());
+        return result.createJdbcOperationQuerySelect(selectStatement, getSessionFactory(), queryOptions);
     }
 
     static final class Result {
@@ -80,14 +82,40 @@ final class SelectMqlTranslator extends AbstractMqlTranslator<JdbcSelect> {
         }
 
         private JdbcOperationQuerySelect createJdbcOperationQuerySelect(
-                SelectStatement selectStatement, SessionFactoryImplementor sessionFactory) {
+                SelectStatement selectStatement, SessionFactoryImplementor sessionFactory, QueryOptions queryOptions) {
             var jdbcValuesMappingProducerProvider =
                     sessionFactory.getServiceRegistry().requireService(JdbcValuesMappingProducerProvider.class);
             var jdbcValuesMappingProducer =
                     jdbcValuesMappingProducerProvider.buildMappingProducer(selectStatement, sessionFactory);
             var parameterBinders = new ArrayList<JdbcParameterBinder>();
             var mql = renderMongoAstNode(command, parameterBinders::add);
-            return new JdbcOperationQuerySelect(
+            return new MongoJdbcOperationQuerySelect(
+                    TranslatedQueryOptions.of(queryOptions),
+                    mql,
+                    parameterBinders,
+                    jdbcValuesMappingProducer,
+                    affectedTableNames,
+                    offsetParameter,
+                    limitParameter);
+        }
+    }
+
+    /**
+     * A {@link JdbcOperationQuerySelect} that is not compatible with {@link QueryOptions} that would change the
+     * translated command, so that Hibernate ORM does not reuse it for a query with such options.
+     */
+    private static final class MongoJdbcOperationQuerySelect extends JdbcOperationQuerySelect {
+        private final TranslatedQueryOptions translatedQueryOptions;
+
+        MongoJdbcOperationQuerySelect(
+                TranslatedQueryOptions translatedQueryOptions,
+                String mql,
+                List<JdbcParameterBinder> parameterBinders,
+                JdbcValuesMappingProducer jdbcValuesMappingProducer,
+                Set<String> affectedTableNames,
+                @Nullable JdbcParameter offsetParameter,
+                @Nullable JdbcParameter limitParameter) {
+            super(
                     mql,
                     parameterBinders,
                     jdbcValuesMappingProducer,
@@ -100,6 +128,23 @@ final class SelectMqlTranslator extends AbstractMqlTranslator<JdbcSelect> {
                     // Not setting them could result in reusing the wrong query plan and subsequently the wrong MQL.
                     offsetParameter,
                     limitParameter);
+            this.translatedQueryOptions = translatedQueryOptions;
+        }
+
+        @Override
+        public boolean isCompatibleWith(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
+            return super.isCompatibleWith(jdbcParameterBindings, queryOptions)
+                    && translatedQueryOptions.equals(TranslatedQueryOptions.of(queryOptions));
+        }
+    }
+
+    /** The {@link QueryOptions} that {@link AbstractMqlTranslator} renders into the translated command. */
+    private record TranslatedQueryOptions(boolean readOnly, List<String> databaseHints) {
+        static TranslatedQueryOptions of(QueryOptions queryOptions) {
+            var databaseHints = queryOptions.getDatabaseHints();
+            return new TranslatedQueryOptions(
+                    Boolean.TRUE.equals(queryOptions.isReadOnly()),
+                    databaseHints == null ? List.of() : List.copyOf(databaseHints));
         }
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertTrue;
+
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAggregateOptions;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFilter;
+import java.util.function.Consumer;
+import org.bson.BsonWriter;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * See <a href="https://www.mongodb.com/docs/manual/reference/command/count/">{@code count}</a>.
+ *
+ * @param query The {@code query} field, which is rendered only if not {@code null}. Without it, the count is the
+ *     estimated number of documents in the collection.
+ * @param options The options, of which only those that the {@code count} command has are allowed.
+ * @hidden
+ */
+public record AstCountCommand(String collection, @Nullable AstFilter query, AstAggregateOptions options)
+        implements AstCommand {
+
+    public AstCountCommand {
+        assertTrue(options.allowDiskUse() == null && options.let() == null && options.maxAwaitTimeMS() == null);
+    }
+
+    @Override
+    public void render(BsonWriter writer, Consumer<JdbcParameterBinder> binderConsumer) {
+        writer.writeStartDocument();
+        {
+            writer.writeString("count", collection);
+            if (query != null) {
+                writer.writeName("query");
+                query.render(writer, binderConsumer);
+            }
+            options.render(writer, binderConsumer);
+        }
+        writer.writeEndDocument();
+    }
+}
@@ -24,9 +24,14 @@ import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 /**
  * See <a href="https://www.mongodb.com/docs/manual/reference/command/delete/">{@code delete}</a>.
  *
+ * @param ordered The {@code ordered} field, which is rendered only if {@code false}.
  * @hidden
  */
-public record AstDeleteCommand(String collection, AstFilter filter) implements AstCommand {
+public record AstDeleteCommand(String collection, AstFilter filter, boolean ordered) implements AstCommand {
+    public AstDeleteCommand(String collection, AstFilter filter) {
+        this(collection, filter, true);
+    }
+
     @Override
     public void render(BsonWriter writer, Consumer<JdbcParameterBinder> binderConsumer) {
         writer.writeStartDocument();
@@ -44,6 +49,9 @@ public record AstDeleteCommand(String collection, AstFilter filter) implements A
                 writer.writeEndDocument();
             }
             writer.writeEndArray();
+            if (!ordered) {
+                writer.writeBoolean("ordered", false);
+            }
         }
         writer.writeEndDocument();
     }
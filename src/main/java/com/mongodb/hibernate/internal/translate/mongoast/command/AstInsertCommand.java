@@ -27,14 +27,20 @@ import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 /**
  * See <a href="https://www.mongodb.com/docs/manual/reference/command/insert/">{@code insert}</a>.
  *
+ * @param ordered The {@code ordered} field, which is rendered only if {@code false}.
  * @hidden
  */
-public record AstInsertCommand(String collection, Collection<? extends AstDocument> documents) implements AstCommand {
+public record AstInsertCommand(String collection, Collection<? extends AstDocument> documents, boolean ordered)
+        implements AstCommand {
 
     public AstInsertCommand {
         assertFalse(documents.isEmpty());
     }
 
+    public AstInsertCommand(String collection, Collection<? extends AstDocument> documents) {
+        this(collection, documents, true);
+    }
+
     @Override
     public void render(BsonWriter writer, Consumer<JdbcParameterBinder> binderConsumer) {
         writer.writeStartDocument();
@@ -46,6 +52,9 @@ public record AstInsertCommand(String collection, Collection<? extends AstDocume
                 documents.forEach(document -> document.render(writer, binderConsumer));
             }
             writer.writeEndArray();
+            if (!ordered) {
+                writer.writeBoolean("ordered", false);
+            }
         }
         writer.writeEndDocument();
     }
@@ -26,15 +26,21 @@ import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 /**
  * See <a href="https://www.mongodb.com/docs/manual/reference/command/update/">{@code update}</a>.
  *
+ * @param ordered The {@code ordered} field, which is rendered only if {@code false}.
  * @hidden
  */
 @SuppressWarnings("InvalidParam")
-public record AstUpdateCommand(String collection, List<AstUpdateStatement> updates) implements AstCommand {
+public record AstUpdateCommand(String collection, List<AstUpdateStatement> updates, boolean ordered)
+        implements AstCommand {
 
     public AstUpdateCommand {
         assertFalse(updates.isEmpty());
     }
 
+    public AstUpdateCommand(String collection, List<AstUpdateStatement> updates) {
+        this(collection, updates, true);
+    }
+
     @Override
     public void render(BsonWriter writer, Consumer<JdbcParameterBinder> binderConsumer) {
         writer.writeStartDocument();
@@ -46,6 +52,9 @@ public record AstUpdateCommand(String collection, List<AstUpdateStatement> updat
                 updates.forEach(statement -> statement.render(writer, binderConsumer));
             }
             writer.writeEndArray();
+            if (!ordered) {
+                writer.writeBoolean("ordered", false);
+            }
         }
         writer.writeEndDocument();
     }
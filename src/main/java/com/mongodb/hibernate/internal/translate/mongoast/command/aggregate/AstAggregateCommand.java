@@ -27,7 +27,12 @@ import org.hibernate.sql.exec.spi.JdbcParameterBinder;
  *
  * @hidden
  */
-public record AstAggregateCommand(String collection, Collection<? extends AstStage> stages) implements AstCommand {
+public record AstAggregateCommand(String collection, Collection<? extends AstStage> stages, AstAggregateOptions options)
+        implements AstCommand {
+
+    public AstAggregateCommand(String collection, Collection<? extends AstStage> stages) {
+        this(collection, stages, AstAggregateOptions.EMPTY);
+    }
 
     @Override
     public void render(BsonWriter writer, Consumer<JdbcParameterBinder> binderConsumer) {
@@ -40,6 +45,7 @@ public record AstAggregateCommand(String collection, Collection<? extends AstSta
                 stages.forEach(stage -> stage.render(writer, binderConsumer));
             }
             writer.writeEndArray();
+            options.render(writer, binderConsumer);
         }
         writer.writeEndDocument();
     }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertTrue;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.hibernate.internal.translate.mongoast.AstLiteral;
+import com.mongodb.hibernate.internal.translate.mongoast.AstNode;
+import java.util.function.Consumer;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The options of an {@link AstAggregateCommand}, rendered as fields of the command. Each option is rendered only if
+ * not {@code null}.
+ *
+ * @param readPreference The {@code $readPreference} field.
+ * @param readConcern The {@code readConcern} field.
+ * @param hint The {@code hint} field, either an index name or an index key pattern.
+ * @param allowDiskUse The {@code allowDiskUse} field.
+ * @param comment The {@code comment} field.
+ * @param collation The {@code collation} field.
+ * @param let The {@code let} field.
+ * @param maxAwaitTimeMS The {@code maxAwaitTimeMS} field, which is not a field of the {@code aggregate} command
+ *     understood by the server, but the {@code maxTimeMS} of the {@code getMore} commands of a tailable cursor.
+ * @hidden
+ */
+@SuppressWarnings("MissingSummary")
+public record AstAggregateOptions(
+        @Nullable ReadPreference readPreference,
+        @Nullable ReadConcern readConcern,
+        @Nullable BsonValue hint,
+        @Nullable Boolean allowDiskUse,
+        @Nullable String comment,
+        @Nullable BsonDocument collation,
+        @Nullable BsonDocument let,
+        @Nullable Long maxAwaitTimeMS)
+        implements AstNode {
+
+    public static final AstAggregateOptions EMPTY =
+            new AstAggregateOptions(null, null, null, null, null, null, null, null);
+
+    public AstAggregateOptions {
+        assertTrue(hint == null || hint.isString() || hint.isDocument());
+        assertTrue(maxAwaitTimeMS == null || maxAwaitTimeMS >= 0);
+    }
+
+    @Override
+    public void render(BsonWriter writer, Consumer<JdbcParameterBinder> binderConsumer) {
+        if (readPreference != null) {
+            writer.writeName("$readPreference");
+            new AstLiteral(readPreference.toDocument()).render(writer, binderConsumer);
+        }
+        if (readConcern != null) {
+            writer.writeName("readConcern");
+            new AstLiteral(readConcern.asDocument()).render(writer, binderConsumer);
+        }
+        if (hint != null) {
+            writer.writeName("hint");
+            new AstLiteral(hint).render(writer, binderConsumer);
+        }
+        if (allowDiskUse != null) {
+            writer.writeBoolean("allowDiskUse", allowDiskUse);
+        }
+        if (comment != null) {
+            writer.writeString("comment", comment);
+        }
+        if (collation != null) {
+            writer.writeName("collation");
+            new AstLiteral(collation).render(writer, binderConsumer);
+        }
+        if (let != null) {
+            writer.writeName("let");
+            new AstLiteral(let).render(writer, binderConsumer);
+        }
+        if (maxAwaitTimeMS != null) {
+            writer.writeInt64("maxAwaitTimeMS", maxAwaitTimeMS);
+        }
+    }
+}
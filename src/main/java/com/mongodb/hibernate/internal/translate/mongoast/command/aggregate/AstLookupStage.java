@@ -16,6 +16,7 @@
 
 package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
 
+import java.util.List;
 import java.util.function.Consumer;
 import org.bson.BsonWriter;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
@@ -23,9 +24,17 @@ import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 /**
  * See <a href="https://www.mongodb.com/docs/manual/reference/operator/aggregation/lookup/">{@code $lookup}</a>.
  *
+ * <p>The {@code pipeline}, if not empty, runs on the documents matched via {@code localField}/{@code foreignField},
+ * which MongoDB supports together with a {@code pipeline} since version 5.0.
+ *
  * @hidden
  */
-public record AstLookupStage(String from, String localField, String foreignField, String as) implements AstStage {
+public record AstLookupStage(String from, String localField, String foreignField, List<AstStage> pipeline, String as)
+        implements AstStage {
+    public AstLookupStage(String from, String localField, String foreignField, String as) {
+        this(from, localField, foreignField, List.of(), as);
+    }
+
     @Override
     public void render(BsonWriter writer, Consumer<JdbcParameterBinder> binderConsumer) {
         writer.writeStartDocument();
@@ -36,6 +45,14 @@ public record AstLookupStage(String from, String localField, String foreignField
                 writer.writeString("from", from);
                 writer.writeString("localField", localField);
                 writer.writeString("foreignField", foreignField);
+                if (!pipeline.isEmpty()) {
+                    writer.writeName("pipeline");
+                    writer.writeStartArray();
+                    {
+                        pipeline.forEach(stage -> stage.render(writer, binderConsumer));
+                    }
+                    writer.writeEndArray();
+                }
                 writer.writeString("as", as);
             }
             writer.writeEndDocument();
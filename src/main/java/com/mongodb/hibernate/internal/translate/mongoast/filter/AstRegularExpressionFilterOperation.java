@@ -79,6 +79,63 @@ public record AstRegularExpressionFilterOperation(String pattern, String options
         return result.toString();
     }
 
+    /**
+     * Returns the literal prefix of a SQL LIKE pattern that consists of the prefix followed only by {@code %}, that is,
+     * the pattern of a {@code starts with} predicate.
+     *
+     * @param pattern the pattern to analyze
+     * @param escape the escape character, if any
+     * @return the unescaped prefix, which may be empty, or {@code null} if the pattern is not of that form
+     */
+    public static @Nullable String literalPrefix(String pattern, @Nullable Character escape) {
+        var prefix = new StringBuilder(pattern.length());
+        var index = 0;
+        for (; index < pattern.length(); index++) {
+            var current = pattern.charAt(index);
+            if (escape != null && current == escape) {
+                if (index == pattern.length() - 1) {
+                    return null;
+                }
+                prefix.append(pattern.charAt(++index));
+            } else if (current == '_') {
+                return null;
+            } else if (current == '%') {
+                break;
+            } else {
+                prefix.append(current);
+            }
+        }
+        if (index == pattern.length()) {
+            return null;
+        }
+        for (; index < pattern.length(); index++) {
+            if (pattern.charAt(index) != '%') {
+                return null;
+            }
+        }
+        return prefix.toString();
+    }
+
+    /**
+     * Converts a literal prefix to a regular expression that matches the strings starting with it. Such an anchored
+     * expression without options lets the server use tight index bounds.
+     *
+     * @param prefix the literal prefix
+     * @return the regular expression
+     */
+    public static String quotePrefix(String prefix) {
+        var result = new StringBuilder(prefix.length() + 1);
+        result.append("^");
+        for (var index = 0; index < prefix.length(); index++) {
+            var current = prefix.charAt(index);
+            if (REGEX_METACHAR.indexOf(current) != -1) {
+                result.append("\\");
+            }
+            result.append(current);
+        }
+        return result.toString();
+    }
+
     @Override
     public void render(BsonWriter writer, Consumer<JdbcParameterBinder> binderConsumer) {
         writer.writeStartDocument();
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query;
+
+/**
+ * The names of the database hints supported by the MongoDB Extension for Hibernate ORM.
+ *
+ * <p>A database hint is added to a query via {@code org.hibernate.query.Query.addQueryHint(String)} in the form
+ * {@code name=value}, for example, {@code query.addQueryHint(MongoQueryHints.READ_PREFERENCE + "=nearest")}. A
+ * database hint applies to the query regardless of whether the query is read-only, and overrides the entity-level
+ * defaults and the configuration properties.
+ */
+public final class MongoQueryHints {
+    /**
+     * The name of the read preference mode of the query, for example, {@code "secondaryPreferred"}.
+     *
+     * @see com.mongodb.hibernate.annotations.ReadOnlyQueries#readPreference()
+     */
+    public static final String READ_PREFERENCE = "readPreference";
+
+    /**
+     * The {@code maxStalenessSeconds} of the read preference of the query, which requires {@link #READ_PREFERENCE}.
+     *
+     * @see com.mongodb.hibernate.annotations.ReadOnlyQueries#maxStalenessSeconds()
+     */
+    public static final String MAX_STALENESS_SECONDS = "maxStalenessSeconds";
+
+    /**
+     * The read concern level of the query, for example, {@code "local"}.
+     *
+     * @see com.mongodb.hibernate.annotations.ReadOnlyQueries#readConcern()
+     */
+    public static final String READ_CONCERN = "readConcern";
+
+    /**
+     * The <a href="https://www.mongodb.com/docs/manual/reference/command/aggregate/#std-label-aggregate-cmd-hint">index
+     * hint</a> of the query, either an index name, for example, {@code "title_1"}, or an index key pattern in the
+     * Extended JSON format, for example, {@code "{title: 1, publishYear: -1}"}.
+     */
+    public static final String HINT = "hint";
+
+    /**
+     * Whether the stages of the query may write temporary files to disk, either {@code "true"} or {@code "false"}.
+     *
+     * @see com.mongodb.hibernate.annotations.AggregateOptions#allowDiskUse()
+     */
+    public static final String ALLOW_DISK_USE = "allowDiskUse";
+
+    /**
+     * The comment that tags the query in the database profiler and logs.
+     *
+     * @see com.mongodb.hibernate.annotations.AggregateOptions#comment()
+     */
+    public static final String COMMENT = "comment";
+
+    /**
+     * The collation of the query in the Extended JSON format, for example, {@code "{locale: 'fr', strength: 1}"}.
+     *
+     * @see com.mongodb.hibernate.annotations.AggregateOptions#collation()
+     */
+    public static final String COLLATION = "collation";
+
+    /**
+     * The variables accessible in the pipeline of the query in the Extended JSON format.
+     *
+     * @see com.mongodb.hibernate.annotations.AggregateOptions#let()
+     */
+    public static final String LET = "let";
+
+    /**
+     * The maximum time in milliseconds that the server waits for new documents of a tailable cursor.
+     *
+     * @see com.mongodb.hibernate.annotations.AggregateOptions#maxAwaitTimeMS()
+     */
+    public static final String MAX_AWAIT_TIME_MS = "maxAwaitTimeMS";
+
+    private MongoQueryHints() {}
+}
@@ -15,10 +15,13 @@
  */
 
 import com.mongodb.hibernate.internal.boot.MongoAdditionalMappingContributor;
+import com.mongodb.hibernate.internal.cache.MongoCacheInvalidationIntegrator;
+import com.mongodb.hibernate.internal.schema.MongoIndexMigrationIntegrator;
 import com.mongodb.hibernate.internal.service.MongoNamedStrategyContributor;
 import com.mongodb.hibernate.internal.service.StandardServiceRegistryScopedState;
 import org.hibernate.boot.registry.selector.spi.NamedStrategyContributor;
 import org.hibernate.boot.spi.AdditionalMappingContributor;
+import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.service.spi.ServiceContributor;
 
 /**
@@ -117,6 +120,7 @@ module com.mongodb.hibernate {
     requires transitive org.mongodb.driver.core;
     requires transitive org.mongodb.driver.sync.client;
     requires org.jspecify;
+    requires org.slf4j;
 
     provides ServiceContributor with
             StandardServiceRegistryScopedState.ServiceContributor;
@@ -124,6 +128,9 @@ module com.mongodb.hibernate {
             MongoNamedStrategyContributor;
     provides AdditionalMappingContributor with
             MongoAdditionalMappingContributor;
+    provides Integrator with
+            MongoCacheInvalidationIntegrator,
+            MongoIndexMigrationIntegrator;
 
     opens com.mongodb.hibernate.internal.dialect to
             org.hibernate.orm.core;
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+class MongoIndexesTests {
+
+    @Test
+    void testIsSatisfiedByTheSameIndex() {
+        var index = BsonDocument.parse(
+                """
+                {
+                  "key": {"title": 1, "year": -1},
+                  "name": "idx_title",
+                  "unique": true,
+                  "collation": {"locale": "en", "strength": 2},
+                  "expireAfterSeconds": {"$numberLong": "3600"}
+                }""");
+        assertTrue(MongoIndexes.isSatisfiedBy(
+                index,
+                BsonDocument.parse(
+                        """
+                        {
+                          "v": 2,
+                          "key": {"title": 1, "year": -1.0},
+                          "name": "idx_title",
+                          "unique": true,
+                          "expireAfterSeconds": 3600,
+                          "collation": {"locale": "en", "caseLevel": false, "strength": 2, "version": "57.1"}
+                        }""")));
+    }
+
+    @Test
+    void testIsNotSatisfiedByADifferentIndex() {
+        var index = BsonDocument.parse("{key: {title: 1, year: 1}, name: 'idx_title', unique: false, sparse: true}");
+        assertAll(
+                () -> assertFalse(MongoIndexes.isSatisfiedBy(
+                        index, BsonDocument.parse("{key: {title: 1, year: 1}, name: 'idx_other', sparse: true}"))),
+                () -> assertFalse(MongoIndexes.isSatisfiedBy(
+                        index, BsonDocument.parse("{key: {year: 1, title: 1}, name: 'idx_title', sparse: true}"))),
+                () -> assertFalse(MongoIndexes.isSatisfiedBy(
+                        index,
+                        BsonDocument.parse(
+                                "{key: {title: 1, year: 1}, name: 'idx_title', sparse: true, unique: true}"))),
+                () -> assertFalse(MongoIndexes.isSatisfiedBy(
+                        index, BsonDocument.parse("{key: {title: 1, year: 1}, name: 'idx_title'}"))),
+                () -> assertFalse(MongoIndexes.isSatisfiedBy(
+                        index,
+                        BsonDocument.parse(
+                                """
+                                {key: {title: 1, year: 1}, name: 'idx_title', sparse: true, collation: {locale: 'en'}}\
+                                """))),
+                () -> assertTrue(MongoIndexes.isSatisfiedBy(
+                        index, BsonDocument.parse("{key: {title: 1, year: 1}, name: 'idx_title', sparse: true}"))));
+    }
+
+    @Test
+    void testIsSatisfiedByIgnoringHidden() {
+        var index = BsonDocument.parse("{key: {title: 1}, name: 'idx_title', unique: false}");
+        var hiddenIndex = BsonDocument.parse("{key: {title: 1}, name: 'idx_title', hidden: true}");
+        assertAll(
+                () -> assertFalse(MongoIndexes.isSatisfiedBy(index, hiddenIndex)),
+                () -> assertTrue(MongoIndexes.isSatisfiedByIgnoringHidden(index, hiddenIndex)),
+                () -> assertTrue(MongoIndexes.isHidden(hiddenIndex)),
+                () -> assertFalse(MongoIndexes.isHidden(index)));
+    }
+}
@@ -16,16 +16,46 @@
 
 package com.mongodb.hibernate.internal.cfg;
 
+import static com.mongodb.hibernate.internal.MongoConstants.CACHE_INVALIDATION_CHANGE_STREAM_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.CACHE_INVALIDATION_NODE_ID_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.CLIENT_BULK_WRITES_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.COALESCE_INSERTS_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.COMMAND_TEMPLATE_CACHE_MAX_SIZE_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.CREATE_INDEXES_COMMIT_QUORUM_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.CURSOR_PREFETCH_SIZE_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.DEFAULT_CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION;
+import static com.mongodb.hibernate.internal.MongoConstants.DEFAULT_COMMAND_TEMPLATE_CACHE_MAX_SIZE;
+import static com.mongodb.hibernate.internal.MongoConstants.DEFAULT_INDEX_MIGRATION_DROP_AFTER_SECONDS;
+import static com.mongodb.hibernate.internal.MongoConstants.DEFAULT_SCHEMA_EXPORT_PARALLELISM;
+import static com.mongodb.hibernate.internal.MongoConstants.EXACT_BATCH_UPDATE_COUNTS_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.INDEX_MIGRATION_DROP_AFTER_SECONDS_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.INDEX_MIGRATION_DROP_OBSOLETE_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.INDEX_MIGRATION_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.INDEX_MIGRATION_WAIT_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.READ_ONLY_MAX_STALENESS_SECONDS_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.READ_ONLY_READ_CONCERN_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.READ_ONLY_READ_PREFERENCE_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.SCHEMA_EXPORT_PARALLELISM_PROPERTY_NAME;
+import static com.mongodb.hibernate.internal.MongoConstants.UNORDERED_BULK_WRITES_PROPERTY_NAME;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_JDBC_URL;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
 import com.mongodb.client.MongoClient;
+import com.mongodb.client.model.CreateIndexCommitQuorum;
+import com.mongodb.hibernate.internal.cfg.MongoConfiguration.IndexMigration;
 import java.util.Map;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -94,6 +124,263 @@ class MongoConfigurationBuilderTests {
                     () -> assertUnsupportedType(JAKARTA_JDBC_URL, new StringBuilder()));
         }
 
+        @Test
+        void commandTemplateCacheMaxSize() {
+            assertAll(
+                    () -> assertEquals(
+                            DEFAULT_COMMAND_TEMPLATE_CACHE_MAX_SIZE,
+                            new MongoConfigurationBuilder()
+                                    .databaseName("db")
+                                    .build()
+                                    .commandTemplateCacheMaxSize()),
+                    () -> assertCommandTemplateCacheMaxSize(0, 0),
+                    () -> assertCommandTemplateCacheMaxSize(10, " 10 "),
+                    () -> assertFailedToParse(COMMAND_TEMPLATE_CACHE_MAX_SIZE_PROPERTY_NAME, "ten"),
+                    () -> assertFailedToParse(COMMAND_TEMPLATE_CACHE_MAX_SIZE_PROPERTY_NAME, -1),
+                    () -> assertUnsupportedType(COMMAND_TEMPLATE_CACHE_MAX_SIZE_PROPERTY_NAME, 10L));
+        }
+
+        @Test
+        void unorderedBulkWrites() {
+            assertAll(
+                    () -> assertFalse(new MongoConfigurationBuilder()
+                            .databaseName("db")
+                            .build()
+                            .unorderedBulkWrites()),
+                    () -> assertTrue(
+                            new MongoConfigurationBuilder(Map.of(UNORDERED_BULK_WRITES_PROPERTY_NAME, " TRUE"))
+                                    .databaseName("db")
+                                    .build()
+                                    .unorderedBulkWrites()),
+                    () -> assertFailedToParse(UNORDERED_BULK_WRITES_PROPERTY_NAME, "yes"),
+                    () -> assertUnsupportedType(UNORDERED_BULK_WRITES_PROPERTY_NAME, 1));
+        }
+
+        @Test
+        void exactBatchUpdateCountsWithClientBulkWrites() {
+            assertThatThrownBy(() -> new MongoConfigurationBuilder(Map.of(
+                                    EXACT_BATCH_UPDATE_COUNTS_PROPERTY_NAME,
+                                    "true",
+                                    CLIENT_BULK_WRITES_PROPERTY_NAME,
+                                    "true"))
+                            .databaseName("db")
+                            .build())
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageContaining(EXACT_BATCH_UPDATE_COUNTS_PROPERTY_NAME)
+                    .cause()
+                    .hasMessageContaining(CLIENT_BULK_WRITES_PROPERTY_NAME);
+        }
+
+        @Test
+        void exactBatchUpdateCountsWithCoalesceInserts() {
+            var config = new MongoConfigurationBuilder(Map.of(
+                            EXACT_BATCH_UPDATE_COUNTS_PROPERTY_NAME, "true", COALESCE_INSERTS_PROPERTY_NAME, "true"))
+                    .databaseName("db")
+                    .build();
+            assertAll(
+                    () -> assertTrue(config.exactBatchUpdateCounts()),
+                    () -> assertTrue(config.coalesceInserts()));
+        }
+
+        @Test
+        void readOnlyQueries() {
+            assertAll(
+                    () -> {
+                        var config = new MongoConfigurationBuilder()
+                                .databaseName("db")
+                                .build();
+                        assertNull(config.readOnlyReadPreference());
+                        assertNull(config.readOnlyReadConcern());
+                    },
+                    () -> {
+                        var config = new MongoConfigurationBuilder(Map.of(
+                                        READ_ONLY_READ_PREFERENCE_PROPERTY_NAME, " secondaryPreferred",
+                                        READ_ONLY_MAX_STALENESS_SECONDS_PROPERTY_NAME, "120",
+                                        READ_ONLY_READ_CONCERN_PROPERTY_NAME, "local "))
+                                .databaseName("db")
+                                .build();
+                        assertEquals(ReadPreference.secondaryPreferred(120, SECONDS), config.readOnlyReadPreference());
+                        assertEquals(ReadConcern.LOCAL, config.readOnlyReadConcern());
+                    },
+                    () -> assertFailedToParse(READ_ONLY_READ_PREFERENCE_PROPERTY_NAME, "fastest"),
+                    () -> assertFailedToParse(READ_ONLY_MAX_STALENESS_SECONDS_PROPERTY_NAME, "120"),
+                    () -> assertFailedToParse(READ_ONLY_READ_CONCERN_PROPERTY_NAME, "eventual"),
+                    () -> assertUnsupportedType(READ_ONLY_READ_PREFERENCE_PROPERTY_NAME, ReadPreference.nearest()),
+                    () -> assertUnsupportedType(READ_ONLY_READ_CONCERN_PROPERTY_NAME, ReadConcern.LOCAL));
+        }
+
+        @Test
+        void cursorPrefetchSize() {
+            assertAll(
+                    () -> assertEquals(
+                            0,
+                            new MongoConfigurationBuilder()
+                                    .databaseName("db")
+                                    .build()
+                                    .cursorPrefetchSize()),
+                    () -> assertEquals(
+                            1000,
+                            new MongoConfigurationBuilder(Map.of(CURSOR_PREFETCH_SIZE_PROPERTY_NAME, "1000 "))
+                                    .databaseName("db")
+                                    .build()
+                                    .cursorPrefetchSize()),
+                    () -> assertFailedToParse(CURSOR_PREFETCH_SIZE_PROPERTY_NAME, -1),
+                    () -> assertUnsupportedType(CURSOR_PREFETCH_SIZE_PROPERTY_NAME, 1000L));
+        }
+
+        @Test
+        void cacheInvalidationChangeStream() {
+            assertAll(
+                    () -> assertFalse(new MongoConfigurationBuilder()
+                            .databaseName("db")
+                            .build()
+                            .cacheInvalidationChangeStream()),
+                    () -> assertTrue(new MongoConfigurationBuilder(
+                                    Map.of(CACHE_INVALIDATION_CHANGE_STREAM_PROPERTY_NAME, "true"))
+                            .databaseName("db")
+                            .build()
+                            .cacheInvalidationChangeStream()),
+                    () -> assertFailedToParse(CACHE_INVALIDATION_CHANGE_STREAM_PROPERTY_NAME, "yes"));
+        }
+
+        @Test
+        void cacheInvalidationResumeTokenCollection() {
+            assertAll(
+                    () -> assertEquals(
+                            DEFAULT_CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION,
+                            new MongoConfigurationBuilder()
+                                    .databaseName("db")
+                                    .build()
+                                    .cacheInvalidationResumeTokenCollection()),
+                    () -> assertEquals(
+                            "tokens",
+                            new MongoConfigurationBuilder(
+                                            Map.of(CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION_PROPERTY_NAME, " tokens"))
+                                    .databaseName("db")
+                                    .build()
+                                    .cacheInvalidationResumeTokenCollection()),
+                    () -> assertFailedToParse(CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION_PROPERTY_NAME, " "),
+                    () -> assertUnsupportedType(CACHE_INVALIDATION_RESUME_TOKEN_COLLECTION_PROPERTY_NAME, 1));
+        }
+
+        @Test
+        void cacheInvalidationNodeId() {
+            assertAll(
+                    () -> assertNull(new MongoConfigurationBuilder()
+                            .databaseName("db")
+                            .build()
+                            .cacheInvalidationNodeId()),
+                    () -> assertEquals(
+                            "node-1",
+                            new MongoConfigurationBuilder(Map.of(CACHE_INVALIDATION_NODE_ID_PROPERTY_NAME, " node-1"))
+                                    .databaseName("db")
+                                    .build()
+                                    .cacheInvalidationNodeId()),
+                    () -> assertFailedToParse(CACHE_INVALIDATION_NODE_ID_PROPERTY_NAME, " "),
+                    () -> assertUnsupportedType(CACHE_INVALIDATION_NODE_ID_PROPERTY_NAME, 1));
+        }
+
+        @Test
+        void schemaExportParallelism() {
+            assertAll(
+                    () -> assertEquals(
+                            DEFAULT_SCHEMA_EXPORT_PARALLELISM,
+                            new MongoConfigurationBuilder()
+                                    .databaseName("db")
+                                    .build()
+                                    .schemaExportParallelism()),
+                    () -> assertEquals(
+                            16,
+                            new MongoConfigurationBuilder(Map.of(SCHEMA_EXPORT_PARALLELISM_PROPERTY_NAME, " 16"))
+                                    .databaseName("db")
+                                    .build()
+                                    .schemaExportParallelism()),
+                    () -> assertFailedToParse(SCHEMA_EXPORT_PARALLELISM_PROPERTY_NAME, -1),
+                    () -> assertUnsupportedType(SCHEMA_EXPORT_PARALLELISM_PROPERTY_NAME, 16L));
+        }
+
+        @Test
+        void createIndexesCommitQuorum() {
+            assertAll(
+                    () -> assertNull(new MongoConfigurationBuilder()
+                            .databaseName("db")
+                            .build()
+                            .createIndexesCommitQuorum()),
+                    () -> assertCreateIndexesCommitQuorum(CreateIndexCommitQuorum.MAJORITY, "majority"),
+                    () -> assertCreateIndexesCommitQuorum(CreateIndexCommitQuorum.VOTING_MEMBERS, " votingMembers"),
+                    () -> assertCreateIndexesCommitQuorum(CreateIndexCommitQuorum.create(2), "2"),
+                    () -> assertCreateIndexesCommitQuorum(CreateIndexCommitQuorum.create(2), 2),
+                    () -> assertCreateIndexesCommitQuorum(CreateIndexCommitQuorum.create("dc1"), "dc1"),
+                    () -> assertFailedToParse(CREATE_INDEXES_COMMIT_QUORUM_PROPERTY_NAME, " "),
+                    () -> assertFailedToParse(CREATE_INDEXES_COMMIT_QUORUM_PROPERTY_NAME, -1),
+                    () -> assertUnsupportedType(CREATE_INDEXES_COMMIT_QUORUM_PROPERTY_NAME, 2L));
+        }
+
+        @Test
+        void indexMigration() {
+            assertAll(
+                    () -> assertEquals(
+                            IndexMigration.NONE,
+                            new MongoConfigurationBuilder()
+                                    .databaseName("db")
+                                    .build()
+                                    .indexMigration()),
+                    () -> assertIndexMigration(IndexMigration.VALIDATE, "validate"),
+                    () -> assertIndexMigration(IndexMigration.UPDATE, " UPDATE"),
+                    () -> assertIndexMigration(IndexMigration.UPDATE, IndexMigration.UPDATE),
+                    () -> assertFailedToParse(INDEX_MIGRATION_PROPERTY_NAME, "create"),
+                    () -> assertUnsupportedType(INDEX_MIGRATION_PROPERTY_NAME, true));
+        }
+
+        @Test
+        void indexMigrationDropObsolete() {
+            assertAll(
+                    () -> assertFalse(new MongoConfigurationBuilder()
+                            .databaseName("db")
+                            .build()
+                            .indexMigrationDropObsolete()),
+                    () -> assertTrue(new MongoConfigurationBuilder(
+                                    Map.of(INDEX_MIGRATION_DROP_OBSOLETE_PROPERTY_NAME, "true"))
+                            .databaseName("db")
+                            .build()
+                            .indexMigrationDropObsolete()),
+                    () -> assertFailedToParse(INDEX_MIGRATION_DROP_OBSOLETE_PROPERTY_NAME, "yes"));
+        }
+
+        @Test
+        void indexMigrationWait() {
+            assertAll(
+                    () -> assertFalse(new MongoConfigurationBuilder()
+                            .databaseName("db")
+                            .build()
+                            .indexMigrationWait()),
+                    () -> assertTrue(new MongoConfigurationBuilder(Map.of(INDEX_MIGRATION_WAIT_PROPERTY_NAME, "true"))
+                            .databaseName("db")
+                            .build()
+                            .indexMigrationWait()),
+                    () -> assertFailedToParse(INDEX_MIGRATION_WAIT_PROPERTY_NAME, "yes"));
+        }
+
+        @Test
+        void indexMigrationDropAfterSeconds() {
+            assertAll(
+                    () -> assertEquals(
+                            DEFAULT_INDEX_MIGRATION_DROP_AFTER_SECONDS,
+                            new MongoConfigurationBuilder()
+                                    .databaseName("db")
+                                    .build()
+                                    .indexMigrationDropAfterSeconds()),
+                    () -> assertEquals(
+                            3600,
+                            new MongoConfigurationBuilder(
+                                            Map.of(INDEX_MIGRATION_DROP_AFTER_SECONDS_PROPERTY_NAME, " 3600"))
+                                    .databaseName("db")
+                                    .build()
+                                    .indexMigrationDropAfterSeconds()),
+                    () -> assertFailedToParse(INDEX_MIGRATION_DROP_AFTER_SECONDS_PROPERTY_NAME, -1),
+                    () -> assertUnsupportedType(INDEX_MIGRATION_DROP_AFTER_SECONDS_PROPERTY_NAME, 3600L));
+        }
+
         @Test
         void applyToMongoClientSettingsPropagatesException() {
             var exception = new RuntimeException();
@@ -113,6 +400,29 @@ class MongoConfigurationBuilderTests {
                     () -> assertEquals(expectedDatabaseName, config.databaseName()));
         }
 
+        private static void assertCommandTemplateCacheMaxSize(int expected, Object propertyValue) {
+            var config = new MongoConfigurationBuilder(
+                            Map.of(COMMAND_TEMPLATE_CACHE_MAX_SIZE_PROPERTY_NAME, propertyValue))
+                    .databaseName("db")
+                    .build();
+            assertEquals(expected, config.commandTemplateCacheMaxSize());
+        }
+
+        private static void assertCreateIndexesCommitQuorum(CreateIndexCommitQuorum expected, Object propertyValue) {
+            var config = new MongoConfigurationBuilder(
+                            Map.of(CREATE_INDEXES_COMMIT_QUORUM_PROPERTY_NAME, propertyValue))
+                    .databaseName("db")
+                    .build();
+            assertEquals(expected, config.createIndexesCommitQuorum());
+        }
+
+        private static void assertIndexMigration(IndexMigration expected, Object propertyValue) {
+            var config = new MongoConfigurationBuilder(Map.of(INDEX_MIGRATION_PROPERTY_NAME, propertyValue))
+                    .databaseName("db")
+                    .build();
+            assertEquals(expected, config.indexMigration());
+        }
+
         private static void assertFailedToParse(String propertyName, Object propertyValue) {
             assertThatThrownBy(() -> new MongoConfigurationBuilder(Map.of(propertyName, propertyValue)).build())
                     .isInstanceOf(RuntimeException.class)
@@ -40,4 +40,32 @@ class MongoConfigurationTests {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Exactly one");
     }
+
+    @Test
+    void rejectsExactBatchUpdateCountsWithClientBulkWrites() {
+        var settings = MongoClientSettings.builder().build();
+        assertThatThrownBy(() -> new MongoConfiguration(
+                        settings,
+                        null,
+                        "db",
+                        0,
+                        false,
+                        false,
+                        true,
+                        true,
+                        null,
+                        null,
+                        0,
+                        false,
+                        "tokens",
+                        null,
+                        4,
+                        null,
+                        MongoConfiguration.IndexMigration.NONE,
+                        false,
+                        0,
+                        false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("exactBatchUpdateCounts and clientBulkWrites");
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonUndefined;
+import org.bson.BsonValue;
+import org.junit.jupiter.api.Test;
+
+class CommandTemplateTests {
+
+    private static final String MQL =
+            """
+            {
+                update: "books",
+                updates: [
+                    {
+                        q: {_id: {$eq: {$undefined: true}}},
+                        u: {$set: {title: {$undefined: true}, tags: [{$undefined: true}, "fixed"]}},
+                        multi: true
+                    }
+                ]
+            }""";
+
+    @Test
+    void testParameterPositionsInDepthFirstOrder() {
+        var commandTemplate = CommandTemplate.of(BsonDocument.parse(MQL));
+        assertEquals(
+                "[updates.0.q._id.$eq, updates.0.u.$set.title, updates.0.u.$set.tags.0]",
+                commandTemplate.getParameterPositions().toString());
+    }
+
+    @Test
+    void testBind() {
+        var commandTemplate = CommandTemplate.of(BsonDocument.parse(MQL));
+        var command = commandTemplate.bind(
+                new BsonValue[] {new BsonInt32(1), new BsonString("title"), new BsonString("tag")});
+        assertAll(
+                () -> assertEquals(
+                        BsonDocument.parse(
+                                """
+                                {
+                                    update: "books",
+                                    updates: [
+                                        {
+                                            q: {_id: {$eq: 1}},
+                                            u: {$set: {title: "title", tags: ["tag", "fixed"]}},
+                                            multi: true
+                                        }
+                                    ]
+                                }"""),
+                        command),
+                () -> assertEquals(
+                        BsonDocument.parse(MQL),
+                        commandTemplate.bind(
+                                new BsonValue[] {new BsonUndefined(), new BsonUndefined(), new BsonUndefined()})));
+    }
+
+    @Test
+    void testBindSharesContainersWithoutParameters() {
+        var command = BsonDocument.parse(
+                """
+                {
+                    insert: "books",
+                    documents: [
+                        {
+                            _id: {$undefined: true},
+                            author: {name: "name", tags: ["fixed"]}
+                        },
+                        {
+                            _id: 2,
+                            author: {name: "name"}
+                        }
+                    ]
+                }""");
+        var commandTemplate = CommandTemplate.of(command);
+        var first = commandTemplate.bind(new BsonValue[] {new BsonInt32(1)});
+        var second = commandTemplate.bind(new BsonValue[] {new BsonInt32(3)});
+        var templateDocuments = command.getArray("documents");
+        assertAll(
+                () -> assertNotSame(command, first),
+                () -> assertNotSame(templateDocuments, first.getArray("documents")),
+                () -> assertNotSame(first.getArray("documents"), second.getArray("documents")),
+                () -> assertSame(
+                        templateDocuments.get(0).asDocument().get("author"),
+                        first.getArray("documents").get(0).asDocument().get("author")),
+                () -> assertSame(templateDocuments.get(1), first.getArray("documents").get(1)),
+                () -> assertEquals(new BsonInt32(1), first.getArray("documents").get(0).asDocument().get("_id")),
+                () -> assertEquals(new BsonInt32(3), second.getArray("documents").get(0).asDocument().get("_id")),
+                () -> assertEquals(new BsonUndefined(), templateDocuments.get(0).asDocument().get("_id")));
+    }
+}
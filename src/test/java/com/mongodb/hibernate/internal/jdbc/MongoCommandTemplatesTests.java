@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+class MongoCommandTemplatesTests {
+
+    private static final String MQL =
+            """
+            {
+                insert: "books",
+                documents: [
+                    {
+                        _id: 1,
+                        title: {$undefined: true}
+                    }
+                ]
+            }""";
+
+    @Test
+    void testGetWithoutTemplate() {
+        var commandTemplates = new MongoCommandTemplates(1);
+        assertAll(
+                () -> assertNull(commandTemplates.get(MQL)),
+                () -> assertEquals(
+                        new MongoCommandTemplates.Statistics(0, 0, 1, 0), commandTemplates.getStatistics()));
+    }
+
+    @Test
+    void testPut() {
+        var commandTemplates = new MongoCommandTemplates(1);
+        commandTemplates.put(MQL, CommandTemplate.of(BsonDocument.parse(MQL)));
+        var commandTemplate = commandTemplates.get(MQL);
+        assertNotNull(commandTemplate);
+        assertAll(
+                () -> assertEquals(1, commandTemplate.getParameterCount()),
+                () -> assertEquals(
+                        "documents.0.title",
+                        commandTemplate.getParameterPositions().get(0).toString()),
+                () -> assertEquals(
+                        new MongoCommandTemplates.Statistics(1, 1, 0, 0), commandTemplates.getStatistics()));
+    }
+
+    @Test
+    void testPutDoesNotReplace() {
+        var commandTemplates = new MongoCommandTemplates(1);
+        var commandTemplate = CommandTemplate.of(BsonDocument.parse(MQL));
+        commandTemplates.put(MQL, commandTemplate);
+        commandTemplates.put(MQL, CommandTemplate.of(BsonDocument.parse(MQL)));
+        assertSame(commandTemplate, commandTemplates.get(MQL));
+    }
+
+    @Test
+    void testEviction() {
+        var commandTemplates = new MongoCommandTemplates(1);
+        var otherMql = "{delete: \"books\", deletes: []}";
+        commandTemplates.put(MQL, CommandTemplate.of(BsonDocument.parse(MQL)));
+        commandTemplates.put(otherMql, CommandTemplate.of(BsonDocument.parse(otherMql)));
+        assertAll(
+                () -> assertNull(commandTemplates.get(MQL)),
+                () -> assertNotNull(commandTemplates.get(otherMql)),
+                () -> assertEquals(
+                        new MongoCommandTemplates.Statistics(1, 1, 1, 1), commandTemplates.getStatistics()));
+    }
+
+    @Test
+    void testEvictionOfLeastRecentlyUsed() {
+        var commandTemplates = new MongoCommandTemplates(2);
+        var otherMql = "{delete: \"books\", deletes: []}";
+        var thirdMql = "{delete: \"authors\", deletes: []}";
+        commandTemplates.put(MQL, CommandTemplate.of(BsonDocument.parse(MQL)));
+        commandTemplates.put(otherMql, CommandTemplate.of(BsonDocument.parse(otherMql)));
+        assertNotNull(commandTemplates.get(MQL));
+        commandTemplates.put(thirdMql, CommandTemplate.of(BsonDocument.parse(thirdMql)));
+        assertAll(
+                () -> assertNotNull(commandTemplates.get(MQL)),
+                () -> assertNull(commandTemplates.get(otherMql)),
+                () -> assertNotNull(commandTemplates.get(thirdMql)),
+                () -> assertEquals(
+                        new MongoCommandTemplates.Statistics(2, 3, 1, 1), commandTemplates.getStatistics()));
+    }
+
+    @Test
+    void testCachingDisabled() {
+        var commandTemplates = new MongoCommandTemplates(0);
+        commandTemplates.put(MQL, CommandTemplate.of(BsonDocument.parse(MQL)));
+        assertNull(commandTemplates.get(MQL));
+    }
+}
@@ -17,6 +17,7 @@
 package com.mongodb.hibernate.internal.jdbc;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -32,6 +33,8 @@ import com.mongodb.hibernate.internal.BuildConfig;
 import com.mongodb.hibernate.internal.cfg.MongoConfiguration;
 import com.mongodb.hibernate.internal.service.StandardServiceRegistryScopedState;
 import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.hibernate.service.UnknownUnwrapTypeException;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,6 +68,17 @@ class MongoConnectionProviderTests {
                 () -> assertTrue(driverInformation.getDriverVersions().contains(BuildConfig.VERSION)));
     }
 
+    @Test
+    void unwrapsMongoClient() {
+        assertAll(
+                () -> assertTrue(connectionProvider.isUnwrappableAs(MongoClient.class)),
+                () -> assertThat(connectionProvider.unwrap(MongoClient.class))
+                        .isSameAs(connectionProvider.getMongoClient()),
+                () -> assertThat(connectionProvider.isUnwrappableAs(DataSource.class)).isFalse(),
+                () -> assertThatThrownBy(() -> connectionProvider.unwrap(DataSource.class))
+                        .isInstanceOf(UnknownUnwrapTypeException.class));
+    }
+
     @Test
     void usesSuppliedClientAndDoesNotCloseItOnStop() {
         var suppliedClient = mock(MongoClient.class);
@@ -40,6 +40,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import com.mongodb.ClientSessionOptions;
 import com.mongodb.MongoTimeoutException;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoClient;
@@ -48,6 +49,8 @@ import com.mongodb.hibernate.internal.cfg.MongoConfigurationBuilder;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Map;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
 import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -105,6 +108,22 @@ class MongoConnectionTests {
         }
     }
 
+    @Test
+    void testCursorSessionIsCausallyConsistentWithSession(@Mock ClientSession cursorSession) {
+        var clusterTime = new BsonDocument("clusterTime", new BsonTimestamp(1, 2));
+        var operationTime = new BsonTimestamp(1, 1);
+        doReturn(clusterTime).when(clientSession).getClusterTime();
+        doReturn(operationTime).when(clientSession).getOperationTime();
+        doReturn(cursorSession)
+                .when(mongoClient)
+                .startSession(argThat(
+                        (ClientSessionOptions options) -> Boolean.TRUE.equals(options.isCausallyConsistent())));
+
+        assertSame(cursorSession, mongoConnection.startCursorSession());
+        verify(cursorSession).advanceClusterTime(clusterTime);
+        verify(cursorSession).advanceOperationTime(operationTime);
+    }
+
     @Test
     void testCheckClosed() throws SQLException {
         mongoConnection.close();
@@ -136,6 +155,8 @@ class MongoConnectionTests {
         assertAll(
                 () -> assertThrowsClosedException(() -> mongoConnection.setAutoCommit(false)),
                 () -> assertThrowsClosedException(mongoConnection::getAutoCommit),
+                () -> assertThrowsClosedException(() -> mongoConnection.setReadOnly(true)),
+                () -> assertThrowsClosedException(mongoConnection::isReadOnly),
                 () -> assertThrowsClosedException(mongoConnection::rollback),
                 () -> assertThrowsClosedException(mongoConnection::createStatement),
                 () -> assertThrowsClosedException(() -> mongoConnection.prepareStatement(exampleUpdateMql)),
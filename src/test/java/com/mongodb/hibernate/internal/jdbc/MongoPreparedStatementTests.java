@@ -18,48 +18,66 @@ package com.mongodb.hibernate.internal.jdbc;
 
 import static com.mongodb.hibernate.internal.MongoConstants.EXTENDED_JSON_WRITER_SETTINGS;
 import static com.mongodb.hibernate.internal.jdbc.MongoStatement.NO_ERROR_CODE;
+import static java.sql.Statement.EXECUTE_FAILED;
 import static java.sql.Statement.SUCCESS_NO_INFO;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatObject;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.junit.jupiter.api.Named.named;
 import static org.junit.jupiter.params.provider.Arguments.of;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.mongodb.ClientBulkWriteException;
 import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoException;
 import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.MongoNamespace;
 import com.mongodb.MongoOperationTimeoutException;
 import com.mongodb.MongoSocketReadTimeoutException;
 import com.mongodb.MongoSocketWriteTimeoutException;
 import com.mongodb.MongoTimeoutException;
 import com.mongodb.ServerAddress;
+import com.mongodb.WriteError;
 import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.bulk.WriteConcernError;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCluster;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.model.bulk.ClientBulkWriteOptions;
+import com.mongodb.client.model.bulk.ClientBulkWriteResult;
+import com.mongodb.client.model.bulk.ClientUpdateResult;
 import com.mongodb.hibernate.internal.type.ObjectIdJdbcType;
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
 import java.sql.Array;
 import java.sql.BatchUpdateException;
@@ -67,9 +85,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTimeoutException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.assertj.core.api.ThrowingConsumer;
@@ -80,6 +102,8 @@ import org.bson.BsonDocument;
 import org.bson.BsonInt32;
 import org.bson.BsonObjectId;
 import org.bson.BsonString;
+import org.bson.BsonUndefined;
+import org.bson.RawBsonDocument;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -181,6 +205,73 @@ class MongoPreparedStatementTests {
                 assertEquals(expectedDoc, insertOneModel.getDocument());
             }
         }
+
+        /**
+         * Adding a row to a batch copies only the parameter values, and executing the batch copies only the containers
+         * on the paths to the parameters. Together, they must allocate much less than deep-copying the command per row,
+         * which is what {@link MongoPreparedStatement#addBatch()} used to do.
+         */
+        @Test
+        void testBatchAllocatesLessThanDeepCopyingTheCommandPerRow() throws SQLException {
+            var threadMxBean = ManagementFactory.getThreadMXBean();
+            assumeTrue(threadMxBean instanceof com.sun.management.ThreadMXBean);
+            var allocationCounter = (com.sun.management.ThreadMXBean) threadMxBean;
+            assumeTrue(allocationCounter.isThreadAllocatedMemorySupported());
+            allocationCounter.setThreadAllocatedMemoryEnabled(true);
+
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+            doReturn(Mockito.mock(BulkWriteResult.class)).when(mongoCollection).bulkWrite(eq(clientSession), anyList());
+
+            var author = new BsonDocument();
+            for (var i = 0; i < 100; i++) {
+                author.append("field" + i, new BsonArray(List.of(new BsonString("value" + i), new BsonInt32(i))));
+            }
+            var command = new BsonDocument("insert", new BsonString("books"))
+                    .append(
+                            "documents",
+                            new BsonArray(List.of(
+                                    new BsonDocument("_id", new BsonUndefined()).append("author", author))));
+            var rowCount = 1_000;
+            try (var preparedStatement = new MongoPreparedStatement(
+                    mongoDatabase, clientSession, mongoConnection, CommandTemplate.of(command))) {
+                // warm up both paths, so that neither measurement includes class loading
+                executeBatch(preparedStatement, rowCount);
+                var deepCopies = deepCopy(command, rowCount);
+
+                var beforeBatch = allocationCounter.getCurrentThreadAllocatedBytes();
+                executeBatch(preparedStatement, rowCount);
+                var batchBytes = allocationCounter.getCurrentThreadAllocatedBytes() - beforeBatch;
+                deepCopies.clear();
+                var beforeDeepCopy = allocationCounter.getCurrentThreadAllocatedBytes();
+                deepCopies = deepCopy(command, rowCount);
+                var deepCopyBytes = allocationCounter.getCurrentThreadAllocatedBytes() - beforeDeepCopy;
+
+                assertEquals(rowCount, deepCopies.size());
+                assertTrue(
+                        batchBytes * 10 < deepCopyBytes,
+                        () -> "The batch allocated %d bytes, deep-copying the command per row allocated %d bytes"
+                                .formatted(batchBytes, deepCopyBytes));
+            }
+        }
+
+        private static void executeBatch(MongoPreparedStatement preparedStatement, int rowCount)
+                throws SQLException {
+            for (var i = 0; i < rowCount; i++) {
+                preparedStatement.setInt(1, i);
+                preparedStatement.addBatch();
+            }
+            assertEquals(rowCount, preparedStatement.executeBatch().length);
+        }
+
+        private static List<BsonDocument> deepCopy(BsonDocument command, int rowCount) {
+            var result = new ArrayList<BsonDocument>(rowCount);
+            for (var i = 0; i < rowCount; i++) {
+                var copy = command.clone();
+                copy.getArray("documents").get(0).asDocument().put("_id", new BsonInt32(i));
+                result.add(copy);
+            }
+            return result;
+        }
     }
 
     @Nested
@@ -629,7 +720,7 @@ class MongoPreparedStatementTests {
         }
 
         @ParameterizedTest(name = "test executeBatch MongoException {0}")
-        @MethodSource({"genericMongoExceptions", "timeoutExceptions"})
+        @MethodSource("genericMongoExceptions")
         void testExecuteBatchMongoException(MongoException mongoException) throws SQLException {
             doThrow(mongoException).when(mongoCollection).bulkWrite(eq(clientSession), anyList());
             assertExecuteBatchThrowsSqlException(
@@ -637,7 +728,7 @@ class MongoPreparedStatementTests {
         }
 
         @ParameterizedTest(name = "test executeUpdate MongoException {0}")
-        @MethodSource({"genericMongoExceptions", "timeoutExceptions"})
+        @MethodSource("genericMongoExceptions")
         void testExecuteUpdateMongoException(MongoException mongoException) throws SQLException {
             doThrow(mongoException).when(mongoCollection).bulkWrite(eq(clientSession), anyList());
             assertExecuteUpdateThrowsSqlException(
@@ -645,13 +736,41 @@ class MongoPreparedStatementTests {
         }
 
         @ParameterizedTest(name = "test executeUQuery MongoException {0}")
-        @MethodSource({"genericMongoExceptions", "timeoutExceptions"})
+        @MethodSource("genericMongoExceptions")
         void testExecuteQueryMongoException(MongoException mongoException) throws SQLException {
-            doThrow(mongoException).when(mongoCollection).aggregate(eq(clientSession), anyList());
+            doThrow(mongoException)
+                    .when(mongoCollection)
+                    .aggregate(eq(clientSession), anyList(), eq(RawBsonDocument.class));
             assertExecuteQueryThrowsSqlException(
                     sqlException -> assertGenericMongoException(sqlException, mongoException));
         }
 
+        @ParameterizedTest(name = "test executeBatch timeout {0}")
+        @MethodSource("timeoutExceptions")
+        void testExecuteBatchTimeoutException(MongoException mongoException) throws SQLException {
+            doThrow(mongoException).when(mongoCollection).bulkWrite(eq(clientSession), anyList());
+            assertExecuteBatchThrowsSqlException(
+                    sqlException -> assertTimeoutMongoException(sqlException, mongoException));
+        }
+
+        @ParameterizedTest(name = "test executeUpdate timeout {0}")
+        @MethodSource("timeoutExceptions")
+        void testExecuteUpdateTimeoutException(MongoException mongoException) throws SQLException {
+            doThrow(mongoException).when(mongoCollection).bulkWrite(eq(clientSession), anyList());
+            assertExecuteUpdateThrowsSqlException(
+                    sqlException -> assertTimeoutMongoException(sqlException, mongoException));
+        }
+
+        @ParameterizedTest(name = "test executeQuery timeout {0}")
+        @MethodSource("timeoutExceptions")
+        void testExecuteQueryTimeoutException(MongoException mongoException) throws SQLException {
+            doThrow(mongoException)
+                    .when(mongoCollection)
+                    .aggregate(eq(clientSession), anyList(), eq(RawBsonDocument.class));
+            assertExecuteQueryThrowsSqlException(
+                    sqlException -> assertTimeoutMongoException(sqlException, mongoException));
+        }
+
         @Test
         void testExecuteBatchRuntimeExceptionCause() throws SQLException {
             var runtimeException = new RuntimeException();
@@ -671,7 +790,9 @@ class MongoPreparedStatementTests {
         @Test
         void testExecuteQueryRuntimeExceptionCause() throws SQLException {
             var runtimeException = new RuntimeException();
-            doThrow(runtimeException).when(mongoCollection).aggregate(eq(clientSession), anyList());
+            doThrow(runtimeException)
+                    .when(mongoCollection)
+                    .aggregate(eq(clientSession), anyList(), eq(RawBsonDocument.class));
             assertExecuteQueryThrowsSqlException(
                     sqlException -> assertGenericException(sqlException, runtimeException));
         }
@@ -754,6 +875,50 @@ class MongoPreparedStatementTests {
             }
         }
 
+        @Test
+        void testExecuteBatchUnorderedMongoBulkWriteException() throws SQLException {
+            var mql =
+                    """
+                    {
+                        insert: "items",
+                        documents: [
+                            { _id: 1 }
+                            { _id: 2 }
+                        ],
+                        ordered: false
+                    }
+                    """;
+            var mongoBulkWriteException = new MongoBulkWriteException(
+                    BULK_WRITE_RESULT,
+                    List.of(
+                            new BulkWriteError(11000, DUMMY_EXCEPTION_MESSAGE, DUMMY_ERROR_DETAILS, 1),
+                            new BulkWriteError(11000, DUMMY_EXCEPTION_MESSAGE, DUMMY_ERROR_DETAILS, 5)),
+                    null,
+                    DUMMY_SERVER_ADDRESS,
+                    emptySet());
+            doThrow(mongoBulkWriteException)
+                    .when(mongoCollection)
+                    .bulkWrite(eq(clientSession), anyList(), any(BulkWriteOptions.class));
+
+            try (var mongoPreparedStatement = createMongoPreparedStatement(mql)) {
+                mongoPreparedStatement.addBatch();
+                mongoPreparedStatement.addBatch();
+                mongoPreparedStatement.addBatch();
+
+                assertThatExceptionOfType(BatchUpdateException.class)
+                        .isThrownBy(mongoPreparedStatement::executeBatch)
+                        .returns(11000, BatchUpdateException::getErrorCode)
+                        .returns(
+                                new int[] {EXECUTE_FAILED, SUCCESS_NO_INFO, EXECUTE_FAILED},
+                                BatchUpdateException::getUpdateCounts);
+            }
+            verify(mongoCollection)
+                    .bulkWrite(
+                            eq(clientSession),
+                            anyList(),
+                            argThat((BulkWriteOptions options) -> !options.isOrdered()));
+        }
+
         private static void assertGenericException(SQLException sqlException, RuntimeException cause) {
             assertThatObject(sqlException)
                     .isExactlyInstanceOf(SQLException.class)
@@ -770,12 +935,19 @@ class MongoPreparedStatementTests {
                     .returns(cause, SQLException::getCause);
         }
 
+        private static void assertTimeoutMongoException(SQLException sqlException, MongoException cause) {
+            assertThatObject(sqlException)
+                    .isExactlyInstanceOf(SQLTimeoutException.class)
+                    .returns(cause.getCode(), SQLException::getErrorCode)
+                    .returns(null, SQLException::getSQLState)
+                    .returns(cause, SQLException::getCause);
+        }
+
         private void assertExecuteBatchThrowsSqlException(ThrowingConsumer<SQLException> asserter) throws SQLException {
             try (var mongoPreparedStatement = createMongoPreparedStatement(MQL_ITEMS_INSERT)) {
                 mongoPreparedStatement.addBatch();
                 assertThatExceptionOfType(SQLException.class)
                         .isThrownBy(mongoPreparedStatement::executeBatch)
-                        .isExactlyInstanceOf(SQLException.class)
                         .satisfies(asserter);
             }
         }
@@ -837,10 +1009,10 @@ class MongoPreparedStatementTests {
     class ExecuteClosesLastOpenResultSetTests {
 
         @Mock
-        AggregateIterable<BsonDocument> aggregateIterable;
+        AggregateIterable<RawBsonDocument> aggregateIterable;
 
         @Mock
-        MongoCursor<BsonDocument> mongoCursor;
+        MongoCursor<RawBsonDocument> mongoCursor;
 
         private ResultSet lastOpenResultSet;
 
@@ -859,7 +1031,9 @@ class MongoPreparedStatementTests {
                     }""";
             mongoPreparedStatement = createMongoPreparedStatement(exampleQueryMql);
             doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
-            doReturn(aggregateIterable).when(mongoCollection).aggregate(same(clientSession), anyList());
+            doReturn(aggregateIterable)
+                    .when(mongoCollection)
+                    .aggregate(same(clientSession), anyList(), eq(RawBsonDocument.class));
             doReturn(mongoCursor).when(aggregateIterable).cursor();
 
             lastOpenResultSet = mongoPreparedStatement.executeQuery();
@@ -948,4 +1122,404 @@ class MongoPreparedStatementTests {
         var exception = assertThrows(SQLException.class, executable);
         assertThat(exception.getMessage()).isEqualTo("MongoPreparedStatement has been closed");
     }
+
+    @Nested
+    class InsertCoalescingTests {
+        private static final String MQL_ITEMS_INSERT =
+                """
+                {
+                    insert: "items",
+                    documents: [
+                        { _id: { $undefined: true } }
+                    ]
+                }
+                """;
+
+        private MongoStatement.InsertBuffer insertBuffer;
+
+        @BeforeEach
+        void beforeEach() {
+            insertBuffer = new MongoStatement.InsertBuffer(mongoDatabase, clientSession);
+            doReturn(insertBuffer).when(mongoConnection).getInsertBuffer();
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+            doReturn(new BsonDocument("maxWriteBatchSize", new BsonInt32(3)))
+                    .when(mongoDatabase)
+                    .runCommand(any(BsonDocument.class), eq(BsonDocument.class));
+        }
+
+        @Test
+        void testBatchesAreBufferedUntilFlushed() throws SQLException {
+            doReturn(new MongoNamespace("db", "items")).when(mongoCollection).getNamespace();
+            var insertedIds = recordInsertedIds();
+            try (var mongoPreparedStatement = createMongoPreparedStatement(MQL_ITEMS_INSERT)) {
+                executeBatch(mongoPreparedStatement, 1);
+                executeBatch(mongoPreparedStatement, 2);
+                assertThat(insertedIds).isEmpty();
+                insertBuffer.flush();
+            }
+            assertThat(insertedIds).containsExactly(List.of(1, 2));
+        }
+
+        @Test
+        void testBufferIsFlushedWhenMaxWriteBatchSizeIsReached() throws SQLException {
+            var insertedIds = recordInsertedIds();
+            try (var mongoPreparedStatement = createMongoPreparedStatement(MQL_ITEMS_INSERT)) {
+                executeBatch(mongoPreparedStatement, 1, 2, 3);
+            }
+            assertThat(insertedIds).containsExactly(List.of(1, 2, 3));
+        }
+
+        @Test
+        void testFailedFlushHasUpdateCountsOfFailedBatch() throws SQLException {
+            doReturn(new MongoNamespace("db", "items")).when(mongoCollection).getNamespace();
+            doThrow(new MongoBulkWriteException(
+                            BulkWriteResult.acknowledged(0, 0, 0, 0, emptyList(), emptyList()),
+                            List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 2)),
+                            null,
+                            new ServerAddress(),
+                            emptySet()))
+                    .when(mongoCollection)
+                    .bulkWrite(eq(clientSession), anyList());
+            try (var mongoPreparedStatement = createMongoPreparedStatement(MQL_ITEMS_INSERT)) {
+                executeBatch(mongoPreparedStatement, 1);
+                mongoPreparedStatement.setInt(1, 2);
+                mongoPreparedStatement.addBatch();
+                mongoPreparedStatement.setInt(1, 3);
+                mongoPreparedStatement.addBatch();
+                assertThatExceptionOfType(BatchUpdateException.class)
+                        .isThrownBy(mongoPreparedStatement::executeBatch)
+                        .withMessageContaining("command [1] of the JDBC batch of [insert] commands on [db.items]")
+                        .returns(11000, BatchUpdateException::getErrorCode)
+                        .returns(new int[] {SUCCESS_NO_INFO}, BatchUpdateException::getUpdateCounts);
+            }
+        }
+
+        @Test
+        void testBufferedInsertsHaveExactUpdateCounts() throws SQLException {
+            doReturn(true).when(mongoConnection).isExactBatchUpdateCounts();
+            try (var mongoPreparedStatement = createMongoPreparedStatement(
+                    """
+                    {
+                        insert: "items",
+                        documents: [
+                            { _id: 1 }
+                            { _id: 2 }
+                        ]
+                    }
+                    """)) {
+                mongoPreparedStatement.addBatch();
+                assertArrayEquals(new int[] {2}, mongoPreparedStatement.executeBatch());
+            }
+            verify(mongoCollection, never()).bulkWrite(any(ClientSession.class), anyList());
+        }
+
+        private static void executeBatch(MongoPreparedStatement mongoPreparedStatement, int... ids)
+                throws SQLException {
+            for (var id : ids) {
+                mongoPreparedStatement.setInt(1, id);
+                mongoPreparedStatement.addBatch();
+            }
+            var updateCounts = mongoPreparedStatement.executeBatch();
+            assertEquals(ids.length, updateCounts.length);
+            for (var updateCount : updateCounts) {
+                assertEquals(SUCCESS_NO_INFO, updateCount);
+            }
+        }
+
+        /**
+         * Records the {@code _id}s inserted by each {@code bulkWrite}, which must be read when it is called, because
+         * the buffer reuses the list of write models.
+         */
+        private List<List<Integer>> recordInsertedIds() {
+            var insertedIds = new ArrayList<List<Integer>>();
+            doAnswer(invocation -> {
+                        insertedIds.add(invocation.<List<WriteModel<BsonDocument>>>getArgument(1).stream()
+                                .map(writeModel -> assertInstanceOf(InsertOneModel.class, writeModel)
+                                        .getDocument())
+                                .map(document -> ((BsonDocument) document).getInt32("_id").getValue())
+                                .toList());
+                        return null;
+                    })
+                    .when(mongoCollection)
+                    .bulkWrite(eq(clientSession), anyList());
+            return insertedIds;
+        }
+    }
+
+    @Nested
+    class ExactBatchUpdateCountsTests {
+        private static final String MQL_ITEMS_UPDATE =
+                """
+                {
+                    update: "items",
+                    updates: [
+                        { q: { _id: { $undefined: true } }, u: { $set: { touched: true } }, multi: true }
+                    ]
+                }
+                """;
+
+        @Mock
+        private MongoClient mongoClient;
+
+        @BeforeEach
+        void beforeEach() {
+            doReturn(true).when(mongoConnection).isExactBatchUpdateCounts();
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        }
+
+        @Test
+        void testInsertUpdateCounts() throws SQLException {
+            try (var mongoPreparedStatement = createMongoPreparedStatement(
+                    """
+                    {
+                        insert: "items",
+                        documents: [
+                            { _id: 1 }
+                            { _id: 2 }
+                        ]
+                    }
+                    """)) {
+                mongoPreparedStatement.addBatch();
+                mongoPreparedStatement.addBatch();
+                assertArrayEquals(new int[] {2, 2}, mongoPreparedStatement.executeBatch());
+            }
+            verify(mongoCollection).bulkWrite(eq(clientSession), anyList());
+        }
+
+        @Test
+        void testUpdateCounts() throws SQLException {
+            var verboseResults = Mockito.mock(ClientBulkWriteResult.VerboseResults.class);
+            doReturn(Map.of(0, createUpdateResult(1), 1, createUpdateResult(0)))
+                    .when(verboseResults)
+                    .getUpdateResults();
+            var clientBulkWriteResult = Mockito.mock(ClientBulkWriteResult.class);
+            doReturn(true).when(clientBulkWriteResult).isAcknowledged();
+            doReturn(Optional.of(verboseResults)).when(clientBulkWriteResult).getVerboseResults();
+            doReturn(clientBulkWriteResult)
+                    .when(mongoClient)
+                    .bulkWrite(eq(clientSession), anyList(), any(ClientBulkWriteOptions.class));
+            doReturn(mongoClient).when(mongoConnection).getMongoClient();
+            doReturn(new MongoNamespace("db", "items")).when(mongoCollection).getNamespace();
+
+            try (var mongoPreparedStatement = createMongoPreparedStatement(MQL_ITEMS_UPDATE)) {
+                mongoPreparedStatement.setInt(1, 1);
+                mongoPreparedStatement.addBatch();
+                mongoPreparedStatement.setInt(1, 2);
+                mongoPreparedStatement.addBatch();
+                assertArrayEquals(new int[] {1, 0}, mongoPreparedStatement.executeBatch());
+            }
+            verify(mongoCollection, never()).bulkWrite(any(ClientSession.class), anyList());
+        }
+
+        @Test
+        void testWriteErrorUpdateCounts() throws SQLException {
+            var clientBulkWriteException = Mockito.mock(ClientBulkWriteException.class);
+            doReturn(Map.of(1, new WriteError(11000, "duplicate key", new BsonDocument())))
+                    .when(clientBulkWriteException)
+                    .getWriteErrors();
+            doThrow(clientBulkWriteException)
+                    .when(mongoClient)
+                    .bulkWrite(eq(clientSession), anyList(), any(ClientBulkWriteOptions.class));
+            doReturn(mongoClient).when(mongoConnection).getMongoClient();
+            doReturn(new MongoNamespace("db", "items")).when(mongoCollection).getNamespace();
+
+            try (var mongoPreparedStatement = createMongoPreparedStatement(MQL_ITEMS_UPDATE)) {
+                for (var i = 1; i <= 3; i++) {
+                    mongoPreparedStatement.setInt(1, i);
+                    mongoPreparedStatement.addBatch();
+                }
+                assertThatExceptionOfType(BatchUpdateException.class)
+                        .isThrownBy(mongoPreparedStatement::executeBatch)
+                        .returns(11000, BatchUpdateException::getErrorCode)
+                        .returns(new int[] {SUCCESS_NO_INFO}, BatchUpdateException::getUpdateCounts);
+            }
+        }
+
+        private static ClientUpdateResult createUpdateResult(long matchedCount) {
+            var updateResult = Mockito.mock(ClientUpdateResult.class);
+            doReturn(matchedCount).when(updateResult).getMatchedCount();
+            return updateResult;
+        }
+    }
+
+    @Nested
+    class ClientBulkWriteBufferTests {
+        private static final String MQL_ITEMS_INSERT =
+                """
+                {
+                    insert: "items",
+                    documents: [
+                        { _id: 1 }
+                    ]
+                }
+                """;
+        private static final String MQL_ORDERS_UPDATE =
+                """
+                {
+                    update: "orders",
+                    updates: [
+                        { q: { _id: 1 }, u: { $set: { shipped: true } }, multi: true }
+                    ]
+                }
+                """;
+        private static final String MQL_ITEMS_UNORDERED_INSERT =
+                """
+                {
+                    insert: "items",
+                    documents: [
+                        { _id: 1 }
+                    ],
+                    ordered: false
+                }
+                """;
+        private static final String MQL_ITEMS_UNORDERED_UPDATE =
+                """
+                {
+                    update: "items",
+                    updates: [
+                        { q: { _id: 1 }, u: { $set: { sold: true } }, multi: true }
+                    ],
+                    ordered: false
+                }
+                """;
+
+        @Mock
+        private MongoClient mongoClient;
+
+        @Mock
+        private MongoCollection<BsonDocument> ordersMongoCollection;
+
+        private MongoStatement.ClientBulkWriteBuffer clientBulkWriteBuffer;
+
+        @BeforeEach
+        void beforeEach() {
+            clientBulkWriteBuffer = new MongoStatement.ClientBulkWriteBuffer(mongoClient, mongoDatabase, clientSession);
+            doReturn(clientBulkWriteBuffer).when(mongoConnection).getClientBulkWriteBuffer();
+            doReturn(new BsonDocument("maxWriteBatchSize", new BsonInt32(4))
+                            .append("maxMessageSizeBytes", new BsonInt32(48_000_000)))
+                    .when(mongoDatabase)
+                    .runCommand(any(BsonDocument.class), eq(BsonDocument.class));
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(eq("items"), eq(BsonDocument.class));
+            doReturn(ordersMongoCollection).when(mongoDatabase).getCollection(eq("orders"), eq(BsonDocument.class));
+            doReturn(new MongoNamespace("db", "items")).when(mongoCollection).getNamespace();
+            doReturn(new MongoNamespace("db", "orders")).when(ordersMongoCollection).getNamespace();
+        }
+
+        @Test
+        void testBatchesAreWrittenTogether() throws SQLException {
+            var bulkWriteSizes = recordBulkWriteSizes();
+            executeBatch(MQL_ITEMS_INSERT, 2);
+            executeBatch(MQL_ORDERS_UPDATE, 1);
+            assertThat(bulkWriteSizes).isEmpty();
+
+            clientBulkWriteBuffer.flush();
+            assertThat(bulkWriteSizes).containsExactly(3);
+            verify(mongoCollection, never()).bulkWrite(any(ClientSession.class), anyList());
+            verify(ordersMongoCollection, never()).bulkWrite(any(ClientSession.class), anyList());
+
+            clientBulkWriteBuffer.flush();
+            verify(mongoClient).bulkWrite(any(ClientSession.class), anyList(), any(ClientBulkWriteOptions.class));
+        }
+
+        @Test
+        void testBufferIsFlushedWhenMaxWriteBatchSizeIsReached() throws SQLException {
+            var bulkWriteSizes = recordBulkWriteSizes();
+            executeBatch(MQL_ITEMS_INSERT, 2);
+            assertThat(bulkWriteSizes).isEmpty();
+
+            executeBatch(MQL_ORDERS_UPDATE, 2);
+            assertThat(bulkWriteSizes).containsExactly(4);
+        }
+
+        @Test
+        void testUnorderedBatchesOfDifferentStatementsAreNotWrittenTogether() throws SQLException {
+            var bulkWriteSizes = recordBulkWriteSizes();
+            executeBatch(MQL_ITEMS_UNORDERED_INSERT, 2);
+            assertThat(bulkWriteSizes).isEmpty();
+
+            executeBatch(MQL_ITEMS_UNORDERED_UPDATE, 1);
+            assertThat(bulkWriteSizes).containsExactly(2);
+
+            clientBulkWriteBuffer.flush();
+            assertThat(bulkWriteSizes).containsExactly(2, 1);
+        }
+
+        @Test
+        void testUnorderedBatchesOfTheSameStatementAreWrittenTogether() throws SQLException {
+            var bulkWriteSizes = recordBulkWriteSizes();
+            try (var mongoPreparedStatement = createMongoPreparedStatement(MQL_ITEMS_UNORDERED_INSERT)) {
+                mongoPreparedStatement.addBatch();
+                mongoPreparedStatement.executeBatch();
+                mongoPreparedStatement.addBatch();
+                mongoPreparedStatement.executeBatch();
+            }
+            assertThat(bulkWriteSizes).isEmpty();
+
+            clientBulkWriteBuffer.flush();
+            assertThat(bulkWriteSizes).containsExactly(2);
+        }
+
+        @Test
+        void testFlushHasQueryTimeout() throws SQLException {
+            var mongoClusterWithTimeout = Mockito.mock(MongoCluster.class);
+            doReturn(mongoClusterWithTimeout).when(mongoClient).withTimeout(10, SECONDS);
+            try (var mongoPreparedStatement = createMongoPreparedStatement(MQL_ITEMS_INSERT)) {
+                mongoPreparedStatement.setQueryTimeout(10);
+                mongoPreparedStatement.addBatch();
+                mongoPreparedStatement.executeBatch();
+            }
+            clientBulkWriteBuffer.flush();
+            verify(mongoClusterWithTimeout)
+                    .bulkWrite(eq(clientSession), anyList(), any(ClientBulkWriteOptions.class));
+        }
+
+        @Test
+        void testWriteErrorIsMappedToItsBatch() throws SQLException {
+            var clientBulkWriteException = Mockito.mock(ClientBulkWriteException.class);
+            doReturn(Map.of(3, new WriteError(11000, "duplicate key", new BsonDocument())))
+                    .when(clientBulkWriteException)
+                    .getWriteErrors();
+            doThrow(clientBulkWriteException)
+                    .when(mongoClient)
+                    .bulkWrite(eq(clientSession), anyList(), any(ClientBulkWriteOptions.class));
+            executeBatch(MQL_ITEMS_INSERT, 2);
+            executeBatch(MQL_ORDERS_UPDATE, 3);
+
+            assertThatExceptionOfType(BatchUpdateException.class)
+                    .isThrownBy(clientBulkWriteBuffer::flush)
+                    .returns(11000, BatchUpdateException::getErrorCode)
+                    .returns(new int[] {SUCCESS_NO_INFO}, BatchUpdateException::getUpdateCounts)
+                    .withMessageContaining("command [1] of the JDBC batch of [update] commands on [db.orders]")
+                    .havingCause()
+                    .isSameAs(clientBulkWriteException);
+        }
+
+        /**
+         * Records the number of write models of each {@code bulkWrite}, which must be read when it is called, because
+         * the buffer reuses the list of write models.
+         */
+        private List<Integer> recordBulkWriteSizes() {
+            var bulkWriteSizes = new ArrayList<Integer>();
+            doAnswer(invocation -> {
+                        bulkWriteSizes.add(invocation.<List<?>>getArgument(1).size());
+                        return null;
+                    })
+                    .when(mongoClient)
+                    .bulkWrite(eq(clientSession), anyList(), any(ClientBulkWriteOptions.class));
+            return bulkWriteSizes;
+        }
+
+        private void executeBatch(String mql, int commandCount) throws SQLException {
+            try (var mongoPreparedStatement = createMongoPreparedStatement(mql)) {
+                for (var i = 0; i < commandCount; i++) {
+                    mongoPreparedStatement.addBatch();
+                }
+                var updateCounts = mongoPreparedStatement.executeBatch();
+                assertEquals(commandCount, updateCounts.length);
+                for (var updateCount : updateCounts) {
+                    assertEquals(SUCCESS_NO_INFO, updateCount);
+                }
+            }
+        }
+    }
 }
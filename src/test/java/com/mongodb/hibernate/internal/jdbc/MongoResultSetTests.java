@@ -32,6 +32,7 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Consumer;
+import org.bson.BsonArray;
 import org.bson.BsonBinary;
 import org.bson.BsonBoolean;
 import org.bson.BsonDecimal128;
@@ -43,6 +44,8 @@ import org.bson.BsonNull;
 import org.bson.BsonObjectId;
 import org.bson.BsonString;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.AutoClose;
@@ -60,7 +63,7 @@ class MongoResultSetTests {
     private static final List<String> FIELDS = List.of("id", "title", "publishYear");
 
     @Mock
-    private MongoCursor<BsonDocument> mongoCursor;
+    private MongoCursor<RawBsonDocument> mongoCursor;
 
     @AutoClose
     private MongoResultSet mongoResultSet;
@@ -90,11 +93,15 @@ class MongoResultSetTests {
     class GettersTests {
 
         private void createResultSetWith(BsonValue value) throws SQLException {
-            var bsonDocument = new BsonDocument().append("field", value);
+            createResultSetWith(new BsonDocument("field", value), singletonList("field"));
+        }
 
+        private void createResultSetWith(BsonDocument document, List<String> fieldNames) throws SQLException {
             doReturn(true).when(mongoCursor).hasNext();
-            doReturn(bsonDocument).when(mongoCursor).next();
-            mongoResultSet = new MongoResultSet(mongoCursor, singletonList("field"));
+            doReturn(new RawBsonDocument(document, new BsonDocumentCodec()))
+                    .when(mongoCursor)
+                    .next();
+            mongoResultSet = new MongoResultSet(mongoCursor, fieldNames);
             assertTrue(mongoResultSet.next());
         }
 
@@ -238,6 +245,44 @@ class MongoResultSetTests {
                     () -> assertEquals(objectId, mongoResultSet.getObject(1, ObjectId.class)),
                     () -> assertFalse(mongoResultSet.wasNull()));
         }
+
+        @Test
+        void testGettersForNonAsciiString() throws SQLException {
+            createResultSetWith(new BsonString("Les Misérables – 悲惨世界"));
+            assertAll(
+                    () -> assertEquals("Les Misérables – 悲惨世界", mongoResultSet.getString(1)),
+                    () -> assertFalse(mongoResultSet.wasNull()));
+        }
+
+        @Test
+        void testGettersForAbsentField() throws SQLException {
+            createResultSetWith(new BsonDocument("other", new BsonInt32(1)), singletonList("field"));
+            assertAll(
+                    () -> assertNull(mongoResultSet.getString(1)),
+                    () -> assertEquals(0, mongoResultSet.getInt(1)),
+                    () -> assertNull(mongoResultSet.getObject(1, ObjectId.class)),
+                    () -> assertTrue(mongoResultSet.wasNull()));
+        }
+
+        @Test
+        void testGettersForColumnsInOtherOrderThanFields() throws SQLException {
+            var document = new BsonDocument()
+                    .append("title", new BsonString("War and Peace"))
+                    .append("nested", new BsonDocument("name", new BsonString("Leo Tolstoy")))
+                    .append("publishYear", new BsonInt32(1869))
+                    .append("tags", new BsonArray(List.of(new BsonString("classic"))))
+                    .append("id", new BsonInt64(1));
+            createResultSetWith(document, List.of("id", "publishYear", "nested", "title"));
+            assertAll(
+                    () -> assertEquals(1L, mongoResultSet.getLong(1)),
+                    () -> assertEquals(1869, mongoResultSet.getInt(2)),
+                    () -> assertEquals(
+                            new BsonDocument("name", new BsonString("Leo Tolstoy")),
+                            mongoResultSet.getObject(3, BsonDocument.class)),
+                    () -> assertEquals("War and Peace", mongoResultSet.getString(4)),
+                    () -> assertEquals(4, mongoResultSet.findColumn("title")),
+                    () -> assertFalse(mongoResultSet.wasNull()));
+        }
     }
 
     private void checkMethodsWithOpenPrecondition(Consumer<Executable> asserter) {
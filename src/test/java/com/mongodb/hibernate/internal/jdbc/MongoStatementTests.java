@@ -17,22 +17,29 @@
 package com.mongodb.hibernate.internal.jdbc;
 
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.bulk.BulkWriteUpsert;
 import com.mongodb.client.AggregateIterable;
@@ -40,21 +47,32 @@ import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Collation;
+import com.mongodb.client.model.CollationAlternate;
+import com.mongodb.client.model.CollationCaseFirst;
+import com.mongodb.client.model.CollationMaxVariable;
+import com.mongodb.client.model.CollationStrength;
 import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLSyntaxErrorException;
+import java.sql.Statement;
 import java.util.List;
 import java.util.function.BiConsumer;
+import org.bson.BSONException;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -92,11 +110,13 @@ class MongoStatementTests {
 
     @Test
     void testResultSetClosedWhenStatementClosed(
-            @Mock AggregateIterable<BsonDocument> aggregateIterable, @Mock MongoCursor<BsonDocument> mongoCursor)
+            @Mock AggregateIterable<RawBsonDocument> aggregateIterable, @Mock MongoCursor<RawBsonDocument> mongoCursor)
             throws SQLException {
 
         doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
-        doReturn(aggregateIterable).when(mongoCollection).aggregate(same(clientSession), anyList());
+        doReturn(aggregateIterable)
+                .when(mongoCollection)
+                .aggregate(same(clientSession), anyList(), eq(RawBsonDocument.class));
         doReturn(mongoCursor).when(aggregateIterable).cursor();
 
         var query =
@@ -115,6 +135,378 @@ class MongoStatementTests {
         assertTrue(resultSet.isClosed());
     }
 
+    @Test
+    void testFetchSizeIsCursorBatchSize(
+            @Mock AggregateIterable<RawBsonDocument> aggregateIterable, @Mock MongoCursor<RawBsonDocument> mongoCursor)
+            throws SQLException {
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        doReturn(aggregateIterable)
+                .when(mongoCollection)
+                .aggregate(same(clientSession), anyList(), eq(RawBsonDocument.class));
+        doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+        mongoStatement.setFetchSize(50);
+        assertEquals(50, mongoStatement.getFetchSize());
+        mongoStatement.executeQuery(
+                """
+                {
+                    aggregate: "books",
+                    pipeline: [
+                        { $project: { _id: 0, title: 1 } }
+                    ]
+                }""");
+        verify(aggregateIterable).batchSize(50);
+    }
+
+    @Test
+    void testNegativeFetchSize() {
+        assertThrows(SQLException.class, () -> mongoStatement.setFetchSize(-1));
+    }
+
+    @Test
+    void testQueryTimeoutIsMaxTimeOfQuery(
+            @Mock AggregateIterable<RawBsonDocument> aggregateIterable, @Mock MongoCursor<RawBsonDocument> mongoCursor)
+            throws SQLException {
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        doReturn(aggregateIterable)
+                .when(mongoCollection)
+                .aggregate(same(clientSession), anyList(), eq(RawBsonDocument.class));
+        doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+        mongoStatement.setQueryTimeout(10);
+        assertEquals(10, mongoStatement.getQueryTimeout());
+        mongoStatement.executeQuery(
+                """
+                {
+                    aggregate: "books",
+                    pipeline: [
+                        { $project: { _id: 0, title: 1 } }
+                    ]
+                }""");
+        verify(aggregateIterable).maxTime(10, SECONDS);
+    }
+
+    @Test
+    void testQueryTimeoutIsTimeoutOfWriteOutsideTransaction(@Mock MongoCollection<BsonDocument> timedMongoCollection)
+            throws SQLException {
+        doReturn(true).when(mongoConnection).getAutoCommit();
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        doReturn(timedMongoCollection).when(mongoCollection).withTimeout(10, SECONDS);
+        doReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, emptyList(), emptyList()))
+                .when(timedMongoCollection)
+                .bulkWrite(eq(clientSession), anyList());
+
+        mongoStatement.setQueryTimeout(10);
+        assertEquals(
+                1,
+                mongoStatement.executeUpdate(
+                        """
+                        {
+                            update: "books",
+                            updates: [
+                                { q: { _id: 1 }, u: { $set: { title: "War and Peace" } } }
+                            ]
+                        }"""));
+    }
+
+    @Test
+    void testNegativeQueryTimeout() {
+        assertThrows(SQLException.class, () -> mongoStatement.setQueryTimeout(-1));
+    }
+
+    @Test
+    void testQueryWithReadPreferenceAndReadConcernOutsideTransaction(
+            @Mock MongoCollection<BsonDocument> secondaryMongoCollection,
+            @Mock MongoCollection<BsonDocument> localSecondaryMongoCollection,
+            @Mock AggregateIterable<RawBsonDocument> aggregateIterable,
+            @Mock MongoCursor<RawBsonDocument> mongoCursor)
+            throws SQLException {
+        doReturn(true).when(mongoConnection).getAutoCommit();
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        doReturn(secondaryMongoCollection)
+                .when(mongoCollection)
+                .withReadPreference(ReadPreference.secondaryPreferred(120, SECONDS));
+        doReturn(localSecondaryMongoCollection).when(secondaryMongoCollection).withReadConcern(ReadConcern.LOCAL);
+        doReturn(aggregateIterable)
+                .when(localSecondaryMongoCollection)
+                .aggregate(same(clientSession), anyList(), eq(RawBsonDocument.class));
+        doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+        mongoStatement.executeQuery(
+                """
+                {
+                    aggregate: "books",
+                    pipeline: [
+                        { $project: { _id: 0, title: 1 } }
+                    ],
+                    $readPreference: { mode: "secondaryPreferred", maxStalenessSeconds: 120 },
+                    readConcern: { level: "local" }
+                }""");
+        verify(clientSession, never()).startTransaction();
+    }
+
+    @Test
+    void testQueryOfReadOnlyConnectionUsesDefaultReadPreference(
+            @Mock MongoCollection<BsonDocument> secondaryMongoCollection,
+            @Mock AggregateIterable<RawBsonDocument> aggregateIterable,
+            @Mock MongoCursor<RawBsonDocument> mongoCursor)
+            throws SQLException {
+        doReturn(true).when(mongoConnection).isReadOnly();
+        doReturn(ReadPreference.secondary()).when(mongoConnection).getDefaultReadPreference();
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        doReturn(secondaryMongoCollection).when(mongoCollection).withReadPreference(ReadPreference.secondary());
+        doReturn(aggregateIterable)
+                .when(secondaryMongoCollection)
+                .aggregate(same(clientSession), anyList(), eq(RawBsonDocument.class));
+        doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+        mongoStatement.executeQuery(
+                """
+                {
+                    aggregate: "books",
+                    pipeline: [
+                        { $project: { _id: 0, title: 1 } }
+                    ]
+                }""");
+        verify(clientSession, never()).startTransaction();
+    }
+
+    @Test
+    void testQueryWithReadPreferenceWithoutAutoCommitStartsTransaction(
+            @Mock AggregateIterable<RawBsonDocument> aggregateIterable, @Mock MongoCursor<RawBsonDocument> mongoCursor)
+            throws SQLException {
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        doReturn(aggregateIterable)
+                .when(mongoCollection)
+                .aggregate(same(clientSession), anyList(), eq(RawBsonDocument.class));
+        doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+        mongoStatement.executeQuery(
+                """
+                {
+                    aggregate: "books",
+                    pipeline: [
+                        { $project: { _id: 0, title: 1 } }
+                    ],
+                    $readPreference: { mode: "nearest" }
+                }""");
+        verify(clientSession).startTransaction();
+        verify(mongoCollection, never()).withReadPreference(any());
+    }
+
+    @Test
+    void testQueryWithReadPreferenceInTransactionIsNotRouted(
+            @Mock AggregateIterable<RawBsonDocument> aggregateIterable, @Mock MongoCursor<RawBsonDocument> mongoCursor)
+            throws SQLException {
+        doReturn(true).when(clientSession).hasActiveTransaction();
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        doReturn(aggregateIterable)
+                .when(mongoCollection)
+                .aggregate(same(clientSession), anyList(), eq(RawBsonDocument.class));
+        doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+        mongoStatement.executeQuery(
+                """
+                {
+                    aggregate: "books",
+                    pipeline: [
+                        { $project: { _id: 0, title: 1 } }
+                    ],
+                    $readPreference: { mode: "nearest" }
+                }""");
+        verify(mongoCollection, never()).withReadPreference(any());
+    }
+
+    @Test
+    void testQueryIsPrefetchedInSessionOfItsOwn(
+            @Mock ClientSession cursorSession,
+            @Mock AggregateIterable<RawBsonDocument> aggregateIterable,
+            @Mock MongoCursor<RawBsonDocument> mongoCursor)
+            throws SQLException {
+        doReturn(true).when(mongoConnection).getAutoCommit();
+        doReturn(10).when(mongoConnection).getCursorPrefetchSize();
+        doReturn(cursorSession).when(mongoConnection).startCursorSession();
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        doReturn(aggregateIterable)
+                .when(mongoCollection)
+                .aggregate(same(cursorSession), anyList(), eq(RawBsonDocument.class));
+        doReturn(mongoCursor).when(aggregateIterable).cursor();
+        doReturn(true, false).when(mongoCursor).hasNext();
+        doReturn(RawBsonDocument.parse("{title: 'War and Peace'}")).when(mongoCursor).next();
+
+        try (var resultSet = mongoStatement.executeQuery(
+                """
+                {
+                    aggregate: "books",
+                    pipeline: [
+                        { $project: { _id: 0, title: 1 } }
+                    ]
+                }""")) {
+            assertTrue(resultSet.next());
+            assertEquals("War and Peace", resultSet.getString(1));
+            assertFalse(resultSet.next());
+        }
+        verify(mongoCursor).close();
+        verify(cursorSession).close();
+    }
+
+    @Test
+    void testQueryInTransactionIsNotPrefetched(
+            @Mock AggregateIterable<RawBsonDocument> aggregateIterable, @Mock MongoCursor<RawBsonDocument> mongoCursor)
+            throws SQLException {
+        doReturn(true).when(clientSession).hasActiveTransaction();
+        doReturn(10).when(mongoConnection).getCursorPrefetchSize();
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        doReturn(aggregateIterable)
+                .when(mongoCollection)
+                .aggregate(same(clientSession), anyList(), eq(RawBsonDocument.class));
+        doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+        mongoStatement.executeQuery(
+                """
+                {
+                    aggregate: "books",
+                    pipeline: [
+                        { $project: { _id: 0, title: 1 } }
+                    ]
+                }""");
+        verify(mongoCursor, never()).hasNext();
+        verify(mongoConnection, never()).startCursorSession();
+    }
+
+    @Test
+    void testQueryWithInvalidReadPreference() {
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        assertThrows(
+                SQLSyntaxErrorException.class,
+                () -> mongoStatement.executeQuery(
+                        """
+                        {
+                            aggregate: "books",
+                            pipeline: [
+                                { $project: { _id: 0, title: 1 } }
+                            ],
+                            $readPreference: { mode: "fastest" }
+                        }"""));
+    }
+
+    @Test
+    void testQueryWithIndexNameHint(
+            @Mock AggregateIterable<RawBsonDocument> aggregateIterable, @Mock MongoCursor<RawBsonDocument> mongoCursor)
+            throws SQLException {
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        doReturn(aggregateIterable)
+                .when(mongoCollection)
+                .aggregate(same(clientSession), anyList(), eq(RawBsonDocument.class));
+        doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+        mongoStatement.executeQuery(
+                """
+                {
+                    aggregate: "books",
+                    pipeline: [
+                        { $project: { _id: 0, title: 1 } }
+                    ],
+                    hint: "title_1"
+                }""");
+        verify(aggregateIterable).hintString("title_1");
+    }
+
+    @Test
+    void testQueryWithIndexKeyPatternHint(
+            @Mock AggregateIterable<RawBsonDocument> aggregateIterable, @Mock MongoCursor<RawBsonDocument> mongoCursor)
+            throws SQLException {
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        doReturn(aggregateIterable)
+                .when(mongoCollection)
+                .aggregate(same(clientSession), anyList(), eq(RawBsonDocument.class));
+        doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+        mongoStatement.executeQuery(
+                """
+                {
+                    aggregate: "books",
+                    pipeline: [
+                        { $project: { _id: 0, title: 1 } }
+                    ],
+                    hint: { title: 1 }
+                }""");
+        verify(aggregateIterable).hint(new BsonDocument("title", new BsonInt32(1)));
+    }
+
+    @Test
+    void testQueryWithInvalidHint() {
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        assertThrows(
+                SQLSyntaxErrorException.class,
+                () -> mongoStatement.executeQuery(
+                        """
+                        {
+                            aggregate: "books",
+                            pipeline: [
+                                { $project: { _id: 0, title: 1 } }
+                            ],
+                            hint: 1
+                        }"""));
+    }
+
+    @Test
+    void testQueryWithAllowDiskUseCommentCollationLetAndMaxAwaitTimeMS(
+            @Mock AggregateIterable<RawBsonDocument> aggregateIterable, @Mock MongoCursor<RawBsonDocument> mongoCursor)
+            throws SQLException {
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
+        doReturn(aggregateIterable)
+                .when(mongoCollection)
+                .aggregate(same(clientSession), anyList(), eq(RawBsonDocument.class));
+        doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+        mongoStatement.executeQuery(
+                """
+                {
+                    aggregate: "books",
+                    pipeline: [
+                        { $project: { _id: 0, title: 1 } }
+                    ],
+                    allowDiskUse: true,
+                    comment: "report",
+                    collation: { locale: "fr", strength: 1 },
+                    let: { minYear: 1900 },
+                    maxAwaitTimeMS: { $numberLong: "1000" }
+                }""");
+        assertAll(
+                () -> verify(aggregateIterable).allowDiskUse(true),
+                () -> verify(aggregateIterable).comment(new BsonString("report")),
+                () -> verify(aggregateIterable)
+                        .collation(Collation.builder()
+                                .locale("fr")
+                                .collationStrength(CollationStrength.PRIMARY)
+                                .build()),
+                () -> verify(aggregateIterable).let(new BsonDocument("minYear", new BsonInt32(1900))),
+                () -> verify(aggregateIterable).maxAwaitTime(1000, MILLISECONDS));
+    }
+
+    @Test
+    void testToCollation() {
+        var collation = Collation.builder()
+                .locale("en")
+                .caseLevel(true)
+                .collationCaseFirst(CollationCaseFirst.UPPER)
+                .collationStrength(CollationStrength.SECONDARY)
+                .numericOrdering(true)
+                .collationAlternate(CollationAlternate.SHIFTED)
+                .collationMaxVariable(CollationMaxVariable.SPACE)
+                .normalization(false)
+                .backwards(false)
+                .build();
+        assertEquals(collation, MongoStatement.toCollation(collation.asDocument()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{locale: 1}", "{strength: 6}", "{caseFirst: \"lower case\"}", "{locales: \"en\"}"})
+    void testToInvalidCollation(String collationJson) {
+        assertThrows(BSONException.class, () -> MongoStatement.toCollation(BsonDocument.parse(collationJson)));
+    }
+
     @Nested
     class ExecuteMethodClosesLastOpenResultSetTests {
 
@@ -141,17 +533,19 @@ class MongoStatementTests {
                 }""";
 
         @Mock
-        AggregateIterable<BsonDocument> aggregateIterable;
+        AggregateIterable<RawBsonDocument> aggregateIterable;
 
         @Mock
-        MongoCursor<BsonDocument> mongoCursor;
+        MongoCursor<RawBsonDocument> mongoCursor;
 
         private ResultSet lastOpenResultSet;
 
         @BeforeEach
         void beforeEach() throws SQLException {
             doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
-            doReturn(aggregateIterable).when(mongoCollection).aggregate(same(clientSession), anyList());
+            doReturn(aggregateIterable)
+                    .when(mongoCollection)
+                    .aggregate(same(clientSession), anyList(), eq(RawBsonDocument.class));
             doReturn(mongoCursor).when(aggregateIterable).cursor();
 
             lastOpenResultSet = mongoStatement.executeQuery(EXAMPLE_QUERY_MQL);
@@ -252,6 +646,55 @@ class MongoStatementTests {
         }
     }
 
+    @Nested
+    class AdminCommandTests {
+
+        @Test
+        void testExecuteThrowsFailureOfCommand() {
+            var dbAccessException = new RuntimeException();
+            doThrow(dbAccessException).when(mongoDatabase).createCollection("books");
+
+            var sqlException = assertThrows(SQLException.class, () -> mongoStatement.execute("{create: \"books\"}"));
+            assertEquals(dbAccessException, sqlException.getCause());
+        }
+
+        @Test
+        void testExecuteBatch() throws SQLException {
+            mongoStatement.addBatch("{create: \"books\"}");
+            mongoStatement.addBatch("{create: \"authors\"}");
+
+            assertArrayEquals(
+                    new int[] {Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}, mongoStatement.executeBatch());
+            verify(mongoDatabase).createCollection("books");
+            verify(mongoDatabase).createCollection("authors");
+            assertArrayEquals(new int[0], mongoStatement.executeBatch());
+        }
+
+        @Test
+        void testExecuteBatchExecutesCommandsAfterFailedOne() throws SQLException {
+            var dbAccessException = new RuntimeException();
+            doThrow(dbAccessException).when(mongoDatabase).createCollection("books");
+            doReturn(mongoCollection).when(mongoDatabase).getCollection("books");
+            mongoStatement.addBatch("{create: \"books\"}");
+            mongoStatement.addBatch("{dropIndexes: \"books\", index: \"idx_title\"}");
+            mongoStatement.addBatch("{create: \"authors\"}");
+
+            var sqlException = assertThrows(SQLException.class, () -> mongoStatement.executeBatch());
+            assertEquals(dbAccessException, sqlException.getCause());
+            verify(mongoCollection).dropIndex("idx_title");
+            verify(mongoDatabase).createCollection("authors");
+        }
+
+        @Test
+        void testClearBatch() throws SQLException {
+            mongoStatement.addBatch("{create: \"books\"}");
+            mongoStatement.clearBatch();
+
+            assertArrayEquals(new int[0], mongoStatement.executeBatch());
+            verify(mongoDatabase, never()).createCollection(anyString());
+        }
+    }
+
     @Nested
     class ExecuteUpdateWithUpsertTests {
 
@@ -364,9 +807,16 @@ class MongoStatementTests {
                 () -> assertThrowsClosedException(mongoStatement::getWarnings),
                 () -> assertThrowsClosedException(mongoStatement::clearWarnings),
                 () -> assertThrowsClosedException(() -> mongoStatement.execute(exampleUpdateMql)),
+                () -> assertThrowsClosedException(() -> mongoStatement.addBatch(exampleUpdateMql)),
+                () -> assertThrowsClosedException(mongoStatement::clearBatch),
+                () -> assertThrowsClosedException(mongoStatement::executeBatch),
                 () -> assertThrowsClosedException(mongoStatement::getResultSet),
                 () -> assertThrowsClosedException(mongoStatement::getMoreResults),
                 () -> assertThrowsClosedException(mongoStatement::getUpdateCount),
+                () -> assertThrowsClosedException(() -> mongoStatement.setFetchSize(10)),
+                () -> assertThrowsClosedException(mongoStatement::getFetchSize),
+                () -> assertThrowsClosedException(() -> mongoStatement.setQueryTimeout(10)),
+                () -> assertThrowsClosedException(mongoStatement::getQueryTimeout),
                 () -> assertThrowsClosedException(mongoStatement::getConnection),
                 () -> assertThrowsClosedException(() -> mongoStatement.isWrapperFor(MongoStatement.class)));
     }
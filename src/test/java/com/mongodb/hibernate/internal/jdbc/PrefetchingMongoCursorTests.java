@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCursor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PrefetchingMongoCursorTests {
+
+    @Mock
+    private MongoCursor<Integer> mongoCursor;
+
+    @Mock
+    private ClientSession session;
+
+    @Test
+    void testIteration() {
+        doReturn(true, true, false).when(mongoCursor).hasNext();
+        doReturn(1, 2).when(mongoCursor).next();
+
+        var documents = new ArrayList<Integer>();
+        try (var cursor = new PrefetchingMongoCursor<>(mongoCursor, 1, session)) {
+            cursor.forEachRemaining(documents::add);
+            assertAll(
+                    () -> assertFalse(cursor.hasNext()),
+                    () -> assertThrows(NoSuchElementException.class, cursor::next),
+                    () -> assertNull(cursor.tryNext()),
+                    () -> assertEquals(0, cursor.available()));
+        }
+        assertEquals(List.of(1, 2), documents);
+        verify(mongoCursor).close();
+        verify(session).close();
+    }
+
+    @Test
+    void testPrefetchingIsBounded() {
+        var fetched = new AtomicInteger();
+        doReturn(true).when(mongoCursor).hasNext();
+        doAnswer(invocation -> fetched.incrementAndGet()).when(mongoCursor).next();
+
+        var cursor = new PrefetchingMongoCursor<>(mongoCursor, 2, session);
+        // two documents are prefetched, and the third one waits for space
+        verify(mongoCursor, after(200).times(3)).next();
+        assertEquals(2, cursor.available());
+        assertEquals(1, cursor.next());
+        verify(mongoCursor, timeout(1000).times(4)).next();
+
+        cursor.close();
+        verify(mongoCursor).close();
+    }
+
+    @Test
+    void testFailureIsRethrown() {
+        var exception = new MongoException("getMore failed");
+        doReturn(true).when(mongoCursor).hasNext();
+        doReturn(1).doThrow(exception).when(mongoCursor).next();
+
+        try (var cursor = new PrefetchingMongoCursor<>(mongoCursor, 2, session)) {
+            assertEquals(1, cursor.next());
+            assertAll(
+                    () -> assertSame(exception, assertThrows(MongoException.class, cursor::hasNext)),
+                    () -> assertSame(exception, assertThrows(MongoException.class, cursor::next)));
+        }
+        verify(mongoCursor).close();
+    }
+
+    @Test
+    void testCloseFailureIsRethrown() {
+        var exception = new MongoException("killCursors failed");
+        doReturn(false).when(mongoCursor).hasNext();
+        doThrow(exception).when(mongoCursor).close();
+
+        try (var cursor = new PrefetchingMongoCursor<>(mongoCursor, 1, session)) {
+            assertSame(exception, assertThrows(MongoException.class, cursor::hasNext));
+        }
+        verify(session).close();
+    }
+
+    @Test
+    void testClosed() {
+        // the background thread may or may not fetch a document before the cursor is closed
+        lenient().doReturn(true).when(mongoCursor).hasNext();
+        lenient().doReturn(1).when(mongoCursor).next();
+
+        var cursor = new PrefetchingMongoCursor<>(mongoCursor, 1, session);
+        cursor.close();
+        cursor.close();
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, cursor::hasNext),
+                () -> assertThrows(IllegalStateException.class, cursor::next),
+                () -> assertEquals(0, cursor.available()));
+        verify(mongoCursor).close();
+        verify(session).close();
+    }
+}
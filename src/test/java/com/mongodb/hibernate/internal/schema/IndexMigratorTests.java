@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.hibernate.internal.cfg.MongoConfiguration.IndexMigration;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.bson.BsonDocument;
+import org.hibernate.HibernateException;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.junit.jupiter.api.Test;
+
+class IndexMigratorTests {
+
+    private static final BsonDocument ID_INDEX = BsonDocument.parse("{v: 2, key: {_id: 1}, name: '_id_'}");
+
+    @Test
+    void testDiff() {
+        var unchanged = BsonDocument.parse("{key: {title: 1}, name: 'idx_title', unique: false}");
+        var missing = BsonDocument.parse("{key: {year: 1}, name: 'idx_year', unique: false}");
+        var changed = BsonDocument.parse("{key: {author: 1}, name: 'idx_author', unique: true}");
+        var unhidden = BsonDocument.parse("{key: {isbn: 1}, name: 'idx_isbn', unique: false}");
+        var obsolete = BsonDocument.parse("{v: 2, key: {publisher: 1}, name: 'idx_publisher'}");
+        var diff = IndexMigrator.Diff.of(
+                List.of(unchanged, missing, changed, unhidden),
+                List.of(
+                        ID_INDEX,
+                        BsonDocument.parse("{v: 2, key: {title: 1}, name: 'idx_title'}"),
+                        BsonDocument.parse("{v: 2, key: {author: 1}, name: 'idx_author'}"),
+                        BsonDocument.parse("{v: 2, key: {isbn: 1}, name: 'idx_isbn', hidden: true}"),
+                        obsolete),
+                Set.of("idx_title", "idx_publisher"));
+        assertAll(
+                () -> assertThat(diff.missing()).containsExactly(missing),
+                () -> assertThat(diff.changed()).containsExactly(changed),
+                () -> assertThat(diff.visibilityChanged()).containsExactly(unhidden),
+                () -> assertThat(diff.obsolete()).containsExactly(obsolete));
+    }
+
+    @Test
+    void testDiffIgnoresUnmanagedIndexes() {
+        var diff = IndexMigrator.Diff.of(
+                List.of(),
+                List.of(ID_INDEX, BsonDocument.parse("{v: 2, key: {publisher: 1}, name: 'idx_publisher'}")),
+                Set.of("idx_title"));
+        assertAll(
+                () -> assertThat(diff.obsolete()).isEmpty(),
+                () -> assertThat(diff.toCommands("books", name -> true)).isEmpty());
+    }
+
+    @Test
+    void testNoDiff() {
+        var index = BsonDocument.parse("{key: {title: 1}, name: 'idx_title', unique: true}");
+        var diff = IndexMigrator.Diff.of(
+                List.of(index),
+                List.of(ID_INDEX, BsonDocument.parse("{v: 2, key: {title: 1}, name: 'idx_title', unique: true}")),
+                Set.of("idx_title"));
+        assertThat(diff.toCommands("books", name -> true)).isEmpty();
+    }
+
+    @Test
+    void testToCommandsHidesThenDropsObsoleteIndexes() {
+        var missing = BsonDocument.parse("{key: {title: 1}, name: 'idx_title_v2', unique: false}");
+        var diff = IndexMigrator.Diff.of(
+                List.of(missing),
+                List.of(
+                        ID_INDEX,
+                        BsonDocument.parse("{v: 2, key: {title: 1}, name: 'idx_title'}"),
+                        BsonDocument.parse("{v: 2, key: {year: 1}, name: 'idx_year', hidden: true}"),
+                        BsonDocument.parse("{v: 2, key: {edition: 1}, name: 'idx_edition', hidden: true}")),
+                Set.of("idx_title", "idx_year", "idx_edition"));
+        assertThat(diff.toCommands("books", name -> name.equals("idx_year")))
+                .map(BsonDocument::parse)
+                .containsExactly(
+                        BsonDocument.parse("{collMod: 'books', index: {name: 'idx_title', hidden: true}}"),
+                        BsonDocument.parse("{dropIndexes: 'books', index: 'idx_year'}"),
+                        BsonDocument.parse("{createIndexes: 'books', indexes: [%s]}".formatted(missing.toJson())));
+    }
+
+    @Test
+    void testUpdateFailureFailsSessionFactoryCreation() {
+        var failure = new MongoException("listIndexes failed");
+        var migrator = failingIndexMigrator(IndexMigration.UPDATE, true, mock(MongoDatabase.class), failure);
+        assertThatThrownBy(() -> migrator.sessionFactoryCreated(mock(SessionFactory.class)))
+                .isInstanceOf(HibernateException.class)
+                .hasMessageStartingWith("Failed to migrate the indexes of collection")
+                .hasCause(failure)
+                .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(failure));
+    }
+
+    @Test
+    void testValidateFailureIsLogged() {
+        var migrator = failingIndexMigrator(
+                IndexMigration.VALIDATE, true, mock(MongoDatabase.class), new MongoException("listIndexes failed"));
+        assertThatCode(() -> migrator.sessionFactoryCreated(mock(SessionFactory.class)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void testUpdateFailureInBackgroundIsLogged() {
+        var database = mock(MongoDatabase.class);
+        var migrator = failingIndexMigrator(
+                IndexMigration.UPDATE, false, database, new MongoException("listIndexes failed"));
+        var sessionFactory = mock(SessionFactory.class);
+        assertThatCode(() -> migrator.sessionFactoryCreated(sessionFactory)).doesNotThrowAnyException();
+        migrator.sessionFactoryClosing(sessionFactory);
+        verify(database).getCollection("books", BsonDocument.class);
+        verify(database).getCollection("authors", BsonDocument.class);
+    }
+
+    private static IndexMigrator failingIndexMigrator(
+            IndexMigration indexMigration, boolean wait, MongoDatabase database, RuntimeException failure) {
+        when(database.getCollection(anyString(), eq(BsonDocument.class))).thenThrow(failure);
+        return new IndexMigrator(
+                indexMigration,
+                wait,
+                false,
+                Duration.ZERO,
+                Map.of(
+                        "books",
+                        List.of(BsonDocument.parse("{key: {title: 1}, name: 'idx_title'}")),
+                        "authors",
+                        List.of()),
+                database,
+                mock(ConnectionProvider.class));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.resource.transaction.spi.DdlTransactionIsolator;
+import org.hibernate.tool.schema.internal.exec.JdbcContext;
+import org.junit.jupiter.api.Test;
+
+class MongoSchemaManagementToolTests {
+
+    private static final String CREATE_COLLECTION = "{create: 'books'}";
+    private static final String CREATE_INDEXES =
+            "{createIndexes: 'books', indexes: [{key: {title: 1}, name: 'idx_title'}]}";
+
+    @Test
+    void testAcceptedCommandsAreExecutedAsOneBatchOnRelease() throws SQLException {
+        var statement = mock(Statement.class);
+        var ddlTransactionIsolator = ddlTransactionIsolator(statement);
+        var target = new MongoSchemaManagementTool.BatchingGenerationTarget(ddlTransactionIsolator);
+        target.prepare();
+        target.accept(CREATE_COLLECTION);
+        target.accept(CREATE_INDEXES);
+        verify(statement, never()).addBatch(CREATE_COLLECTION);
+
+        target.release();
+        var inOrder = inOrder(statement, ddlTransactionIsolator);
+        inOrder.verify(statement).addBatch(CREATE_COLLECTION);
+        inOrder.verify(statement).addBatch(CREATE_INDEXES);
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(statement).close();
+        inOrder.verify(ddlTransactionIsolator).release();
+        assertThat(target.getFailure()).isNull();
+    }
+
+    @Test
+    void testFailedBatchIsRememberedRatherThanThrown() throws SQLException {
+        var statement = mock(Statement.class);
+        var exception = new SQLException("createIndexes failed");
+        when(statement.executeBatch()).thenThrow(exception);
+        var ddlTransactionIsolator = ddlTransactionIsolator(statement);
+        var target = new MongoSchemaManagementTool.BatchingGenerationTarget(ddlTransactionIsolator);
+        target.accept(CREATE_COLLECTION);
+        target.accept(CREATE_INDEXES);
+
+        assertThatCode(target::release).doesNotThrowAnyException();
+        verify(ddlTransactionIsolator).release();
+        assertThat(target.getFailure())
+                .hasMessage("Error executing the JDBC batch of [2] DDL commands [createIndexes failed]")
+                .hasCause(exception);
+    }
+
+    @Test
+    void testNoCommandsAcquireNoConnection() {
+        var ddlTransactionIsolator = mock(DdlTransactionIsolator.class);
+        var target = new MongoSchemaManagementTool.BatchingGenerationTarget(ddlTransactionIsolator);
+        target.release();
+        verify(ddlTransactionIsolator, never()).getIsolatedConnection();
+        verify(ddlTransactionIsolator).release();
+        assertThat(target.getFailure()).isNull();
+    }
+
+    private static DdlTransactionIsolator ddlTransactionIsolator(Statement statement) throws SQLException {
+        var connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        var jdbcContext = mock(JdbcContext.class);
+        when(jdbcContext.getSqlStatementLogger()).thenReturn(new SqlStatementLogger());
+        var ddlTransactionIsolator = mock(DdlTransactionIsolator.class);
+        when(ddlTransactionIsolator.getJdbcContext()).thenReturn(jdbcContext);
+        when(ddlTransactionIsolator.getIsolatedConnection()).thenReturn(connection);
+        return ddlTransactionIsolator;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.EQ;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstLiteral;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAggregateOptions;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperation;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFieldOperationFilter;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+
+class AstCountCommandTests {
+
+    @Test
+    void testRendering() {
+        var query = new AstFieldOperationFilter(
+                "isbn", new AstComparisonFilterOperation(EQ, new AstLiteral(new BsonString("978-3-16-148410-0"))));
+
+        var countCommand = new AstCountCommand("books", query, AstAggregateOptions.EMPTY);
+
+        var expectedJson =
+                """
+                {"count": "books", "query": {"isbn": {"$eq": "978-3-16-148410-0"}}}\
+                """;
+
+        assertRendering(expectedJson, countCommand);
+    }
+
+    @Test
+    void testRenderingWithoutQuery() {
+        var countCommand = new AstCountCommand(
+                "books", null, new AstAggregateOptions(null, null, null, null, "report", null, null, null));
+
+        var expectedJson =
+                """
+                {"count": "books", "comment": "report"}\
+                """;
+
+        assertRendering(expectedJson, countCommand);
+    }
+}
@@ -43,4 +43,19 @@ class AstDeleteCommandTests {
 
         assertRendering(expectedJson, deleteCommand);
     }
+
+    @Test
+    void testRenderingUnordered() {
+        var filter = new AstFieldOperationFilter(
+                "isbn", new AstComparisonFilterOperation(EQ, new AstLiteral(new BsonString("978-3-16-148410-0"))));
+
+        var deleteCommand = new AstDeleteCommand("books", filter, false);
+
+        var expectedJson =
+                """
+                {"delete": "books", "deletes": [{"q": {"isbn": {"$eq": "978-3-16-148410-0"}}, "limit": {"$numberInt": "0"}}], "ordered": false}\
+                """;
+
+        assertRendering(expectedJson, deleteCommand);
+    }
 }
@@ -55,4 +55,17 @@ class AstInsertCommandTests {
                 """;
         assertRendering(expectedJson, insertCommand);
     }
+
+    @Test
+    void testRenderingUnordered() {
+        var document =
+                new AstDocument(List.of(new AstElement("_id", new AstParameterMarker(JdbcParameterBinder.NOOP))));
+        var insertCommand = new AstInsertCommand("books", List.of(document), false);
+
+        var expectedJson =
+                """
+                {"insert": "books", "documents": [{"_id": ?}], "ordered": false}\
+                """;
+        assertRendering(expectedJson, insertCommand);
+    }
 }
@@ -115,4 +115,20 @@ class AstUpdateCommandTests {
                 """;
         assertRendering(expectedJson, updateCommand);
     }
+
+    @Test
+    void testRenderingUnordered() {
+        var filter = new AstFieldOperationFilter(
+                "_id",
+                new AstComparisonFilterOperation(AstComparisonFilterOperator.EQ, new AstLiteral(new BsonInt32(1))));
+        var update = new AstDocumentUpdate(List.of(new AstFieldUpdate("v", new AstLiteral(new BsonInt32(10)))));
+        var updateCommand = new AstUpdateCommand(
+                "items", List.of(AstUpdateStatement.createMultiUpdateStatement(filter, update)), false);
+
+        var expectedJson =
+                """
+                {"update": "items", "updates": [{"q": {"_id": {"$eq": {"$numberInt": "1"}}}, "u": {"$set": {"v": {"$numberInt": "10"}}}, "multi": true}], "ordered": false}\
+                """;
+        assertRendering(expectedJson, updateCommand);
+    }
 }
@@ -41,4 +41,19 @@ class AstAggregateCommandTests {
                 """;
         assertRendering(expectedJson, aggregateCommand);
     }
+
+    @Test
+    void testRenderingWithOptions() {
+        var projectStage = new AstProjectStage(List.of(new AstProjectStageIncludeSpecification("title")));
+        var aggregateCommand = new AstAggregateCommand(
+                "books",
+                List.of(projectStage),
+                new AstAggregateOptions(null, null, null, true, "report", null, null, null));
+        var expectedJson =
+                """
+                {"aggregate": "books", "pipeline": [{"$project": {"title": true}}], \
+                "allowDiskUse": true, "comment": "report"}\
+                """;
+        assertRendering(expectedJson, aggregateCommand);
+    }
 }
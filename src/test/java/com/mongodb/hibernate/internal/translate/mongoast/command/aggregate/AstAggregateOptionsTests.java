@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertElementRendering;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+
+class AstAggregateOptionsTests {
+
+    @Test
+    void testRenderingEmpty() {
+        assertElementRendering("{}", AstAggregateOptions.EMPTY);
+    }
+
+    @Test
+    void testRenderingWithReadPreferenceAndReadConcern() {
+        var options = new AstAggregateOptions(
+                ReadPreference.secondaryPreferred(120, SECONDS), ReadConcern.LOCAL, null, null, null, null, null, null);
+        var expectedJson =
+                """
+                {"$readPreference": {"mode": "secondaryPreferred", "maxStalenessSeconds": {"$numberLong": "120"}}, \
+                "readConcern": {"level": "local"}}\
+                """;
+        assertElementRendering(expectedJson, options);
+    }
+
+    @Test
+    void testRenderingWithIndexNameHint() {
+        var options = new AstAggregateOptions(null, null, new BsonString("title_1"), null, null, null, null, null);
+        assertElementRendering(
+                """
+                {"hint": "title_1"}\
+                """,
+                options);
+    }
+
+    @Test
+    void testRenderingWithIndexKeyPatternHint() {
+        var options = new AstAggregateOptions(
+                null, null, new BsonDocument("title", new BsonInt32(-1)), null, null, null, null, null);
+        assertElementRendering(
+                """
+                {"hint": {"title": {"$numberInt": "-1"}}}\
+                """,
+                options);
+    }
+
+    @Test
+    void testRenderingWithAllowDiskUseCommentCollationLetAndMaxAwaitTimeMS() {
+        var options = new AstAggregateOptions(
+                null,
+                null,
+                null,
+                false,
+                "report",
+                new BsonDocument("locale", new BsonString("fr")),
+                new BsonDocument("minYear", new BsonInt32(1900)),
+                1000L);
+        var expectedJson =
+                """
+                {"allowDiskUse": false, "comment": "report", "collation": {"locale": "fr"}, \
+                "let": {"minYear": {"$numberInt": "1900"}}, "maxAwaitTimeMS": {"$numberLong": "1000"}}\
+                """;
+        assertElementRendering(expectedJson, options);
+    }
+
+    @Test
+    void testHintMustBeIndexNameOrKeyPattern() {
+        assertThrows(
+                AssertionError.class,
+                () -> new AstAggregateOptions(null, null, new BsonInt32(1), null, null, null, null, null));
+    }
+
+    @Test
+    void testMaxAwaitTimeMSMustNotBeNegative() {
+        assertThrows(
+                AssertionError.class,
+                () -> new AstAggregateOptions(null, null, null, null, null, null, null, -1L));
+    }
+}
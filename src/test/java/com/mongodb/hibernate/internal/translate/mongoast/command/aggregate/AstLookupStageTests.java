@@ -17,7 +17,13 @@
 package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
 
 import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.EQ;
 
+import com.mongodb.hibernate.internal.translate.mongoast.AstLiteral;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperation;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFieldOperationFilter;
+import java.util.List;
+import org.bson.BsonString;
 import org.junit.jupiter.api.Test;
 
 class AstLookupStageTests {
@@ -32,4 +38,22 @@ class AstLookupStageTests {
                 """,
                 stage);
     }
+
+    @Test
+    void testRenderingWithPipeline() {
+        var stage = new AstLookupStage(
+                "orders",
+                "_id",
+                "customerId",
+                List.of(new AstMatchStage(new AstFieldOperationFilter(
+                        "status", new AstComparisonFilterOperation(EQ, new AstLiteral(new BsonString("open")))))),
+                "o1_0");
+
+        assertRendering(
+                """
+                {"$lookup": {"from": "orders", "localField": "_id", "foreignField": "customerId", \
+                "pipeline": [{"$match": {"status": {"$eq": "open"}}}], "as": "o1_0"}}\
+                """,
+                stage);
+    }
 }
@@ -18,6 +18,7 @@ package com.mongodb.hibernate.internal.translate.mongoast.filter;
 
 import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.junit.jupiter.api.Test;
 
@@ -62,4 +63,24 @@ class AstRegularExpressionOperationTests {
         assertEquals("^_$", AstRegularExpressionFilterOperation.quoteMeta("\\_", '\\'));
         assertEquals("^\\\\.*$", AstRegularExpressionFilterOperation.quoteMeta("\\\\%", '\\'));
     }
+
+    @Test
+    void testLiteralPrefix() {
+        assertEquals("", AstRegularExpressionFilterOperation.literalPrefix("%", null));
+        assertEquals("ab", AstRegularExpressionFilterOperation.literalPrefix("ab%", null));
+        assertEquals("ab", AstRegularExpressionFilterOperation.literalPrefix("ab%%", null));
+        assertEquals("a%b_", AstRegularExpressionFilterOperation.literalPrefix("ay%by_%", 'y'));
+        assertNull(AstRegularExpressionFilterOperation.literalPrefix("", null));
+        assertNull(AstRegularExpressionFilterOperation.literalPrefix("ab", null));
+        assertNull(AstRegularExpressionFilterOperation.literalPrefix("a_%", null));
+        assertNull(AstRegularExpressionFilterOperation.literalPrefix("a%b", null));
+        assertNull(AstRegularExpressionFilterOperation.literalPrefix("ay%", 'y'));
+    }
+
+    @Test
+    void testQuotePrefix() {
+        assertEquals("^", AstRegularExpressionFilterOperation.quotePrefix(""));
+        assertEquals("^ab", AstRegularExpressionFilterOperation.quotePrefix("ab"));
+        assertEquals("^%_\\.\\*\\+\\\\", AstRegularExpressionFilterOperation.quotePrefix("%_.*+\\"));
+    }
 }